@@ -25,8 +25,10 @@ func main() {
 	mux := http.NewServeMux()
 	mux.Handle("/v1/health", handlers.Health(serviceName, serviceVersion))
 	mux.Handle("POST /v1/listings", handlers.CreateListing(store))
+	mux.Handle("POST /v1/listings:batch", handlers.CreateListingsBatch(store))
 	mux.Handle("GET /v1/listings/{id}", handlers.GetListing(store))
 	mux.Handle("POST /v1/orders", handlers.CreateOrder(store))
+	mux.Handle("GET /v1/orders", handlers.ListOrders(store))
 	mux.Handle("GET /v1/orders/{id}", handlers.GetOrder(store))
 
 	addr := ":" + port
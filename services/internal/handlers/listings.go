@@ -140,3 +140,70 @@ func validatePrice(pricePayload apitypes.PricePayload, platform string) error {
 
 	return nil
 }
+
+// maxListingBatchSize bounds one batch so a single request cannot hold the store lock or memory unbounded.
+const maxListingBatchSize = 500
+
+// CreateListingsBatch creates many listings in one round-trip; each item carries its own idempotency key
+// and fails independently, so the response is 200 with per-item results unless the envelope itself is invalid.
+func CreateListingsBatch(store ListingStore) http.HandlerFunc {
+	return func(w http.ResponseWriter, r *http.Request) {
+		defer r.Body.Close()
+
+		var req apitypes.ListingBatchRequest
+		if err := json.NewDecoder(r.Body).Decode(&req); err != nil {
+			writeError(w, http.StatusBadRequest, "INVALID_REQUEST", "invalid JSON payload")
+			return
+		}
+		if len(req.Items) == 0 {
+			writeError(w, http.StatusBadRequest, "INVALID_REQUEST", "items must not be empty")
+			return
+		}
+		if len(req.Items) > maxListingBatchSize {
+			writeError(w, http.StatusBadRequest, "INVALID_REQUEST", "items must not exceed "+strconv.Itoa(maxListingBatchSize))
+			return
+		}
+
+		resp := apitypes.ListingBatchResponse{Results: make([]apitypes.ListingBatchResult, 0, len(req.Items))}
+		for idx, item := range req.Items {
+			result := createBatchItem(store, idx, item)
+			if result.Error != nil {
+				resp.Failed++
+			} else {
+				resp.Succeeded++
+			}
+			resp.Results = append(resp.Results, result)
+		}
+
+		markIntegrationStub(w)
+		w.Header().Set("Content-Type", "application/json")
+		w.WriteHeader(http.StatusOK)
+		_ = json.NewEncoder(w).Encode(resp)
+	}
+}
+
+// createBatchItem applies the single-create rules (key required, validation, idempotency) to one batch item.
+func createBatchItem(store ListingStore, idx int, item apitypes.ListingBatchItem) apitypes.ListingBatchResult {
+	key := strings.TrimSpace(item.IdempotencyKey)
+	result := apitypes.ListingBatchResult{Index: idx, IdempotencyKey: key}
+	if key == "" {
+		result.Error = &apitypes.APIError{Code: "INVALID_REQUEST", Message: "idempotencyKey is required"}
+		return result
+	}
+	if err := validateListingRequest(item.Listing); err != nil {
+		result.Error = &apitypes.APIError{Code: "INVALID_REQUEST", Message: err.Error()}
+		return result
+	}
+
+	listing, deduped, err := store.CreateListing(key, item.Listing)
+	switch {
+	case err == nil:
+		result.Listing = &listing
+		result.Deduplicated = deduped
+	case errors.Is(err, ErrIdempotencyConflict):
+		result.Error = &apitypes.APIError{Code: "CONFLICT", Message: "idempotency key already used for a different payload"}
+	default:
+		result.Error = &apitypes.APIError{Code: "UNKNOWN", Message: "failed to create listing"}
+	}
+	return result
+}
@@ -80,6 +80,42 @@ func GetOrder(store OrderStore) http.HandlerFunc {
 	}
 }
 
+const (
+	defaultOrderPageLimit = 100
+	maxOrderPageLimit     = 1000
+)
+
+func ListOrders(store OrderStore) http.HandlerFunc {
+	return func(w http.ResponseWriter, r *http.Request) {
+		query := r.URL.Query()
+
+		limit := defaultOrderPageLimit
+		if raw := strings.TrimSpace(query.Get("limit")); raw != "" {
+			parsed, err := strconv.Atoi(raw)
+			if err != nil || parsed < 1 {
+				writeError(w, http.StatusBadRequest, "INVALID_REQUEST", "limit must be a positive integer")
+				return
+			}
+			limit = min(parsed, maxOrderPageLimit)
+		}
+
+		page, err := store.ListOrders(strings.TrimSpace(query.Get("platform")), strings.TrimSpace(query.Get("cursor")), limit)
+		if errors.Is(err, ErrInvalidCursor) {
+			writeError(w, http.StatusBadRequest, "INVALID_REQUEST", "cursor is invalid")
+			return
+		}
+		if err != nil {
+			writeError(w, http.StatusInternalServerError, "UNKNOWN", "failed to list orders")
+			return
+		}
+
+		markIntegrationStub(w)
+		w.Header().Set("Content-Type", "application/json")
+		w.WriteHeader(http.StatusOK)
+		_ = json.NewEncoder(w).Encode(page)
+	}
+}
+
 func validateOrderRequest(req apitypes.OrderRequest) error {
 	if strings.TrimSpace(req.Platform) == "" {
 		return errors.New("platform is required")
@@ -4,6 +4,7 @@ import (
 	"errors"
 	"fmt"
 	"reflect"
+	"strconv"
 	"strings"
 	"sync"
 	"time"
@@ -14,6 +15,7 @@ import (
 var (
 	ErrIdempotencyConflict = errors.New("idempotency payload mismatch")
 	ErrListingNotFound     = errors.New("listing not found")
+	ErrInvalidCursor       = errors.New("invalid cursor")
 )
 
 type ListingStore interface {
@@ -24,6 +26,7 @@ type ListingStore interface {
 type OrderStore interface {
 	CreateOrder(key string, req apitypes.OrderRequest) (apitypes.OrderResponse, bool, error)
 	GetOrder(id string) (apitypes.OrderResponse, bool)
+	ListOrders(platform string, cursor string, limit int) (apitypes.OrderPage, error)
 }
 
 // StubStore mimics downstream marketplace persistence until eBay/TCGPlayer connectors are implemented.
@@ -34,6 +37,7 @@ type StubStore struct {
 	listingBySKU map[string]string
 	orders       map[string]orderRecord
 	orderByKey   map[string]string
+	orderSeq     []string
 }
 
 type listingRecord struct {
@@ -144,6 +148,7 @@ func (s *StubStore) CreateOrder(key string, req apitypes.OrderRequest) (apitypes
 
 	s.orders[orderID] = record
 	s.orderByKey[key] = orderID
+	s.orderSeq = append(s.orderSeq, orderID)
 
 	return response, false, nil
 }
@@ -164,3 +169,54 @@ func (s *StubStore) GetOrder(id string) (apitypes.OrderResponse, bool) {
 
 	return record.Response, true
 }
+
+// ListOrders pages through orders in creation order; the cursor is the next position in the sequence.
+func (s *StubStore) ListOrders(platform string, cursor string, limit int) (apitypes.OrderPage, error) {
+	s.mu.RLock()
+	defer s.mu.RUnlock()
+
+	position := 0
+	if cursor != "" {
+		parsed, err := strconv.Atoi(cursor)
+		if err != nil || parsed < 0 || parsed > len(s.orderSeq) {
+			return apitypes.OrderPage{}, ErrInvalidCursor
+		}
+		position = parsed
+	}
+
+	page := apitypes.OrderPage{Orders: []apitypes.OrderSummary{}}
+	for position < len(s.orderSeq) && len(page.Orders) < limit {
+		record := s.orders[s.orderSeq[position]]
+		position++
+		if platform != "" && !strings.EqualFold(record.Request.Platform, platform) {
+			continue
+		}
+		page.Orders = append(page.Orders, apitypes.OrderSummary{
+			OrderID:    record.Response.OrderID,
+			ExternalID: record.Response.ExternalID,
+			Platform:   strings.ToUpper(record.Request.Platform),
+			Status:     record.Response.Status,
+			Total:      orderTotal(record.Request.Items),
+			PlacedAt:   record.CreatedAt.UTC(),
+		})
+	}
+
+	if position < len(s.orderSeq) {
+		page.NextCursor = strconv.Itoa(position)
+	}
+	return page, nil
+}
+
+// orderTotal sums price x quantity across items; amounts were validated as decimals on create.
+func orderTotal(items []apitypes.OrderItem) apitypes.PricePayload {
+	total := 0.0
+	currency := ""
+	for _, item := range items {
+		amount, _ := strconv.ParseFloat(item.Price.Amount, 64)
+		total += amount * float64(item.Quantity)
+		if currency == "" {
+			currency = strings.ToUpper(item.Price.Currency)
+		}
+	}
+	return apitypes.PricePayload{Amount: strconv.FormatFloat(total, 'f', 2, 64), Currency: currency}
+}
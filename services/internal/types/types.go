@@ -77,9 +77,52 @@ type OrderResponse struct {
 	Errors     []ErrorDetail `json:"errors,omitempty"`
 }
 
+// OrderSummary is a compact order row returned by the paged order listing used for bulk imports.
+type OrderSummary struct {
+	OrderID    string       `json:"orderId"`
+	ExternalID string       `json:"externalId,omitempty"`
+	Platform   string       `json:"platform"`
+	Status     string       `json:"status"`
+	Total      PricePayload `json:"total"`
+	PlacedAt   time.Time    `json:"placedAt"`
+}
+
+// OrderPage is one page of orders plus the opaque cursor for the next page (omitted when exhausted).
+type OrderPage struct {
+	Orders     []OrderSummary `json:"orders"`
+	NextCursor string         `json:"nextCursor,omitempty"`
+}
+
 type APIError struct {
 	Code              string      `json:"code"`
 	Message           string      `json:"message"`
 	Details           interface{} `json:"details,omitempty"`
 	RetryAfterSeconds int         `json:"retryAfterSeconds,omitempty"`
 }
+
+// ListingBatchItem pairs one listing with its own idempotency key so retries dedupe per item.
+type ListingBatchItem struct {
+	IdempotencyKey string         `json:"idempotencyKey"`
+	Listing        ListingRequest `json:"listing"`
+}
+
+// ListingBatchRequest is the body of POST /v1/listings:batch.
+type ListingBatchRequest struct {
+	Items []ListingBatchItem `json:"items"`
+}
+
+// ListingBatchResult reports one item's outcome; exactly one of Listing or Error is set.
+type ListingBatchResult struct {
+	Index          int              `json:"index"`
+	IdempotencyKey string           `json:"idempotencyKey,omitempty"`
+	Deduplicated   bool             `json:"deduplicated,omitempty"`
+	Listing        *ListingResponse `json:"listing,omitempty"`
+	Error          *APIError        `json:"error,omitempty"`
+}
+
+// ListingBatchResponse lists results in request order with success/failure tallies.
+type ListingBatchResponse struct {
+	Results   []ListingBatchResult `json:"results"`
+	Succeeded int                  `json:"succeeded"`
+	Failed    int                  `json:"failed"`
+}
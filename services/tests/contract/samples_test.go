@@ -77,6 +77,18 @@ func TestSamplePayloadsDecode(t *testing.T) {
 			newTarget: func() any { return &apitypes.ListingResponse{} },
 			schemaRef: "#/components/schemas/ListingResponse",
 		},
+		{
+			name:      "listing batch request",
+			paths:     [][]string{{"listings", "batch-request.json"}},
+			newTarget: func() any { return &apitypes.ListingBatchRequest{} },
+			schemaRef: "#/components/schemas/ListingBatchRequest",
+		},
+		{
+			name:      "listing batch partial failure response",
+			paths:     [][]string{{"listings", "batch-response.json"}},
+			newTarget: func() any { return &apitypes.ListingBatchResponse{} },
+			schemaRef: "#/components/schemas/ListingBatchResponse",
+		},
 		{
 			name:      "order create request",
 			paths:     [][]string{{"orders", "create-success-request.json"}},
@@ -111,6 +123,12 @@ func TestSamplePayloadsDecode(t *testing.T) {
 			newTarget: func() any { return &apitypes.OrderResponse{} },
 			schemaRef: "#/components/schemas/OrderResponse",
 		},
+		{
+			name:      "order list page",
+			paths:     [][]string{{"orders", "list-response.json"}},
+			newTarget: func() any { return &apitypes.OrderPage{} },
+			schemaRef: "#/components/schemas/OrderPage",
+		},
 		{
 			name:      "health response",
 			paths:     [][]string{{"health", "get-health-response.json"}},
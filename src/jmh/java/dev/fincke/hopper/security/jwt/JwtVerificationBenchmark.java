@@ -0,0 +1,67 @@
+package dev.fincke.hopper.security.jwt;
+
+import dev.fincke.hopper.config.JwtProperties;
+import dev.fincke.hopper.security.UserPrincipal;
+import dev.fincke.hopper.user.Role;
+import dev.fincke.hopper.user.RoleType;
+import dev.fincke.hopper.user.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Compares the per-request cost of the legacy multi-parse validation path with single-parse verify
+// Run with ./gradlew jmh
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtVerificationBenchmark
+{
+    // * State
+    
+    private JwtUtils jwtUtils;
+    
+    private String token;
+    
+    @Setup
+    public void setUp()
+    {
+        jwtUtils = new JwtUtils(new JwtProperties());
+        
+        User user = new User("benchmark", "benchmark@example.com", "hash");
+        user.setId(UUID.randomUUID());
+        user.addRole(new Role(RoleType.USER));
+        token = jwtUtils.generateAccessToken(UserPrincipal.from(user));
+    }
+    
+    // * Benchmarks
+    
+    // Previous filter and validate-endpoint shape: one signature check per claim read
+    @Benchmark
+    public void multiParse(Blackhole blackhole)
+    {
+        blackhole.consume(jwtUtils.validateAccessToken(token));
+        blackhole.consume(jwtUtils.getUserIdFromToken(token));
+        blackhole.consume(jwtUtils.getUsernameFromToken(token));
+        blackhole.consume(jwtUtils.getExpirationFromToken(token));
+        blackhole.consume(jwtUtils.isTokenExpired(token));
+    }
+    
+    // Single verification feeding every claim read from the typed view
+    @Benchmark
+    public void singleParse(Blackhole blackhole)
+    {
+        JwtClaims claims = jwtUtils.verifyAccessToken(token).orElseThrow();
+        blackhole.consume(claims.userId());
+        blackhole.consume(claims.username());
+        blackhole.consume(claims.expiresAt());
+        blackhole.consume(claims.isExpired());
+    }
+}
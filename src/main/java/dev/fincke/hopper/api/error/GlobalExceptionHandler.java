@@ -1,6 +1,7 @@
 package dev.fincke.hopper.api.error;
 
 import dev.fincke.hopper.order.order.exception.OrderValidationException;
+import dev.fincke.hopper.security.hashing.PasswordHashingRejectedException;
 import dev.fincke.hopper.user.exception.AccountLockedException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolation;
@@ -72,6 +73,17 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return buildResponse(HttpStatus.BAD_REQUEST, ex.getMessage(), request);
     }
 
+    // Password hashing pool saturated: shed the request and tell the client when to come back
+    @ExceptionHandler(PasswordHashingRejectedException.class)
+    public ResponseEntity<ApiErrorResponse> handlePasswordHashingRejected(PasswordHashingRejectedException ex,
+                                                                          HttpServletRequest request) {
+        logger.debug("Password hashing rejected: {}", ex.getMessage());
+        ResponseEntity<ApiErrorResponse> response = buildResponse(HttpStatus.TOO_MANY_REQUESTS, ex.getMessage(), request);
+        return ResponseEntity.status(response.getStatusCode())
+            .header(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()))
+            .body(response.getBody());
+    }
+
     @ExceptionHandler(AccountLockedException.class)
     public ResponseEntity<ApiErrorResponse> handleAccountLocked(AccountLockedException ex,
                                                                 HttpServletRequest request) {
@@ -0,0 +1,43 @@
+package dev.fincke.hopper.api.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated result set.
+ * <p>
+ * {@code nextCursor} is null once the final page has been returned; otherwise it is passed back
+ * as the {@code cursor} request parameter to continue from the last row of this page.
+ */
+public record CursorPage<T>(List<T> items, String nextCursor, boolean hasMore) {
+
+    public static final int DEFAULT_LIMIT = 50;
+
+    public static final int MAX_LIMIT = 500;
+
+    public CursorPage {
+        items = items == null ? List.of() : List.copyOf(items);
+    }
+
+    // Validates a requested page size and caps it at MAX_LIMIT
+    public static int resolveLimit(int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Page limit must be at least 1");
+        }
+        return Math.min(limit, MAX_LIMIT);
+    }
+
+    /**
+     * Builds a page from rows fetched with {@code limit + 1} so the extra row signals another page
+     * without a separate count query.
+     */
+    public static <E, T> CursorPage<T> fromRows(List<E> rows,
+                                                int limit,
+                                                Function<E, KeysetCursor> cursorOf,
+                                                Function<E, T> mapper) {
+        boolean hasMore = rows.size() > limit;
+        List<E> pageRows = hasMore ? rows.subList(0, limit) : rows;
+        String nextCursor = hasMore ? cursorOf.apply(pageRows.get(pageRows.size() - 1)).encode() : null;
+        return new CursorPage<>(pageRows.stream().map(mapper).toList(), nextCursor, hasMore);
+    }
+}
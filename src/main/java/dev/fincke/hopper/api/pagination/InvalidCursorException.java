@@ -0,0 +1,16 @@
+package dev.fincke.hopper.api.pagination;
+
+import dev.fincke.hopper.api.error.BadRequestException;
+
+/**
+ * Thrown when a client supplies a continuation token that cannot be decoded.
+ */
+public class InvalidCursorException extends BadRequestException {
+    public InvalidCursorException(String cursor) {
+        super("Invalid pagination cursor: " + cursor);
+    }
+
+    public InvalidCursorException(String cursor, Throwable cause) {
+        super("Invalid pagination cursor: " + cursor, cause);
+    }
+}
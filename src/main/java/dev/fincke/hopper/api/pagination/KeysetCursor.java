@@ -0,0 +1,81 @@
+package dev.fincke.hopper.api.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position of the last row returned by a keyset (seek) query.
+ * <p>
+ * Cursors are handed to clients as opaque URL-safe tokens. {@code sortKey} is only present for
+ * result sets ordered by a timestamp before the id tiebreaker (e.g. orders by order date).
+ */
+public record KeysetCursor(Timestamp sortKey, UUID id) {
+
+    private static final char SEPARATOR = '|';
+
+    public KeysetCursor {
+        if (id == null) {
+            throw new IllegalArgumentException("Cursor id cannot be null");
+        }
+    }
+
+    public static KeysetCursor of(UUID id) {
+        return new KeysetCursor(null, id);
+    }
+
+    public static KeysetCursor of(Timestamp sortKey, UUID id) {
+        return new KeysetCursor(sortKey, id);
+    }
+
+    public boolean hasSortKey() {
+        return sortKey != null;
+    }
+
+    // Encodes the position as an opaque token; instants keep full nanosecond precision
+    public String encode() {
+        String raw = hasSortKey()
+            ? sortKey.toInstant().toString() + SEPARATOR + id
+            : id.toString();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Decodes a token for a result set keyed on id alone
+    public static KeysetCursor decodeById(String token) {
+        KeysetCursor cursor = decode(token);
+        if (cursor != null && cursor.hasSortKey()) {
+            throw new InvalidCursorException(token);
+        }
+        return cursor;
+    }
+
+    // Decodes a token for a result set keyed on (timestamp, id)
+    public static KeysetCursor decodeBySortKey(String token) {
+        KeysetCursor cursor = decode(token);
+        if (cursor != null && !cursor.hasSortKey()) {
+            throw new InvalidCursorException(token);
+        }
+        return cursor;
+    }
+
+    // Decodes a client token; returns null for a missing token (first page)
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                return of(UUID.fromString(raw));
+            }
+            Timestamp sortKey = Timestamp.from(Instant.parse(raw.substring(0, separator)));
+            return of(sortKey, UUID.fromString(raw.substring(separator + 1)));
+        } catch (RuntimeException ex) {
+            throw new InvalidCursorException(token, ex);
+        }
+    }
+}
@@ -5,11 +5,13 @@ import dev.fincke.hopper.auth.dto.LoginRequest;
 import dev.fincke.hopper.auth.dto.RegisterRequest;
 import dev.fincke.hopper.auth.dto.RefreshTokenRequest;
 import dev.fincke.hopper.auth.dto.TokenValidationResponse;
+import dev.fincke.hopper.auth.login.LoginEventRecorder;
 import dev.fincke.hopper.config.JwtProperties;
 import dev.fincke.hopper.security.CustomUserDetailsService;
 import dev.fincke.hopper.security.UserPrincipal;
+import dev.fincke.hopper.security.hashing.PasswordHashingRejectedException;
+import dev.fincke.hopper.security.jwt.JwtClaims;
 import dev.fincke.hopper.security.jwt.JwtUtils;
-import dev.fincke.hopper.user.User;
 import dev.fincke.hopper.user.UserService;
 import dev.fincke.hopper.user.dto.UserCreateRequest;
 import dev.fincke.hopper.user.dto.UserResponse;
@@ -31,8 +33,8 @@ import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
-import java.util.Date;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 // REST controller for authentication operations (login, refresh, logout)
@@ -59,6 +61,9 @@ public class AuthController
     // JWT configuration properties
     private final JwtProperties jwtProperties;
     
+    // Batched login bookkeeping (last login, failed attempts, lockout)
+    private final LoginEventRecorder loginEventRecorder;
+    
     // * Constructor
     
     // Constructor with all required dependencies
@@ -66,13 +71,15 @@ public class AuthController
                          JwtUtils jwtUtils,
                          CustomUserDetailsService userDetailsService,
                          UserService userService,
-                         JwtProperties jwtProperties)
+                         JwtProperties jwtProperties,
+                         LoginEventRecorder loginEventRecorder)
     {
         this.authenticationManager = authenticationManager;
         this.jwtUtils = jwtUtils;
         this.userDetailsService = userDetailsService;
         this.userService = userService;
         this.jwtProperties = jwtProperties;
+        this.loginEventRecorder = loginEventRecorder;
     }
     
     // * Authentication Endpoints
@@ -152,8 +159,8 @@ public class AuthController
             // Get authenticated user principal
             UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
             
-            // Record successful login
-            userService.recordSuccessfulLogin(userPrincipal.getId());
+            // Record successful login (flushed in the background with other logins)
+            loginEventRecorder.recordSuccess(userPrincipal.getId());
             
             // Generate JWT tokens
             String accessToken = loginRequest.rememberMe() 
@@ -192,23 +199,35 @@ public class AuthController
         {
             logger.warn("Failed login attempt for user: {}", loginRequest.usernameOrEmail());
             
-            // Try to record failed login if user exists
+            // Count the failure if the user exists (unknown users are ignored so existence is not revealed)
             try
             {
-                User user = userDetailsService.getUserByUsernameOrEmail(loginRequest.getNormalizedIdentifier());
-                userService.recordFailedLogin(user.getId());
+                if (loginEventRecorder.recordFailure(loginRequest.getNormalizedIdentifier()))
+                {
+                    logger.warn("Account locked after repeated failed logins: {}", loginRequest.usernameOrEmail());
+                }
             }
             catch (Exception ex)
             {
-                // User not found, ignore for security (don't reveal user existence)
-                logger.debug("User not found for failed login: {}", loginRequest.usernameOrEmail());
+                logger.debug("Could not record failed login for: {}", loginRequest.usernameOrEmail(), ex);
             }
             
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                 .body(null);
         }
+        catch (PasswordHashingRejectedException e)
+        {
+            // Hashing pool saturated: let the global handler answer 429 with Retry-After
+            logger.warn("Login shed under hashing load for user: {}", loginRequest.usernameOrEmail());
+            throw e;
+        }
         catch (Exception e)
         {
+            // The provider wraps failures from its first timing-attack hash; surface those as load shedding too
+            if (e.getCause() instanceof PasswordHashingRejectedException rejected)
+            {
+                throw rejected;
+            }
             logger.error("Login error for user: {}", loginRequest.usernameOrEmail(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(null);
@@ -231,7 +250,10 @@ public class AuthController
                 refreshToken = getRefreshTokenFromCookie(request);
             }
             
-            if (refreshToken == null || !jwtUtils.validateRefreshToken(refreshToken))
+            Optional<JwtClaims> verified = refreshToken == null
+                ? Optional.empty()
+                : jwtUtils.verifyRefreshToken(refreshToken);
+            if (verified.isEmpty())
             {
                 logger.warn("Invalid refresh token provided");
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
@@ -239,7 +261,7 @@ public class AuthController
             }
             
             // Extract user ID from refresh token
-            UUID userId = jwtUtils.getUserIdFromToken(refreshToken);
+            UUID userId = verified.get().userId();
             if (userId == null)
             {
                 logger.warn("No user ID found in refresh token");
@@ -259,6 +281,9 @@ public class AuthController
             long accessExpiresIn = jwtProperties.getAccessTokenExpirationMs() / 1000;
             long refreshExpiresIn = jwtProperties.getRefreshTokenExpirationMs() / 1000;
             
+            // Rotate: the presented refresh token cannot be used again
+            jwtUtils.invalidateToken(refreshToken);
+            
             // Update refresh token cookie
             setRefreshTokenCookie(response, newRefreshToken, refreshExpiresIn);
             
@@ -298,10 +323,14 @@ public class AuthController
     
     // POST /api/auth/logout - logout user (client-side token clearing)
     @PostMapping("/logout")
-    public ResponseEntity<Map<String, String>> logout(HttpServletResponse response)
+    public ResponseEntity<Map<String, String>> logout(HttpServletRequest request, HttpServletResponse response)
     {
         try
         {
+            // Invalidate the presented access and refresh tokens so cached verifications stop accepting them
+            jwtUtils.invalidateToken(jwtUtils.extractTokenFromHeader(request.getHeader(jwtProperties.getHeaderName())));
+            jwtUtils.invalidateToken(getRefreshTokenFromCookie(request));
+            
             // Clear refresh token cookie
             clearRefreshTokenCookie(response);
             
@@ -337,7 +366,11 @@ public class AuthController
             }
             
             UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
-            UserResponse userResponse = UserResponse.from(userPrincipal.getUser());
+            
+            // Token-backed principals carry no entity; fetch the full profile for this endpoint only
+            UserResponse userResponse = userPrincipal.isTokenBacked()
+                ? userService.findById(userPrincipal.getId())
+                : UserResponse.from(userPrincipal.getUser());
             
             return ResponseEntity.ok(userResponse);
         }
@@ -361,23 +394,23 @@ public class AuthController
                 return ResponseEntity.ok(TokenValidationResponse.missing());
             }
             
-            if (!jwtUtils.validateAccessToken(token))
+            // Verify once and read every claim from the typed view
+            Optional<JwtClaims> verified = jwtUtils.verifyAccessToken(token);
+            if (verified.isEmpty())
             {
                 return ResponseEntity.ok(TokenValidationResponse.malformed());
             }
             
-            // Extract token information
-            UUID userId = jwtUtils.getUserIdFromToken(token);
-            String username = jwtUtils.getUsernameFromToken(token);
-            Date expiration = jwtUtils.getExpirationFromToken(token);
+            JwtClaims claims = verified.get();
+            UUID userId = claims.userId();
             
-            if (userId == null || username == null || expiration == null)
+            if (userId == null || claims.username() == null || claims.expiresAt() == null)
             {
                 return ResponseEntity.ok(TokenValidationResponse.malformed());
             }
             
             // Check if token is expired
-            if (jwtUtils.isTokenExpired(token))
+            if (claims.isExpired())
             {
                 return ResponseEntity.ok(TokenValidationResponse.expired());
             }
@@ -399,10 +432,10 @@ public class AuthController
                 }
                 
                 // Calculate remaining time
-                long remainingTime = (expiration.getTime() - System.currentTimeMillis()) / 1000;
+                long remainingTime = claims.remainingMillis() / 1000;
                 
                 return ResponseEntity.ok(TokenValidationResponse.valid(
-                    LocalDateTime.ofInstant(expiration.toInstant(), ZoneOffset.UTC),
+                    LocalDateTime.ofInstant(claims.expiresAt(), ZoneOffset.UTC),
                     remainingTime,
                     userPrincipal.getId(),
                     userPrincipal.getUsername(),
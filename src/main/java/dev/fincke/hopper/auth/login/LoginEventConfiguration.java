@@ -0,0 +1,25 @@
+package dev.fincke.hopper.auth.login;
+
+import dev.fincke.hopper.user.UserService;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.Clock;
+
+// * Configuration
+// Wires the batched login bookkeeping pipeline used by the auth endpoints.
+@Configuration
+@EnableConfigurationProperties(LoginEventProperties.class)
+public class LoginEventConfiguration
+{
+    @Bean(initMethod = "start", destroyMethod = "close")
+    // Also binds hopper.auth.login.* metrics, since the recorder is a MeterBinder bean.
+    public LoginEventRecorder loginEventRecorder(NamedParameterJdbcTemplate jdbcTemplate,
+                                                 UserService userService,
+                                                 LoginEventProperties properties)
+    {
+        return new LoginEventRecorder(jdbcTemplate, userService, properties, Clock.systemDefaultZone());
+    }
+}
@@ -0,0 +1,39 @@
+package dev.fincke.hopper.auth.login;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+// * Configuration Properties
+// Tuning knobs for batched login bookkeeping (last login and failed-attempt counts).
+@ConfigurationProperties(prefix = "hopper.auth.login-events")
+public class LoginEventProperties
+{
+    // * Configuration Values
+
+    // Delay between flushes; bookkeeping for every user seen in the window goes out as one batched UPDATE.
+    private Duration flushInterval = Duration.ofMillis(500);
+
+    // Consecutive failed logins that lock an account (same threshold the user service applies).
+    private int maxFailedAttempts = 5;
+
+    public Duration getFlushInterval()
+    {
+        return flushInterval;
+    }
+
+    public void setFlushInterval(Duration flushInterval)
+    {
+        this.flushInterval = flushInterval;
+    }
+
+    public int getMaxFailedAttempts()
+    {
+        return maxFailedAttempts;
+    }
+
+    public void setMaxFailedAttempts(int maxFailedAttempts)
+    {
+        this.maxFailedAttempts = maxFailedAttempts;
+    }
+}
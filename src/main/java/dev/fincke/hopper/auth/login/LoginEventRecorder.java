@@ -0,0 +1,257 @@
+package dev.fincke.hopper.auth.login;
+
+import dev.fincke.hopper.user.UserService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.lang.NonNull;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// * Recorder
+// Takes login bookkeeping off the request path: outcomes update an in-memory failure counter and mark the user dirty,
+// and a background flush writes last_login_at / failed_login_attempts for every dirty user in one batched UPDATE.
+// The lockout threshold is checked against the in-memory counter, so locking never waits for a flush.
+public class LoginEventRecorder implements MeterBinder, AutoCloseable
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(LoginEventRecorder.class);
+
+    // Narrow projection: no password hash, no EAGER roles
+    private static final String FIND_USER_SQL =
+        "SELECT id, failed_login_attempts, account_locked FROM users " +
+        "WHERE username = :identifier OR email = :identifier";
+
+    // Skips locked accounts so a late flush cannot overwrite the reset that lockAccount applied
+    private static final String FLUSH_SQL =
+        "UPDATE users SET failed_login_attempts = :failedAttempts, " +
+        "last_login_at = COALESCE(:lastLoginAt, last_login_at) " +
+        "WHERE id = :id AND account_locked = FALSE";
+
+    // * Dependencies
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final UserService userService;
+    private final LoginEventProperties properties;
+    private final Clock clock;
+
+    // Consecutive failures per user seen by this instance; seeded from the database on first sight and dropped
+    // again once it is back to 0 and flushed, so only users with recent activity are held
+    private final Map<UUID, AtomicInteger> failures = new ConcurrentHashMap<>();
+
+    // Users with unflushed bookkeeping; repeated events for one user coalesce into a single entry
+    private final Map<UUID, PendingLogin> pending = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable ->
+    {
+        Thread thread = new Thread(runnable, "login-event-flush");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final LongAdder rowsFlushed = new LongAdder();
+    private final LongAdder lockouts = new LongAdder();
+
+    // * Constructors
+    public LoginEventRecorder(NamedParameterJdbcTemplate jdbcTemplate,
+                              UserService userService,
+                              LoginEventProperties properties,
+                              Clock clock)
+    {
+        this.jdbcTemplate = jdbcTemplate;
+        this.userService = userService;
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    // * Lifecycle
+    public void start()
+    {
+        long intervalMillis = properties.getFlushInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::flushQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // Final flush so a clean shutdown does not drop the last window of bookkeeping
+    @Override
+    public void close()
+    {
+        scheduler.shutdownNow();
+        flushQuietly();
+    }
+
+    // * Events
+
+    public void recordSuccess(UUID userId)
+    {
+        failures.compute(userId, (id, counter) ->
+        {
+            AtomicInteger reset = counter == null ? new AtomicInteger() : counter;
+            reset.set(0);
+            return reset;
+        });
+        pending.put(userId, new PendingLogin(LocalDateTime.now(clock)));
+    }
+
+    // Returns true when this failure locked the account; unknown identifiers are ignored
+    public boolean recordFailure(String identifier)
+    {
+        List<UserRow> rows = jdbcTemplate.query(FIND_USER_SQL, Map.of("identifier", identifier), (rs, rowNum) ->
+            new UserRow(rs.getObject("id", UUID.class), rs.getInt("failed_login_attempts"),
+                rs.getBoolean("account_locked")));
+        if (rows.isEmpty() || rows.get(0).accountLocked())
+        {
+            return false;
+        }
+
+        UserRow user = rows.get(0);
+        // Incremented inside compute so it cannot land on a counter that eviction is removing
+        int[] attempts = new int[1];
+        AtomicInteger counter = failures.compute(user.id(), (id, current) ->
+        {
+            AtomicInteger seeded = current == null ? new AtomicInteger(user.failedAttempts()) : current;
+            attempts[0] = seeded.incrementAndGet();
+            return seeded;
+        });
+
+        // At or past the threshold (a seeded count may already be beyond it); of several concurrent failures only
+        // the one whose reset succeeds locks, the others see the counter moved and fall through
+        if (attempts[0] >= properties.getMaxFailedAttempts() && counter.compareAndSet(attempts[0], 0))
+        {
+            // lockAccount resets the stored count, so the next sight of this user can seed from the row again
+            pending.remove(user.id());
+            failures.remove(user.id(), counter);
+            userService.lockAccount(user.id());
+            lockouts.increment();
+            return true;
+        }
+        pending.putIfAbsent(user.id(), PendingLogin.FAILURE_ONLY);
+        return false;
+    }
+
+    // * Flush
+
+    // Writes every dirty user's current state in one JDBC batch; returns rows updated
+    public int flush()
+    {
+        Map<UUID, PendingLogin> drained = new LinkedHashMap<>();
+        List<SqlParameterSource> batch = new ArrayList<>();
+        for (UUID userId : List.copyOf(pending.keySet()))
+        {
+            PendingLogin login = pending.remove(userId);
+            if (login == null)
+            {
+                continue;
+            }
+            drained.put(userId, login);
+            // Current counter value, not the value at event time, so coalesced events can never write out of order;
+            // a missing counter was evicted at 0
+            AtomicInteger counter = failures.get(userId);
+            batch.add(new MapSqlParameterSource()
+                .addValue("id", userId)
+                .addValue("failedAttempts", counter == null ? 0 : counter.get())
+                .addValue("lastLoginAt",
+                    login.lastLoginAt() == null ? null : Timestamp.valueOf(login.lastLoginAt()), Types.TIMESTAMP));
+        }
+        if (batch.isEmpty())
+        {
+            return 0;
+        }
+
+        int[] counts;
+        try
+        {
+            counts = jdbcTemplate.batchUpdate(FLUSH_SQL, batch.toArray(SqlParameterSource[]::new));
+        }
+        catch (RuntimeException ex)
+        {
+            // Put the drained users back for the next tick; events recorded meanwhile are newer and win
+            drained.forEach((userId, login) -> pending.merge(userId, login,
+                (newer, older) -> newer.lastLoginAt() != null ? newer : older));
+            throw ex;
+        }
+
+        int updated = 0;
+        for (int count : counts)
+        {
+            updated += Math.max(count, 0);
+        }
+        rowsFlushed.add(updated);
+
+        // A flushed counter at 0 matches the row, so it can be re-seeded from there on the next failure
+        drained.keySet().forEach(userId -> failures.computeIfPresent(userId,
+            (id, counter) -> counter.get() == 0 && !pending.containsKey(id) ? null : counter));
+        return updated;
+    }
+
+    public int pendingCount()
+    {
+        return pending.size();
+    }
+
+    public int trackedCount()
+    {
+        return failures.size();
+    }
+
+    // * Metrics
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry)
+    {
+        Gauge.builder("hopper.auth.login.events.pending", this, LoginEventRecorder::pendingCount)
+            .description("Users with login bookkeeping waiting for the next flush")
+            .register(registry);
+        Gauge.builder("hopper.auth.login.failures.tracked", this, LoginEventRecorder::trackedCount)
+            .description("Users whose consecutive failure count is held in memory")
+            .register(registry);
+        FunctionCounter.builder("hopper.auth.login.events.flushed", rowsFlushed, LongAdder::sum)
+            .description("User rows updated by batched login bookkeeping flushes")
+            .register(registry);
+        FunctionCounter.builder("hopper.auth.login.lockouts", lockouts, LongAdder::sum)
+            .description("Accounts locked after reaching the failed login threshold")
+            .register(registry);
+    }
+
+    // * Private Helper Methods
+
+    // A failed flush is logged and retried on the next tick instead of cancelling the schedule
+    private void flushQuietly()
+    {
+        try
+        {
+            flush();
+        }
+        catch (RuntimeException ex)
+        {
+            LOGGER.warn("Login bookkeeping flush failed; will retry", ex);
+        }
+    }
+
+    // * Nested Types
+
+    // Unflushed state per user; only the login timestamp needs carrying, failures are read from the counter
+    private record PendingLogin(LocalDateTime lastLoginAt)
+    {
+        private static final PendingLogin FAILURE_ONLY = new PendingLogin(null);
+    }
+
+    private record UserRow(UUID id, int failedAttempts, boolean accountLocked)
+    {}
+}
@@ -0,0 +1,22 @@
+package dev.fincke.hopper.batch.credential;
+
+import dev.fincke.hopper.security.encryption.EncryptedCredential;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Row projection of a credential selected for rotation; avoids loading entities and their listeners.
+public record CredentialReEncryptionCandidate(
+    UUID id,
+    String credentialValue,
+    String salt,
+    String encryptionVersion,
+    LocalDateTime encryptedAt,
+    String keyId
+)
+{
+    public EncryptedCredential toEncryptedCredential()
+    {
+        return EncryptedCredential.fromDatabase(credentialValue, salt, encryptionVersion, encryptedAt, keyId);
+    }
+}
@@ -0,0 +1,114 @@
+package dev.fincke.hopper.batch.credential;
+
+import dev.fincke.hopper.security.encryption.CredentialEncryptionService;
+import dev.fincke.hopper.security.encryption.EncryptedCredential;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.lang.NonNull;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Re-encrypts a chunk of credentials in parallel on a bounded pool, then writes the new ciphertext as one JDBC batch.
+// The reader stays single-threaded so its keyset position can be saved and a failed run resumes at the last commit.
+public class CredentialReEncryptionItemWriter implements ItemWriter<CredentialReEncryptionCandidate>, AutoCloseable
+{
+    private static final Logger logger = LoggerFactory.getLogger(CredentialReEncryptionItemWriter.class);
+
+    // Guard on the old key id so a credential changed mid-run is left alone rather than overwritten
+    private static final String UPDATE_SQL =
+        "UPDATE platform_credentials SET credential_value = ?, salt = ?, encryption_version = ?, encrypted_at = ?, key_id = ? " +
+        "WHERE id = ? AND key_id = ?";
+
+    private final CredentialEncryptionService encryptionService;
+    private final JdbcTemplate jdbcTemplate;
+    private final ExecutorService executor;
+
+    public CredentialReEncryptionItemWriter(CredentialEncryptionService encryptionService,
+                                            JdbcTemplate jdbcTemplate,
+                                            int threads)
+    {
+        this.encryptionService = encryptionService;
+        this.jdbcTemplate = jdbcTemplate;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+            Thread thread = new Thread(runnable, "credential-reencrypt-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public void write(@NonNull Chunk<? extends CredentialReEncryptionCandidate> chunk)
+    {
+        List<CompletableFuture<Object[]>> futures = new ArrayList<>(chunk.size());
+        for (CredentialReEncryptionCandidate candidate : chunk)
+        {
+            futures.add(CompletableFuture.supplyAsync(() -> reEncrypt(candidate), executor));
+        }
+
+        List<Object[]> batch = new ArrayList<>(futures.size());
+        try
+        {
+            for (CompletableFuture<Object[]> future : futures)
+            {
+                batch.add(future.join());
+            }
+        }
+        catch (CompletionException e)
+        {
+            // Surface the original failure so the step's skip policy can isolate the bad credential
+            futures.forEach(future -> future.cancel(false));
+            if (e.getCause() instanceof RuntimeException cause)
+            {
+                throw cause;
+            }
+            throw e;
+        }
+
+        int[] counts = jdbcTemplate.batchUpdate(UPDATE_SQL, batch);
+        int stale = 0;
+        for (int count : counts)
+        {
+            if (count == 0)
+            {
+                stale++;
+            }
+        }
+        if (stale > 0)
+        {
+            logger.warn("{} credentials changed during re-encryption and were left as updated", stale);
+        }
+    }
+
+    @Override
+    public void close()
+    {
+        executor.shutdown();
+    }
+
+    private Object[] reEncrypt(CredentialReEncryptionCandidate candidate)
+    {
+        EncryptedCredential updated = encryptionService.reEncrypt(candidate.toEncryptedCredential());
+
+        return new Object[] {
+            updated.encryptedValue(),
+            updated.salt(),
+            updated.encryptionVersion(),
+            Timestamp.valueOf(updated.encryptedAt()),
+            updated.keyId(),
+            candidate.id(),
+            candidate.keyId()
+        };
+    }
+}
@@ -0,0 +1,119 @@
+package dev.fincke.hopper.batch.credential;
+
+import dev.fincke.hopper.security.encryption.CredentialEncryptionException;
+import dev.fincke.hopper.security.encryption.CredentialEncryptionService;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
+import org.springframework.batch.item.database.support.SqlPagingQueryProviderFactoryBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.util.Map;
+import java.util.UUID;
+
+// Spring Batch configuration for bulk credential re-encryption after a version bump or age-policy sweep
+@Configuration
+@EnableConfigurationProperties(CredentialReEncryptionJobProperties.class)
+@SuppressWarnings("null")
+public class CredentialReEncryptionJobConfig
+{
+    @Bean
+    public Job credentialReEncryptionJob(JobRepository jobRepository, Step credentialReEncryptionStep)
+    {
+        return new JobBuilder("credentialReEncryptionJob", jobRepository)
+            .incrementer(new RunIdIncrementer())
+            .start(credentialReEncryptionStep)
+            .build();
+    }
+
+    // Keyset paging on id over the encryption_version / encrypted_at indexes; the saved last id makes restarts resume
+    @Bean
+    @StepScope
+    public JdbcPagingItemReader<CredentialReEncryptionCandidate> credentialReEncryptionReader(
+        DataSource dataSource,
+        CredentialEncryptionService encryptionService,
+        CredentialReEncryptionJobProperties properties) throws Exception
+    {
+        SqlPagingQueryProviderFactoryBean queryProvider = new SqlPagingQueryProviderFactoryBean();
+        queryProvider.setDataSource(dataSource);
+        queryProvider.setSelectClause("SELECT id, credential_value, salt, encryption_version, encrypted_at, key_id");
+        queryProvider.setFromClause("FROM platform_credentials");
+        queryProvider.setWhereClause(
+            "encryption_version IS NOT NULL AND key_id IS NOT NULL " +
+            "AND (encryption_version <> :currentVersion OR encrypted_at < :cutoff" +
+            (encryptionService.isEnvelopeMode() ? " OR salt IS NOT NULL)" : ")"));
+        queryProvider.setSortKey("id");
+
+        return new JdbcPagingItemReaderBuilder<CredentialReEncryptionCandidate>()
+            .name("credentialReEncryptionReader")
+            .dataSource(dataSource)
+            .queryProvider(queryProvider.getObject())
+            .parameterValues(Map.of(
+                "currentVersion", encryptionService.getCurrentEncryptionVersion(),
+                "cutoff", Timestamp.valueOf(encryptionService.getRotationCutoff())
+            ))
+            .pageSize(Math.max(1, properties.getPageSize()))
+            .rowMapper((rs, rowNum) -> new CredentialReEncryptionCandidate(
+                rs.getObject("id", UUID.class),
+                rs.getString("credential_value"),
+                rs.getString("salt"),
+                rs.getString("encryption_version"),
+                rs.getTimestamp("encrypted_at") == null ? null : rs.getTimestamp("encrypted_at").toLocalDateTime(),
+                rs.getString("key_id")
+            ))
+            .build();
+    }
+
+    // SQL selects a superset; the service's own policy decides, so rows that no longer qualify are filtered
+    @Bean
+    public ItemProcessor<CredentialReEncryptionCandidate, CredentialReEncryptionCandidate> credentialReEncryptionProcessor(
+        CredentialEncryptionService encryptionService)
+    {
+        return candidate -> encryptionService.needsReEncryption(candidate.toEncryptedCredential()) ? candidate : null;
+    }
+
+    @Bean
+    public CredentialReEncryptionItemWriter credentialReEncryptionWriter(CredentialEncryptionService encryptionService,
+                                                                         JdbcTemplate jdbcTemplate,
+                                                                         CredentialReEncryptionJobProperties properties)
+    {
+        return new CredentialReEncryptionItemWriter(encryptionService, jdbcTemplate, properties.getThreads());
+    }
+
+    // Each chunk commits on its own; unreadable credentials are skipped up to the configured limit
+    @Bean
+    public Step credentialReEncryptionStep(JobRepository jobRepository,
+                                           PlatformTransactionManager transactionManager,
+                                           JdbcPagingItemReader<CredentialReEncryptionCandidate> credentialReEncryptionReader,
+                                           ItemProcessor<CredentialReEncryptionCandidate, CredentialReEncryptionCandidate> credentialReEncryptionProcessor,
+                                           CredentialReEncryptionItemWriter credentialReEncryptionWriter,
+                                           CredentialReEncryptionJobProperties properties)
+    {
+        int chunkSize = Math.max(1, properties.getChunkSize());
+
+        return new StepBuilder("credentialReEncryptionStep", jobRepository)
+            .<CredentialReEncryptionCandidate, CredentialReEncryptionCandidate>chunk(chunkSize, transactionManager)
+            .reader(credentialReEncryptionReader)
+            .processor(credentialReEncryptionProcessor)
+            .writer(credentialReEncryptionWriter)
+            .faultTolerant()
+            .skip(CredentialEncryptionException.class)
+            .skip(IllegalArgumentException.class)
+            .skipLimit(Math.max(0, properties.getSkipLimit()))
+            .listener(new CredentialReEncryptionProgressListener())
+            .build();
+    }
+}
@@ -0,0 +1,63 @@
+package dev.fincke.hopper.batch.credential;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+// Exposes credential rotation job tuning knobs via configuration properties.
+// Lets operators trade rotation speed against database and CPU load.
+@ConfigurationProperties(prefix = "hopper.batch.credential-reencryption")
+public class CredentialReEncryptionJobProperties
+{
+    // * Configuration Values
+
+    // Credentials re-encrypted and committed per transaction.
+    private int chunkSize = 200;
+
+    // Rows fetched per keyset page from platform_credentials.
+    private int pageSize = 200;
+
+    // Worker threads re-encrypting a chunk in parallel.
+    private int threads = 4;
+
+    // Credentials that may fail to re-encrypt before the job stops.
+    private int skipLimit = 100;
+
+    public int getChunkSize()
+    {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize)
+    {
+        this.chunkSize = chunkSize;
+    }
+
+    public int getPageSize()
+    {
+        return pageSize;
+    }
+
+    public void setPageSize(int pageSize)
+    {
+        this.pageSize = pageSize;
+    }
+
+    public int getThreads()
+    {
+        return threads;
+    }
+
+    public void setThreads(int threads)
+    {
+        this.threads = threads;
+    }
+
+    public int getSkipLimit()
+    {
+        return skipLimit;
+    }
+
+    public void setSkipLimit(int skipLimit)
+    {
+        this.skipLimit = skipLimit;
+    }
+}
@@ -0,0 +1,27 @@
+package dev.fincke.hopper.batch.credential;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.lang.NonNull;
+
+// Logs rotation progress after each committed chunk; the same counts are persisted on the step execution.
+public class CredentialReEncryptionProgressListener implements ChunkListener
+{
+    private static final Logger logger = LoggerFactory.getLogger(CredentialReEncryptionProgressListener.class);
+
+    @Override
+    public void afterChunk(@NonNull ChunkContext context)
+    {
+        StepExecution stepExecution = context.getStepContext().getStepExecution();
+
+        logger.info("Credential re-encryption progress: {} re-encrypted, {} filtered, {} skipped of {} read (commit {})",
+            stepExecution.getWriteCount(),
+            stepExecution.getFilterCount(),
+            stepExecution.getSkipCount(),
+            stepExecution.getReadCount(),
+            stepExecution.getCommitCount());
+    }
+}
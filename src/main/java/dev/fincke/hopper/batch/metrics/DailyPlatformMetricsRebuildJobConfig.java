@@ -0,0 +1,89 @@
+package dev.fincke.hopper.batch.metrics;
+
+import dev.fincke.hopper.report.rollup.DailyPlatformMetricsRebuilder;
+import dev.fincke.hopper.report.rollup.DailyPlatformMetricsRebuilder.DateRange;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.support.ListItemReader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// Spring Batch configuration for backfilling or repairing the daily_platform_metrics rollup.
+// Optional from/to job parameters (ISO dates, inclusive) bound the run; missing bounds default to the first and
+// last order day. Each chunk of consecutive days is deleted and recomputed in one transaction, so the job is
+// idempotent and a failed run can simply be started again.
+@Configuration
+@EnableConfigurationProperties(DailyPlatformMetricsRebuildJobProperties.class)
+@SuppressWarnings("null")
+public class DailyPlatformMetricsRebuildJobConfig
+{
+    @Bean
+    public Job dailyPlatformMetricsRebuildJob(JobRepository jobRepository, Step dailyPlatformMetricsRebuildStep)
+    {
+        return new JobBuilder("dailyPlatformMetricsRebuildJob", jobRepository)
+            .incrementer(new RunIdIncrementer())
+            .start(dailyPlatformMetricsRebuildStep)
+            .build();
+    }
+
+    // Emits every day in the requested range in ascending order
+    @Bean
+    @StepScope
+    public ListItemReader<LocalDate> dailyPlatformMetricsRebuildReader(DailyPlatformMetricsRebuilder rebuilder,
+                                                                      @Value("#{jobParameters['from']}") String from,
+                                                                      @Value("#{jobParameters['to']}") String to)
+    {
+        DateRange orderDays = rebuilder.orderDateRange().orElse(null);
+        LocalDate first = from != null && !from.isBlank() ? LocalDate.parse(from.trim())
+            : orderDays != null ? orderDays.from() : null;
+        LocalDate last = to != null && !to.isBlank() ? LocalDate.parse(to.trim())
+            : orderDays != null ? orderDays.to() : null;
+        if (first == null || last == null || first.isAfter(last))
+        {
+            return new ListItemReader<>(List.of());
+        }
+        return new ListItemReader<>(first.datesUntil(last.plusDays(1)).toList());
+    }
+
+    // A chunk is a run of consecutive days, so one range rebuild covers it
+    @Bean
+    public ItemWriter<LocalDate> dailyPlatformMetricsRebuildWriter(DailyPlatformMetricsRebuilder rebuilder)
+    {
+        return chunk ->
+        {
+            List<? extends LocalDate> days = chunk.getItems();
+            if (!days.isEmpty())
+            {
+                rebuilder.rebuild(days.get(0), days.get(days.size() - 1));
+            }
+        };
+    }
+
+    @Bean
+    public Step dailyPlatformMetricsRebuildStep(JobRepository jobRepository,
+                                                PlatformTransactionManager transactionManager,
+                                                ListItemReader<LocalDate> dailyPlatformMetricsRebuildReader,
+                                                ItemWriter<LocalDate> dailyPlatformMetricsRebuildWriter,
+                                                DailyPlatformMetricsRebuildJobProperties properties)
+    {
+        int chunkSize = Math.max(1, properties.getChunkSize());
+
+        return new StepBuilder("dailyPlatformMetricsRebuildStep", jobRepository)
+            .<LocalDate, LocalDate>chunk(chunkSize, transactionManager)
+            .reader(dailyPlatformMetricsRebuildReader)
+            .writer(dailyPlatformMetricsRebuildWriter)
+            .build();
+    }
+}
@@ -0,0 +1,24 @@
+package dev.fincke.hopper.batch.metrics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+// Exposes rollup rebuild tuning knobs via configuration properties.
+// Smaller chunks shorten the lock held on each range of rollup rows; larger ones finish a backfill sooner.
+@ConfigurationProperties(prefix = "hopper.batch.metrics-rebuild")
+public class DailyPlatformMetricsRebuildJobProperties
+{
+    // * Configuration Values
+
+    // Days recomputed and committed per transaction.
+    private int chunkSize = 31;
+
+    public int getChunkSize()
+    {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize)
+    {
+        this.chunkSize = chunkSize;
+    }
+}
@@ -1,5 +1,7 @@
 package dev.fincke.hopper.batch.order;
 
+import dev.fincke.hopper.marketplace.client.model.OrderStatus;
+import dev.fincke.hopper.order.order.dto.OrderStatusUpdateRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.batch.item.ItemProcessor;
@@ -21,9 +23,26 @@ public class ExternalOrderItemProcessor implements ItemProcessor<ExternalOrderRe
         return new OrderImportRequest(
             item.platformCode(),
             item.externalOrderId(),
+            item.marketplaceOrderId(),
             item.buyerId(),
+            toLocalStatus(item.status()),
             item.totalAmount(),
             item.orderDate()
         );
     }
+
+    // Same mapping the status poller applies to connector orders; a connector failure is a cancelled order
+    static String toLocalStatus(OrderStatus status)
+    {
+        if (status == null)
+        {
+            return OrderImportItemWriter.IMPORTED_STATUS;
+        }
+        return switch (status)
+        {
+            case PENDING -> OrderStatusUpdateRequest.STATUS_PENDING;
+            case CONFIRMED -> OrderStatusUpdateRequest.STATUS_CONFIRMED;
+            case FAILED -> OrderStatusUpdateRequest.STATUS_CANCELLED;
+        };
+    }
 }
@@ -1,21 +1,191 @@
 package dev.fincke.hopper.batch.order;
 
+import dev.fincke.hopper.marketplace.client.MarketplaceClient;
+import dev.fincke.hopper.marketplace.client.model.MarketplaceError;
+import dev.fincke.hopper.marketplace.client.model.OrderPage;
+import dev.fincke.hopper.marketplace.client.model.OrderSummary;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.batch.item.ItemReader;
-import org.springframework.stereotype.Component;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.lang.NonNull;
 
-// Stub reader that will be replaced with the marketplace client integration.
-// Returning null tells Spring Batch that the data source is exhausted for this run.
-@Component
-public class ExternalOrderItemReader implements ItemReader<ExternalOrderRecord>
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+// Streams connector orders page by page through the MarketplaceClient.
+// Buffers up to prefetchPages pages per connector round-trip and records the cursor of the buffered
+// window plus how many of its rows were consumed, so a restarted step resumes at the last committed chunk.
+public class ExternalOrderItemReader implements ItemStreamReader<ExternalOrderRecord>
 {
     private static final Logger logger = LoggerFactory.getLogger(ExternalOrderItemReader.class);
 
+    // * Execution Context Keys
+    static final String CURSOR_KEY = "cursor";
+    static final String CONSUMED_KEY = "consumed";
+
+    // * Dependencies and Settings
+    private final MarketplaceClient marketplaceClient;
+    private final String platformCode;
+    private final int pageSize;
+    private final int prefetchPages;
+    private final String name;
+
+    // * Read State
+    // rows fetched but not yet handed to the step
+    private final Deque<ExternalOrderRecord> buffer = new ArrayDeque<>();
+    // cursor the buffered window was fetched from (null = start of feed)
+    private String windowCursor;
+    // rows returned from the buffered window so far
+    private int consumed;
+    // cursor following the buffered window
+    private String nextCursor;
+    // connector reported no further pages
+    private boolean exhausted;
+
+    // platformCode may be null to import every platform the connector exposes
+    public ExternalOrderItemReader(MarketplaceClient marketplaceClient,
+                                   String platformCode,
+                                   int pageSize,
+                                   int prefetchPages)
+    {
+        this.marketplaceClient = Objects.requireNonNull(marketplaceClient, "marketplaceClient");
+        this.platformCode = platformCode == null || platformCode.isBlank() ? null : platformCode.trim().toUpperCase();
+        this.pageSize = Math.max(1, pageSize);
+        this.prefetchPages = Math.max(1, prefetchPages);
+        this.name = this.platformCode == null
+            ? ExternalOrderItemReader.class.getSimpleName()
+            : ExternalOrderItemReader.class.getSimpleName() + "." + this.platformCode;
+    }
+
+    // * ItemStream
+
+    @Override
+    public void open(@NonNull ExecutionContext executionContext)
+    {
+        buffer.clear();
+        exhausted = false;
+        windowCursor = null;
+        consumed = 0;
+
+        if (!executionContext.containsKey(key(CONSUMED_KEY)))
+        {
+            return;
+        }
+
+        // Restart: refetch the window that was in flight and skip rows already committed
+        windowCursor = executionContext.containsKey(key(CURSOR_KEY)) ? executionContext.getString(key(CURSOR_KEY)) : null;
+        int committed = executionContext.getInt(key(CONSUMED_KEY));
+        fillWindow();
+        for (int i = 0; i < committed && !buffer.isEmpty(); i++)
+        {
+            buffer.poll();
+        }
+        consumed = committed;
+        logger.info("Resuming order import for {} at cursor {} (+{} rows)", describePlatform(), windowCursor, committed);
+    }
+
+    @Override
+    public void update(@NonNull ExecutionContext executionContext)
+    {
+        if (windowCursor == null)
+        {
+            executionContext.remove(key(CURSOR_KEY));
+        }
+        else
+        {
+            executionContext.putString(key(CURSOR_KEY), windowCursor);
+        }
+        executionContext.putInt(key(CONSUMED_KEY), consumed);
+    }
+
+    @Override
+    public void close()
+    {
+        buffer.clear();
+    }
+
+    // * ItemReader
+
     @Override
     public ExternalOrderRecord read()
     {
-        logger.debug("Order import reader reached end of data (stub implementation)");
-        return null; // returning null signals no more records for the step
+        // A filtered window can come back empty with a next cursor, so keep paging until rows arrive or the feed ends
+        while (buffer.isEmpty())
+        {
+            if (exhausted)
+            {
+                return null; // returning null signals no more records for the step
+            }
+            windowCursor = nextCursor;
+            consumed = 0;
+            fillWindow();
+        }
+
+        consumed++;
+        return buffer.poll();
+    }
+
+    // * Paging Helpers
+
+    // Fetches up to prefetchPages pages starting at windowCursor into the buffer
+    private void fillWindow()
+    {
+        String cursor = windowCursor;
+        for (int page = 0; page < prefetchPages; page++)
+        {
+            OrderPage result = marketplaceClient.listOrders(platformCode, cursor, pageSize);
+            if (result.hasErrors())
+            {
+                String reasons = result.errors().stream()
+                    .map(MarketplaceError::message)
+                    .collect(Collectors.joining("; "));
+                throw new ItemStreamException("Connector order listing failed for " + describePlatform() + ": " + reasons);
+            }
+
+            result.orders().stream()
+                .map(ExternalOrderItemReader::toRecord)
+                .forEach(buffer::add);
+
+            if (!result.hasNext())
+            {
+                exhausted = true;
+                cursor = null;
+                break;
+            }
+            if (result.nextCursor().equals(cursor))
+            {
+                throw new ItemStreamException("Connector order listing for " + describePlatform() + " did not advance past cursor " + cursor);
+            }
+            cursor = result.nextCursor();
+        }
+        nextCursor = cursor;
+    }
+
+    private static ExternalOrderRecord toRecord(OrderSummary summary)
+    {
+        // Connector orders carry no Hopper buyer; buyers are linked after import
+        return new ExternalOrderRecord(
+            summary.platform(),
+            summary.externalOrderId(),
+            summary.orderId(),
+            null,
+            summary.status(),
+            summary.total().amount(),
+            summary.placedAt()
+        );
+    }
+
+    private String key(String suffix)
+    {
+        return name + "." + suffix;
+    }
+
+    private String describePlatform()
+    {
+        return platformCode == null ? "all platforms" : platformCode;
     }
 }
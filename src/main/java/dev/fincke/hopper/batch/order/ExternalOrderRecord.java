@@ -1,5 +1,7 @@
 package dev.fincke.hopper.batch.order;
 
+import dev.fincke.hopper.marketplace.client.model.OrderStatus;
+
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.UUID;
@@ -9,7 +11,11 @@ import java.util.UUID;
 public record ExternalOrderRecord(
     String platformCode,
     String externalOrderId,
+    // connector's own order id, used to poll the order's status later
+    String marketplaceOrderId,
     UUID buyerId,
+    // connector lifecycle state; null when the feed omits it
+    OrderStatus status,
     BigDecimal totalAmount,
     Instant orderDate
 ) {}
@@ -1,27 +1,73 @@
 package dev.fincke.hopper.batch.order;
 
-import dev.fincke.hopper.order.order.OrderService;
+import dev.fincke.hopper.order.buyer.Buyer;
+import dev.fincke.hopper.order.buyer.BuyerRepository;
+import dev.fincke.hopper.order.order.dto.OrderStatusUpdateRequest;
+import dev.fincke.hopper.platform.platform.Platform;
+import dev.fincke.hopper.platform.platform.PlatformRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.batch.item.Chunk;
 import org.springframework.batch.item.ItemWriter;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
-// Persists normalized orders through the domain service layer.
-// Gives the batch pipeline a single entry point while the integration API is under construction.
+// Persists normalized orders with a constant number of statements per chunk.
+// Resolves platforms and buyers in one query each, drops rows already present under
+// uq_orders_external_per_platform with a single IN lookup, and inserts the remainder as one JDBC batch.
 @Component
 public class OrderImportItemWriter implements ItemWriter<OrderImportRequest>
 {
     private static final Logger logger = LoggerFactory.getLogger(OrderImportItemWriter.class);
 
-    private final OrderService orderService;
+    // Status for rows whose connector status is missing or not a known local status; the workflow's first state.
+    static final String IMPORTED_STATUS = "pending";
 
-    public OrderImportItemWriter(OrderService orderService)
+    private static final Set<String> KNOWN_STATUSES = Set.of(
+        OrderStatusUpdateRequest.STATUS_PENDING, OrderStatusUpdateRequest.STATUS_CONFIRMED,
+        OrderStatusUpdateRequest.STATUS_PAID, OrderStatusUpdateRequest.STATUS_PROCESSING,
+        OrderStatusUpdateRequest.STATUS_SHIPPED, OrderStatusUpdateRequest.STATUS_DELIVERED,
+        OrderStatusUpdateRequest.STATUS_CANCELLED, OrderStatusUpdateRequest.STATUS_REFUNDED);
+
+    private static final String EXISTING_ORDERS_SQL =
+        "SELECT platform_id, external_order_id FROM orders " +
+        "WHERE platform_id IN (:platformIds) AND external_order_id IN (:externalOrderIds)";
+
+    private static final String INSERT_ORDER_SQL =
+        "INSERT INTO orders (id, platform_id, buyer_id, external_order_id, marketplace_order_id, status, total_amount, " +
+        "order_date) VALUES (:id, :platformId, :buyerId, :externalOrderId, :marketplaceOrderId, :status, :totalAmount, " +
+        ":orderDate)";
+
+    private final PlatformRepository platformRepository;
+
+    private final BuyerRepository buyerRepository;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public OrderImportItemWriter(PlatformRepository platformRepository,
+                                 BuyerRepository buyerRepository,
+                                 NamedParameterJdbcTemplate jdbcTemplate)
     {
-        this.orderService = orderService;
+        this.platformRepository = platformRepository;
+        this.buyerRepository = buyerRepository;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
@@ -33,12 +79,149 @@ public class OrderImportItemWriter implements ItemWriter<OrderImportRequest>
         }
 
         List<? extends OrderImportRequest> items = chunk.getItems();
-        logger.info("Order import writer received {} orders (stub implementation)", items.size());
-        if (logger.isDebugEnabled())
+        Map<String, UUID> platformIds = resolvePlatforms(items);
+        Set<UUID> knownBuyers = resolveBuyers(items);
+
+        // Key rows by (platform, external id) so duplicates inside the chunk collapse to the first occurrence
+        Map<OrderKey, OrderImportRequest> candidates = new LinkedHashMap<>();
+        int unknownPlatform = 0;
+        for (OrderImportRequest item : items)
+        {
+            UUID platformId = platformIds.get(normalizeCode(item.platformCode()));
+            if (platformId == null)
+            {
+                unknownPlatform++;
+                continue;
+            }
+            candidates.putIfAbsent(new OrderKey(platformId, item.externalOrderId().trim()), item);
+        }
+
+        int inChunkDuplicates = items.size() - unknownPlatform - candidates.size();
+        int existing = removeExisting(candidates);
+
+        List<SqlParameterSource> batch = new ArrayList<>(candidates.size());
+        candidates.forEach((key, item) -> batch.add(toParameters(key, item, knownBuyers)));
+        if (!batch.isEmpty())
+        {
+            jdbcTemplate.batchUpdate(INSERT_ORDER_SQL, batch.toArray(SqlParameterSource[]::new));
+        }
+
+        logger.info("Order import chunk: {} inserted, {} already imported, {} duplicated in chunk, {} unknown platform",
+            batch.size(), existing, inChunkDuplicates, unknownPlatform);
+    }
+
+    // * Chunk Resolution
+
+    // One query for every platform code in the chunk; an exact name match wins over a type match
+    private Map<String, UUID> resolvePlatforms(List<? extends OrderImportRequest> items)
+    {
+        Set<String> codes = items.stream()
+            .map(item -> normalizeCode(item.platformCode()))
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+        if (codes.isEmpty())
+        {
+            return Map.of();
+        }
+
+        Map<String, UUID> byName = new HashMap<>();
+        Map<String, Set<UUID>> byType = new HashMap<>();
+        for (Platform platform : platformRepository.findByCodes(codes))
+        {
+            byName.put(normalizeCode(platform.getName()), platform.getId());
+            byType.computeIfAbsent(normalizeCode(platform.getPlatformType()), type -> new HashSet<>()).add(platform.getId());
+        }
+
+        Map<String, UUID> resolved = new HashMap<>();
+        for (String code : codes)
+        {
+            UUID platformId = byName.get(code);
+            Set<UUID> typeMatches = byType.getOrDefault(code, Set.of());
+            if (platformId == null && typeMatches.size() == 1)
+            {
+                platformId = typeMatches.iterator().next();
+            }
+            else if (platformId == null && typeMatches.size() > 1)
+            {
+                logger.warn("Platform code {} matches {} platforms by type; rows skipped", code, typeMatches.size());
+            }
+            if (platformId != null)
+            {
+                resolved.put(code, platformId);
+            }
+        }
+        return resolved;
+    }
+
+    // One query for every referenced buyer; unknown buyer IDs are imported without a buyer
+    private Set<UUID> resolveBuyers(List<? extends OrderImportRequest> items)
+    {
+        Set<UUID> buyerIds = items.stream()
+            .map(OrderImportRequest::buyerId)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+        if (buyerIds.isEmpty())
         {
-            logger.debug("Order service {} available for persistence hook",
-                orderService.getClass().getSimpleName());
+            return Set.of();
         }
-        // Map OrderImportRequest into the appropriate service call when the integration client is implemented.
+        return buyerRepository.findAllById(buyerIds).stream()
+            .map(Buyer::getId)
+            .collect(Collectors.toSet());
     }
+
+    // Single IN lookup against the unique (platform_id, external_order_id) pair; returns rows removed
+    private int removeExisting(Map<OrderKey, OrderImportRequest> candidates)
+    {
+        if (candidates.isEmpty())
+        {
+            return 0;
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("platformIds", candidates.keySet().stream().map(OrderKey::platformId).collect(Collectors.toSet()))
+            .addValue("externalOrderIds", candidates.keySet().stream().map(OrderKey::externalOrderId).collect(Collectors.toSet()));
+
+        List<OrderKey> existing = jdbcTemplate.query(EXISTING_ORDERS_SQL, params, (rs, rowNum) ->
+            new OrderKey(rs.getObject("platform_id", UUID.class), rs.getString("external_order_id")));
+
+        int removed = 0;
+        for (OrderKey key : existing)
+        {
+            if (candidates.remove(key) != null)
+            {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    private static SqlParameterSource toParameters(OrderKey key, OrderImportRequest item, Set<UUID> knownBuyers)
+    {
+        UUID buyerId = item.buyerId() != null && knownBuyers.contains(item.buyerId()) ? item.buyerId() : null;
+        BigDecimal total = item.totalAmount() == null ? BigDecimal.ZERO : item.totalAmount();
+
+        return new MapSqlParameterSource()
+            .addValue("id", UUID.randomUUID())
+            .addValue("platformId", key.platformId())
+            .addValue("buyerId", buyerId)
+            .addValue("externalOrderId", key.externalOrderId())
+            .addValue("marketplaceOrderId", item.marketplaceOrderId())
+            .addValue("status", importedStatus(item.status()))
+            .addValue("totalAmount", total.setScale(2, RoundingMode.HALF_UP))
+            .addValue("orderDate", Timestamp.from(item.orderDate()));
+    }
+
+    private static String importedStatus(String status)
+    {
+        String normalized = status == null ? null : status.trim().toLowerCase();
+        return normalized != null && KNOWN_STATUSES.contains(normalized) ? normalized : IMPORTED_STATUS;
+    }
+
+    private static String normalizeCode(String code)
+    {
+        return code == null || code.isBlank() ? null : code.trim().toUpperCase();
+    }
+
+    // Natural key enforced by uq_orders_external_per_platform
+    private record OrderKey(UUID platformId, String externalOrderId) {}
 }
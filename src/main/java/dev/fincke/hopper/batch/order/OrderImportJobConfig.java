@@ -1,20 +1,27 @@
 package dev.fincke.hopper.batch.order;
 
+import dev.fincke.hopper.marketplace.client.MarketplaceClient;
+import dev.fincke.hopper.platform.platform.PlatformRepository;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.partition.support.Partitioner;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.item.ItemProcessor;
-import org.springframework.batch.item.ItemReader;
 import org.springframework.batch.item.ItemWriter;
 import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
+import java.util.List;
+
 // Spring Batch configuration for the order import job
 @Configuration
 @EnableBatchProcessing
@@ -31,21 +38,84 @@ public class OrderImportJobConfig
             .build();
     }
 
+    // Step-scoped so each partition gets its own reader and paging state; the platform code comes from the partition context
+    @Bean
+    @StepScope
+    public ExternalOrderItemReader externalOrderItemReader(MarketplaceClient marketplaceClient,
+                                                           OrderImportJobProperties properties,
+                                                           @Value("#{stepExecutionContext['platformCode']}") String platformCode)
+    {
+        return new ExternalOrderItemReader(
+            marketplaceClient,
+            platformCode,
+            properties.getPageSize(),
+            properties.getPrefetchPages()
+        );
+    }
+
+    // Optional platformCode job parameter narrows the run to one partition; otherwise configured codes or every platform name
+    @Bean
+    @StepScope
+    public PlatformCodePartitioner orderImportPartitioner(PlatformRepository platformRepository,
+                                                          OrderImportJobProperties properties,
+                                                          @Value("#{jobParameters['platformCode']}") String platformCode)
+    {
+        List<String> codes;
+        if (platformCode != null && !platformCode.isBlank())
+        {
+            codes = List.of(platformCode);
+        }
+        else if (!properties.getPlatformCodes().isEmpty())
+        {
+            codes = properties.getPlatformCodes();
+        }
+        else
+        {
+            codes = platformRepository.findDistinctPlatformCodes();
+        }
+        return new PlatformCodePartitioner(codes);
+    }
+
+    // Manager step: fans platform partitions out to the worker step; each worker keeps its own restart state
     @Bean
     public Step orderImportStep(JobRepository jobRepository,
                                 PlatformTransactionManager transactionManager,
-                                ItemReader<ExternalOrderRecord> reader,
+                                ExternalOrderItemReader reader,
                                 ItemProcessor<ExternalOrderRecord, OrderImportRequest> processor,
                                 ItemWriter<OrderImportRequest> writer,
+                                Partitioner orderImportPartitioner,
                                 OrderImportJobProperties properties)
     {
-        int chunkSize = Math.max(1, properties.getChunkSize());
+        Step workerStep = orderImportWorkerStep(jobRepository, transactionManager, reader, processor, writer, properties);
+        int gridSize = Math.max(1, properties.getGridSize());
+
+        // Kept out of the context so Boot's shared application executor stays in place; the limit caps parallel partitions
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("order-import-");
+        taskExecutor.setConcurrencyLimit(gridSize);
 
         return new StepBuilder("orderImportStep", jobRepository)
+            .partitioner(workerStep.getName(), orderImportPartitioner)
+            .step(workerStep)
+            .gridSize(gridSize)
+            .taskExecutor(taskExecutor)
+            .build();
+    }
+
+    private Step orderImportWorkerStep(JobRepository jobRepository,
+                                       PlatformTransactionManager transactionManager,
+                                       ExternalOrderItemReader reader,
+                                       ItemProcessor<ExternalOrderRecord, OrderImportRequest> processor,
+                                       ItemWriter<OrderImportRequest> writer,
+                                       OrderImportJobProperties properties)
+    {
+        int chunkSize = Math.max(1, properties.getChunkSize());
+
+        return new StepBuilder("orderImportWorkerStep", jobRepository)
             .<ExternalOrderRecord, OrderImportRequest>chunk(chunkSize, transactionManager)
             .reader(reader)
             .processor(processor)
             .writer(writer)
+            .listener(new PartitionThroughputListener())
             .build();
     }
 }
@@ -2,6 +2,9 @@ package dev.fincke.hopper.batch.order;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.util.ArrayList;
+import java.util.List;
+
 // Exposes batch job tuning knobs via configuration properties.
 // Lets operators adjust import throughput without code changes.
 @ConfigurationProperties(prefix = "hopper.batch.order-import")
@@ -12,6 +15,18 @@ public class OrderImportJobProperties
     // Number of orders processed per chunk to balance throughput with memory usage.
     private int chunkSize = 100;
 
+    // Orders requested from the connector per page.
+    private int pageSize = 100;
+
+    // Pages fetched per connector round-trip burst and buffered ahead of the step.
+    private int prefetchPages = 2;
+
+    // Maximum platform partitions imported concurrently, one worker thread each.
+    private int gridSize = 4;
+
+    // Platform codes to partition by; empty means every platform type known to the database.
+    private List<String> platformCodes = new ArrayList<>();
+
     public int getChunkSize()
     {
         return chunkSize;
@@ -21,4 +36,44 @@ public class OrderImportJobProperties
     {
         this.chunkSize = chunkSize;
     }
+
+    public int getPageSize()
+    {
+        return pageSize;
+    }
+
+    public void setPageSize(int pageSize)
+    {
+        this.pageSize = pageSize;
+    }
+
+    public int getPrefetchPages()
+    {
+        return prefetchPages;
+    }
+
+    public void setPrefetchPages(int prefetchPages)
+    {
+        this.prefetchPages = prefetchPages;
+    }
+
+    public int getGridSize()
+    {
+        return gridSize;
+    }
+
+    public void setGridSize(int gridSize)
+    {
+        this.gridSize = gridSize;
+    }
+
+    public List<String> getPlatformCodes()
+    {
+        return platformCodes;
+    }
+
+    public void setPlatformCodes(List<String> platformCodes)
+    {
+        this.platformCodes = platformCodes;
+    }
 }
@@ -9,7 +9,11 @@ import java.util.UUID;
 public record OrderImportRequest(
     String platformCode,
     String externalOrderId,
+    // connector's own order id; stored so the status poller can look the order up
+    String marketplaceOrderId,
     UUID buyerId,
+    // local order status; null falls back to the writer's default
+    String status,
     BigDecimal totalAmount,
     Instant orderDate
 ) {}
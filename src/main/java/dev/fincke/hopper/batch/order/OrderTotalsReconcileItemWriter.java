@@ -0,0 +1,59 @@
+package dev.fincke.hopper.batch.order;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// Repairs drift in orders.item_count / items_subtotal for one chunk of orders with two statements.
+// The chunk's order rows are locked first, so the recompute runs on a fresh snapshot that includes every item
+// write that committed meanwhile, and item writes still in flight wait and apply their increment afterwards.
+@Component
+public class OrderTotalsReconcileItemWriter implements ItemWriter<UUID>
+{
+    private static final Logger logger = LoggerFactory.getLogger(OrderTotalsReconcileItemWriter.class);
+
+    // Sorted so concurrent item writes and overlapping runs take order row locks in the same order
+    private static final String LOCK_SQL =
+        "SELECT id FROM orders WHERE id IN (:ids) ORDER BY id FOR UPDATE";
+
+    private static final String UNITS = "COALESCE((SELECT SUM(i.quantity) FROM order_items i WHERE i.order_id = orders.id), 0)";
+    private static final String SUBTOTAL = "COALESCE((SELECT SUM(i.price * i.quantity) FROM order_items i WHERE i.order_id = orders.id), 0)";
+
+    // Only rows that actually drifted are rewritten
+    private static final String REPAIR_SQL =
+        "UPDATE orders SET item_count = " + UNITS + ", items_subtotal = " + SUBTOTAL + " " +
+        "WHERE id IN (:ids) AND (item_count <> " + UNITS + " OR items_subtotal <> " + SUBTOTAL + ")";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public OrderTotalsReconcileItemWriter(NamedParameterJdbcTemplate jdbcTemplate)
+    {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void write(@NonNull Chunk<? extends UUID> chunk)
+    {
+        if (chunk.isEmpty())
+        {
+            return;
+        }
+
+        Map<String, List<? extends UUID>> params = Map.of("ids", chunk.getItems());
+        jdbcTemplate.queryForList(LOCK_SQL, params, UUID.class);
+        int repaired = jdbcTemplate.update(REPAIR_SQL, params);
+
+        if (repaired > 0)
+        {
+            logger.warn("Order totals reconcile chunk: {} of {} orders had drifted item totals", repaired, chunk.size());
+        }
+    }
+}
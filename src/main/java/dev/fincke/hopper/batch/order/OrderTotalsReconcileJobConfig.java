@@ -0,0 +1,73 @@
+package dev.fincke.hopper.batch.order;
+
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
+import org.springframework.batch.item.database.support.SqlPagingQueryProviderFactoryBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.util.UUID;
+
+// Spring Batch configuration for recomputing orders.item_count / items_subtotal from order_items.
+// The columns are kept current by increments on every item write; this job repairs anything that bypassed them.
+@Configuration
+@EnableConfigurationProperties(OrderTotalsReconcileJobProperties.class)
+@SuppressWarnings("null")
+public class OrderTotalsReconcileJobConfig
+{
+    @Bean
+    public Job orderTotalsReconcileJob(JobRepository jobRepository, Step orderTotalsReconcileStep)
+    {
+        return new JobBuilder("orderTotalsReconcileJob", jobRepository)
+            .incrementer(new RunIdIncrementer())
+            .start(orderTotalsReconcileStep)
+            .build();
+    }
+
+    // Keyset paging on the primary key; the saved last id makes restarts resume
+    @Bean
+    @StepScope
+    public JdbcPagingItemReader<UUID> orderTotalsReconcileReader(DataSource dataSource,
+                                                                 OrderTotalsReconcileJobProperties properties) throws Exception
+    {
+        SqlPagingQueryProviderFactoryBean queryProvider = new SqlPagingQueryProviderFactoryBean();
+        queryProvider.setDataSource(dataSource);
+        queryProvider.setSelectClause("SELECT id");
+        queryProvider.setFromClause("FROM orders");
+        queryProvider.setSortKey("id");
+
+        return new JdbcPagingItemReaderBuilder<UUID>()
+            .name("orderTotalsReconcileReader")
+            .dataSource(dataSource)
+            .queryProvider(queryProvider.getObject())
+            .pageSize(Math.max(1, properties.getPageSize()))
+            .rowMapper((rs, rowNum) -> rs.getObject("id", UUID.class))
+            .build();
+    }
+
+    @Bean
+    public Step orderTotalsReconcileStep(JobRepository jobRepository,
+                                         PlatformTransactionManager transactionManager,
+                                         JdbcPagingItemReader<UUID> orderTotalsReconcileReader,
+                                         OrderTotalsReconcileItemWriter orderTotalsReconcileWriter,
+                                         OrderTotalsReconcileJobProperties properties)
+    {
+        int chunkSize = Math.max(1, properties.getChunkSize());
+
+        return new StepBuilder("orderTotalsReconcileStep", jobRepository)
+            .<UUID, UUID>chunk(chunkSize, transactionManager)
+            .reader(orderTotalsReconcileReader)
+            .writer(orderTotalsReconcileWriter)
+            .build();
+    }
+}
@@ -0,0 +1,37 @@
+package dev.fincke.hopper.batch.order;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+// Exposes order item totals reconcile tuning knobs via configuration properties.
+// Chunk size bounds how many order rows are locked at once while their totals are recomputed.
+@ConfigurationProperties(prefix = "hopper.batch.order-totals-reconcile")
+public class OrderTotalsReconcileJobProperties
+{
+    // * Configuration Values
+
+    // Orders checked and repaired per transaction.
+    private int chunkSize = 500;
+
+    // Order IDs fetched per keyset page.
+    private int pageSize = 500;
+
+    public int getChunkSize()
+    {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize)
+    {
+        this.chunkSize = chunkSize;
+    }
+
+    public int getPageSize()
+    {
+        return pageSize;
+    }
+
+    public void setPageSize(int pageSize)
+    {
+        this.pageSize = pageSize;
+    }
+}
@@ -0,0 +1,44 @@
+package dev.fincke.hopper.batch.order;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.lang.NonNull;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+// Records per-partition throughput on each worker step execution.
+// Values land in the step execution context, so they are persisted with the job execution alongside read/write counts.
+public class PartitionThroughputListener implements StepExecutionListener
+{
+    private static final Logger logger = LoggerFactory.getLogger(PartitionThroughputListener.class);
+
+    // * Execution Context Keys
+    static final String ELAPSED_MILLIS_KEY = "throughput.elapsedMillis";
+    static final String ITEMS_PER_SECOND_KEY = "throughput.itemsPerSecond";
+
+    @Override
+    public ExitStatus afterStep(@NonNull StepExecution stepExecution)
+    {
+        LocalDateTime start = stepExecution.getStartTime();
+        long elapsedMillis = start == null ? 0L : Math.max(0L, Duration.between(start, LocalDateTime.now()).toMillis());
+        long written = stepExecution.getWriteCount();
+        double itemsPerSecond = elapsedMillis == 0L ? written : written * 1000.0 / elapsedMillis;
+
+        stepExecution.getExecutionContext().putLong(ELAPSED_MILLIS_KEY, elapsedMillis);
+        stepExecution.getExecutionContext().putDouble(ITEMS_PER_SECOND_KEY, itemsPerSecond);
+
+        logger.info("Order import partition {} read {} wrote {} skipped {} in {} ms ({} items/s)",
+            stepExecution.getStepName(),
+            stepExecution.getReadCount(),
+            written,
+            stepExecution.getSkipCount(),
+            elapsedMillis,
+            String.format("%.1f", itemsPerSecond));
+
+        return stepExecution.getExitStatus();
+    }
+}
@@ -0,0 +1,55 @@
+package dev.fincke.hopper.batch.order;
+
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.lang.NonNull;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+// Splits the order import into one partition per platform code.
+// Partition names are derived from the code so a restarted job maps each worker back to its own saved state.
+public class PlatformCodePartitioner implements Partitioner
+{
+    // * Execution Context Keys
+    static final String PLATFORM_CODE_KEY = "platformCode";
+    static final String PARTITION_PREFIX = "platform-";
+    // single partition covering every platform when no codes are known
+    static final String ALL_PLATFORMS_PARTITION = PARTITION_PREFIX + "ALL";
+
+    private final List<String> platformCodes;
+
+    public PlatformCodePartitioner(List<String> platformCodes)
+    {
+        this.platformCodes = platformCodes == null ? List.of() : platformCodes.stream()
+            .filter(Objects::nonNull)
+            .map(String::trim)
+            .filter(code -> !code.isEmpty())
+            .map(String::toUpperCase)
+            .distinct()
+            .toList();
+    }
+
+    // gridSize caps concurrency in the partition handler; the partition count follows the platform codes
+    @Override
+    @NonNull
+    public Map<String, ExecutionContext> partition(int gridSize)
+    {
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+        if (platformCodes.isEmpty())
+        {
+            partitions.put(ALL_PLATFORMS_PARTITION, new ExecutionContext());
+            return partitions;
+        }
+
+        for (String code : platformCodes)
+        {
+            ExecutionContext context = new ExecutionContext();
+            context.putString(PLATFORM_CODE_KEY, code);
+            partitions.put(PARTITION_PREFIX + code, context);
+        }
+        return partitions;
+    }
+}
@@ -0,0 +1,139 @@
+package dev.fincke.hopper.catalog.inventory;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.UuidGenerator;
+
+import java.sql.Timestamp;
+import java.util.Objects;
+import java.util.UUID;
+
+@Entity
+@Table(
+    name = "inventory_reservations",
+    indexes = {
+        @Index(name = "idx_inventory_reservations_listing_status", columnList = "listing_id, status"),
+        @Index(name = "idx_inventory_reservations_status_created", columnList = "status, created_at"),
+        @Index(name = "idx_inventory_reservations_order_item", columnList = "order_item_id")
+    }
+)
+public class InventoryReservation
+{
+    // * Attributes
+
+    @Id
+    @GeneratedValue
+    @UuidGenerator
+    private UUID id;
+
+    // plain IDs rather than associations: the ledger is written on the hot order path and never navigates
+    @Column(name = "listing_id", nullable = false)
+    private UUID listingId;
+
+    @Column(name = "product_id", nullable = false)
+    private UUID productId;
+
+    // set on commit; null while held
+    @Column(name = "order_item_id")
+    private UUID orderItemId;
+
+    // units taken from the listing (negative when an order item gives units back)
+    @Column(name = "quantity", nullable = false)
+    private int quantity;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private ReservationStatus status;
+
+    @Column(name = "created_at", nullable = false)
+    private Timestamp createdAt;
+
+    // only meaningful while HELD
+    @Column(name = "expires_at")
+    private Timestamp expiresAt;
+
+    @Column(name = "folded_at")
+    private Timestamp foldedAt;
+
+    // * Constructors
+    protected InventoryReservation()
+    {}
+
+    public InventoryReservation(UUID listingId,
+                                UUID productId,
+                                UUID orderItemId,
+                                int quantity,
+                                ReservationStatus status,
+                                Timestamp createdAt,
+                                Timestamp expiresAt)
+    {
+        this.listingId = Objects.requireNonNull(listingId, "listingId");
+        this.productId = Objects.requireNonNull(productId, "productId");
+        this.orderItemId = orderItemId;
+        this.quantity = quantity;
+        this.status = Objects.requireNonNull(status, "status");
+        this.createdAt = Objects.requireNonNull(createdAt, "createdAt");
+        this.expiresAt = expiresAt;
+    }
+
+    // * Getters
+
+    public UUID getId()
+    {
+        return id;
+    }
+
+    public UUID getListingId()
+    {
+        return listingId;
+    }
+
+    public UUID getProductId()
+    {
+        return productId;
+    }
+
+    public UUID getOrderItemId()
+    {
+        return orderItemId;
+    }
+
+    public int getQuantity()
+    {
+        return quantity;
+    }
+
+    public ReservationStatus getStatus()
+    {
+        return status;
+    }
+
+    public Timestamp getCreatedAt()
+    {
+        return createdAt;
+    }
+
+    public Timestamp getExpiresAt()
+    {
+        return expiresAt;
+    }
+
+    public Timestamp getFoldedAt()
+    {
+        return foldedAt;
+    }
+
+    // * Overrides
+    @Override
+    public boolean equals(Object o)
+    {
+        if (this == o) return true;
+        if (!(o instanceof InventoryReservation other)) return false;
+        return id != null && id.equals(other.id);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return id != null ? id.hashCode() : 0;
+    }
+}
@@ -0,0 +1,37 @@
+package dev.fincke.hopper.catalog.inventory;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.Clock;
+
+// * Configuration
+// Wires the reservation ledger; the fold / expiry jobs only run when `hopper.inventory.reservation.background-enabled`
+// is on (the default).
+@Configuration
+@EnableConfigurationProperties(InventoryReservationProperties.class)
+public class InventoryReservationConfiguration
+{
+    @Bean
+    // Singleton so every order path on this instance shares one set of listing counters.
+    public InventoryReservationService inventoryReservationService(
+        InventoryReservationRepository reservationRepository,
+        NamedParameterJdbcTemplate jdbcTemplate,
+        InventoryReservationProperties properties)
+    {
+        return new InventoryReservationServiceImpl(reservationRepository, jdbcTemplate, properties, Clock.systemUTC());
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "hopper.inventory.reservation", name = "background-enabled",
+        havingValue = "true", matchIfMissing = true)
+    public InventoryReservationScheduler inventoryReservationScheduler(
+        InventoryReservationService inventoryReservationService,
+        InventoryReservationProperties properties)
+    {
+        return new InventoryReservationScheduler(inventoryReservationService, properties);
+    }
+}
@@ -0,0 +1,91 @@
+package dev.fincke.hopper.catalog.inventory;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+// * Configuration Properties
+// Tuning knobs for the inventory reservation ledger and its background fold / expiry jobs.
+@ConfigurationProperties(prefix = "hopper.inventory.reservation")
+public class InventoryReservationProperties
+{
+    // * Configuration Values
+
+    // How long an uncommitted hold keeps its units before the expiry sweep returns them.
+    private Duration holdTtl = Duration.ofMinutes(2);
+
+    // Stripes per listing counter; roughly the number of request threads expected to hit one hot listing at once.
+    private int stripes = 8;
+
+    // Delay between fold runs that apply committed reservations to products and listings.
+    private Duration foldInterval = Duration.ofSeconds(10);
+
+    // Ledger rows folded per run.
+    private int foldBatchSize = 500;
+
+    // Delay between expiry sweeps (which also reconcile counters with listing quantity edits).
+    private Duration sweepInterval = Duration.ofSeconds(5);
+
+    // Runs the fold and sweep jobs on this instance; turn off where another instance owns them.
+    private boolean backgroundEnabled = true;
+
+    public Duration getHoldTtl()
+    {
+        return holdTtl;
+    }
+
+    public void setHoldTtl(Duration holdTtl)
+    {
+        this.holdTtl = holdTtl;
+    }
+
+    public int getStripes()
+    {
+        return stripes;
+    }
+
+    public void setStripes(int stripes)
+    {
+        this.stripes = stripes;
+    }
+
+    public Duration getFoldInterval()
+    {
+        return foldInterval;
+    }
+
+    public void setFoldInterval(Duration foldInterval)
+    {
+        this.foldInterval = foldInterval;
+    }
+
+    public int getFoldBatchSize()
+    {
+        return foldBatchSize;
+    }
+
+    public void setFoldBatchSize(int foldBatchSize)
+    {
+        this.foldBatchSize = foldBatchSize;
+    }
+
+    public Duration getSweepInterval()
+    {
+        return sweepInterval;
+    }
+
+    public void setSweepInterval(Duration sweepInterval)
+    {
+        this.sweepInterval = sweepInterval;
+    }
+
+    public boolean isBackgroundEnabled()
+    {
+        return backgroundEnabled;
+    }
+
+    public void setBackgroundEnabled(boolean backgroundEnabled)
+    {
+        this.backgroundEnabled = backgroundEnabled;
+    }
+}
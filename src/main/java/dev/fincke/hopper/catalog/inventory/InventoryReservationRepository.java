@@ -0,0 +1,65 @@
+package dev.fincke.hopper.catalog.inventory;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+// * Repository
+// Data-access layer for the inventory reservation ledger
+public interface InventoryReservationRepository extends JpaRepository<InventoryReservation, UUID>
+{
+    // whether an order item ever took units through the ledger (items created before it existed did not)
+    boolean existsByOrderItemId(UUID orderItemId);
+
+    // * Background Scans
+    // rows are locked and skipped when another instance already holds them (lock timeout -2 = SKIP LOCKED)
+
+    // oldest committed rows waiting to be folded into stock
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT r FROM InventoryReservation r " +
+           "WHERE r.status = dev.fincke.hopper.catalog.inventory.ReservationStatus.COMMITTED " +
+           "ORDER BY r.createdAt")
+    List<InventoryReservation> findCommittedForFold(Pageable limit);
+
+    // holds whose TTL has elapsed
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT r FROM InventoryReservation r " +
+           "WHERE r.status = dev.fincke.hopper.catalog.inventory.ReservationStatus.HELD AND r.expiresAt <= :now " +
+           "ORDER BY r.createdAt")
+    List<InventoryReservation> findExpiredHolds(@Param("now") Timestamp now, Pageable limit);
+
+    // * Status Transitions
+    // each transition is guarded on the expected current status so a row only moves once;
+    // the persistence context is left alone so callers keep their loaded order and listing entities
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE InventoryReservation r " +
+           "SET r.status = dev.fincke.hopper.catalog.inventory.ReservationStatus.COMMITTED, r.orderItemId = :orderItemId " +
+           "WHERE r.id = :id AND r.status = dev.fincke.hopper.catalog.inventory.ReservationStatus.HELD " +
+           "AND r.expiresAt > :now")
+    int commitHold(@Param("id") UUID id, @Param("orderItemId") UUID orderItemId, @Param("now") Timestamp now);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE InventoryReservation r SET r.status = :status " +
+           "WHERE r.id IN :ids AND r.status = dev.fincke.hopper.catalog.inventory.ReservationStatus.HELD")
+    int closeHolds(@Param("ids") Collection<UUID> ids, @Param("status") ReservationStatus status);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE InventoryReservation r " +
+           "SET r.status = dev.fincke.hopper.catalog.inventory.ReservationStatus.FOLDED, r.foldedAt = :now " +
+           "WHERE r.id IN :ids AND r.status = dev.fincke.hopper.catalog.inventory.ReservationStatus.COMMITTED")
+    int markFolded(@Param("ids") Collection<UUID> ids, @Param("now") Timestamp now);
+}
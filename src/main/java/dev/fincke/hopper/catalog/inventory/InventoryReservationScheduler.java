@@ -0,0 +1,96 @@
+package dev.fincke.hopper.catalog.inventory;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// * Scheduler
+// Runs the reservation ledger's background work on a single thread: expiring stale holds (then reconciling counters
+// with listing edits) and folding committed reservations into products and listings.
+public class InventoryReservationScheduler implements AutoCloseable
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(InventoryReservationScheduler.class);
+
+    // * Dependencies
+    private final InventoryReservationService reservationService;
+    private final InventoryReservationProperties properties;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable ->
+    {
+        Thread thread = new Thread(runnable, "inventory-reservation");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // * Constructors
+    public InventoryReservationScheduler(InventoryReservationService reservationService,
+                                         InventoryReservationProperties properties)
+    {
+        this.reservationService = reservationService;
+        this.properties = properties;
+    }
+
+    // * Lifecycle
+    public void start()
+    {
+        long sweepMillis = properties.getSweepInterval().toMillis();
+        long foldMillis = properties.getFoldInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(guarded("sweep", this::sweep), sweepMillis, sweepMillis, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(guarded("fold", this::fold), foldMillis, foldMillis, TimeUnit.MILLISECONDS);
+        LOGGER.info("Inventory reservation jobs started (sweep every {}, fold every {}, batch {})",
+            properties.getSweepInterval(), properties.getFoldInterval(), properties.getFoldBatchSize());
+    }
+
+    @Override
+    public void close()
+    {
+        scheduler.shutdownNow();
+    }
+
+    // * Jobs
+
+    public void sweep()
+    {
+        // Keeps expiring while full batches come back so a burst of abandoned holds clears in one run
+        while (reservationService.expireHolds() >= properties.getFoldBatchSize())
+        {
+            if (Thread.currentThread().isInterrupted())
+            {
+                return;
+            }
+        }
+        reservationService.reconcileCounters();
+    }
+
+    public void fold()
+    {
+        while (reservationService.foldCommitted() >= properties.getFoldBatchSize())
+        {
+            if (Thread.currentThread().isInterrupted())
+            {
+                return;
+            }
+        }
+    }
+
+    // * Private Helper Methods
+
+    // A failed run is logged and retried on the next tick instead of cancelling the schedule
+    private static Runnable guarded(String task, Runnable body)
+    {
+        return () ->
+        {
+            try
+            {
+                body.run();
+            }
+            catch (RuntimeException ex)
+            {
+                LOGGER.warn("Inventory reservation {} run failed", task, ex);
+            }
+        };
+    }
+}
@@ -0,0 +1,36 @@
+package dev.fincke.hopper.catalog.inventory;
+
+import java.util.Optional;
+import java.util.UUID;
+
+// Service interface for listing-level inventory admission backed by the reservation ledger
+public interface InventoryReservationService
+{
+    // * Admission
+
+    // hold quantity units of a listing; empty when not enough units are available
+    Optional<UUID> tryHold(UUID listingId, UUID productId, int quantity);
+
+    // tie a hold to the order item that consumed it; fails if the hold expired or was released
+    void commit(UUID reservationId, UUID orderItemId);
+
+    // give an uncommitted hold back
+    void release(UUID reservationId);
+
+    // record units an order item no longer needs (quantity lowered or item deleted)
+    void returnUnits(UUID orderItemId, UUID listingId, UUID productId, int quantity);
+
+    // units this instance would currently admit for the listing
+    int available(UUID listingId);
+
+    // * Background Jobs
+
+    // expire holds past their TTL and give their units back; returns rows expired
+    int expireHolds();
+
+    // apply one batch of committed reservations to products and listings; returns rows folded
+    int foldCommitted();
+
+    // pick up quantity_listed edits made outside the ledger for every tracked listing
+    void reconcileCounters();
+}
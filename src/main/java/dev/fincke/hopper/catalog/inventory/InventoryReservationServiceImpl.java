@@ -0,0 +1,292 @@
+package dev.fincke.hopper.catalog.inventory;
+
+import dev.fincke.hopper.catalog.inventory.exception.ReservationNotHeldException;
+import dev.fincke.hopper.catalog.listing.exception.ListingNotFoundException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+
+// Admits order quantities against striped in-memory counters and records every admission in the reservation ledger.
+// Hot paths never lock products or listings rows: admission is a CAS on the counter plus an INSERT, and committed
+// units reach products.quantity / listings.quantity_listed later through foldCommitted in batched UPDATEs.
+// Counters are per instance; with several instances admission is approximate until counters reconcile.
+@Transactional
+public class InventoryReservationServiceImpl implements InventoryReservationService
+{
+    private static final String CAPACITY_SQL =
+        "SELECT l.quantity_listed, " +
+        "COALESCE((SELECT SUM(r.quantity) FROM inventory_reservations r " +
+        "WHERE r.listing_id = l.id AND r.status IN ('HELD', 'COMMITTED')), 0) AS outstanding " +
+        "FROM listings l WHERE l.id = :id";
+
+    private static final String LISTED_QUANTITIES_SQL =
+        "SELECT id, quantity_listed FROM listings WHERE id IN (:ids)";
+
+    // Clamped at zero: a product can back listings on several platforms, so its own quantity may already be lower
+    private static final String FOLD_PRODUCT_SQL =
+        "UPDATE products SET quantity = GREATEST(quantity - :quantity, 0) WHERE id = :id";
+
+    private static final String FOLD_LISTING_SQL =
+        "UPDATE listings SET quantity_listed = GREATEST(quantity_listed - :quantity, 0) WHERE id = :id";
+
+    private static final int RECONCILE_CHUNK_SIZE = 500;
+
+    // * Dependencies
+    private final InventoryReservationRepository reservationRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final InventoryReservationProperties properties;
+    private final Clock clock;
+    private final ListingAdmissionCounters counters;
+
+    // * Constructors
+    public InventoryReservationServiceImpl(InventoryReservationRepository reservationRepository,
+                                           NamedParameterJdbcTemplate jdbcTemplate,
+                                           InventoryReservationProperties properties,
+                                           Clock clock)
+    {
+        this.reservationRepository = reservationRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.clock = clock;
+        this.counters = new ListingAdmissionCounters(properties.getStripes());
+    }
+
+    // * Admission
+
+    @Override
+    public Optional<UUID> tryHold(UUID listingId, UUID productId, int quantity)
+    {
+        if (quantity < 1)
+        {
+            throw new IllegalArgumentException("Quantity must be at least 1");
+        }
+
+        StripedCounter counter = counters.counter(listingId, this::loadCapacity);
+        if (!counter.tryAcquire(quantity))
+        {
+            return Optional.empty();
+        }
+
+        InventoryReservation saved;
+        try
+        {
+            Instant now = clock.instant();
+            saved = reservationRepository.save(new InventoryReservation(listingId, productId, null, quantity,
+                ReservationStatus.HELD, Timestamp.from(now), Timestamp.from(now.plus(properties.getHoldTtl()))));
+        }
+        catch (RuntimeException ex)
+        {
+            counter.add(quantity);
+            throw ex;
+        }
+
+        // If the caller's transaction rolls back the ledger row never existed, so the units go straight back
+        afterRollback(() -> counter.add(quantity));
+        return Optional.of(saved.getId());
+    }
+
+    @Override
+    public void commit(UUID reservationId, UUID orderItemId)
+    {
+        if (reservationRepository.commitHold(reservationId, orderItemId, Timestamp.from(clock.instant())) == 0)
+        {
+            throw new ReservationNotHeldException(reservationId);
+        }
+    }
+
+    @Override
+    public void release(UUID reservationId)
+    {
+        InventoryReservation reservation = reservationRepository.findById(reservationId)
+            .orElseThrow(() -> new ReservationNotHeldException(reservationId));
+        if (reservationRepository.closeHolds(List.of(reservationId), ReservationStatus.RELEASED) == 0)
+        {
+            throw new ReservationNotHeldException(reservationId);
+        }
+        giveBackAfterCommit(reservation.getListingId(), reservation.getQuantity());
+    }
+
+    @Override
+    public void returnUnits(UUID orderItemId, UUID listingId, UUID productId, int quantity)
+    {
+        if (quantity < 1 || !reservationRepository.existsByOrderItemId(orderItemId))
+        {
+            return;
+        }
+
+        // Negative committed row: folding it adds the units back to the product and listing
+        reservationRepository.save(new InventoryReservation(listingId, productId, orderItemId, -quantity,
+            ReservationStatus.COMMITTED, Timestamp.from(clock.instant()), null));
+        giveBackAfterCommit(listingId, quantity);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public int available(UUID listingId)
+    {
+        return counters.counter(listingId, this::loadCapacity).available();
+    }
+
+    // * Background Jobs
+
+    @Override
+    public int expireHolds()
+    {
+        List<InventoryReservation> expired = reservationRepository.findExpiredHolds(
+            Timestamp.from(clock.instant()), PageRequest.of(0, properties.getFoldBatchSize()));
+        if (expired.isEmpty())
+        {
+            return 0;
+        }
+
+        reservationRepository.closeHolds(expired.stream().map(InventoryReservation::getId).toList(),
+            ReservationStatus.EXPIRED);
+        for (InventoryReservation reservation : expired)
+        {
+            giveBackAfterCommit(reservation.getListingId(), reservation.getQuantity());
+        }
+        return expired.size();
+    }
+
+    @Override
+    public int foldCommitted()
+    {
+        List<InventoryReservation> committed = reservationRepository.findCommittedForFold(
+            PageRequest.of(0, properties.getFoldBatchSize()));
+        if (committed.isEmpty())
+        {
+            return 0;
+        }
+
+        // Sorted by ID so concurrent folds lock rows in the same order; each hot row is written once per batch
+        Map<UUID, Integer> byProduct = new TreeMap<>();
+        Map<UUID, Integer> byListing = new TreeMap<>();
+        for (InventoryReservation reservation : committed)
+        {
+            byProduct.merge(reservation.getProductId(), reservation.getQuantity(), Integer::sum);
+            byListing.merge(reservation.getListingId(), reservation.getQuantity(), Integer::sum);
+        }
+        byProduct.values().removeIf(quantity -> quantity == 0);
+        byListing.values().removeIf(quantity -> quantity == 0);
+
+        jdbcTemplate.batchUpdate(FOLD_PRODUCT_SQL, batch(byProduct));
+        jdbcTemplate.batchUpdate(FOLD_LISTING_SQL, batch(byListing));
+        reservationRepository.markFolded(committed.stream().map(InventoryReservation::getId).toList(),
+            Timestamp.from(clock.instant()));
+
+        afterCommit(() -> byListing.forEach(counters::folded));
+        return committed.size();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void reconcileCounters()
+    {
+        List<UUID> tracked = new ArrayList<>(counters.trackedListings());
+        for (int from = 0; from < tracked.size(); from += RECONCILE_CHUNK_SIZE)
+        {
+            List<UUID> chunk = tracked.subList(from, Math.min(from + RECONCILE_CHUNK_SIZE, tracked.size()));
+            Map<UUID, Integer> listed = new TreeMap<>();
+            jdbcTemplate.query(LISTED_QUANTITIES_SQL, Map.of("ids", chunk), rs ->
+            {
+                listed.put(rs.getObject("id", UUID.class), rs.getInt("quantity_listed"));
+            });
+            for (UUID listingId : chunk)
+            {
+                Integer quantityListed = listed.get(listingId);
+                if (quantityListed == null)
+                {
+                    counters.forget(listingId);
+                }
+                else
+                {
+                    counters.reconcile(listingId, quantityListed);
+                }
+            }
+        }
+    }
+
+    // * Private Helper Methods
+
+    private ListingAdmissionCounters.Capacity loadCapacity(UUID listingId)
+    {
+        List<ListingAdmissionCounters.Capacity> rows = jdbcTemplate.query(CAPACITY_SQL, Map.of("id", listingId),
+            (rs, rowNum) -> new ListingAdmissionCounters.Capacity(rs.getInt("quantity_listed"), rs.getInt("outstanding")));
+        if (rows.isEmpty())
+        {
+            throw new ListingNotFoundException(listingId);
+        }
+        return rows.get(0);
+    }
+
+    private void giveBackAfterCommit(UUID listingId, int quantity)
+    {
+        afterCommit(() ->
+        {
+            StripedCounter counter = counters.existing(listingId);
+            if (counter != null)
+            {
+                counter.add(quantity);
+            }
+        });
+    }
+
+    private static SqlParameterSource[] batch(Map<UUID, Integer> quantities)
+    {
+        return quantities.entrySet().stream()
+            .map(entry -> new MapSqlParameterSource()
+                .addValue("id", entry.getKey())
+                .addValue("quantity", entry.getValue()))
+            .toArray(SqlParameterSource[]::new);
+    }
+
+    private static void afterCommit(Runnable action)
+    {
+        if (!TransactionSynchronizationManager.isSynchronizationActive())
+        {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization()
+        {
+            @Override
+            public void afterCommit()
+            {
+                action.run();
+            }
+        });
+    }
+
+    private static void afterRollback(Runnable action)
+    {
+        if (!TransactionSynchronizationManager.isSynchronizationActive())
+        {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization()
+        {
+            @Override
+            public void afterCompletion(int status)
+            {
+                if (status != STATUS_COMMITTED)
+                {
+                    action.run();
+                }
+            }
+        });
+    }
+}
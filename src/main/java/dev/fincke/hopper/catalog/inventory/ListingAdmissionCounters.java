@@ -0,0 +1,103 @@
+package dev.fincke.hopper.catalog.inventory;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+// In-memory admission state per listing: a striped counter of units still available on this instance plus the
+// quantity_listed value the counter was last reconciled against.
+// Counters are seeded lazily from the database and kept for the life of the process.
+final class ListingAdmissionCounters
+{
+    private final ConcurrentHashMap<UUID, Entry> entries = new ConcurrentHashMap<>();
+    private final int stripes;
+
+    ListingAdmissionCounters(int stripes)
+    {
+        this.stripes = stripes;
+    }
+
+    // * Operations
+
+    // Returns the listing's counter, seeding it once (available = quantity_listed - outstanding reservations)
+    StripedCounter counter(UUID listingId, Function<UUID, Capacity> loader)
+    {
+        return entries.computeIfAbsent(listingId, id ->
+        {
+            Capacity capacity = loader.apply(id);
+            return new Entry(new StripedCounter(stripes, capacity.quantityListed() - capacity.outstanding()),
+                capacity.quantityListed());
+        }).counter;
+    }
+
+    // Counter if already seeded; callers that only give units back do not need to seed one
+    StripedCounter existing(UUID listingId)
+    {
+        Entry entry = entries.get(listingId);
+        return entry == null ? null : entry.counter;
+    }
+
+    // Folding moves committed units out of quantity_listed; the counter already excluded them, so only the basis moves
+    void folded(UUID listingId, int quantity)
+    {
+        Entry entry = entries.get(listingId);
+        if (entry != null)
+        {
+            entry.rebase(entry.basis() - quantity, false);
+        }
+    }
+
+    // Applies an external change to quantity_listed (listing edits, restocks) to the counter
+    void reconcile(UUID listingId, int quantityListed)
+    {
+        Entry entry = entries.get(listingId);
+        if (entry != null)
+        {
+            entry.rebase(quantityListed, true);
+        }
+    }
+
+    void forget(UUID listingId)
+    {
+        entries.remove(listingId);
+    }
+
+    Set<UUID> trackedListings()
+    {
+        return Set.copyOf(entries.keySet());
+    }
+
+    // * Nested Types
+
+    // quantity_listed and the HELD + COMMITTED units against it, read in one statement so a concurrent fold cannot skew them
+    record Capacity(int quantityListed, int outstanding)
+    {}
+
+    private static final class Entry
+    {
+        private final StripedCounter counter;
+        private int basis;
+
+        private Entry(StripedCounter counter, int basis)
+        {
+            this.counter = counter;
+            this.basis = basis;
+        }
+
+        private synchronized int basis()
+        {
+            return basis;
+        }
+
+        private synchronized void rebase(int quantityListed, boolean adjustCounter)
+        {
+            int change = quantityListed - basis;
+            basis = quantityListed;
+            if (adjustCounter && change != 0)
+            {
+                counter.add(change);
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package dev.fincke.hopper.catalog.inventory;
+
+// * Enum
+// Lifecycle of an inventory reservation ledger row.
+public enum ReservationStatus
+{
+    // Admitted but not yet tied to an order item; expires after the hold TTL
+    HELD,
+    // Tied to an order item and counted against the listing until folded into stock
+    COMMITTED,
+    // Applied to products.quantity and listings.quantity_listed by the fold job
+    FOLDED,
+    // Given back by the caller before commit
+    RELEASED,
+    // Hold TTL elapsed before commit
+    EXPIRED
+}
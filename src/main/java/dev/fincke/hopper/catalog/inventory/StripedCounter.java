@@ -0,0 +1,129 @@
+package dev.fincke.hopper.catalog.inventory;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+// Available-quantity counter split across stripes so concurrent admissions on one hot listing
+// CAS different slots instead of contending on a single word.
+// Invariant: stripes are never negative and hold nothing while a deficit is outstanding, so a fast-path take
+// can never oversell; every add (and any take no single stripe covers) runs under the lock to keep it that way.
+final class StripedCounter
+{
+    private final AtomicIntegerArray stripes;
+
+    // Units owed before anything becomes available again (e.g. quantity lowered below outstanding holds);
+    // written only under the lock
+    private volatile int deficit;
+
+    StripedCounter(int stripeCount, int initial)
+    {
+        this.stripes = new AtomicIntegerArray(Math.max(1, stripeCount));
+        settle(initial);
+    }
+
+    // * Operations
+
+    // Takes amount units if available; never blocks unless no single stripe can cover the request
+    boolean tryAcquire(int amount)
+    {
+        int count = stripes.length();
+        int start = home(count);
+        for (int i = 0; i < count; i++)
+        {
+            int index = (start + i) % count;
+            int current = stripes.get(index);
+            while (current >= amount)
+            {
+                if (stripes.compareAndSet(index, current, current - amount))
+                {
+                    return true;
+                }
+                current = stripes.get(index);
+            }
+        }
+        return acquireAcrossStripes(amount);
+    }
+
+    // Gives units back (positive) or removes capacity (negative, e.g. a listing quantity was lowered)
+    void add(int amount)
+    {
+        if (amount == 0)
+        {
+            return;
+        }
+        synchronized (this)
+        {
+            if (amount > 0 && deficit == 0)
+            {
+                // Nothing owed: the give-back can land on this thread's stripe without pooling the rest
+                stripes.addAndGet(home(stripes.length()), amount);
+                return;
+            }
+            settle(drain() - deficit + amount);
+        }
+    }
+
+    // Point-in-time total; may be stale by the time the caller acts on it
+    int available()
+    {
+        int total = -deficit;
+        for (int i = 0; i < stripes.length(); i++)
+        {
+            total += stripes.get(i);
+        }
+        return total;
+    }
+
+    // * Private Helper Methods
+
+    // Slow path: pool every stripe under the lock so stock spread thinly across stripes can still be admitted;
+    // the stripes are empty while a deficit is outstanding, so nothing is admitted against it
+    private synchronized boolean acquireAcrossStripes(int amount)
+    {
+        int total = drain();
+        boolean admitted = total >= amount;
+        distribute(admitted ? total - amount : total);
+        return admitted;
+    }
+
+    // Zeroes every stripe and returns what they held; concurrent fast-path takes see empty stripes and queue on the lock
+    private int drain()
+    {
+        int total = 0;
+        for (int i = 0; i < stripes.length(); i++)
+        {
+            total += stripes.getAndSet(i, 0);
+        }
+        return total;
+    }
+
+    // Records a negative net total as the deficit with every stripe left empty, otherwise spreads it across the stripes;
+    // callers hold the lock (or are the constructor) and have drained the stripes first
+    private void settle(int total)
+    {
+        if (total < 0)
+        {
+            deficit = -total;
+            return;
+        }
+        deficit = 0;
+        distribute(total);
+    }
+
+    // Spreads a non-negative total evenly
+    private void distribute(int total)
+    {
+        int count = stripes.length();
+        int share = total / count;
+        int remainder = total % count;
+        for (int i = 0; i < count; i++)
+        {
+            stripes.addAndGet(i, share + (i < remainder ? 1 : 0));
+        }
+    }
+
+    // Threads keep returning to the same stripe, which keeps CAS traffic on one cache line per thread
+    private static int home(int count)
+    {
+        return (int) (Thread.currentThread().threadId() % count);
+    }
+}
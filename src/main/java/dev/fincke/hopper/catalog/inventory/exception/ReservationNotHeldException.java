@@ -0,0 +1,30 @@
+package dev.fincke.hopper.catalog.inventory.exception;
+
+import dev.fincke.hopper.api.error.ConflictException;
+
+import java.util.UUID;
+
+// Exception thrown when a reservation can no longer be committed or released (expired, released, or already committed)
+public class ReservationNotHeldException extends ConflictException
+{
+    // * Attributes
+
+    // reservation ID that was no longer held
+    private final UUID reservationId;
+
+    // * Constructors
+
+    public ReservationNotHeldException(UUID reservationId)
+    {
+        super("Inventory reservation is no longer held: " + reservationId);
+        this.reservationId = reservationId;
+    }
+
+    // * Getters
+
+    // reservation ID
+    public UUID getReservationId()
+    {
+        return reservationId;
+    }
+}
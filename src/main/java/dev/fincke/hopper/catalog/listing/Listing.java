@@ -47,6 +47,10 @@ public class Listing
     @Column(name = "external_listing_id", nullable = false)
     private String externalListingId = "";
 
+    // connector-side listing id the status poller looks up; null until the listing is published through the connector
+    @Column(name = "marketplace_listing_id")
+    private String marketplaceListingId;
+
     @NotBlank
     @Column(name = "status", nullable = false)
     private String status = "";
@@ -119,6 +123,16 @@ public class Listing
         this.externalListingId = externalListingId == null ? null : externalListingId.trim();
     }
 
+    public String getMarketplaceListingId() 
+    {
+        return marketplaceListingId;
+    }
+
+    public void setMarketplaceListingId(String marketplaceListingId) 
+    {
+        this.marketplaceListingId = marketplaceListingId;
+    }
+
     public String getStatus() 
     {
         return status;
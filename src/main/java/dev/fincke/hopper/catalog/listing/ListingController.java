@@ -1,5 +1,6 @@
 package dev.fincke.hopper.catalog.listing;
 
+import dev.fincke.hopper.api.pagination.CursorPage;
 import dev.fincke.hopper.catalog.listing.dto.ListingCreateRequest;
 import dev.fincke.hopper.catalog.listing.dto.ListingResponse;
 import dev.fincke.hopper.catalog.listing.dto.ListingUpdateRequest;
@@ -62,6 +63,14 @@ public class ListingController
         return listingService.findAll(pageable);
     }
     
+    // GET /api/listings/scroll?cursor=&limit= - keyset page of listings (no offset scan)
+    @GetMapping("/scroll")
+    public CursorPage<ListingResponse> scrollListings(@RequestParam(required = false) String cursor,
+                                                      @RequestParam(defaultValue = "" + CursorPage.DEFAULT_LIMIT) int limit)
+    {
+        return listingService.findPage(cursor, limit);
+    }
+    
     // DELETE /api/listings/{id} - delete listing
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteListing(@PathVariable UUID id)
@@ -141,5 +150,12 @@ public class ListingController
     {
         return listingService.updateQuantity(id, quantityListed);
     }
+    
+    // PATCH /api/listings/{id}/quantity - adjust listing quantity by a delta
+    @PatchMapping("/{id}/quantity")
+    public ListingResponse adjustQuantity(@PathVariable UUID id, @RequestParam int adjustment)
+    {
+        return listingService.adjustQuantity(id, adjustment);
+    }
 }
 
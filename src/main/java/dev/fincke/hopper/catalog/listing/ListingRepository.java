@@ -5,6 +5,9 @@ import dev.fincke.hopper.catalog.product.Product;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -46,5 +49,26 @@ public interface ListingRepository extends JpaRepository<Listing, UUID>
 
     // find listings by status with pagination support
     Page<Listing> findByStatus(String status, Pageable pageable);
+
+    // * Atomic Quantity Updates
+
+    // set quantity listed without rewriting the rest of the row
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Listing l SET l.quantityListed = :quantity WHERE l.id = :id")
+    int updateQuantityListed(@Param("id") UUID id, @Param("quantity") int quantity);
+
+    // add delta to quantity listed in one conditional UPDATE; returns 0 when missing or it would go below zero
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Listing l SET l.quantityListed = l.quantityListed + :delta " +
+           "WHERE l.id = :id AND l.quantityListed + :delta >= 0")
+    int adjustQuantityListed(@Param("id") UUID id, @Param("delta") int delta);
+
+    // * Keyset Pagination (pageable only carries the row limit)
+
+    // first page of listings ordered by primary key
+    List<Listing> findAllByOrderByIdAsc(Pageable limit);
+
+    // page of listings strictly after the given ID
+    List<Listing> findByIdGreaterThanOrderByIdAsc(UUID id, Pageable limit);
 }
 
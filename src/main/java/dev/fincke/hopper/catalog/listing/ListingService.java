@@ -1,5 +1,6 @@
 package dev.fincke.hopper.catalog.listing;
 
+import dev.fincke.hopper.api.pagination.CursorPage;
 import dev.fincke.hopper.catalog.listing.dto.ListingCreateRequest;
 import dev.fincke.hopper.catalog.listing.dto.ListingResponse;
 import dev.fincke.hopper.catalog.listing.dto.ListingUpdateRequest;
@@ -29,6 +30,9 @@ public interface ListingService
 
     // get listings with pagination support
     Page<ListingResponse> findAll(Pageable pageable);
+
+    // get one keyset page of listings ordered by ID (null cursor starts at the first page)
+    CursorPage<ListingResponse> findPage(String cursor, int limit);
     
     // delete listing
     void deleteListing(UUID id);
@@ -74,4 +78,7 @@ public interface ListingService
     
     // update quantity listed
     ListingResponse updateQuantity(UUID id, int quantityListed);
+    
+    // adjust quantity listed atomically (positive = increase, negative = decrease)
+    ListingResponse adjustQuantity(UUID id, int quantityChange);
 }
@@ -1,14 +1,18 @@
 package dev.fincke.hopper.catalog.listing;
 
+import dev.fincke.hopper.api.pagination.CursorPage;
+import dev.fincke.hopper.api.pagination.KeysetCursor;
 import dev.fincke.hopper.catalog.listing.dto.ListingCreateRequest;
 import dev.fincke.hopper.catalog.listing.dto.ListingResponse;
 import dev.fincke.hopper.catalog.listing.dto.ListingUpdateRequest;
 import dev.fincke.hopper.catalog.listing.exception.DuplicateListingException;
+import dev.fincke.hopper.catalog.listing.exception.InsufficientListingQuantityException;
 import dev.fincke.hopper.catalog.listing.exception.InvalidListingStatusException;
 import dev.fincke.hopper.catalog.listing.exception.ListingNotFoundException;
 import dev.fincke.hopper.catalog.listing.exception.ListingDeletionNotAllowedException;
 import dev.fincke.hopper.order.item.OrderItemRepository;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import dev.fincke.hopper.catalog.product.Product;
 import dev.fincke.hopper.catalog.product.ProductRepository;
@@ -153,6 +157,21 @@ public class ListingServiceImpl implements ListingService
         return listingRepository.findAll(resolved)
             .map(ListingResponse::from);
     }
+
+    @Override
+    public CursorPage<ListingResponse> findPage(String cursor, int limit)
+    {
+        int pageSize = CursorPage.resolveLimit(limit);
+        KeysetCursor position = KeysetCursor.decodeById(cursor);
+
+        // fetch one extra row to detect whether another page exists
+        PageRequest fetch = PageRequest.ofSize(pageSize + 1);
+        List<Listing> rows = position == null
+            ? listingRepository.findAllByOrderByIdAsc(fetch)
+            : listingRepository.findByIdGreaterThanOrderByIdAsc(position.id(), fetch);
+
+        return CursorPage.fromRows(rows, pageSize, row -> KeysetCursor.of(row.getId()), ListingResponse::from);
+    }
     
     @Override
     @Transactional
@@ -283,12 +302,30 @@ public class ListingServiceImpl implements ListingService
     @Transactional
     public ListingResponse updateQuantity(UUID id, int quantityListed) 
     {
-        Listing listing = listingRepository.findById(id)
-            .orElseThrow(() -> new ListingNotFoundException(id));
+        if (quantityListed < 0) 
+        {
+            throw new IllegalArgumentException("Quantity listed cannot be negative");
+        }
         
-        listing.setQuantityListed(quantityListed);
-        Listing savedListing = listingRepository.save(listing);
-        return ListingResponse.from(savedListing);
+        // single-column UPDATE so a concurrent price or status change is not overwritten
+        if (listingRepository.updateQuantityListed(id, quantityListed) == 0)
+        {
+            throw new ListingNotFoundException(id);
+        }
+        return findById(id);
+    }
+    
+    @Override
+    @Transactional
+    public ListingResponse adjustQuantity(UUID id, int quantityChange) 
+    {
+        if (listingRepository.adjustQuantityListed(id, quantityChange) == 0)
+        {
+            Listing listing = listingRepository.findById(id)
+                .orElseThrow(() -> new ListingNotFoundException(id));
+            throw new InsufficientListingQuantityException(id, listing.getQuantityListed(), Math.abs(quantityChange));
+        }
+        return findById(id);
     }
     
     // * Private Helper Methods
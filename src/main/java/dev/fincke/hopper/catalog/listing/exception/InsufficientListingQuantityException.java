@@ -0,0 +1,51 @@
+package dev.fincke.hopper.catalog.listing.exception;
+
+import dev.fincke.hopper.api.error.ConflictException;
+
+import java.util.UUID;
+
+// Exception thrown when a quantity adjustment would drop a listing's quantity below zero
+public class InsufficientListingQuantityException extends ConflictException 
+{
+    // * Attributes
+    
+    // listing ID that lacks enough listed quantity
+    private final UUID listingId;
+    
+    // quantity listed when the adjustment was rejected
+    private final int availableQuantity;
+    
+    // quantity the caller attempted to remove
+    private final int requestedQuantity;
+    
+    // * Constructors
+    
+    public InsufficientListingQuantityException(UUID listingId, int availableQuantity, int requestedQuantity) 
+    {
+        super(String.format("Insufficient quantity for listing %s. Available: %d, Requested: %d", 
+              listingId, availableQuantity, requestedQuantity));
+        this.listingId = listingId;
+        this.availableQuantity = availableQuantity;
+        this.requestedQuantity = requestedQuantity;
+    }
+    
+    // * Getters
+    
+    // listing ID
+    public UUID getListingId() 
+    {
+        return listingId;
+    }
+    
+    // quantity available when the exception occurred
+    public int getAvailableQuantity() 
+    {
+        return availableQuantity;
+    }
+    
+    // quantity requested for removal
+    public int getRequestedQuantity() 
+    {
+        return requestedQuantity;
+    }
+}
@@ -1,5 +1,6 @@
 package dev.fincke.hopper.catalog.product;
 
+import dev.fincke.hopper.api.pagination.CursorPage;
 import dev.fincke.hopper.catalog.product.dto.ProductCreateRequest;
 import dev.fincke.hopper.catalog.product.dto.ProductResponse;
 import dev.fincke.hopper.catalog.product.dto.ProductUpdateRequest;
@@ -46,6 +47,14 @@ public class ProductController
         return productService.findAll(pageable);
     }
     
+    // GET /api/products/scroll?cursor=&limit= - keyset page of products (no offset scan)
+    @GetMapping("/scroll")
+    public CursorPage<ProductResponse> scrollProducts(@RequestParam(required = false) String cursor,
+                                                      @RequestParam(defaultValue = "" + CursorPage.DEFAULT_LIMIT) int limit)
+    {
+        return productService.findPage(cursor, limit);
+    }
+    
     // GET /api/products/{id} - get product by ID
     @GetMapping("/{id}")
     public ProductResponse getProduct(@PathVariable UUID id)
@@ -3,6 +3,9 @@ package dev.fincke.hopper.catalog.product;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -32,4 +35,20 @@ public interface ProductRepository extends JpaRepository<Product, UUID>
 
     // find products by partial name match with pagination support
     Page<Product> findByNameContainingIgnoreCase(String name, Pageable pageable);
+
+    // * Atomic Stock Updates
+
+    // add delta to stock in one conditional UPDATE; returns 0 when the product is missing or the change
+    // would go below zero (concurrent adjustments serialize on the row lock instead of losing updates)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Product p SET p.quantity = p.quantity + :delta WHERE p.id = :id AND p.quantity + :delta >= 0")
+    int adjustQuantity(@Param("id") UUID id, @Param("delta") int delta);
+
+    // * Keyset Pagination (pageable only carries the row limit)
+
+    // first page of products ordered by primary key
+    List<Product> findAllByOrderByIdAsc(Pageable limit);
+
+    // page of products strictly after the given ID
+    List<Product> findByIdGreaterThanOrderByIdAsc(UUID id, Pageable limit);
 }
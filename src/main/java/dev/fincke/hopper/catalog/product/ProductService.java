@@ -1,5 +1,6 @@
 package dev.fincke.hopper.catalog.product;
 
+import dev.fincke.hopper.api.pagination.CursorPage;
 import dev.fincke.hopper.catalog.product.dto.ProductCreateRequest;
 import dev.fincke.hopper.catalog.product.dto.ProductResponse;
 import dev.fincke.hopper.catalog.product.dto.ProductUpdateRequest;
@@ -29,13 +30,16 @@ public interface ProductService
 
     // retrieves products with pagination support
     Page<ProductResponse> findAll(Pageable pageable);
+
+    // retrieves one keyset page of products ordered by ID (null cursor starts at the first page)
+    CursorPage<ProductResponse> findPage(String cursor, int limit);
     
     // deletes a product (if no dependencies exist)
     void deleteProduct(UUID id);
     
     // * Stock Management Operations
     
-    // adjusts stock quantity (positive = increase, negative = decrease)
+    // adjusts stock quantity atomically (positive = increase, negative = decrease)
     ProductResponse adjustStock(UUID id, int quantityChange);
     
     // * Query Operations
@@ -1,5 +1,7 @@
 package dev.fincke.hopper.catalog.product;
 
+import dev.fincke.hopper.api.pagination.CursorPage;
+import dev.fincke.hopper.api.pagination.KeysetCursor;
 import dev.fincke.hopper.catalog.product.dto.ProductCreateRequest;
 import dev.fincke.hopper.catalog.product.dto.ProductResponse;
 import dev.fincke.hopper.catalog.product.dto.ProductUpdateRequest;
@@ -8,6 +10,7 @@ import dev.fincke.hopper.catalog.product.exception.InsufficientStockException;
 import dev.fincke.hopper.catalog.product.exception.ProductNotFoundException;
 import dev.fincke.hopper.catalog.product.exception.ProductDeletionNotAllowedException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import dev.fincke.hopper.catalog.listing.ListingRepository;
 import dev.fincke.hopper.order.item.OrderItemRepository;
@@ -158,6 +161,21 @@ public class ProductServiceImpl implements ProductService
         return productRepository.findAll(resolved)
             .map(ProductResponse::from);
     }
+
+    @Override
+    public CursorPage<ProductResponse> findPage(String cursor, int limit)
+    {
+        int pageSize = CursorPage.resolveLimit(limit);
+        KeysetCursor position = KeysetCursor.decodeById(cursor);
+
+        // fetch one extra row to detect whether another page exists
+        PageRequest fetch = PageRequest.ofSize(pageSize + 1);
+        List<Product> rows = position == null
+            ? productRepository.findAllByOrderByIdAsc(fetch)
+            : productRepository.findByIdGreaterThanOrderByIdAsc(position.id(), fetch);
+
+        return CursorPage.fromRows(rows, pageSize, row -> KeysetCursor.of(row.getId()), ProductResponse::from);
+    }
     
     @Override
     @Transactional
@@ -187,20 +205,18 @@ public class ProductServiceImpl implements ProductService
     @Transactional
     public ProductResponse adjustStock(UUID id, int quantityChange) 
     {
-        Product product = productRepository.findById(id)
-            .orElseThrow(() -> new ProductNotFoundException(id));
-        
-        int newQuantity = product.getQuantity() + quantityChange;
-        
-        // prevent negative stock
-        if (newQuantity < 0) 
+        // conditional UPDATE instead of read-modify-write so concurrent orders cannot lose updates
+        if (productRepository.adjustQuantity(id, quantityChange) == 0)
         {
+            Product product = productRepository.findById(id)
+                .orElseThrow(() -> new ProductNotFoundException(id));
             throw new InsufficientStockException(id, product.getQuantity(), Math.abs(quantityChange));
         }
         
-        product.setQuantity(newQuantity);
-        Product savedProduct = productRepository.save(product);
-        return ProductResponse.from(savedProduct);
+        // persistence context was cleared by the update, so this reads the committed quantity
+        Product product = productRepository.findById(id)
+            .orElseThrow(() -> new ProductNotFoundException(id));
+        return ProductResponse.from(product);
     }
     
     
@@ -0,0 +1,104 @@
+package dev.fincke.hopper.catalog.product;
+
+import dev.fincke.hopper.catalog.product.exception.InsufficientStockException;
+import dev.fincke.hopper.catalog.product.exception.ProductNotFoundException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.UUID;
+
+// Applies many stock changes (e.g. every item of an order) as one JDBC batch of conditional UPDATEs.
+// All-or-nothing: if any product would go below zero the whole batch rolls back with InsufficientStockException.
+@Component
+public class ProductStockAdjuster
+{
+    private static final String ADJUST_SQL =
+        "UPDATE products SET quantity = quantity + :delta WHERE id = :id AND quantity + :delta >= 0";
+
+    private static final String LISTING_PRODUCTS_SQL =
+        "SELECT id, product_id FROM listings WHERE id IN (:ids)";
+
+    private static final String QUANTITY_SQL =
+        "SELECT quantity FROM products WHERE id = :id";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public ProductStockAdjuster(NamedParameterJdbcTemplate jdbcTemplate)
+    {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // * Batch Operations
+
+    // Applies product ID -> quantity change (positive = increase, negative = decrease)
+    @Transactional
+    public void applyAdjustments(Map<UUID, Integer> quantityChanges)
+    {
+        // Sorted by ID so concurrent batches take row locks in the same order and cannot deadlock
+        TreeMap<UUID, Integer> ordered = new TreeMap<>();
+        quantityChanges.forEach((productId, change) ->
+            ordered.merge(Objects.requireNonNull(productId, "productId"), change, Integer::sum));
+        ordered.values().removeIf(change -> change == 0);
+        if (ordered.isEmpty())
+        {
+            return;
+        }
+
+        List<Map.Entry<UUID, Integer>> entries = List.copyOf(ordered.entrySet());
+        SqlParameterSource[] batch = entries.stream()
+            .map(entry -> new MapSqlParameterSource()
+                .addValue("id", entry.getKey())
+                .addValue("delta", entry.getValue()))
+            .toArray(SqlParameterSource[]::new);
+
+        int[] counts = jdbcTemplate.batchUpdate(ADJUST_SQL, batch);
+        for (int i = 0; i < counts.length; i++)
+        {
+            if (counts[i] == 0)
+            {
+                UUID productId = entries.get(i).getKey();
+                throw new InsufficientStockException(productId, currentQuantity(productId),
+                    Math.abs(entries.get(i).getValue()));
+            }
+        }
+    }
+
+    // Decrements the products behind the given listings by listing ID -> ordered quantity
+    @Transactional
+    public void decrementForListings(Map<UUID, Integer> quantitiesByListing)
+    {
+        if (quantitiesByListing.isEmpty())
+        {
+            return;
+        }
+
+        // Resolve every listing's product in one query, then fold quantities per product
+        Map<UUID, Integer> changes = new TreeMap<>();
+        jdbcTemplate.query(LISTING_PRODUCTS_SQL, Map.of("ids", quantitiesByListing.keySet()), rs ->
+        {
+            UUID listingId = rs.getObject("id", UUID.class);
+            UUID productId = rs.getObject("product_id", UUID.class);
+            changes.merge(productId, -quantitiesByListing.get(listingId), Integer::sum);
+        });
+        applyAdjustments(changes);
+    }
+
+    // * Private Helper Methods
+
+    private int currentQuantity(UUID productId)
+    {
+        List<Integer> quantity = jdbcTemplate.queryForList(QUANTITY_SQL, Map.of("id", productId), Integer.class);
+        if (quantity.isEmpty())
+        {
+            throw new ProductNotFoundException(productId);
+        }
+        return quantity.get(0);
+    }
+}
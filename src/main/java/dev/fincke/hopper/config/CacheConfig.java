@@ -0,0 +1,19 @@
+package dev.fincke.hopper.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+// Enables the Spring cache abstraction for small, rarely changing reference data
+// The Caffeine cache manager (size bound, TTL, stats) is built by Boot from spring.cache.* properties
+@Configuration
+@EnableCaching
+public class CacheConfig
+{
+    // * Cache Names (must match spring.cache.cache-names so metrics are bound at startup)
+    
+    // Platform entities by id; evicted by PlatformServiceImpl on update and delete
+    public static final String PLATFORMS = "platforms";
+    
+    // Role entities by RoleType; roles are seeded by migrations and only expire by TTL
+    public static final String ROLES = "roles";
+}
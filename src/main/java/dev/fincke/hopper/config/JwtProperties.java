@@ -39,6 +39,12 @@ public class JwtProperties
     // Remember me token expiration (extended duration)
     private Duration rememberMeExpiration = Duration.ofDays(30);
     
+    // Build the request principal from access-token claims instead of loading the user per request
+    private boolean statelessAuthentication = false;
+    
+    // Maximum verified tokens kept so repeat requests skip signature checks (0 disables the cache)
+    private int verifiedTokenCacheMaxEntries = 10000;
+    
     // * Getters and Setters
     
     // Secret key for JWT signing
@@ -149,6 +155,30 @@ public class JwtProperties
         this.rememberMeExpiration = rememberMeExpiration;
     }
     
+    // Stateless authentication mode
+    public boolean isStatelessAuthentication()
+    {
+        return statelessAuthentication;
+    }
+    
+    // Stateless authentication mode
+    public void setStatelessAuthentication(boolean statelessAuthentication)
+    {
+        this.statelessAuthentication = statelessAuthentication;
+    }
+    
+    // Verified token cache bound
+    public int getVerifiedTokenCacheMaxEntries()
+    {
+        return verifiedTokenCacheMaxEntries;
+    }
+    
+    // Verified token cache bound
+    public void setVerifiedTokenCacheMaxEntries(int verifiedTokenCacheMaxEntries)
+    {
+        this.verifiedTokenCacheMaxEntries = verifiedTokenCacheMaxEntries;
+    }
+    
     // * Utility Methods
     
     // Get access token expiration in milliseconds
@@ -3,8 +3,12 @@ package dev.fincke.hopper.marketplace.client;
 import dev.fincke.hopper.marketplace.client.model.ListingCommand;
 import dev.fincke.hopper.marketplace.client.model.ListingResult;
 import dev.fincke.hopper.marketplace.client.model.OrderCommand;
+import dev.fincke.hopper.marketplace.client.model.OrderPage;
 import dev.fincke.hopper.marketplace.client.model.OrderResult;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 // * Interface
 // Contract between the Java orchestration layer and marketplace connectors.
 public interface MarketplaceClient
@@ -13,6 +17,10 @@ public interface MarketplaceClient
     // Create a listing using normalized DTOs so downstream connectors stay decoupled from domain models.
     ListingResult createListing(ListingCommand command);
 
+    // Create many listings in as few connector round-trips as possible; results match the input order and
+    // each item fails independently (per-item idempotency keys make retries of a partial batch safe).
+    List<ListingResult> createListings(List<ListingCommand> commands);
+
     // Retrieve current listing status to support polling flows during demos.
     ListingResult getListing(String listingId);
 
@@ -22,4 +30,18 @@ public interface MarketplaceClient
 
     // Fetch downstream order status for confirmation flows and error surfacing.
     OrderResult getOrder(String orderId);
+
+    // Page through connector orders (oldest first) for bulk imports; null platform lists every platform
+    // and a null cursor starts from the beginning.
+    OrderPage listOrders(String platform, String cursor, int limit);
+
+    // * Async Operations
+    // Non-blocking variants so callers can fan out to several marketplaces without holding a thread per call.
+    CompletableFuture<ListingResult> createListingAsync(ListingCommand command);
+
+    CompletableFuture<ListingResult> getListingAsync(String listingId);
+
+    CompletableFuture<OrderResult> createOrderAsync(OrderCommand command);
+
+    CompletableFuture<OrderResult> getOrderAsync(String orderId);
 }
@@ -1,35 +1,81 @@
 package dev.fincke.hopper.marketplace.client.adapter;
 
 import dev.fincke.hopper.marketplace.client.MarketplaceClient;
+import dev.fincke.hopper.marketplace.client.dto.ErrorEnvelopePayload;
+import dev.fincke.hopper.marketplace.client.dto.ErrorPayload;
+import dev.fincke.hopper.marketplace.client.dto.ListingBatchRequestPayload;
+import dev.fincke.hopper.marketplace.client.dto.ListingBatchResponsePayload;
+import dev.fincke.hopper.marketplace.client.dto.ListingBatchResultPayload;
 import dev.fincke.hopper.marketplace.client.dto.ListingRequestPayload;
 import dev.fincke.hopper.marketplace.client.dto.ListingResponsePayload;
+import dev.fincke.hopper.marketplace.client.dto.OrderPagePayload;
 import dev.fincke.hopper.marketplace.client.dto.OrderRequestPayload;
 import dev.fincke.hopper.marketplace.client.dto.OrderResponsePayload;
 import dev.fincke.hopper.marketplace.client.model.ListingCommand;
 import dev.fincke.hopper.marketplace.client.model.ListingResult;
 import dev.fincke.hopper.marketplace.client.model.MarketplaceError;
 import dev.fincke.hopper.marketplace.client.model.OrderCommand;
+import dev.fincke.hopper.marketplace.client.model.OrderPage;
 import dev.fincke.hopper.marketplace.client.model.OrderResult;
 import dev.fincke.hopper.marketplace.client.model.ListingStatus;
 import dev.fincke.hopper.marketplace.client.model.OrderStatus;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestClientResponseException;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 // * Remote Implementation
 // Bridges Java orchestration and the Go connector over REST/JSON.
 // NOTE: The Go connector currently returns stubbed placeholders for eBay/TCGPlayer until live APIs are integrated.
 @SuppressWarnings("null")
-public class RemoteGoMarketplaceClient implements MarketplaceClient
+public class RemoteGoMarketplaceClient implements MarketplaceClient, AutoCloseable
 {
+    private static final String IDEMPOTENCY_HEADER = "Idempotency-Key";
+
+    // Upper bound accepted by POST /v1/listings:batch on the connector.
+    public static final int MAX_LISTING_BATCH_SIZE = 500;
+
     private final RestClient restClient;
 
+    // Runs async calls; virtual threads make a blocked connector round-trip cost no platform thread.
+    private final ExecutorService asyncExecutor;
+
+    // Listings sent per batch request.
+    private final int listingBatchSize;
+
     // Injected RestClient carries base URL, timeouts, and auth headers from configuration.
     public RemoteGoMarketplaceClient(RestClient restClient)
     {
+        this(restClient, MAX_LISTING_BATCH_SIZE);
+    }
+
+    public RemoteGoMarketplaceClient(RestClient restClient, int listingBatchSize)
+    {
+        this(restClient, Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("marketplace-client-", 0).factory()),
+            listingBatchSize);
+    }
+
+    // Executor is owned by the client and shut down when the bean is destroyed.
+    public RemoteGoMarketplaceClient(RestClient restClient, ExecutorService asyncExecutor, int listingBatchSize)
+    {
+        if (listingBatchSize < 1 || listingBatchSize > MAX_LISTING_BATCH_SIZE)
+        {
+            throw new IllegalArgumentException("listingBatchSize must be between 1 and " + MAX_LISTING_BATCH_SIZE);
+        }
         this.restClient = restClient;
+        this.asyncExecutor = asyncExecutor;
+        this.listingBatchSize = listingBatchSize;
     }
 
     @Override
@@ -41,6 +87,7 @@ public class RemoteGoMarketplaceClient implements MarketplaceClient
             ListingResponsePayload payload = restClient.post()
                 .uri("/v1/listings")
                 .contentType(MediaType.APPLICATION_JSON)
+                .header(IDEMPOTENCY_HEADER, command.idempotencyKey())
                 .body(ListingRequestPayload.from(command))
                 .retrieve()
                 .body(ListingResponsePayload.class);
@@ -50,10 +97,23 @@ public class RemoteGoMarketplaceClient implements MarketplaceClient
         }
         catch (RestClientException ex)
         {
-            return ListingResult.failed(null, null, unknownError(ex.getMessage()));
+            return ListingResult.failed(null, null, toMarketplaceError(ex));
         }
     }
 
+    @Override
+    // POST /v1/listings:batch - sends listings in chunks of listingBatchSize; one round-trip per chunk.
+    public List<ListingResult> createListings(List<ListingCommand> commands)
+    {
+        List<ListingResult> results = new ArrayList<>(commands.size());
+        for (int start = 0; start < commands.size(); start += listingBatchSize)
+        {
+            List<ListingCommand> chunk = commands.subList(start, Math.min(start + listingBatchSize, commands.size()));
+            results.addAll(createListingChunk(chunk));
+        }
+        return results;
+    }
+
     @Override
     // GET /v1/listings/{id} - retrieves latest listing status for polling flows.
     public ListingResult getListing(String listingId)
@@ -70,7 +130,7 @@ public class RemoteGoMarketplaceClient implements MarketplaceClient
         }
         catch (RestClientException ex)
         {
-            return new ListingResult(listingId, null, ListingStatus.FAILED, List.of(unknownError(ex.getMessage())));
+            return new ListingResult(listingId, null, ListingStatus.FAILED, List.of(toMarketplaceError(ex)));
         }
     }
 
@@ -92,7 +152,7 @@ public class RemoteGoMarketplaceClient implements MarketplaceClient
         }
         catch (RestClientException ex)
         {
-            return OrderResult.failed(null, null, unknownError(ex.getMessage()))
+            return OrderResult.failed(null, null, toMarketplaceError(ex))
                 ;
         }
     }
@@ -113,7 +173,172 @@ public class RemoteGoMarketplaceClient implements MarketplaceClient
         }
         catch (RestClientException ex)
         {
-            return new OrderResult(orderId, null, OrderStatus.FAILED, List.of(unknownError(ex.getMessage())));
+            return new OrderResult(orderId, null, OrderStatus.FAILED, List.of(toMarketplaceError(ex)));
+        }
+    }
+
+    @Override
+    // GET /v1/orders?platform=&cursor=&limit= - pages through connector orders for bulk import.
+    public OrderPage listOrders(String platform, String cursor, int limit)
+    {
+        try
+        {
+            OrderPagePayload payload = restClient.get()
+                .uri(uriBuilder -> uriBuilder
+                    .path("/v1/orders")
+                    .queryParamIfPresent("platform", Optional.ofNullable(platform))
+                    .queryParamIfPresent("cursor", Optional.ofNullable(cursor))
+                    .queryParam("limit", limit)
+                    .build())
+                .retrieve()
+                .body(OrderPagePayload.class);
+            return payload == null
+                ? OrderPage.failed(unknownError("Empty response from connector"))
+                : payload.toOrderPage();
+        }
+        catch (RestClientException ex)
+        {
+            return OrderPage.failed(toMarketplaceError(ex));
+        }
+    }
+
+    // * Async Operations
+    // Each call runs the blocking request on its own virtual thread; transport failures still map to FAILED results.
+    @Override
+    public CompletableFuture<ListingResult> createListingAsync(ListingCommand command)
+    {
+        return CompletableFuture.supplyAsync(() -> createListing(command), asyncExecutor);
+    }
+
+    @Override
+    public CompletableFuture<ListingResult> getListingAsync(String listingId)
+    {
+        return CompletableFuture.supplyAsync(() -> getListing(listingId), asyncExecutor);
+    }
+
+    @Override
+    public CompletableFuture<OrderResult> createOrderAsync(OrderCommand command)
+    {
+        return CompletableFuture.supplyAsync(() -> createOrder(command), asyncExecutor);
+    }
+
+    @Override
+    public CompletableFuture<OrderResult> getOrderAsync(String orderId)
+    {
+        return CompletableFuture.supplyAsync(() -> getOrder(orderId), asyncExecutor);
+    }
+
+    @Override
+    // Stop accepting async work on shutdown; in-flight calls are bounded by the read timeout.
+    public void close()
+    {
+        asyncExecutor.shutdown();
+    }
+
+    // * Batch Helpers
+    // Maps indexed connector results back onto the chunk; missing items and transport failures become FAILED results.
+    private List<ListingResult> createListingChunk(List<ListingCommand> chunk)
+    {
+        ListingResult[] results = new ListingResult[chunk.size()];
+        try
+        {
+            ListingBatchResponsePayload payload = restClient.post()
+                .uri("/v1/listings:batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(ListingBatchRequestPayload.from(chunk))
+                .retrieve()
+                .body(ListingBatchResponsePayload.class);
+            if (payload != null && payload.results() != null)
+            {
+                for (ListingBatchResultPayload item : payload.results())
+                {
+                    if (item.index() >= 0 && item.index() < results.length)
+                    {
+                        results[item.index()] = item.toListingResult();
+                    }
+                }
+            }
+        }
+        catch (RestClientException ex)
+        {
+            return chunk.stream()
+                .map(command -> ListingResult.failed(null, null, toMarketplaceError(ex)))
+                .toList();
+        }
+
+        for (int i = 0; i < results.length; i++)
+        {
+            if (results[i] == null)
+            {
+                results[i] = ListingResult.failed(null, null, unknownError("No batch result from connector"));
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    // Classify transport failures so resilience policies can tell rate limits and outages from bad requests:
+    // 429 -> RATE_LIMIT, 502/503/504 -> RETRYABLE_UPSTREAM, I/O and timeouts -> UNAVAILABLE.
+    private static MarketplaceError toMarketplaceError(RestClientException ex)
+    {
+        if (ex instanceof RestClientResponseException response)
+        {
+            ErrorPayload body = readErrorBody(response);
+            Duration retryAfter = parseRetryAfter(response.getResponseHeaders());
+            if (retryAfter == null && body != null && body.retryAfterSeconds() != null)
+            {
+                retryAfter = Duration.ofSeconds(body.retryAfterSeconds());
+            }
+
+            int status = response.getStatusCode().value();
+            String code = body != null && body.code() != null ? body.code() : "UNKNOWN";
+            if (status == 429)
+            {
+                code = "RATE_LIMIT";
+            }
+            else if ((status == 502 || status == 503 || status == 504) && "UNKNOWN".equals(code))
+            {
+                code = "RETRYABLE_UPSTREAM";
+            }
+            String message = body != null && body.message() != null ? body.message() : ex.getMessage();
+            return new MarketplaceError(code, message == null ? "Connector call failed" : message, null, retryAfter);
+        }
+        if (ex instanceof ResourceAccessException)
+        {
+            return new MarketplaceError("UNAVAILABLE",
+                ex.getMessage() == null ? "Connector unreachable" : ex.getMessage(), null, null);
+        }
+        return unknownError(ex.getMessage());
+    }
+
+    // Best-effort decode of the connector error envelope; non-JSON bodies yield null.
+    private static ErrorPayload readErrorBody(RestClientResponseException response)
+    {
+        try
+        {
+            ErrorEnvelopePayload envelope = response.getResponseBodyAs(ErrorEnvelopePayload.class);
+            return envelope == null ? null : envelope.error();
+        }
+        catch (RuntimeException ex)
+        {
+            return null;
+        }
+    }
+
+    // Retry-After in delta-seconds form; HTTP-date values are ignored.
+    private static Duration parseRetryAfter(HttpHeaders headers)
+    {
+        String value = headers == null ? null : headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (value == null)
+        {
+            return null;
+        }
+        try
+        {
+            return Duration.ofSeconds(Long.parseLong(value.trim()));
+        }
+        catch (NumberFormatException ex)
+        {
+            return null;
         }
     }
 
@@ -0,0 +1,374 @@
+package dev.fincke.hopper.marketplace.client.adapter;
+
+import dev.fincke.hopper.marketplace.client.MarketplaceClient;
+import dev.fincke.hopper.marketplace.client.config.MarketplaceClientProperties;
+import dev.fincke.hopper.marketplace.client.model.ListingCommand;
+import dev.fincke.hopper.marketplace.client.model.ListingResult;
+import dev.fincke.hopper.marketplace.client.model.MarketplaceError;
+import dev.fincke.hopper.marketplace.client.model.OrderCommand;
+import dev.fincke.hopper.marketplace.client.model.OrderPage;
+import dev.fincke.hopper.marketplace.client.model.OrderResult;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.NonNull;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// * Resilience Decorator
+// Wraps any MarketplaceClient with a per-operation bulkhead, circuit breaker, and bounded jittered retries.
+// Failures stay result values (FAILED + error code) so callers see the same contract as the undecorated client.
+public class ResilientMarketplaceClient implements MarketplaceClient, MeterBinder, AutoCloseable
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResilientMarketplaceClient.class);
+
+    // * Operation Names (circuit breaker, bulkhead, and metric tags)
+    public static final String CREATE_LISTING = "createListing";
+    public static final String CREATE_LISTINGS = "createListings";
+    public static final String GET_LISTING = "getListing";
+    public static final String CREATE_ORDER = "createOrder";
+    public static final String GET_ORDER = "getOrder";
+    public static final String LIST_ORDERS = "listOrders";
+    private static final List<String> OPERATIONS =
+        List.of(CREATE_LISTING, CREATE_LISTINGS, GET_LISTING, CREATE_ORDER, GET_ORDER, LIST_ORDERS);
+
+    // Error codes that indicate the connector (not the request) is unhealthy; these feed the circuit breaker.
+    private static final Set<String> CONNECTOR_FAILURE_CODES = Set.of("UNKNOWN", "UNAVAILABLE", "RETRYABLE_UPSTREAM");
+
+    // * Dependencies
+    private final MarketplaceClient delegate;
+    private final MarketplaceClientProperties.Resilience settings;
+    private final CircuitBreakerRegistry circuitBreakers;
+    private final BulkheadRegistry bulkheads;
+
+    // Runs async variants and every retry attempt; backoff waits are scheduled here instead of sleeping a thread.
+    private final ExecutorService asyncExecutor =
+        Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("marketplace-resilience-", 0).factory());
+
+    // Retry counters per operation feed hopper.marketplace.client.retries.
+    private final Map<String, LongAdder> retries;
+    private final Map<String, LongAdder> retriesExhausted;
+
+    // * Constructors
+    public ResilientMarketplaceClient(MarketplaceClient delegate, MarketplaceClientProperties.Resilience settings)
+    {
+        this.delegate = delegate;
+        this.settings = settings;
+        this.circuitBreakers = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+            .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+            .slidingWindowSize(settings.getSlidingWindowSize())
+            .minimumNumberOfCalls(settings.getMinimumNumberOfCalls())
+            .failureRateThreshold(settings.getFailureRateThreshold())
+            .slowCallDurationThreshold(settings.getSlowCallDurationThreshold())
+            .slowCallRateThreshold(settings.getSlowCallRateThreshold())
+            .waitDurationInOpenState(settings.getWaitDurationInOpenState())
+            .permittedNumberOfCallsInHalfOpenState(settings.getPermittedCallsInHalfOpenState())
+            .build());
+        this.bulkheads = BulkheadRegistry.of(BulkheadConfig.custom()
+            .maxConcurrentCalls(settings.getMaxConcurrentCalls())
+            .maxWaitDuration(settings.getMaxWaitForPermit())
+            .build());
+        // Create every instance up front so metrics exist before the first call.
+        OPERATIONS.forEach(operation ->
+        {
+            circuitBreakers.circuitBreaker(operation);
+            bulkheads.bulkhead(operation);
+        });
+        this.retries = OPERATIONS.stream().collect(Collectors.toUnmodifiableMap(Function.identity(), op -> new LongAdder()));
+        this.retriesExhausted = OPERATIONS.stream().collect(Collectors.toUnmodifiableMap(Function.identity(), op -> new LongAdder()));
+    }
+
+    // * Listing Operations
+    @Override
+    public ListingResult createListing(ListingCommand command)
+    {
+        return execute(CREATE_LISTING, () -> delegate.createListing(command),
+            ListingResult::errors, error -> ListingResult.failed(null, null, error));
+    }
+
+    @Override
+    // Batches are not retried as a whole; per-item idempotency keys let callers resubmit just the failed items.
+    public List<ListingResult> createListings(List<ListingCommand> commands)
+    {
+        return executeOnce(CREATE_LISTINGS, () -> delegate.createListings(commands),
+            ResilientMarketplaceClient::batchFailure,
+            error -> commands.stream().map(command -> ListingResult.failed(null, null, error)).toList());
+    }
+
+    @Override
+    public ListingResult getListing(String listingId)
+    {
+        return execute(GET_LISTING, () -> delegate.getListing(listingId),
+            ListingResult::errors, error -> ListingResult.failed(listingId, null, error));
+    }
+
+    // * Order Operations
+    @Override
+    public OrderResult createOrder(OrderCommand command)
+    {
+        return execute(CREATE_ORDER, () -> delegate.createOrder(command),
+            OrderResult::errors, error -> OrderResult.failed(null, null, error));
+    }
+
+    @Override
+    public OrderResult getOrder(String orderId)
+    {
+        return execute(GET_ORDER, () -> delegate.getOrder(orderId),
+            OrderResult::errors, error -> OrderResult.failed(orderId, null, error));
+    }
+
+    @Override
+    public OrderPage listOrders(String platform, String cursor, int limit)
+    {
+        return execute(LIST_ORDERS, () -> delegate.listOrders(platform, cursor, limit),
+            OrderPage::errors, OrderPage::failed);
+    }
+
+    // * Async Operations
+    // Same policies as the sync path; no thread is held while a retry waits out its backoff.
+    @Override
+    public CompletableFuture<ListingResult> createListingAsync(ListingCommand command)
+    {
+        return executeAsync(CREATE_LISTING, () -> delegate.createListing(command),
+            ListingResult::errors, error -> ListingResult.failed(null, null, error), asyncExecutor);
+    }
+
+    @Override
+    public CompletableFuture<ListingResult> getListingAsync(String listingId)
+    {
+        return executeAsync(GET_LISTING, () -> delegate.getListing(listingId),
+            ListingResult::errors, error -> ListingResult.failed(listingId, null, error), asyncExecutor);
+    }
+
+    @Override
+    public CompletableFuture<OrderResult> createOrderAsync(OrderCommand command)
+    {
+        return executeAsync(CREATE_ORDER, () -> delegate.createOrder(command),
+            OrderResult::errors, error -> OrderResult.failed(null, null, error), asyncExecutor);
+    }
+
+    @Override
+    public CompletableFuture<OrderResult> getOrderAsync(String orderId)
+    {
+        return executeAsync(GET_ORDER, () -> delegate.getOrder(orderId),
+            OrderResult::errors, error -> OrderResult.failed(orderId, null, error), asyncExecutor);
+    }
+
+    // * Introspection
+    // Current breaker state for an operation (CLOSED, OPEN, HALF_OPEN, ...).
+    public CircuitBreaker.State circuitState(String operation)
+    {
+        return circuitBreakers.circuitBreaker(operation).getState();
+    }
+
+    public long getRetryCount(String operation)
+    {
+        return retries.get(operation).sum();
+    }
+
+    // * Metrics
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry)
+    {
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakers).bindTo(registry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheads).bindTo(registry);
+        OPERATIONS.forEach(operation ->
+        {
+            FunctionCounter.builder("hopper.marketplace.client.retries", retries.get(operation), LongAdder::sum)
+                .tag("operation", operation)
+                .tag("outcome", "retried")
+                .description("Marketplace calls retried after a rate limit or transient upstream error")
+                .register(registry);
+            FunctionCounter.builder("hopper.marketplace.client.retries", retriesExhausted.get(operation), LongAdder::sum)
+                .tag("operation", operation)
+                .tag("outcome", "exhausted")
+                .description("Marketplace calls that still failed after the last permitted attempt")
+                .register(registry);
+        });
+    }
+
+    @Override
+    public void close()
+    {
+        asyncExecutor.shutdown();
+    }
+
+    // * Execution Helpers
+    // Sync entry point: first attempt on the caller thread, later ones on the delayed executor; the caller awaits them.
+    private <T> T execute(String operation, Supplier<T> call, Function<T, List<MarketplaceError>> errorsOf,
+                          Function<MarketplaceError, T> failed)
+    {
+        try
+        {
+            return executeAsync(operation, call, errorsOf, failed, Runnable::run).join();
+        }
+        catch (CompletionException ex)
+        {
+            // Surface delegate exceptions unwrapped, as the undecorated client would.
+            if (ex.getCause() instanceof RuntimeException cause)
+            {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    // Bulkhead + circuit breaker around each attempt; the first attempt runs on the given executor.
+    private <T> CompletableFuture<T> executeAsync(String operation, Supplier<T> call,
+                                                  Function<T, List<MarketplaceError>> errorsOf,
+                                                  Function<MarketplaceError, T> failed, Executor executor)
+    {
+        return CompletableFuture.supplyAsync(() -> executeOnce(operation, call, errorsOf, failed), executor)
+            .thenCompose(result -> retryIfNeeded(operation, call, errorsOf, failed, result, 1));
+    }
+
+    // Retryable errors schedule the next attempt after a jittered backoff instead of sleeping between attempts.
+    private <T> CompletableFuture<T> retryIfNeeded(String operation, Supplier<T> call,
+                                                   Function<T, List<MarketplaceError>> errorsOf,
+                                                   Function<MarketplaceError, T> failed, T result, int attempt)
+    {
+        Optional<MarketplaceError> retryable = errorsOf.apply(result).stream()
+            .filter(MarketplaceError::isRetryable)
+            .findFirst();
+        if (retryable.isEmpty())
+        {
+            return CompletableFuture.completedFuture(result);
+        }
+        if (attempt >= settings.getMaxAttempts())
+        {
+            retriesExhausted.get(operation).increment();
+            return CompletableFuture.completedFuture(result);
+        }
+
+        Optional<Duration> delay = backoff(attempt, retryable.get().retryAfter());
+        if (delay.isEmpty())
+        {
+            // Retry-After beyond our ceiling: hand the hint back instead of holding the caller.
+            retriesExhausted.get(operation).increment();
+            return CompletableFuture.completedFuture(result);
+        }
+
+        retries.get(operation).increment();
+        LOGGER.debug("Retrying {} after {} (attempt {} of {}, code {})",
+            operation, delay.get(), attempt + 1, settings.getMaxAttempts(), retryable.get().code());
+        Executor delayed =
+            CompletableFuture.delayedExecutor(delay.get().toMillis(), TimeUnit.MILLISECONDS, asyncExecutor);
+        return CompletableFuture.supplyAsync(() -> executeOnce(operation, call, errorsOf, failed), delayed)
+            .thenCompose(next -> retryIfNeeded(operation, call, errorsOf, failed, next, attempt + 1));
+    }
+
+    // Single guarded attempt: fail fast when the circuit is open or the bulkhead is saturated.
+    private <T> T executeOnce(String operation, Supplier<T> call, Function<T, List<MarketplaceError>> errorsOf,
+                              Function<MarketplaceError, T> failed)
+    {
+        CircuitBreaker circuitBreaker = circuitBreakers.circuitBreaker(operation);
+        if (!circuitBreaker.tryAcquirePermission())
+        {
+            return failed.apply(new MarketplaceError("CIRCUIT_OPEN",
+                "Marketplace connector unavailable; failing fast", null, settings.getWaitDurationInOpenState()));
+        }
+
+        Bulkhead bulkhead = bulkheads.bulkhead(operation);
+        if (!bulkhead.tryAcquirePermission())
+        {
+            circuitBreaker.releasePermission();
+            return failed.apply(new MarketplaceError("BULKHEAD_FULL",
+                "Too many concurrent " + operation + " calls", null, null));
+        }
+
+        long start = System.nanoTime();
+        T result;
+        try
+        {
+            result = call.get();
+        }
+        catch (RuntimeException ex)
+        {
+            circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, ex);
+            throw ex;
+        }
+        finally
+        {
+            bulkhead.onComplete();
+        }
+
+        long elapsed = System.nanoTime() - start;
+        Optional<MarketplaceError> connectorFailure = errorsOf.apply(result).stream()
+            .filter(error -> CONNECTOR_FAILURE_CODES.contains(error.code()))
+            .findFirst();
+        if (connectorFailure.isPresent())
+        {
+            circuitBreaker.onError(elapsed, TimeUnit.NANOSECONDS, new ConnectorFailure(connectorFailure.get()));
+        }
+        else
+        {
+            circuitBreaker.onSuccess(elapsed, TimeUnit.NANOSECONDS);
+        }
+        return result;
+    }
+
+    // Retry-After wins when present (plus jitter so callers do not retry in lockstep); otherwise full-jitter exponential.
+    private Optional<Duration> backoff(int attempt, Duration retryAfter)
+    {
+        long baseMillis = Math.max(1, settings.getInitialBackoff().toMillis());
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (retryAfter != null)
+        {
+            if (retryAfter.compareTo(settings.getMaxRetryAfter()) > 0)
+            {
+                return Optional.empty();
+            }
+            return Optional.of(retryAfter.plusMillis(random.nextLong(baseMillis)));
+        }
+        long ceiling = Math.min(settings.getMaxBackoff().toMillis(), baseMillis << Math.min(attempt - 1, 20));
+        return Optional.of(Duration.ofMillis(random.nextLong(Math.max(1, ceiling) + 1)));
+    }
+
+    // A batch counts as a connector failure only when every item failed; mixed results are item-level issues.
+    private static List<MarketplaceError> batchFailure(List<ListingResult> results)
+    {
+        if (results.isEmpty() || !results.stream().allMatch(ListingResult::hasErrors))
+        {
+            return List.of();
+        }
+        return results.stream()
+            .flatMap(result -> Stream.ofNullable(result.errors().isEmpty() ? null : result.errors().get(0)))
+            .toList();
+    }
+
+    // * Nested Types
+    // Lightweight throwable so the circuit breaker can record result-level failures without stack traces.
+    private static final class ConnectorFailure extends RuntimeException
+    {
+        private ConnectorFailure(MarketplaceError error)
+        {
+            super(error.code() + ": " + error.message(), null, false, false);
+        }
+    }
+}
@@ -5,18 +5,26 @@ import dev.fincke.hopper.marketplace.client.model.ListingCommand;
 import dev.fincke.hopper.marketplace.client.model.ListingResult;
 import dev.fincke.hopper.marketplace.client.model.ListingStatus;
 import dev.fincke.hopper.marketplace.client.model.MarketplaceError;
+import dev.fincke.hopper.marketplace.client.model.MoneyValue;
 import dev.fincke.hopper.marketplace.client.model.OrderCommand;
+import dev.fincke.hopper.marketplace.client.model.OrderItemCommand;
+import dev.fincke.hopper.marketplace.client.model.OrderPage;
 import dev.fincke.hopper.marketplace.client.model.OrderResult;
 import dev.fincke.hopper.marketplace.client.model.OrderStatus;
+import dev.fincke.hopper.marketplace.client.model.OrderSummary;
 
+import java.math.BigDecimal;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 // * Stub Implementation
 // Provides deterministic behaviour for demos before the Go service is wired in.
@@ -32,6 +40,8 @@ public class StubMarketplaceClient implements MarketplaceClient
     private final Map<String, StubListing> listings = new ConcurrentHashMap<>();
     private final Map<String, StubOrder> orders = new ConcurrentHashMap<>();
     private final Map<String, String> idempotencyKeys = new ConcurrentHashMap<>();
+    // Creation order backs the paged order feed; cursors are positions in this list.
+    private final List<StubOrder> orderSequence = new CopyOnWriteArrayList<>();
 
     @Override
     // Create listing and return a pending status so UI flows can poll to ACTIVE on next read.
@@ -52,6 +62,16 @@ public class StubMarketplaceClient implements MarketplaceClient
         return stored.toResult();
     }
 
+    @Override
+    // In-memory store has no round-trip to amortize, so batches simply apply each create in order.
+    public List<ListingResult> createListings(List<ListingCommand> commands)
+    {
+        Objects.requireNonNull(commands, "commands");
+        return commands.stream()
+            .map(this::createListing)
+            .toList();
+    }
+
     @Override
     // Single polling hop flips the listing to ACTIVE to simulate connector progression.
     public ListingResult getListing(String listingId)
@@ -91,8 +111,9 @@ public class StubMarketplaceClient implements MarketplaceClient
 
         String orderId = UUID.randomUUID().toString();
         String externalId = "%s-%s".formatted(command.platform(), UUID.randomUUID());
-        StubOrder stored = new StubOrder(orderId, externalId);
+        StubOrder stored = new StubOrder(orderId, externalId, command.platform(), totalOf(command.items()), Instant.now());
         orders.put(orderId, stored);
+        orderSequence.add(stored);
         idempotencyKeys.put(command.idempotencyKey(), orderId);
         return stored.toResult();
     }
@@ -116,6 +137,67 @@ public class StubMarketplaceClient implements MarketplaceClient
         return stored.toResult();
     }
 
+    @Override
+    // Pages through stored orders in creation order; the cursor is the next position to scan.
+    public OrderPage listOrders(String platform, String cursor, int limit)
+    {
+        if (limit < 1)
+        {
+            throw new IllegalArgumentException("limit must be at least 1");
+        }
+
+        int position;
+        try
+        {
+            position = cursor == null ? 0 : Integer.parseInt(cursor);
+        }
+        catch (NumberFormatException ex)
+        {
+            MarketplaceError error = new MarketplaceError("INVALID_REQUEST", "Invalid cursor", "cursor", null);
+            return OrderPage.failed(error);
+        }
+
+        List<OrderSummary> page = new ArrayList<>();
+        List<StubOrder> snapshot = List.copyOf(orderSequence);
+        while (position < snapshot.size() && page.size() < limit)
+        {
+            StubOrder stored = snapshot.get(position++);
+            if (platform == null || stored.platform.equalsIgnoreCase(platform))
+            {
+                page.add(stored.toSummary());
+            }
+        }
+
+        String nextCursor = position < snapshot.size() ? Integer.toString(position) : null;
+        return new OrderPage(page, nextCursor, List.of());
+    }
+
+    // * Async Operations
+    // In-memory calls finish immediately, so futures complete on the caller's thread.
+    @Override
+    public CompletableFuture<ListingResult> createListingAsync(ListingCommand command)
+    {
+        return CompletableFuture.completedFuture(createListing(command));
+    }
+
+    @Override
+    public CompletableFuture<ListingResult> getListingAsync(String listingId)
+    {
+        return CompletableFuture.completedFuture(getListing(listingId));
+    }
+
+    @Override
+    public CompletableFuture<OrderResult> createOrderAsync(OrderCommand command)
+    {
+        return CompletableFuture.completedFuture(createOrder(command));
+    }
+
+    @Override
+    public CompletableFuture<OrderResult> getOrderAsync(String orderId)
+    {
+        return CompletableFuture.completedFuture(getOrder(orderId));
+    }
+
     // * Error Simulation Helpers
     // SKU/idempotency suffixes drive predictable error responses for test scenarios.
     private Optional<ListingResult> simulateListingError(ListingCommand command)
@@ -178,6 +260,15 @@ public class StubMarketplaceClient implements MarketplaceClient
         return Optional.empty();
     }
 
+    // Order total mirrors the connector: sum of line price x quantity in the first line's currency.
+    private static MoneyValue totalOf(List<OrderItemCommand> items)
+    {
+        BigDecimal amount = items.stream()
+            .map(item -> item.price().amount().multiply(BigDecimal.valueOf(item.quantity())))
+            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return new MoneyValue(amount, items.get(0).price().currency());
+    }
+
     // * Internal View Models
     // Minimal state holders to mimic connector persistence behaviour.
     private static final class StubListing
@@ -212,17 +303,28 @@ public class StubMarketplaceClient implements MarketplaceClient
         private final String orderId;
         private final String externalId;
         private final List<MarketplaceError> errors = new ArrayList<>();
+        private final String platform;
+        private final MoneyValue total;
+        private final Instant placedAt;
         private OrderStatus status = OrderStatus.CONFIRMED;
 
-        private StubOrder(String orderId, String externalId)
+        private StubOrder(String orderId, String externalId, String platform, MoneyValue total, Instant placedAt)
         {
             this.orderId = orderId;
             this.externalId = externalId;
+            this.platform = platform;
+            this.total = total;
+            this.placedAt = placedAt;
         }
 
         private OrderResult toResult()
         {
             return new OrderResult(orderId, externalId, status, List.copyOf(errors));
         }
+
+        private OrderSummary toSummary()
+        {
+            return new OrderSummary(orderId, externalId, platform, status, total, placedAt);
+        }
     }
 }
@@ -2,16 +2,34 @@ package dev.fincke.hopper.marketplace.client.config;
 
 import dev.fincke.hopper.marketplace.client.MarketplaceClient;
 import dev.fincke.hopper.marketplace.client.adapter.RemoteGoMarketplaceClient;
+import dev.fincke.hopper.marketplace.client.adapter.ResilientMarketplaceClient;
 import dev.fincke.hopper.marketplace.client.adapter.StubMarketplaceClient;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 import org.springframework.http.client.SimpleClientHttpRequestFactory;
 
+import java.net.http.HttpClient;
+
 // * Configuration
 // Provides stub/remote marketplace clients based on application properties.
 @Configuration
@@ -22,6 +40,9 @@ public class MarketplaceClientConfiguration
 {
     private static final Logger LOGGER = LoggerFactory.getLogger(MarketplaceClientConfiguration.class);
 
+    // Pool name tag on connection pool metrics.
+    private static final String CONNECTOR_POOL_NAME = "marketplace-connector";
+
     @Bean
     // Chooses stub or remote implementation depending on `marketplace.client.mode`.
     public MarketplaceClient marketplaceClient(
@@ -31,6 +52,12 @@ public class MarketplaceClientConfiguration
     {
         MarketplaceClient client = properties.getMode() == MarketplaceClientMode.REMOTE ? remote : stub;
         LOGGER.warn("Marketplace integrations for eBay/TCGPlayer are stubbed/unfinished (mode: {}). Live API calls are disabled.", properties.getMode());
+        if (properties.getResilience().isEnabled())
+        {
+            // Bulkhead, circuit breaker, and retry policies wrap whichever implementation was selected;
+            // the wrapper is itself a MeterBinder, so its metrics bind without a separate bean.
+            return new ResilientMarketplaceClient(client, properties.getResilience());
+        }
         return client;
     }
 
@@ -42,18 +69,17 @@ public class MarketplaceClientConfiguration
     }
 
     @Bean
-    // Remote adapter configured with timeouts and bearer token for the Go connector.
-    public RemoteGoMarketplaceClient remoteGoMarketplaceClient(MarketplaceClientProperties properties)
+    // Remote adapter configured with timeouts, transport, and bearer token for the Go connector.
+    public RemoteGoMarketplaceClient remoteGoMarketplaceClient(
+        MarketplaceClientProperties properties,
+        ObjectProvider<CloseableHttpClient> pooledHttpClient,
+        ObjectProvider<HttpClient> http2Client)
     {
         MarketplaceClientProperties.Remote remoteProps = properties.getRemote();
-        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
-        // Configure HTTP client timeouts using property values.
-        requestFactory.setConnectTimeout(Math.toIntExact(remoteProps.getConnectTimeout().toMillis()));
-        requestFactory.setReadTimeout(Math.toIntExact(remoteProps.getReadTimeout().toMillis()));
 
         RestClient.Builder builder = RestClient.builder()
             .baseUrl(remoteProps.getBaseUrl())
-            .requestFactory(requestFactory);
+            .requestFactory(requestFactory(remoteProps, pooledHttpClient, http2Client));
 
         if (remoteProps.getBearerToken() != null && !remoteProps.getBearerToken().isBlank())
         {
@@ -63,6 +89,103 @@ public class MarketplaceClientConfiguration
 
         RestClient restClient = builder.build();
 
-        return new RemoteGoMarketplaceClient(restClient);
+        return new RemoteGoMarketplaceClient(restClient, remoteProps.getListingBatchSize());
+    }
+
+    // * Pooled Transport (Apache HttpClient 5)
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "marketplace.client.remote", name = "transport", havingValue = "POOLED")
+    // Bounded connection pool shared by every connector call; reused connections skip TCP setup.
+    public PoolingHttpClientConnectionManager marketplaceConnectionManager(MarketplaceClientProperties properties)
+    {
+        MarketplaceClientProperties.Remote remoteProps = properties.getRemote();
+        MarketplaceClientProperties.Pool pool = remoteProps.getPool();
+        return PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnPerRoute(pool.getMaxConnectionsPerRoute())
+            .setMaxConnTotal(Math.max(pool.getMaxConnectionsTotal(), pool.getMaxConnectionsPerRoute()))
+            .setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.of(remoteProps.getConnectTimeout()))
+                .setSocketTimeout(Timeout.of(remoteProps.getReadTimeout()))
+                // Re-check connections idle for over a second before reuse so stale sockets are not handed out.
+                .setValidateAfterInactivity(TimeValue.ofSeconds(1))
+                .build())
+            .build();
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "marketplace.client.remote", name = "transport", havingValue = "POOLED")
+    // HttpClient over the shared pool with a fixed keep-alive and response decompression.
+    // No background idle evictor (the builder only runs one for a pool it owns); expired connections are closed on
+    // lease and idle ones re-validated by the manager.
+    public CloseableHttpClient marketplaceHttpClient(
+        MarketplaceClientProperties properties,
+        PoolingHttpClientConnectionManager marketplaceConnectionManager)
+    {
+        MarketplaceClientProperties.Pool pool = properties.getRemote().getPool();
+        TimeValue keepAlive = TimeValue.of(pool.getKeepAlive());
+        return HttpClients.custom()
+            .setConnectionManager(marketplaceConnectionManager)
+            // Pool lifecycle belongs to the manager bean.
+            .setConnectionManagerShared(true)
+            .setKeepAliveStrategy((response, context) -> keepAlive)
+            .setDefaultRequestConfig(RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.of(pool.getConnectionRequestTimeout()))
+                .setContentCompressionEnabled(pool.isCompression())
+                .build())
+            .build();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "marketplace.client.remote", name = "transport", havingValue = "POOLED")
+    // Publishes httpcomponents.httpclient.pool.* gauges (leased, available, pending, max) via actuator metrics.
+    public MeterBinder marketplaceConnectionPoolMetrics(PoolingHttpClientConnectionManager marketplaceConnectionManager)
+    {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(marketplaceConnectionManager, CONNECTOR_POOL_NAME);
+    }
+
+    // * HTTP/2 Transport (JDK HttpClient)
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "marketplace.client.remote", name = "transport", havingValue = "HTTP2")
+    // Prefers HTTP/2 (h2c upgrade or ALPN) and falls back to HTTP/1.1 when the connector does not offer it.
+    // Idle connection lifetime follows the jdk.httpclient.keepalive.timeout system property.
+    public HttpClient marketplaceHttp2Client(MarketplaceClientProperties properties)
+    {
+        return HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .connectTimeout(properties.getRemote().getConnectTimeout())
+            .build();
+    }
+
+    // * Private Helper Methods
+
+    // Builds the request factory matching the configured transport.
+    private static ClientHttpRequestFactory requestFactory(
+        MarketplaceClientProperties.Remote remoteProps,
+        ObjectProvider<CloseableHttpClient> pooledHttpClient,
+        ObjectProvider<HttpClient> http2Client)
+    {
+        switch (remoteProps.getTransport())
+        {
+            case POOLED ->
+            {
+                return new HttpComponentsClientHttpRequestFactory(pooledHttpClient.getObject());
+            }
+            case HTTP2 ->
+            {
+                JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(http2Client.getObject());
+                requestFactory.setReadTimeout(remoteProps.getReadTimeout());
+                return requestFactory;
+            }
+            default ->
+            {
+                SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+                // Configure HTTP client timeouts using property values.
+                requestFactory.setConnectTimeout(Math.toIntExact(remoteProps.getConnectTimeout().toMillis()));
+                requestFactory.setReadTimeout(Math.toIntExact(remoteProps.getReadTimeout().toMillis()));
+                return requestFactory;
+            }
+        }
     }
 }
@@ -13,9 +13,15 @@ public class MarketplaceClientProperties
     // Which implementation Spring should wire; defaults to the fast stub.
     private MarketplaceClientMode mode = MarketplaceClientMode.STUB;
 
+    // Per-call deadline for parallel fan-out operations; slow marketplaces fail without holding the others.
+    private Duration fanOutTimeout = Duration.ofSeconds(15);
+
     @NestedConfigurationProperty
     private final Remote remote = new Remote();
 
+    @NestedConfigurationProperty
+    private final Resilience resilience = new Resilience();
+
     // selected implementation for the marketplace client
     public MarketplaceClientMode getMode()
     {
@@ -28,12 +34,30 @@ public class MarketplaceClientProperties
         this.mode = mode;
     }
 
+    // per-call deadline for fan-out publish and submit operations
+    public Duration getFanOutTimeout()
+    {
+        return fanOutTimeout;
+    }
+
+    // setter invoked by configuration binding
+    public void setFanOutTimeout(Duration fanOutTimeout)
+    {
+        this.fanOutTimeout = fanOutTimeout;
+    }
+
     // remote connector settings
     public Remote getRemote()
     {
         return remote;
     }
 
+    // bulkhead, circuit breaker, and retry settings wrapped around the selected client
+    public Resilience getResilience()
+    {
+        return resilience;
+    }
+
     // * Remote Connector Settings
     // Holds base URL, auth, and timeout knobs for the Go marketplace connector.
     public static class Remote
@@ -42,6 +66,11 @@ public class MarketplaceClientProperties
         private String bearerToken = "local-demo-token";
         private Duration connectTimeout = Duration.ofSeconds(3);
         private Duration readTimeout = Duration.ofSeconds(10);
+        private MarketplaceClientTransport transport = MarketplaceClientTransport.SIMPLE;
+        private int listingBatchSize = 200;
+
+        @NestedConfigurationProperty
+        private final Pool pool = new Pool();
 
         // base HTTP endpoint for the Go service
         public String getBaseUrl()
@@ -90,5 +119,294 @@ public class MarketplaceClientProperties
         {
             this.readTimeout = readTimeout;
         }
+
+        // HTTP transport used for connector calls
+        public MarketplaceClientTransport getTransport()
+        {
+            return transport;
+        }
+
+        // setter invoked by configuration binding
+        public void setTransport(MarketplaceClientTransport transport)
+        {
+            this.transport = transport;
+        }
+
+        // listings per POST /v1/listings:batch request (connector accepts at most 500)
+        public int getListingBatchSize()
+        {
+            return listingBatchSize;
+        }
+
+        // setter invoked by configuration binding
+        public void setListingBatchSize(int listingBatchSize)
+        {
+            this.listingBatchSize = listingBatchSize;
+        }
+
+        // connection pool settings for the POOLED transport
+        public Pool getPool()
+        {
+            return pool;
+        }
+    }
+
+    // * Connection Pool Settings
+    // Sizing, keep-alive, and compression knobs for the POOLED transport; HTTP2 uses the JDK client's own pool.
+    public static class Pool
+    {
+        private int maxConnectionsPerRoute = 20;
+        private int maxConnectionsTotal = 50;
+        private Duration keepAlive = Duration.ofSeconds(30);
+        private Duration connectionRequestTimeout = Duration.ofSeconds(2);
+        private boolean compression = true;
+
+        // concurrent connections to the connector host (POOLED only; HTTP2 multiplexes one connection)
+        public int getMaxConnectionsPerRoute()
+        {
+            return maxConnectionsPerRoute;
+        }
+
+        // setter invoked by configuration binding
+        public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute)
+        {
+            this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+        }
+
+        // upper bound on pooled connections across all routes
+        public int getMaxConnectionsTotal()
+        {
+            return maxConnectionsTotal;
+        }
+
+        // setter invoked by configuration binding
+        public void setMaxConnectionsTotal(int maxConnectionsTotal)
+        {
+            this.maxConnectionsTotal = maxConnectionsTotal;
+        }
+
+        // how long a connection may be kept alive for reuse; the pool closes it instead of leasing it after that
+        public Duration getKeepAlive()
+        {
+            return keepAlive;
+        }
+
+        // setter invoked by configuration binding
+        public void setKeepAlive(Duration keepAlive)
+        {
+            this.keepAlive = keepAlive;
+        }
+
+        // how long a caller waits for a free pooled connection before failing fast
+        public Duration getConnectionRequestTimeout()
+        {
+            return connectionRequestTimeout;
+        }
+
+        // setter invoked by configuration binding
+        public void setConnectionRequestTimeout(Duration connectionRequestTimeout)
+        {
+            this.connectionRequestTimeout = connectionRequestTimeout;
+        }
+
+        // advertise gzip/deflate and transparently decompress responses (POOLED only)
+        public boolean isCompression()
+        {
+            return compression;
+        }
+
+        // setter invoked by configuration binding
+        public void setCompression(boolean compression)
+        {
+            this.compression = compression;
+        }
+    }
+
+    // * Resilience Settings
+    // Per-operation bulkhead, circuit breaker, and retry knobs applied around the selected client.
+    public static class Resilience
+    {
+        private boolean enabled = false;
+        private int maxConcurrentCalls = 16;
+        private Duration maxWaitForPermit = Duration.ofMillis(100);
+        private float failureRateThreshold = 50;
+        private int slidingWindowSize = 20;
+        private int minimumNumberOfCalls = 10;
+        private Duration waitDurationInOpenState = Duration.ofSeconds(30);
+        private int permittedCallsInHalfOpenState = 3;
+        private Duration slowCallDurationThreshold = Duration.ofSeconds(5);
+        private float slowCallRateThreshold = 80;
+        private int maxAttempts = 3;
+        private Duration initialBackoff = Duration.ofMillis(200);
+        private Duration maxBackoff = Duration.ofSeconds(2);
+        private Duration maxRetryAfter = Duration.ofSeconds(5);
+
+        // wrap the client with resilience policies
+        public boolean isEnabled()
+        {
+            return enabled;
+        }
+
+        // setter invoked by configuration binding
+        public void setEnabled(boolean enabled)
+        {
+            this.enabled = enabled;
+        }
+
+        // bulkhead: concurrent calls allowed per operation
+        public int getMaxConcurrentCalls()
+        {
+            return maxConcurrentCalls;
+        }
+
+        // setter invoked by configuration binding
+        public void setMaxConcurrentCalls(int maxConcurrentCalls)
+        {
+            this.maxConcurrentCalls = maxConcurrentCalls;
+        }
+
+        // bulkhead: how long a caller waits for a free slot before failing fast
+        public Duration getMaxWaitForPermit()
+        {
+            return maxWaitForPermit;
+        }
+
+        // setter invoked by configuration binding
+        public void setMaxWaitForPermit(Duration maxWaitForPermit)
+        {
+            this.maxWaitForPermit = maxWaitForPermit;
+        }
+
+        // circuit breaker: failure percentage that opens the circuit
+        public float getFailureRateThreshold()
+        {
+            return failureRateThreshold;
+        }
+
+        // setter invoked by configuration binding
+        public void setFailureRateThreshold(float failureRateThreshold)
+        {
+            this.failureRateThreshold = failureRateThreshold;
+        }
+
+        // circuit breaker: calls in the count-based sliding window
+        public int getSlidingWindowSize()
+        {
+            return slidingWindowSize;
+        }
+
+        // setter invoked by configuration binding
+        public void setSlidingWindowSize(int slidingWindowSize)
+        {
+            this.slidingWindowSize = slidingWindowSize;
+        }
+
+        // circuit breaker: calls required before rates are evaluated
+        public int getMinimumNumberOfCalls()
+        {
+            return minimumNumberOfCalls;
+        }
+
+        // setter invoked by configuration binding
+        public void setMinimumNumberOfCalls(int minimumNumberOfCalls)
+        {
+            this.minimumNumberOfCalls = minimumNumberOfCalls;
+        }
+
+        // circuit breaker: how long calls fail fast before probing again
+        public Duration getWaitDurationInOpenState()
+        {
+            return waitDurationInOpenState;
+        }
+
+        // setter invoked by configuration binding
+        public void setWaitDurationInOpenState(Duration waitDurationInOpenState)
+        {
+            this.waitDurationInOpenState = waitDurationInOpenState;
+        }
+
+        // circuit breaker: probe calls allowed while half-open
+        public int getPermittedCallsInHalfOpenState()
+        {
+            return permittedCallsInHalfOpenState;
+        }
+
+        // setter invoked by configuration binding
+        public void setPermittedCallsInHalfOpenState(int permittedCallsInHalfOpenState)
+        {
+            this.permittedCallsInHalfOpenState = permittedCallsInHalfOpenState;
+        }
+
+        // circuit breaker: calls slower than this count as slow
+        public Duration getSlowCallDurationThreshold()
+        {
+            return slowCallDurationThreshold;
+        }
+
+        // setter invoked by configuration binding
+        public void setSlowCallDurationThreshold(Duration slowCallDurationThreshold)
+        {
+            this.slowCallDurationThreshold = slowCallDurationThreshold;
+        }
+
+        // circuit breaker: slow-call percentage that opens the circuit
+        public float getSlowCallRateThreshold()
+        {
+            return slowCallRateThreshold;
+        }
+
+        // setter invoked by configuration binding
+        public void setSlowCallRateThreshold(float slowCallRateThreshold)
+        {
+            this.slowCallRateThreshold = slowCallRateThreshold;
+        }
+
+        // retry: total attempts including the first call
+        public int getMaxAttempts()
+        {
+            return maxAttempts;
+        }
+
+        // setter invoked by configuration binding
+        public void setMaxAttempts(int maxAttempts)
+        {
+            this.maxAttempts = maxAttempts;
+        }
+
+        // retry: base delay for exponential backoff with full jitter
+        public Duration getInitialBackoff()
+        {
+            return initialBackoff;
+        }
+
+        // setter invoked by configuration binding
+        public void setInitialBackoff(Duration initialBackoff)
+        {
+            this.initialBackoff = initialBackoff;
+        }
+
+        // retry: cap on the computed backoff when no Retry-After is given
+        public Duration getMaxBackoff()
+        {
+            return maxBackoff;
+        }
+
+        // setter invoked by configuration binding
+        public void setMaxBackoff(Duration maxBackoff)
+        {
+            this.maxBackoff = maxBackoff;
+        }
+
+        // retry: longest Retry-After honoured; longer hints return the failure instead of blocking
+        public Duration getMaxRetryAfter()
+        {
+            return maxRetryAfter;
+        }
+
+        // setter invoked by configuration binding
+        public void setMaxRetryAfter(Duration maxRetryAfter)
+        {
+            this.maxRetryAfter = maxRetryAfter;
+        }
     }
 }
@@ -0,0 +1,13 @@
+package dev.fincke.hopper.marketplace.client.config;
+
+// * Enum
+// Selects the HTTP transport behind the remote Go connector client.
+public enum MarketplaceClientTransport
+{
+    // HttpURLConnection per request; no tunable pool (legacy default)
+    SIMPLE,
+    // Apache HttpClient 5 with a bounded, keep-alive connection pool and pool metrics
+    POOLED,
+    // JDK HttpClient negotiating HTTP/2 with multiplexed connections
+    HTTP2
+}
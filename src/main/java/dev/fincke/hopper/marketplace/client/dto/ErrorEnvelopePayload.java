@@ -0,0 +1,7 @@
+package dev.fincke.hopper.marketplace.client.dto;
+
+// * DTO
+// Top-level { "error": {...} } body the Go connector returns with non-2xx responses.
+public record ErrorEnvelopePayload(ErrorPayload error)
+{
+}
@@ -0,0 +1,7 @@
+package dev.fincke.hopper.marketplace.client.dto;
+
+// * DTO
+// One batch entry: the listing plus the per-item idempotency key used for downstream dedupe.
+public record ListingBatchItemPayload(String idempotencyKey, ListingRequestPayload listing)
+{
+}
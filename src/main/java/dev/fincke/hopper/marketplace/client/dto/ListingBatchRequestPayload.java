@@ -0,0 +1,18 @@
+package dev.fincke.hopper.marketplace.client.dto;
+
+import dev.fincke.hopper.marketplace.client.model.ListingCommand;
+
+import java.util.List;
+
+// * DTO
+// Outgoing payload for POST /v1/listings:batch on the Go connector.
+public record ListingBatchRequestPayload(List<ListingBatchItemPayload> items)
+{
+    // Pairs every command with its deterministic idempotency key.
+    public static ListingBatchRequestPayload from(List<ListingCommand> commands)
+    {
+        return new ListingBatchRequestPayload(commands.stream()
+            .map(command -> new ListingBatchItemPayload(command.idempotencyKey(), ListingRequestPayload.from(command)))
+            .toList());
+    }
+}
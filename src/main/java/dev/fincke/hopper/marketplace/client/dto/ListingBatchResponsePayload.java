@@ -0,0 +1,16 @@
+package dev.fincke.hopper.marketplace.client.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+// * DTO
+// Response shape returned by POST /v1/listings:batch; results echo request indexes.
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ListingBatchResponsePayload(
+    List<ListingBatchResultPayload> results,
+    int succeeded,
+    int failed
+)
+{
+}
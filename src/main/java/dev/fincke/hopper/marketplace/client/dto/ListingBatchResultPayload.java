@@ -0,0 +1,31 @@
+package dev.fincke.hopper.marketplace.client.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import dev.fincke.hopper.marketplace.client.model.ListingResult;
+
+// * DTO
+// Per-item batch outcome; the connector sets exactly one of listing or error.
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ListingBatchResultPayload(
+    int index,
+    String idempotencyKey,
+    boolean deduplicated,
+    ListingResponsePayload listing,
+    ErrorPayload error
+)
+{
+    // Converts the item into a ListingResult, surfacing per-item failures as FAILED results.
+    public ListingResult toListingResult()
+    {
+        if (error != null)
+        {
+            return ListingResult.failed(null, null, error.toMarketplaceError());
+        }
+        if (listing == null)
+        {
+            return ListingResult.failed(null, null,
+                new ErrorPayload("UNKNOWN", "Empty batch item from connector", null, null).toMarketplaceError());
+        }
+        return listing.toListingResult();
+    }
+}
@@ -0,0 +1,25 @@
+package dev.fincke.hopper.marketplace.client.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import dev.fincke.hopper.marketplace.client.model.OrderPage;
+
+import java.util.List;
+
+// * DTO
+// Response shape returned by GET /v1/orders on the Go connector.
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record OrderPagePayload(
+    List<OrderSummaryPayload> orders,
+    String nextCursor
+)
+{
+    // Converts connector payload into an OrderPage, treating a missing array as an empty page.
+    public OrderPage toOrderPage()
+    {
+        return new OrderPage(
+            orders == null ? List.of() : orders.stream().map(OrderSummaryPayload::toOrderSummary).toList(),
+            nextCursor,
+            List.of()
+        );
+    }
+}
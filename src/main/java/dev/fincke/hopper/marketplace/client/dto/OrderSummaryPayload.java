@@ -0,0 +1,30 @@
+package dev.fincke.hopper.marketplace.client.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import dev.fincke.hopper.marketplace.client.model.MoneyValue;
+import dev.fincke.hopper.marketplace.client.model.OrderStatus;
+import dev.fincke.hopper.marketplace.client.model.OrderSummary;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+// * DTO
+// Order row returned by the Go connector's paged order listing.
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record OrderSummaryPayload(
+    String orderId,
+    String externalId,
+    String platform,
+    String status,
+    PricePayload total,
+    Instant placedAt
+)
+{
+    // Converts connector payload into OrderSummary with normalized enum and money value.
+    public OrderSummary toOrderSummary()
+    {
+        OrderStatus orderStatus = status == null ? OrderStatus.FAILED : OrderStatus.valueOf(status.toUpperCase());
+        MoneyValue money = new MoneyValue(new BigDecimal(total.amount()), total.currency());
+        return new OrderSummary(orderId, externalId, platform, orderStatus, money, placedAt);
+    }
+}
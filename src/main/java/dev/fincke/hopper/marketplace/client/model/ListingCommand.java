@@ -1,5 +1,9 @@
 package dev.fincke.hopper.marketplace.client.model;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Objects;
 
@@ -13,7 +17,10 @@ public record ListingCommand(
     String description,
     MoneyValue price,
     int quantity,
-    List<ListingMedia> media
+    List<ListingMedia> media,
+    // Hopper-side identity of this publication (internal listing id, plus a relist generation when the same
+    // listing is published again); never sent as payload, only folded into the idempotency key
+    String listingReference
 )
 {
     // * Canonical Constructor
@@ -27,11 +34,13 @@ public record ListingCommand(
         Objects.requireNonNull(description, "description");
         Objects.requireNonNull(price, "price");
         Objects.requireNonNull(media, "media");
+        Objects.requireNonNull(listingReference, "listingReference");
 
         platform = platform.trim().toUpperCase();
         sellerAccountId = sellerAccountId.trim();
         sku = sku.trim();
         title = title.trim();
+        listingReference = listingReference.trim();
 
         if (platform.isEmpty())
         {
@@ -49,6 +58,10 @@ public record ListingCommand(
         {
             throw new IllegalArgumentException("title must not be blank");
         }
+        if (listingReference.isEmpty())
+        {
+            throw new IllegalArgumentException("listingReference must not be blank");
+        }
         if (quantity < 1)
         {
             throw new IllegalArgumentException("quantity must be at least 1");
@@ -62,4 +75,29 @@ public record ListingCommand(
     {
         return !media().isEmpty();
     }
+
+    // Deterministic per-listing idempotency key: retries of the same publication dedupe downstream,
+    // while a new listing reference (e.g., relisting an ended listing unchanged) or any changed field yields a new key.
+    public String idempotencyKey()
+    {
+        StringBuilder canonical = new StringBuilder()
+            .append(listingReference).append('\n')
+            .append(platform).append('\n')
+            .append(sellerAccountId).append('\n')
+            .append(sku).append('\n')
+            .append(title).append('\n')
+            .append(description).append('\n')
+            .append(price.amount().toPlainString()).append(' ').append(price.currency()).append('\n')
+            .append(quantity);
+        media.forEach(item -> canonical.append('\n').append(item.url()));
+        try
+        {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonical.toString().getBytes(StandardCharsets.UTF_8));
+            return "lst-" + HexFormat.of().formatHex(digest, 0, 16);
+        }
+        catch (NoSuchAlgorithmException ex)
+        {
+            throw new IllegalStateException("SHA-256 unavailable for idempotency keys", ex);
+        }
+    }
 }
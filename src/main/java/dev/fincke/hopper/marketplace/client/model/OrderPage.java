@@ -0,0 +1,45 @@
+package dev.fincke.hopper.marketplace.client.model;
+
+import java.util.List;
+import java.util.Objects;
+
+// * Result DTO
+// One page of connector orders plus the opaque cursor for the next page (null when exhausted).
+public record OrderPage(
+    List<OrderSummary> orders,
+    String nextCursor,
+    List<MarketplaceError> errors
+)
+{
+    // * Canonical Constructor
+    // Defensive copies so callers cannot mutate buffered pages.
+    public OrderPage
+    {
+        Objects.requireNonNull(orders, "orders");
+        Objects.requireNonNull(errors, "errors");
+        orders = List.copyOf(orders);
+        errors = List.copyOf(errors);
+        if (nextCursor != null && nextCursor.isBlank())
+        {
+            nextCursor = null;
+        }
+    }
+
+    // Indicates whether another page can be requested with nextCursor.
+    public boolean hasNext()
+    {
+        return nextCursor != null;
+    }
+
+    // Indicates whether downstream reported a failure instead of data.
+    public boolean hasErrors()
+    {
+        return !errors().isEmpty();
+    }
+
+    // Convenience builder for synthetic failures (e.g., connector timeouts).
+    public static OrderPage failed(MarketplaceError error)
+    {
+        return new OrderPage(List.of(), null, List.of(error));
+    }
+}
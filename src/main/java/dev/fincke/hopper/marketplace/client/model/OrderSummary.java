@@ -0,0 +1,34 @@
+package dev.fincke.hopper.marketplace.client.model;
+
+import java.time.Instant;
+import java.util.Objects;
+
+// * Result DTO
+// Compact view of a connector order returned by paged order listings (import feeds).
+public record OrderSummary(
+    String orderId,
+    String externalId,
+    String platform,
+    OrderStatus status,
+    MoneyValue total,
+    Instant placedAt
+)
+{
+    // * Canonical Constructor
+    // Requires the fields the import pipeline keys on so partial rows fail fast.
+    public OrderSummary
+    {
+        Objects.requireNonNull(orderId, "orderId");
+        Objects.requireNonNull(platform, "platform");
+        Objects.requireNonNull(status, "status");
+        Objects.requireNonNull(total, "total");
+        Objects.requireNonNull(placedAt, "placedAt");
+        platform = platform.trim().toUpperCase();
+    }
+
+    // External identifier to persist; falls back to the connector ID when the marketplace omits one.
+    public String externalOrderId()
+    {
+        return externalId == null || externalId.isBlank() ? orderId : externalId;
+    }
+}
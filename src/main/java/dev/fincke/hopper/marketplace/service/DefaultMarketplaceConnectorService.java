@@ -1,11 +1,13 @@
 package dev.fincke.hopper.marketplace.service;
 
 import dev.fincke.hopper.marketplace.client.MarketplaceClient;
+import dev.fincke.hopper.marketplace.client.config.MarketplaceClientProperties;
 import dev.fincke.hopper.marketplace.client.model.AddressInfo;
 import dev.fincke.hopper.marketplace.client.model.BuyerInfo;
 import dev.fincke.hopper.marketplace.client.model.ListingCommand;
 import dev.fincke.hopper.marketplace.client.model.ListingMedia;
 import dev.fincke.hopper.marketplace.client.model.ListingResult;
+import dev.fincke.hopper.marketplace.client.model.MarketplaceError;
 import dev.fincke.hopper.marketplace.client.model.MoneyValue;
 import dev.fincke.hopper.marketplace.client.model.OrderCommand;
 import dev.fincke.hopper.marketplace.client.model.OrderItemCommand;
@@ -17,9 +19,16 @@ import dev.fincke.hopper.marketplace.service.dto.OrderSubmissionItem;
 import dev.fincke.hopper.marketplace.service.dto.OrderSubmissionRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
 
 // * Service
 // Bridges domain-facing marketplace requests with connector-specific DTOs.
@@ -32,11 +41,21 @@ public class DefaultMarketplaceConnectorService implements MarketplaceConnectorS
     // Underlying connector client (stub or remote) selected via configuration.
     private final MarketplaceClient marketplaceClient;
 
+    // Per-call deadline applied to each fan-out future.
+    private final Duration fanOutTimeout;
+
     // * Constructors
     // Constructor injection keeps the service testable and respects Spring best practices.
     public DefaultMarketplaceConnectorService(MarketplaceClient marketplaceClient)
+    {
+        this(marketplaceClient, new MarketplaceClientProperties());
+    }
+
+    @Autowired
+    public DefaultMarketplaceConnectorService(MarketplaceClient marketplaceClient, MarketplaceClientProperties properties)
     {
         this.marketplaceClient = marketplaceClient;
+        this.fanOutTimeout = properties.getFanOutTimeout();
         LOGGER.warn("Marketplace connector service is running in stub mode; eBay/TCGPlayer integrations are unfinished.");
     }
 
@@ -47,6 +66,30 @@ public class DefaultMarketplaceConnectorService implements MarketplaceConnectorS
         return marketplaceClient.createListing(command);
     }
 
+    @Override
+    public List<ListingResult> publishListings(List<ListingPublicationRequest> requests)
+    {
+        // Map up front so invalid requests fail before any connector call is started.
+        List<ListingCommand> commands = requests.stream()
+            .map(this::toListingCommand)
+            .toList();
+        List<CompletableFuture<ListingResult>> futures = commands.stream()
+            .map(command -> withTimeout(
+                marketplaceClient.createListingAsync(command),
+                error -> ListingResult.failed(null, null, error)))
+            .toList();
+        return joinAll(futures);
+    }
+
+    @Override
+    public List<ListingResult> publishListingBatch(List<ListingPublicationRequest> requests)
+    {
+        List<ListingCommand> commands = requests.stream()
+            .map(this::toListingCommand)
+            .toList();
+        return marketplaceClient.createListings(commands);
+    }
+
     @Override
     public ListingResult getListing(String listingId)
     {
@@ -60,12 +103,55 @@ public class DefaultMarketplaceConnectorService implements MarketplaceConnectorS
         return marketplaceClient.createOrder(command);
     }
 
+    @Override
+    public List<OrderResult> submitOrders(List<OrderSubmissionRequest> requests)
+    {
+        List<OrderCommand> commands = requests.stream()
+            .map(this::toOrderCommand)
+            .toList();
+        List<CompletableFuture<OrderResult>> futures = commands.stream()
+            .map(command -> withTimeout(
+                marketplaceClient.createOrderAsync(command),
+                error -> OrderResult.failed(null, null, error)))
+            .toList();
+        return joinAll(futures);
+    }
+
     @Override
     public OrderResult getOrder(String orderId)
     {
         return marketplaceClient.getOrder(orderId);
     }
 
+    // * Fan-out Helpers
+    // Bounds a connector call by the per-call timeout and folds timeouts and failures into a result value.
+    private <T> CompletableFuture<T> withTimeout(CompletableFuture<T> call, Function<MarketplaceError, T> failed)
+    {
+        return call
+            .orTimeout(fanOutTimeout.toMillis(), TimeUnit.MILLISECONDS)
+            .exceptionally(ex ->
+            {
+                Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                if (cause instanceof TimeoutException)
+                {
+                    LOGGER.warn("Marketplace call exceeded {} fan-out timeout", fanOutTimeout);
+                    return failed.apply(new MarketplaceError("TIMEOUT", "Connector call timed out", null, null));
+                }
+                LOGGER.warn("Marketplace call failed during fan-out", cause);
+                return failed.apply(new MarketplaceError("UNKNOWN",
+                    cause.getMessage() == null ? "Connector call failed" : cause.getMessage(), null, null));
+            });
+    }
+
+    // Waits for every call; each future already completes within the timeout, so join never blocks past it.
+    private static <T> List<T> joinAll(List<CompletableFuture<T>> futures)
+    {
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        return futures.stream()
+            .map(CompletableFuture::join)
+            .toList();
+    }
+
     // * Mapping Helpers
     // Converts publication requests into connector listing commands.
     private ListingCommand toListingCommand(ListingPublicationRequest request)
@@ -82,7 +168,8 @@ public class DefaultMarketplaceConnectorService implements MarketplaceConnectorS
             request.description(),
             price,
             request.quantity(),
-            media
+            media,
+            request.listingReference()
         );
     }
 
@@ -5,6 +5,8 @@ import dev.fincke.hopper.marketplace.client.model.OrderResult;
 import dev.fincke.hopper.marketplace.service.dto.ListingPublicationRequest;
 import dev.fincke.hopper.marketplace.service.dto.OrderSubmissionRequest;
 
+import java.util.List;
+
 // * Interface
 // Entry point for orchestrating listing and order interactions with marketplace connectors.
 public interface MarketplaceConnectorService
@@ -13,6 +15,14 @@ public interface MarketplaceConnectorService
     // Publish a listing using the normalized publication request data.
     ListingResult publishListing(ListingPublicationRequest request);
 
+    // Publish several listings (typically one product to several platforms) in parallel; results keep request order
+    // and a call that exceeds the per-call timeout yields a FAILED result with a TIMEOUT error.
+    List<ListingResult> publishListings(List<ListingPublicationRequest> requests);
+
+    // Publish a large set of listings through the connector batch API (one round-trip per batch rather than per
+    // listing); results keep request order and failures are reported per item.
+    List<ListingResult> publishListingBatch(List<ListingPublicationRequest> requests);
+
     // Retrieve the latest status for a marketplace listing by ID.
     ListingResult getListing(String listingId);
 
@@ -20,6 +30,9 @@ public interface MarketplaceConnectorService
     // Submit an order to the connector, enforcing idempotency via the request payload.
     OrderResult submitOrder(OrderSubmissionRequest request);
 
+    // Submit several orders in parallel with the same ordering and timeout semantics as publishListings.
+    List<OrderResult> submitOrders(List<OrderSubmissionRequest> requests);
+
     // Retrieve downstream order status for polling or reconciliation flows.
     OrderResult getOrder(String orderId);
 }
@@ -16,7 +16,9 @@ public record ListingPublicationRequest(
     BigDecimal price,
     String currency,
     int quantity,
-    List<String> mediaUrls
+    List<String> mediaUrls,
+    // internal listing id (plus relist generation when republishing); keeps relists from deduping to ended listings
+    String listingReference
 )
 {
     // * Canonical Constructor
@@ -31,12 +33,14 @@ public record ListingPublicationRequest(
         Objects.requireNonNull(price, "price");
         Objects.requireNonNull(currency, "currency");
         Objects.requireNonNull(mediaUrls, "mediaUrls");
+        Objects.requireNonNull(listingReference, "listingReference");
 
         platform = platform.trim().toUpperCase();
         sellerAccountId = sellerAccountId.trim();
         sku = sku.trim();
         title = title.trim();
         description = description.trim();
+        listingReference = listingReference.trim();
         currency = currency.trim().toUpperCase();
 
         if (platform.isEmpty())
@@ -59,6 +63,10 @@ public record ListingPublicationRequest(
         {
             throw new IllegalArgumentException("description must not be blank");
         }
+        if (listingReference.isEmpty())
+        {
+            throw new IllegalArgumentException("listingReference must not be blank");
+        }
         if (quantity < 1)
         {
             throw new IllegalArgumentException("quantity must be at least 1");
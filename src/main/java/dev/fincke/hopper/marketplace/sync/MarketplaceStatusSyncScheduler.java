@@ -0,0 +1,391 @@
+package dev.fincke.hopper.marketplace.sync;
+
+import dev.fincke.hopper.marketplace.client.MarketplaceClient;
+import dev.fincke.hopper.marketplace.client.model.ListingResult;
+import dev.fincke.hopper.marketplace.client.model.MarketplaceError;
+import dev.fincke.hopper.marketplace.client.model.OrderResult;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.NonNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// * Scheduler
+// Polls pending marketplace listings and orders in batches on a single background thread, backing off per item
+// until the connector reports a terminal status, then writes the new statuses back in batched UPDATEs.
+public class MarketplaceStatusSyncScheduler implements MeterBinder, AutoCloseable
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(MarketplaceStatusSyncScheduler.class);
+
+    // Errors that say nothing about the item's lifecycle (connector health, throttling); the item stays pending
+    // and is polled again later.
+    private static final Set<String> POLL_FAILURE_CODES = Set.of(
+        "UNKNOWN", "UNAVAILABLE", "RETRYABLE_UPSTREAM", "RATE_LIMIT", "CIRCUIT_OPEN", "BULKHEAD_FULL", "TIMEOUT");
+
+    // The connector does not know the id; retried up to maxNotFoundPolls since a fresh create may lag, then dropped.
+    private static final String NOT_FOUND_CODE = "NOT_FOUND";
+
+    // * Dependencies
+    private final MarketplaceClient marketplaceClient;
+    private final StatusSyncWriter writer;
+    private final StatusSyncProperties properties;
+    private final Clock clock;
+    private final PendingStatusTracker tracker;
+
+    // Caps connector calls in flight; acquired on the scheduler thread so a slow connector throttles the tick.
+    private final Semaphore inFlight;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable ->
+    {
+        Thread thread = new Thread(runnable, "marketplace-status-sync");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Poll outcomes per target feed hopper.marketplace.sync.polls.
+    private final Map<SyncTarget, Map<PollOutcome, LongAdder>> polls = new EnumMap<>(SyncTarget.class);
+    private final Map<SyncTarget, LongAdder> rowsUpdated = new EnumMap<>(SyncTarget.class);
+
+    // * Constructors
+    public MarketplaceStatusSyncScheduler(MarketplaceClient marketplaceClient,
+                                          StatusSyncWriter writer,
+                                          StatusSyncProperties properties,
+                                          Clock clock)
+    {
+        this.marketplaceClient = marketplaceClient;
+        this.writer = writer;
+        this.properties = properties;
+        this.clock = clock;
+        this.tracker = new PendingStatusTracker(
+            properties.getInitialBackoff(), properties.getMaxBackoff(), properties.getMaxTrackedItems());
+        this.inFlight = new Semaphore(Math.max(1, properties.getMaxConcurrentPolls()));
+        for (SyncTarget target : SyncTarget.values())
+        {
+            Map<PollOutcome, LongAdder> outcomes = new EnumMap<>(PollOutcome.class);
+            for (PollOutcome outcome : PollOutcome.values())
+            {
+                outcomes.put(outcome, new LongAdder());
+            }
+            polls.put(target, outcomes);
+            rowsUpdated.put(target, new LongAdder());
+        }
+    }
+
+    // * Lifecycle
+    // Discovery runs first so the first poll tick already has work.
+    public void start()
+    {
+        scheduler.scheduleWithFixedDelay(guarded("discovery", this::discoverPending),
+            0, properties.getDiscoveryInterval().toMillis(), TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(guarded("poll", this::pollOnce),
+            properties.getPollInterval().toMillis(), properties.getPollInterval().toMillis(), TimeUnit.MILLISECONDS);
+        LOGGER.info("Marketplace status sync started (poll every {}, batch {}, discovery every {})",
+            properties.getPollInterval(), properties.getBatchSize(), properties.getDiscoveryInterval());
+    }
+
+    @Override
+    public void close()
+    {
+        scheduler.shutdownNow();
+    }
+
+    // * Tracking
+    // Lets write paths start tracking immediately instead of waiting for the next discovery pass.
+    // Takes the connector's listing/order id, the same value stored in marketplace_listing_id/marketplace_order_id.
+    public boolean trackListing(UUID listingId, String marketplaceListingId)
+    {
+        return tracker.track(SyncTarget.LISTING, listingId, marketplaceListingId, clock.instant());
+    }
+
+    public boolean trackOrder(UUID orderId, String marketplaceOrderId)
+    {
+        return tracker.track(SyncTarget.ORDER, orderId, marketplaceOrderId, clock.instant());
+    }
+
+    public int trackedCount(SyncTarget target)
+    {
+        return tracker.size(target);
+    }
+
+    // * Discovery
+    // Pages through pending rows, tracks new ones, and forgets rows that left the pending state elsewhere.
+    public void discoverPending()
+    {
+        for (SyncTarget target : SyncTarget.values())
+        {
+            Instant passStartedAt = clock.instant();
+            Set<UUID> pendingIds = new HashSet<>();
+            boolean complete = true;
+            UUID cursor = null;
+            List<StatusSyncWriter.PendingRow> page;
+            do
+            {
+                page = writer.findPending(target, cursor, properties.getDiscoveryPageSize());
+                for (StatusSyncWriter.PendingRow row : page)
+                {
+                    if (!tracker.track(target, row.id(), row.marketplaceId(), passStartedAt))
+                    {
+                        complete = false;
+                        break;
+                    }
+                    pendingIds.add(row.id());
+                }
+                cursor = page.isEmpty() ? cursor : page.get(page.size() - 1).id();
+            }
+            while (complete && page.size() == properties.getDiscoveryPageSize());
+
+            if (complete)
+            {
+                tracker.retainPending(target, pendingIds, passStartedAt);
+            }
+            else
+            {
+                // Pruning needs the full pending set; skip it until the backlog drains below capacity.
+                LOGGER.warn("Status sync tracker is full ({} items); some pending {} rows are not polled yet",
+                    properties.getMaxTrackedItems(), target);
+            }
+        }
+    }
+
+    // * Polling
+    // Polls one batch of due items and returns how many were polled.
+    public int pollOnce()
+    {
+        List<PendingStatusTracker.Item> due = tracker.takeDue(clock.instant(), properties.getBatchSize());
+        if (due.isEmpty())
+        {
+            return 0;
+        }
+
+        List<CompletableFuture<PollResult>> futures = new ArrayList<>(due.size());
+        for (PendingStatusTracker.Item item : due)
+        {
+            try
+            {
+                inFlight.acquire();
+            }
+            catch (InterruptedException ex)
+            {
+                Thread.currentThread().interrupt();
+                futures.add(CompletableFuture.completedFuture(PollResult.failed(item, null)));
+                continue;
+            }
+            futures.add(poll(item).whenComplete((result, ex) -> inFlight.release()));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        Instant now = clock.instant();
+        Map<SyncTarget, Map<String, List<UUID>>> changes = new EnumMap<>(SyncTarget.class);
+        List<PendingStatusTracker.Item> terminal = new ArrayList<>();
+        for (CompletableFuture<PollResult> future : futures)
+        {
+            PollResult result = future.join();
+            PendingStatusTracker.Item item = result.item();
+            polls.get(item.target()).get(result.outcome()).increment();
+            if (result.outcome() == PollOutcome.TERMINAL)
+            {
+                changes.computeIfAbsent(item.target(), target -> new LinkedHashMap<>())
+                    .computeIfAbsent(result.localStatus(), status -> new ArrayList<>())
+                    .add(item.id());
+                terminal.add(item);
+            }
+            else if (result.outcome() == PollOutcome.NOT_FOUND)
+            {
+                if (tracker.notFound(item, now, properties.getMaxNotFoundPolls()))
+                {
+                    LOGGER.warn("Connector does not know {} {} ({}); no longer polling it", item.target(), item.id(),
+                        item.marketplaceId());
+                }
+            }
+            else
+            {
+                tracker.reschedule(item, now, result.retryAfter());
+            }
+        }
+
+        try
+        {
+            changes.forEach((target, idsByStatus) ->
+                rowsUpdated.get(target).add(writer.applyStatusChanges(target, idsByStatus)));
+            terminal.forEach(tracker::complete);
+        }
+        catch (RuntimeException ex)
+        {
+            // Keep terminal items tracked so the write is retried on their next poll.
+            LOGGER.warn("Failed to write {} polled status changes; will retry", terminal.size(), ex);
+            terminal.forEach(item -> tracker.reschedule(item, now, null));
+        }
+        return due.size();
+    }
+
+    // * Metrics
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry)
+    {
+        for (SyncTarget target : SyncTarget.values())
+        {
+            String tag = target.name().toLowerCase();
+            Gauge.builder("hopper.marketplace.sync.tracked", tracker, t -> t.size(target))
+                .tag("target", tag)
+                .description("Pending marketplace items currently tracked for status polling")
+                .register(registry);
+            for (PollOutcome outcome : PollOutcome.values())
+            {
+                FunctionCounter.builder("hopper.marketplace.sync.polls", polls.get(target).get(outcome), LongAdder::sum)
+                    .tag("target", tag)
+                    .tag("outcome", outcome.name().toLowerCase())
+                    .description("Marketplace status polls by outcome")
+                    .register(registry);
+            }
+            FunctionCounter.builder("hopper.marketplace.sync.updates", rowsUpdated.get(target), LongAdder::sum)
+                .tag("target", tag)
+                .description("Local rows whose status was updated from a marketplace poll")
+                .register(registry);
+        }
+    }
+
+    // * Private Helper Methods
+    // Issues the connector call for one item and folds timeouts and exceptions into a failed poll.
+    private CompletableFuture<PollResult> poll(PendingStatusTracker.Item item)
+    {
+        CompletableFuture<PollResult> call;
+        try
+        {
+            call = item.target() == SyncTarget.LISTING
+                ? marketplaceClient.getListingAsync(item.marketplaceId()).thenApply(result -> classify(item, result))
+                : marketplaceClient.getOrderAsync(item.marketplaceId()).thenApply(result -> classify(item, result));
+        }
+        catch (RuntimeException ex)
+        {
+            call = CompletableFuture.failedFuture(ex);
+        }
+        return call
+            .orTimeout(properties.getPollTimeout().toMillis(), TimeUnit.MILLISECONDS)
+            .exceptionally(ex ->
+            {
+                LOGGER.debug("Status poll for {} {} failed", item.target(), item.id(), ex);
+                return PollResult.failed(item, null);
+            });
+    }
+
+    private static PollResult classify(PendingStatusTracker.Item item, ListingResult result)
+    {
+        if (isNotFound(result.errors()))
+        {
+            return PollResult.notFound(item);
+        }
+        Optional<MarketplaceError> failure = pollFailure(result.errors());
+        if (failure.isPresent())
+        {
+            return PollResult.failed(item, failure.get().retryAfter());
+        }
+        return switch (result.status())
+        {
+            case PENDING -> PollResult.pending(item);
+            case ACTIVE -> PollResult.terminal(item, "active");
+            case FAILED -> PollResult.terminal(item, "failed");
+        };
+    }
+
+    private static PollResult classify(PendingStatusTracker.Item item, OrderResult result)
+    {
+        if (isNotFound(result.errors()))
+        {
+            return PollResult.notFound(item);
+        }
+        Optional<MarketplaceError> failure = pollFailure(result.errors());
+        if (failure.isPresent())
+        {
+            return PollResult.failed(item, failure.get().retryAfter());
+        }
+        // A connector-side failure cancels the local order; pending -> cancelled is a valid transition.
+        return switch (result.status())
+        {
+            case PENDING -> PollResult.pending(item);
+            case CONFIRMED -> PollResult.terminal(item, "confirmed");
+            case FAILED -> PollResult.terminal(item, "cancelled");
+        };
+    }
+
+    private static boolean isNotFound(List<MarketplaceError> errors)
+    {
+        return errors.stream().anyMatch(error -> NOT_FOUND_CODE.equals(error.code()));
+    }
+
+    private static Optional<MarketplaceError> pollFailure(List<MarketplaceError> errors)
+    {
+        return errors.stream()
+            .filter(error -> POLL_FAILURE_CODES.contains(error.code()))
+            .findFirst();
+    }
+
+    // Scheduled tasks stop repeating after an uncaught exception, so log and carry on instead.
+    private static Runnable guarded(String task, Runnable body)
+    {
+        return () ->
+        {
+            try
+            {
+                body.run();
+            }
+            catch (RuntimeException ex)
+            {
+                LOGGER.warn("Marketplace status sync {} run failed", task, ex);
+            }
+        };
+    }
+
+    // * Nested Types
+    private enum PollOutcome
+    {
+        TERMINAL,
+        PENDING,
+        NOT_FOUND,
+        ERROR
+    }
+
+    private record PollResult(PendingStatusTracker.Item item, PollOutcome outcome, String localStatus,
+                              Duration retryAfter)
+    {
+        static PollResult terminal(PendingStatusTracker.Item item, String localStatus)
+        {
+            return new PollResult(item, PollOutcome.TERMINAL, localStatus, null);
+        }
+
+        static PollResult pending(PendingStatusTracker.Item item)
+        {
+            return new PollResult(item, PollOutcome.PENDING, null, null);
+        }
+
+        static PollResult notFound(PendingStatusTracker.Item item)
+        {
+            return new PollResult(item, PollOutcome.NOT_FOUND, null, null);
+        }
+
+        static PollResult failed(PendingStatusTracker.Item item, Duration retryAfter)
+        {
+            return new PollResult(item, PollOutcome.ERROR, null, retryAfter);
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package dev.fincke.hopper.marketplace.sync;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+// * Tracker
+// In-memory set of pending rows ordered by next poll time, with per-item exponential backoff.
+// Items handed out by takeDue are "in flight" until rescheduled or completed, so a slow poll is never issued twice.
+public class PendingStatusTracker
+{
+    // * State
+    private final Map<Key, Item> items = new HashMap<>();
+    private final PriorityQueue<Item> schedule = new PriorityQueue<>(Comparator.comparing(Item::nextPollAt));
+
+    // Rows the connector kept answering NOT_FOUND for; discovery skips them until their connector id changes.
+    private final Map<Key, Abandoned> abandoned = new HashMap<>();
+
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final int capacity;
+
+    // * Constructors
+    public PendingStatusTracker(Duration initialBackoff, Duration maxBackoff, int capacity)
+    {
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.capacity = capacity;
+    }
+
+    // * Tracking
+    // Starts tracking a row; already tracked rows keep their backoff. Returns false when the tracker is full.
+    public synchronized boolean track(SyncTarget target, UUID id, String marketplaceId, Instant now)
+    {
+        Key key = new Key(target, id);
+        if (items.containsKey(key))
+        {
+            return true;
+        }
+        Abandoned gaveUp = abandoned.get(key);
+        if (gaveUp != null && gaveUp.marketplaceId().equals(marketplaceId))
+        {
+            return true;
+        }
+        if (items.size() >= capacity)
+        {
+            return false;
+        }
+        abandoned.remove(key);
+        Item item = new Item(key, marketplaceId, now);
+        items.put(key, item);
+        schedule.add(item);
+        return true;
+    }
+
+    // Drops rows of the target that were tracked before the discovery pass started and are no longer pending.
+    public synchronized void retainPending(SyncTarget target, Set<UUID> pendingIds, Instant passStartedAt)
+    {
+        items.values().removeIf(item -> item.key.target() == target
+            && item.trackedAt.isBefore(passStartedAt)
+            && !pendingIds.contains(item.key.id()));
+        schedule.removeIf(item -> !items.containsKey(item.key));
+        abandoned.entrySet().removeIf(entry -> entry.getKey().target() == target
+            && entry.getValue().abandonedAt().isBefore(passStartedAt)
+            && !pendingIds.contains(entry.getKey().id()));
+    }
+
+    // * Scheduling
+    // Removes and returns up to limit items whose next poll time has passed, earliest first.
+    public synchronized List<Item> takeDue(Instant now, int limit)
+    {
+        List<Item> due = new ArrayList<>(Math.min(limit, schedule.size()));
+        while (due.size() < limit && !schedule.isEmpty() && !schedule.peek().nextPollAt.isAfter(now))
+        {
+            due.add(schedule.poll());
+        }
+        return due;
+    }
+
+    // Puts an in-flight item back with a longer delay; a Retry-After hint from the connector wins when it is longer.
+    public synchronized void reschedule(Item item, Instant now, Duration retryAfter)
+    {
+        if (items.get(item.key) != item)
+        {
+            // Completed or pruned by discovery while the poll was in flight.
+            return;
+        }
+        item.attempts++;
+        Duration delay = backoff(item.attempts);
+        if (retryAfter != null && retryAfter.compareTo(delay) > 0)
+        {
+            delay = retryAfter;
+        }
+        item.nextPollAt = now.plus(delay);
+        schedule.add(item);
+    }
+
+    // Counts a NOT_FOUND poll: below the limit the item is rescheduled like any failed poll, at the limit it is
+    // dropped and remembered so discovery does not track it again. Returns true when the item was abandoned.
+    public synchronized boolean notFound(Item item, Instant now, int limit)
+    {
+        if (items.get(item.key) != item)
+        {
+            return false;
+        }
+        item.notFoundPolls++;
+        if (item.notFoundPolls < limit)
+        {
+            reschedule(item, now, null);
+            return false;
+        }
+        items.remove(item.key);
+        abandoned.put(item.key, new Abandoned(item.marketplaceId, now));
+        return true;
+    }
+
+    // Stops tracking an item that reached a terminal status.
+    public synchronized void complete(Item item)
+    {
+        items.remove(item.key, item);
+    }
+
+    // * Introspection
+    public synchronized int size()
+    {
+        return items.size();
+    }
+
+    public synchronized int size(SyncTarget target)
+    {
+        return (int) items.keySet().stream().filter(key -> key.target() == target).count();
+    }
+
+    public synchronized boolean isTracked(SyncTarget target, UUID id)
+    {
+        return items.containsKey(new Key(target, id));
+    }
+
+    public synchronized boolean isAbandoned(SyncTarget target, UUID id)
+    {
+        return abandoned.containsKey(new Key(target, id));
+    }
+
+    // * Private Helper Methods
+    // Equal jitter: half the exponential step is fixed, half random, so items discovered together spread out.
+    private Duration backoff(int attempts)
+    {
+        long baseMillis = Math.max(1, initialBackoff.toMillis());
+        long ceiling = Math.min(maxBackoff.toMillis(), baseMillis << Math.min(attempts - 1, 20));
+        long half = Math.max(1, ceiling / 2);
+        return Duration.ofMillis(half + ThreadLocalRandom.current().nextLong(half + 1));
+    }
+
+    // * Nested Types
+    private record Key(SyncTarget target, UUID id) {}
+
+    private record Abandoned(String marketplaceId, Instant abandonedAt) {}
+
+    // Mutable tracking entry; fields are guarded by the tracker's lock.
+    public static final class Item
+    {
+        private final Key key;
+        private final String marketplaceId;
+        private final Instant trackedAt;
+        private Instant nextPollAt;
+        private int attempts;
+        private int notFoundPolls;
+
+        private Item(Key key, String marketplaceId, Instant now)
+        {
+            this.key = key;
+            this.marketplaceId = marketplaceId;
+            this.trackedAt = now;
+            this.nextPollAt = now;
+        }
+
+        public SyncTarget target()
+        {
+            return key.target();
+        }
+
+        public UUID id()
+        {
+            return key.id();
+        }
+
+        public String marketplaceId()
+        {
+            return marketplaceId;
+        }
+
+        public int attempts()
+        {
+            return attempts;
+        }
+
+        private Instant nextPollAt()
+        {
+            return nextPollAt;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package dev.fincke.hopper.marketplace.sync;
+
+import dev.fincke.hopper.catalog.inventory.InventoryReservationService;
+import dev.fincke.hopper.marketplace.client.MarketplaceClient;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.Clock;
+
+// * Configuration
+// Wires the background status poller when `marketplace.sync.enabled` is set.
+@Configuration
+@EnableConfigurationProperties(StatusSyncProperties.class)
+@ConditionalOnProperty(prefix = "marketplace.sync", name = "enabled", havingValue = "true")
+public class StatusSyncConfiguration
+{
+    @Bean
+    // Batched discovery reads and guarded status updates for listings and orders.
+    public StatusSyncWriter statusSyncWriter(NamedParameterJdbcTemplate jdbcTemplate,
+                                             InventoryReservationService reservationService)
+    {
+        return new StatusSyncWriter(jdbcTemplate, reservationService);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    // Polls through the shared client so bulkhead, circuit breaker, and retry policies still apply.
+    // Also binds hopper.marketplace.sync.* metrics, since the scheduler is a MeterBinder bean.
+    public MarketplaceStatusSyncScheduler marketplaceStatusSyncScheduler(
+        MarketplaceClient marketplaceClient,
+        StatusSyncWriter statusSyncWriter,
+        StatusSyncProperties properties)
+    {
+        return new MarketplaceStatusSyncScheduler(marketplaceClient, statusSyncWriter, properties, Clock.systemUTC());
+    }
+}
@@ -0,0 +1,155 @@
+package dev.fincke.hopper.marketplace.sync;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+// * Configuration Properties
+// Tuning knobs for background polling of pending marketplace listings and orders.
+@ConfigurationProperties(prefix = "marketplace.sync")
+public class StatusSyncProperties
+{
+    // * Configuration Values
+
+    // Master switch; the scheduler beans only exist when enabled.
+    private boolean enabled = false;
+
+    // Delay between scheduler ticks; each tick polls at most one batch of due items.
+    private Duration pollInterval = Duration.ofSeconds(1);
+
+    // Maximum items polled per tick.
+    private int batchSize = 100;
+
+    // Connector calls in flight at once; keep below the client bulkhead so polls are not rejected.
+    private int maxConcurrentPolls = 8;
+
+    // Deadline for a single status call before it counts as a failed poll.
+    private Duration pollTimeout = Duration.ofSeconds(10);
+
+    // First retry delay after a non-terminal poll; doubles per attempt up to maxBackoff.
+    private Duration initialBackoff = Duration.ofSeconds(5);
+
+    private Duration maxBackoff = Duration.ofMinutes(10);
+
+    // NOT_FOUND answers tolerated per item (a fresh create may lag); after that the item is no longer polled.
+    private int maxNotFoundPolls = 5;
+
+    // How often pending rows are re-read from the database to pick up new or externally changed items.
+    private Duration discoveryInterval = Duration.ofMinutes(5);
+
+    // Rows read per discovery query page.
+    private int discoveryPageSize = 1000;
+
+    // Upper bound on tracked items so a backlog cannot exhaust the heap.
+    private int maxTrackedItems = 100_000;
+
+    public boolean isEnabled()
+    {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled)
+    {
+        this.enabled = enabled;
+    }
+
+    public Duration getPollInterval()
+    {
+        return pollInterval;
+    }
+
+    public void setPollInterval(Duration pollInterval)
+    {
+        this.pollInterval = pollInterval;
+    }
+
+    public int getBatchSize()
+    {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize)
+    {
+        this.batchSize = batchSize;
+    }
+
+    public int getMaxConcurrentPolls()
+    {
+        return maxConcurrentPolls;
+    }
+
+    public void setMaxConcurrentPolls(int maxConcurrentPolls)
+    {
+        this.maxConcurrentPolls = maxConcurrentPolls;
+    }
+
+    public Duration getPollTimeout()
+    {
+        return pollTimeout;
+    }
+
+    public void setPollTimeout(Duration pollTimeout)
+    {
+        this.pollTimeout = pollTimeout;
+    }
+
+    public Duration getInitialBackoff()
+    {
+        return initialBackoff;
+    }
+
+    public void setInitialBackoff(Duration initialBackoff)
+    {
+        this.initialBackoff = initialBackoff;
+    }
+
+    public Duration getMaxBackoff()
+    {
+        return maxBackoff;
+    }
+
+    public void setMaxBackoff(Duration maxBackoff)
+    {
+        this.maxBackoff = maxBackoff;
+    }
+
+    public int getMaxNotFoundPolls()
+    {
+        return maxNotFoundPolls;
+    }
+
+    public void setMaxNotFoundPolls(int maxNotFoundPolls)
+    {
+        this.maxNotFoundPolls = maxNotFoundPolls;
+    }
+
+    public Duration getDiscoveryInterval()
+    {
+        return discoveryInterval;
+    }
+
+    public void setDiscoveryInterval(Duration discoveryInterval)
+    {
+        this.discoveryInterval = discoveryInterval;
+    }
+
+    public int getDiscoveryPageSize()
+    {
+        return discoveryPageSize;
+    }
+
+    public void setDiscoveryPageSize(int discoveryPageSize)
+    {
+        this.discoveryPageSize = discoveryPageSize;
+    }
+
+    public int getMaxTrackedItems()
+    {
+        return maxTrackedItems;
+    }
+
+    public void setMaxTrackedItems(int maxTrackedItems)
+    {
+        this.maxTrackedItems = maxTrackedItems;
+    }
+}
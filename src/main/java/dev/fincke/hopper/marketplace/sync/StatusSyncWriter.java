@@ -0,0 +1,146 @@
+package dev.fincke.hopper.marketplace.sync;
+
+import dev.fincke.hopper.catalog.inventory.InventoryReservationService;
+import dev.fincke.hopper.order.order.dto.OrderStatusUpdateRequest;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// * Persistence
+// Reads pending rows for discovery and writes polled status changes back with one UPDATE per (table, status) chunk.
+// Every update is guarded on the pending status so a row changed by a user while its poll was in flight is left alone.
+// Orders moving to cancelled hand their units back, as a cancel through the order service does.
+public class StatusSyncWriter
+{
+    // Local status value shared by pending listings and orders.
+    public static final String PENDING_STATUS = "pending";
+
+    // Keeps IN lists well below driver parameter limits.
+    private static final int UPDATE_CHUNK_SIZE = 500;
+
+    // Only rows carrying the connector's own id can be polled; the marketplace-facing external id is not a connector key.
+    private static final String LISTINGS_FIRST_PAGE_SQL =
+        "SELECT id, marketplace_listing_id AS marketplace_id FROM listings " +
+        "WHERE status = :status AND marketplace_listing_id IS NOT NULL ORDER BY id LIMIT :limit";
+
+    private static final String LISTINGS_PAGE_AFTER_SQL =
+        "SELECT id, marketplace_listing_id AS marketplace_id FROM listings " +
+        "WHERE status = :status AND marketplace_listing_id IS NOT NULL AND id > :after ORDER BY id LIMIT :limit";
+
+    private static final String ORDERS_FIRST_PAGE_SQL =
+        "SELECT id, marketplace_order_id AS marketplace_id FROM orders " +
+        "WHERE status = :status AND marketplace_order_id IS NOT NULL ORDER BY id LIMIT :limit";
+
+    private static final String ORDERS_PAGE_AFTER_SQL =
+        "SELECT id, marketplace_order_id AS marketplace_id FROM orders " +
+        "WHERE status = :status AND marketplace_order_id IS NOT NULL AND id > :after ORDER BY id LIMIT :limit";
+
+    private static final String UPDATE_LISTINGS_SQL =
+        "UPDATE listings SET status = :status WHERE id IN (:ids) AND status = :expected";
+
+    private static final String UPDATE_ORDERS_SQL =
+        "UPDATE orders SET status = :status WHERE id IN (:ids) AND status = :expected";
+
+    // Row at a time so units go back only for orders this write actually moved out of pending.
+    private static final String CANCEL_ORDER_SQL =
+        "UPDATE orders SET status = :status WHERE id = :id AND status = :expected";
+
+    private static final String CANCELLED_ORDER_ITEMS_SQL =
+        "SELECT i.id, i.listing_id, l.product_id, i.quantity FROM order_items i " +
+        "JOIN listings l ON l.id = i.listing_id WHERE i.order_id IN (:orderIds)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final InventoryReservationService reservationService;
+
+    public StatusSyncWriter(NamedParameterJdbcTemplate jdbcTemplate, InventoryReservationService reservationService)
+    {
+        this.jdbcTemplate = jdbcTemplate;
+        this.reservationService = reservationService;
+    }
+
+    // * Discovery
+    // Keyset page of pending rows ordered by id; a null cursor starts from the beginning.
+    public List<PendingRow> findPending(SyncTarget target, UUID after, int limit)
+    {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("status", PENDING_STATUS)
+            .addValue("limit", limit);
+        String sql;
+        if (after == null)
+        {
+            sql = target == SyncTarget.LISTING ? LISTINGS_FIRST_PAGE_SQL : ORDERS_FIRST_PAGE_SQL;
+        }
+        else
+        {
+            sql = target == SyncTarget.LISTING ? LISTINGS_PAGE_AFTER_SQL : ORDERS_PAGE_AFTER_SQL;
+            params.addValue("after", after);
+        }
+        return jdbcTemplate.query(sql, params, (rs, rowNum) ->
+            new PendingRow(rs.getObject("id", UUID.class), rs.getString("marketplace_id")));
+    }
+
+    // * Status Updates
+    // Applies status changes grouped by new status; returns the number of rows actually updated.
+    @Transactional
+    public int applyStatusChanges(SyncTarget target, Map<String, List<UUID>> idsByStatus)
+    {
+        String sql = target == SyncTarget.LISTING ? UPDATE_LISTINGS_SQL : UPDATE_ORDERS_SQL;
+        int updated = 0;
+        for (Map.Entry<String, List<UUID>> entry : idsByStatus.entrySet())
+        {
+            List<UUID> ids = entry.getValue();
+            if (target == SyncTarget.ORDER && OrderStatusUpdateRequest.STATUS_CANCELLED.equals(entry.getKey()))
+            {
+                updated += cancelOrders(ids);
+                continue;
+            }
+            for (int from = 0; from < ids.size(); from += UPDATE_CHUNK_SIZE)
+            {
+                MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("status", entry.getKey())
+                    .addValue("ids", ids.subList(from, Math.min(ids.size(), from + UPDATE_CHUNK_SIZE)))
+                    .addValue("expected", PENDING_STATUS);
+                updated += jdbcTemplate.update(sql, params);
+            }
+        }
+        return updated;
+    }
+
+    // * Private Helper Methods
+    // Connector failures are rare, so cancellations skip the IN-list update in favour of knowing which rows moved.
+    private int cancelOrders(List<UUID> ids)
+    {
+        List<UUID> cancelled = new ArrayList<>(ids.size());
+        for (UUID id : ids)
+        {
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("status", OrderStatusUpdateRequest.STATUS_CANCELLED)
+                .addValue("id", id)
+                .addValue("expected", PENDING_STATUS);
+            if (jdbcTemplate.update(CANCEL_ORDER_SQL, params) == 1)
+            {
+                cancelled.add(id);
+            }
+        }
+        for (int from = 0; from < cancelled.size(); from += UPDATE_CHUNK_SIZE)
+        {
+            MapSqlParameterSource params = new MapSqlParameterSource("orderIds",
+                cancelled.subList(from, Math.min(cancelled.size(), from + UPDATE_CHUNK_SIZE)));
+            jdbcTemplate.query(CANCELLED_ORDER_ITEMS_SQL, params, rs ->
+            {
+                reservationService.returnUnits(rs.getObject("id", UUID.class), rs.getObject("listing_id", UUID.class),
+                    rs.getObject("product_id", UUID.class), rs.getInt("quantity"));
+            });
+        }
+        return cancelled.size();
+    }
+
+    // * Nested Types
+    // Local id plus the connector id the row is polled by.
+    public record PendingRow(UUID id, String marketplaceId) {}
+}
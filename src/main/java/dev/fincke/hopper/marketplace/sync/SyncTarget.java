@@ -0,0 +1,9 @@
+package dev.fincke.hopper.marketplace.sync;
+
+// * Enum
+// Kinds of local rows whose status is mirrored from a marketplace connector.
+public enum SyncTarget
+{
+    LISTING,
+    ORDER
+}
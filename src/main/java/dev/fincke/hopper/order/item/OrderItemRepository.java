@@ -2,6 +2,7 @@ package dev.fincke.hopper.order.item;
 
 import dev.fincke.hopper.catalog.listing.Listing;
 import dev.fincke.hopper.order.order.Order;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
@@ -11,13 +12,22 @@ import java.util.UUID;
 // Data-access layer for OrderItem entities
 public interface OrderItemRepository extends JpaRepository<OrderItem, UUID>
 {
+    // list queries fetch the listing so OrderItemResponse mapping does not lazy load per row
+
+    // find all items with listing fetched
+    @Override
+    @EntityGraph(attributePaths = "listing")
+    List<OrderItem> findAll();
+
     // find all items for a specific order
+    @EntityGraph(attributePaths = "listing")
     List<OrderItem> findByOrder(Order order);
 
     // find all items for a specific listing
     List<OrderItem> findByListing(Listing listing);
 
     // find items by order ID
+    @EntityGraph(attributePaths = "listing")
     List<OrderItem> findByOrderId(UUID orderId);
 
     // check if any order items reference the given listing ID
@@ -1,5 +1,6 @@
 package dev.fincke.hopper.order.item;
 
+import dev.fincke.hopper.catalog.inventory.InventoryReservationService;
 import dev.fincke.hopper.catalog.listing.Listing;
 import dev.fincke.hopper.catalog.listing.ListingRepository;
 import dev.fincke.hopper.catalog.listing.exception.ListingNotFoundException;
@@ -8,14 +9,18 @@ import dev.fincke.hopper.order.item.dto.OrderItemResponse;
 import dev.fincke.hopper.order.item.dto.OrderItemUpdateRequest;
 import dev.fincke.hopper.order.item.exception.OrderItemNotFoundException;
 import dev.fincke.hopper.order.order.Order;
+import dev.fincke.hopper.order.order.OrderItemTotals;
 import dev.fincke.hopper.order.order.OrderRepository;
+import dev.fincke.hopper.order.order.dto.OrderStatusUpdateRequest;
 import dev.fincke.hopper.order.order.exception.OrderNotFoundException;
+import dev.fincke.hopper.report.rollup.DailyPlatformMetricsRecorder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -38,17 +43,27 @@ public class OrderItemServiceImpl implements OrderItemService
     // Repository for listing data access
     private final ListingRepository listingRepository;
     
+    // Reservation ledger that admits listing quantities without locking listing or product rows
+    private final InventoryReservationService reservationService;
+    
+    // Incremental updates to the daily platform rollup
+    private final DailyPlatformMetricsRecorder metricsRecorder;
+    
     // * Constructor
     
     // Constructor injection for repository dependencies
     public OrderItemServiceImpl(
         OrderItemRepository orderItemRepository,
         OrderRepository orderRepository,
-        ListingRepository listingRepository)
+        ListingRepository listingRepository,
+        InventoryReservationService reservationService,
+        DailyPlatformMetricsRecorder metricsRecorder)
     {
         this.orderItemRepository = orderItemRepository;
         this.orderRepository = orderRepository;
         this.listingRepository = listingRepository;
+        this.reservationService = reservationService;
+        this.metricsRecorder = metricsRecorder;
     }
     
     // * Core CRUD Operations
@@ -69,13 +84,14 @@ public class OrderItemServiceImpl implements OrderItemService
         Listing listing = listingRepository.findById(request.listingId())
             .orElseThrow(() -> new ListingNotFoundException(request.listingId()));
         
-        // Check if listing has sufficient quantity
-        if (!checkListingAvailability(request.listingId(), request.quantity()))
+        // Reserve the units up front; admission and reservation are one step, so two orders cannot both pass the check
+        Optional<UUID> holdId = holdUnits(listing, request.quantity());
+        if (holdId.isEmpty())
         {
             throw new IllegalArgumentException(
                 "Insufficient quantity available for listing: " + request.listingId() + 
                 ". Requested: " + request.quantity() + 
-                ", Available: " + listing.getQuantityListed());
+                ", Available: " + reservationService.available(request.listingId()));
         }
         
         // Create order item entity
@@ -86,8 +102,10 @@ public class OrderItemServiceImpl implements OrderItemService
             request.price()
         );
         
-        // Save and return response DTO
+        // Save, tie the hold to the new item, and return response DTO
         OrderItem savedOrderItem = orderItemRepository.save(orderItem);
+        reservationService.commit(holdId.get(), savedOrderItem.getId());
+        recordLineChange(savedOrderItem, 0, BigDecimal.ZERO);
         return OrderItemResponse.from(savedOrderItem);
     }
     
@@ -109,15 +127,18 @@ public class OrderItemServiceImpl implements OrderItemService
         // Validate update data
         validateOrderItemUpdate(id, request);
         
-        // Update quantity if provided (with stock validation)
+        int previousQuantity = orderItem.getQuantity();
+        BigDecimal previousPrice = orderItem.getPrice();
+        
+        // Update quantity if provided (only the increase needs new units)
         if (request.hasQuantity())
         {
-            if (!checkListingAvailability(orderItem.getListing().getId(), request.quantity()))
+            if (!changeReservedQuantity(orderItem, request.quantity()))
             {
                 throw new IllegalArgumentException(
                     "Insufficient quantity available for listing: " + orderItem.getListing().getId() + 
                     ". Requested: " + request.quantity() + 
-                    ", Available: " + orderItem.getListing().getQuantityListed());
+                    ", Available: " + reservationService.available(orderItem.getListing().getId()));
             }
             orderItem.setQuantity(request.quantity());
         }
@@ -129,6 +150,7 @@ public class OrderItemServiceImpl implements OrderItemService
         }
         
         OrderItem savedOrderItem = orderItemRepository.save(orderItem);
+        recordLineChange(savedOrderItem, previousQuantity, previousPrice);
         return OrderItemResponse.from(savedOrderItem);
     }
     
@@ -152,12 +174,12 @@ public class OrderItemServiceImpl implements OrderItemService
     @Transactional
     public void deleteOrderItem(UUID id)
     {
-        if (!orderItemRepository.existsById(id))
-        {
-            throw new OrderItemNotFoundException(id);
-        }
+        OrderItem orderItem = orderItemRepository.findById(id)
+            .orElseThrow(() -> new OrderItemNotFoundException(id));
         
-        orderItemRepository.deleteById(id);
+        returnReservedUnits(orderItem);
+        recordLineRemoval(orderItem);
+        orderItemRepository.delete(orderItem);
     }
     
     // * Order-Based Operations
@@ -177,18 +199,17 @@ public class OrderItemServiceImpl implements OrderItemService
     @Override
     public BigDecimal calculateOrderTotal(UUID orderId)
     {
-        List<OrderItem> items = orderItemRepository.findByOrderId(orderId);
-        return items.stream()
-            .map(item -> item.getPrice().multiply(BigDecimal.valueOf(item.getQuantity())))
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return orderRepository.findItemTotalsById(orderId)
+            .map(OrderItemTotals::itemsSubtotal)
+            .orElse(BigDecimal.ZERO);
     }
     
     @Override
     public int countItemsInOrder(UUID orderId)
     {
-        return orderItemRepository.findByOrderId(orderId).stream()
-            .mapToInt(OrderItem::getQuantity)
-            .sum();
+        return orderRepository.findItemTotalsById(orderId)
+            .map(OrderItemTotals::itemCount)
+            .orElse(0);
     }
     
     @Override
@@ -200,6 +221,11 @@ public class OrderItemServiceImpl implements OrderItemService
             .orElseThrow(() -> new OrderNotFoundException(orderId));
         
         List<OrderItem> items = orderItemRepository.findByOrderId(orderId);
+        items.forEach(item ->
+        {
+            returnReservedUnits(item);
+            recordLineRemoval(item);
+        });
         orderItemRepository.deleteAll(items);
     }
     
@@ -230,8 +256,8 @@ public class OrderItemServiceImpl implements OrderItemService
             return false;
         }
         
-        // Check if sufficient quantity is available
-        return listing.getQuantityListed() >= requestedQuantity;
+        // Check the in-memory admission counter (listed quantity minus outstanding reservations)
+        return reservationService.available(listingId) >= requestedQuantity;
     }
     
     @Override
@@ -260,15 +286,17 @@ public class OrderItemServiceImpl implements OrderItemService
             throw new IllegalArgumentException("Quantity must be at least 1");
         }
         
-        // Check availability
-        if (!checkListingAvailability(orderItem.getListing().getId(), newQuantity))
+        // Reserve any additional units (or give back units no longer needed)
+        if (!changeReservedQuantity(orderItem, newQuantity))
         {
             throw new IllegalArgumentException(
                 "Insufficient quantity available for listing: " + orderItem.getListing().getId());
         }
         
+        int previousQuantity = orderItem.getQuantity();
         orderItem.setQuantity(newQuantity);
         OrderItem savedOrderItem = orderItemRepository.save(orderItem);
+        recordLineChange(savedOrderItem, previousQuantity, savedOrderItem.getPrice());
         return OrderItemResponse.from(savedOrderItem);
     }
     
@@ -285,8 +313,10 @@ public class OrderItemServiceImpl implements OrderItemService
             throw new IllegalArgumentException("Price must be non-negative");
         }
         
+        BigDecimal previousPrice = orderItem.getPrice();
         orderItem.setPrice(newPrice);
         OrderItem savedOrderItem = orderItemRepository.save(orderItem);
+        recordLineChange(savedOrderItem, savedOrderItem.getQuantity(), previousPrice);
         return OrderItemResponse.from(savedOrderItem);
     }
     
@@ -308,9 +338,11 @@ public class OrderItemServiceImpl implements OrderItemService
         
         // Update price to current listing price
         BigDecimal currentListingPrice = orderItem.getListing().getPrice();
+        BigDecimal previousPrice = orderItem.getPrice();
         orderItem.setPrice(currentListingPrice);
         
         OrderItem savedOrderItem = orderItemRepository.save(orderItem);
+        recordLineChange(savedOrderItem, savedOrderItem.getQuantity(), previousPrice);
         return OrderItemResponse.from(savedOrderItem);
     }
     
@@ -380,4 +412,84 @@ public class OrderItemServiceImpl implements OrderItemService
         // Check if listing exists and is available
         return checkListingAvailability(listingId, quantity);
     }
+    
+    // * Private Helper Methods
+    
+    // Holds units on an active listing; empty when the listing is inactive or lacks the units
+    private Optional<UUID> holdUnits(Listing listing, int quantity)
+    {
+        if (!"active".equalsIgnoreCase(listing.getStatus()))
+        {
+            return Optional.empty();
+        }
+        return reservationService.tryHold(listing.getId(), listing.getProduct().getId(), quantity);
+    }
+    
+    // Moves an item's reservation to newQuantity; false when an increase cannot be admitted
+    private boolean changeReservedQuantity(OrderItem orderItem, int newQuantity)
+    {
+        int change = newQuantity - orderItem.getQuantity();
+        Listing listing = orderItem.getListing();
+        if (isCancelled(orderItem.getOrder()))
+        {
+            // The cancellation already gave every unit back; edits no longer touch the ledger
+            return true;
+        }
+        if (change > 0)
+        {
+            Optional<UUID> holdId = holdUnits(listing, change);
+            if (holdId.isEmpty())
+            {
+                return false;
+            }
+            reservationService.commit(holdId.get(), orderItem.getId());
+        }
+        else if (change < 0)
+        {
+            reservationService.returnUnits(orderItem.getId(), listing.getId(), listing.getProduct().getId(), -change);
+        }
+        return true;
+    }
+    
+    // Skipped for cancelled orders, whose units went back when they were cancelled
+    private void returnReservedUnits(OrderItem orderItem)
+    {
+        if (isCancelled(orderItem.getOrder()))
+        {
+            return;
+        }
+        Listing listing = orderItem.getListing();
+        reservationService.returnUnits(
+            orderItem.getId(), listing.getId(), listing.getProduct().getId(), orderItem.getQuantity());
+    }
+    
+    private static boolean isCancelled(Order order)
+    {
+        return OrderStatusUpdateRequest.STATUS_CANCELLED.equals(order.getStatus());
+    }
+    
+    // Applies the change in units and line total since (previousQuantity, previousPrice) to the order's item totals
+    // (in this transaction) and to the daily rollup
+    private void recordLineChange(OrderItem orderItem, int previousQuantity, BigDecimal previousPrice)
+    {
+        BigDecimal previousLine = previousPrice.multiply(BigDecimal.valueOf(previousQuantity));
+        BigDecimal currentLine = orderItem.getPrice().multiply(BigDecimal.valueOf(orderItem.getQuantity()));
+        applyLineDelta(orderItem.getOrder(), orderItem.getQuantity() - previousQuantity, currentLine.subtract(previousLine));
+    }
+    
+    private void recordLineRemoval(OrderItem orderItem)
+    {
+        BigDecimal line = orderItem.getPrice().multiply(BigDecimal.valueOf(orderItem.getQuantity()));
+        applyLineDelta(orderItem.getOrder(), -orderItem.getQuantity(), line.negate());
+    }
+    
+    private void applyLineDelta(Order order, int unitsDelta, BigDecimal amountDelta)
+    {
+        if (unitsDelta == 0 && amountDelta.signum() == 0)
+        {
+            return;
+        }
+        orderRepository.adjustItemTotals(order.getId(), unitsDelta, amountDelta);
+        metricsRecorder.itemChanged(order, unitsDelta, amountDelta);
+    }
 }
@@ -6,6 +6,7 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.UuidGenerator;
 
 import java.math.BigDecimal;
@@ -22,7 +23,8 @@ import java.util.UUID;
         @Index(name = "idx_orders_platform", columnList = "platform_id"),
         @Index(name = "idx_orders_buyer", columnList = "buyer_id"),
         @Index(name = "idx_orders_status", columnList = "status"),
-        @Index(name = "idx_orders_date", columnList = "order_date")
+        @Index(name = "idx_orders_date", columnList = "order_date"),
+        @Index(name = "idx_orders_status_date", columnList = "status, order_date")
     }
 )
 public class Order
@@ -49,6 +51,10 @@ public class Order
     @Column(name = "external_order_id", nullable = false)
     private String externalOrderId = "";
 
+    // connector-side order id the status poller looks up; null for orders not imported from the connector
+    @Column(name = "marketplace_order_id")
+    private String marketplaceOrderId;
+
     // status of the order (e.g., pending, paid, shipped, cancelled)
     @NotBlank
     @Column(name = "status", nullable = false)
@@ -65,6 +71,16 @@ public class Order
     @Column(name = "order_date", nullable = false)
     private Timestamp orderDate;
 
+    // total units across this order's items; changed only by SQL increments, so never written from the entity
+    @ColumnDefault("0")
+    @Column(name = "item_count", nullable = false, insertable = false, updatable = false)
+    private int itemCount;
+
+    // sum of price x quantity over this order's items; maintained the same way as itemCount
+    @ColumnDefault("0")
+    @Column(name = "items_subtotal", nullable = false, precision = 12, scale = 2, insertable = false, updatable = false)
+    private BigDecimal itemsSubtotal = BigDecimal.ZERO;
+
     // * Constructors
     protected Order()
     {}
@@ -144,6 +160,17 @@ public class Order
         this.externalOrderId = externalOrderId == null ? null : externalOrderId.trim();
     }
 
+    // marketplace order ID
+    public String getMarketplaceOrderId()
+    {
+        return marketplaceOrderId;
+    }
+
+    public void setMarketplaceOrderId(String marketplaceOrderId)
+    {
+        this.marketplaceOrderId = marketplaceOrderId;
+    }
+
     // status
     public String getStatus()
     {
@@ -177,6 +204,17 @@ public class Order
         this.orderDate = orderDate;
     }
 
+    // item totals (read-only, see OrderRepository.adjustItemTotals)
+    public int getItemCount()
+    {
+        return itemCount;
+    }
+
+    public BigDecimal getItemsSubtotal()
+    {
+        return itemsSubtotal;
+    }
+
     // * Overrides
     @Override
     public boolean equals(Object o)
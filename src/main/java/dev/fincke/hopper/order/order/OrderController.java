@@ -1,5 +1,6 @@
 package dev.fincke.hopper.order.order;
 
+import dev.fincke.hopper.api.pagination.CursorPage;
 import dev.fincke.hopper.order.order.dto.OrderCreateRequest;
 import dev.fincke.hopper.order.order.dto.OrderResponse;
 import dev.fincke.hopper.order.order.dto.OrderStatusUpdateRequest;
@@ -36,6 +37,14 @@ public class OrderController
         return orderService.findAll();
     }
 
+    // GET /api/orders/scroll?cursor=&limit= - keyset page of orders, newest first
+    @GetMapping("/scroll")
+    public CursorPage<OrderResponse> scroll(@RequestParam(required = false) String cursor,
+                                            @RequestParam(defaultValue = "" + CursorPage.DEFAULT_LIMIT) int limit)
+    {
+        return orderService.findPage(cursor, limit);
+    }
+
     // GET /api/orders/{id} - get order by ID
     @GetMapping("/{id}")
     public ResponseEntity<OrderResponse> getById(@PathVariable String id)
@@ -63,6 +72,15 @@ public class OrderController
         return orderService.findByStatus(status);
     }
     
+    // GET /api/orders/status/{status}/scroll?cursor=&limit= - keyset page of orders by status
+    @GetMapping("/status/{status}/scroll")
+    public CursorPage<OrderResponse> scrollByStatus(@PathVariable String status,
+                                                    @RequestParam(required = false) String cursor,
+                                                    @RequestParam(defaultValue = "" + CursorPage.DEFAULT_LIMIT) int limit)
+    {
+        return orderService.findPageByStatus(status, cursor, limit);
+    }
+    
     // POST /api/orders - create new order
     @PostMapping
     public ResponseEntity<OrderResponse> createOrder(@Valid @RequestBody OrderCreateRequest request)
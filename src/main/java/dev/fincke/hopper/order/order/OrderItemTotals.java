@@ -0,0 +1,13 @@
+package dev.fincke.hopper.order.order;
+
+import java.math.BigDecimal;
+
+// Projection of an order's stored total next to its denormalized item totals
+public record OrderItemTotals(BigDecimal totalAmount, int itemCount, BigDecimal itemsSubtotal)
+{
+    // stored total agrees with the items (scale-insensitive)
+    public boolean totalMatchesItems()
+    {
+        return totalAmount.compareTo(itemsSubtotal) == 0;
+    }
+}
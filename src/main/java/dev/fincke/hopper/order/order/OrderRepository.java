@@ -1,24 +1,99 @@
 package dev.fincke.hopper.order.order;
 
 import dev.fincke.hopper.platform.platform.Platform;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
+import java.sql.Timestamp;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 // * Repository
 // Data-access layer for Order entities
 public interface OrderRepository extends JpaRepository<Order, UUID>
 {
+    // list queries fetch platform and buyer in the same select so OrderResponse mapping
+    // does not trigger a lazy load per row
+    
+    // find all orders with platform and buyer fetched
+    @Override
+    @EntityGraph(attributePaths = {"platform", "buyer"})
+    List<Order> findAll();
+
     // find orders by platform
+    @EntityGraph(attributePaths = {"platform", "buyer"})
     List<Order> findByPlatform(Platform platform);
 
     // find order by platform and external order ID (unique combination)
     Order findByPlatformAndExternalOrderId(Platform platform, String externalOrderId);
 
     // find orders by status
+    @EntityGraph(attributePaths = {"platform", "buyer"})
     List<Order> findByStatus(String status);
 
+    // find orders for buyer (served by idx_orders_buyer)
+    @EntityGraph(attributePaths = {"platform", "buyer"})
+    List<Order> findByBuyerId(UUID buyerId);
+
+    // find orders placed within inclusive date range (served by idx_orders_order_date)
+    @EntityGraph(attributePaths = {"platform", "buyer"})
+    List<Order> findByOrderDateBetween(Timestamp startDate, Timestamp endDate);
+
+    // find orders with status placed within inclusive date range (served by idx_orders_status_date)
+    @EntityGraph(attributePaths = {"platform", "buyer"})
+    List<Order> findByStatusAndOrderDateBetween(String status, Timestamp startDate, Timestamp endDate);
+
+    // * Keyset Pagination
+    // newest first over (order_date, id); pageable only carries the row limit
+
+    // first page of all orders
+    @EntityGraph(attributePaths = {"platform", "buyer"})
+    @Query("SELECT o FROM Order o ORDER BY o.orderDate DESC, o.id DESC")
+    List<Order> findFirstPage(Pageable limit);
+
+    // page of all orders strictly after the given (order_date, id) position
+    @EntityGraph(attributePaths = {"platform", "buyer"})
+    @Query("SELECT o FROM Order o " +
+           "WHERE o.orderDate < :orderDate OR (o.orderDate = :orderDate AND o.id < :id) " +
+           "ORDER BY o.orderDate DESC, o.id DESC")
+    List<Order> findPageAfter(@Param("orderDate") Timestamp orderDate, @Param("id") UUID id, Pageable limit);
+
+    // first page of orders with status (served by idx_orders_status_date)
+    @EntityGraph(attributePaths = {"platform", "buyer"})
+    @Query("SELECT o FROM Order o WHERE o.status = :status ORDER BY o.orderDate DESC, o.id DESC")
+    List<Order> findFirstPageByStatus(@Param("status") String status, Pageable limit);
+
+    // page of orders with status strictly after the given (order_date, id) position
+    @EntityGraph(attributePaths = {"platform", "buyer"})
+    @Query("SELECT o FROM Order o " +
+           "WHERE o.status = :status " +
+           "AND (o.orderDate < :orderDate OR (o.orderDate = :orderDate AND o.id < :id)) " +
+           "ORDER BY o.orderDate DESC, o.id DESC")
+    List<Order> findPageByStatusAfter(@Param("status") String status,
+                                      @Param("orderDate") Timestamp orderDate,
+                                      @Param("id") UUID id,
+                                      Pageable limit);
+
+    // * Item Totals
+    // item_count / items_subtotal are only ever changed here and by the reconcile job
+
+    // add a change in units and line total; the row lock serializes concurrent item writes on one order
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE orders SET item_count = item_count + :units, items_subtotal = items_subtotal + :amount " +
+                   "WHERE id = :id", nativeQuery = true)
+    int adjustItemTotals(@Param("id") UUID id, @Param("units") int units, @Param("amount") BigDecimal amount);
+
+    // single-row read of stored total and item totals, without loading the entity
+    @Query("SELECT new dev.fincke.hopper.order.order.OrderItemTotals(o.totalAmount, o.itemCount, o.itemsSubtotal) " +
+           "FROM Order o WHERE o.id = :id")
+    Optional<OrderItemTotals> findItemTotalsById(@Param("id") UUID id);
+
     // check if any orders exist for given buyer ID
     boolean existsByBuyerId(UUID buyerId);
 
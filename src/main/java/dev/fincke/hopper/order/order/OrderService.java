@@ -1,5 +1,6 @@
 package dev.fincke.hopper.order.order;
 
+import dev.fincke.hopper.api.pagination.CursorPage;
 import dev.fincke.hopper.order.order.dto.OrderCreateRequest;
 import dev.fincke.hopper.order.order.dto.OrderResponse;
 import dev.fincke.hopper.order.order.dto.OrderStatusUpdateRequest;
@@ -29,6 +30,9 @@ public interface OrderService
     // retrieve all orders
     List<OrderResponse> findAll();
     
+    // retrieve one keyset page of orders, newest first (null cursor starts at the first page)
+    CursorPage<OrderResponse> findPage(String cursor, int limit);
+    
     // delete order by ID (soft delete recommended for audit trail)
     void deleteOrder(UUID id);
     
@@ -48,6 +52,9 @@ public interface OrderService
     // find orders by status (e.g., pending, paid, shipped, cancelled)
     List<OrderResponse> findByStatus(String status);
     
+    // retrieve one keyset page of orders with status, newest first
+    CursorPage<OrderResponse> findPageByStatus(String status, String cursor, int limit);
+    
     // update order status with validation rules
     OrderResponse updateStatus(UUID id, OrderStatusUpdateRequest request);
     
@@ -1,5 +1,9 @@
 package dev.fincke.hopper.order.order;
 
+import dev.fincke.hopper.api.pagination.CursorPage;
+import dev.fincke.hopper.api.pagination.KeysetCursor;
+import dev.fincke.hopper.catalog.inventory.InventoryReservationService;
+import dev.fincke.hopper.catalog.listing.Listing;
 import dev.fincke.hopper.order.buyer.Buyer;
 import dev.fincke.hopper.order.buyer.BuyerRepository;
 import dev.fincke.hopper.order.buyer.exception.BuyerNotFoundException;
@@ -9,6 +13,8 @@ import dev.fincke.hopper.order.order.dto.*;
 import dev.fincke.hopper.order.order.exception.*;
 import dev.fincke.hopper.platform.platform.Platform;
 import dev.fincke.hopper.platform.platform.PlatformRepository;
+import dev.fincke.hopper.report.rollup.DailyPlatformMetricsRecorder;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -39,6 +45,12 @@ public class OrderServiceImpl implements OrderService
     // Repository for order items (for total calculations)
     private final OrderItemRepository orderItemRepository;
     
+    // Incremental updates to the daily platform rollup
+    private final DailyPlatformMetricsRecorder metricsRecorder;
+    
+    // Reservation ledger that gets units back when an order is cancelled or deleted
+    private final InventoryReservationService reservationService;
+    
     // Valid status transitions map (business rules)
     private static final Map<String, Set<String>> VALID_STATUS_TRANSITIONS = Map.of(
         "pending", Set.of("confirmed", "cancelled"),
@@ -58,12 +70,16 @@ public class OrderServiceImpl implements OrderService
         OrderRepository orderRepository,
         PlatformRepository platformRepository,
         BuyerRepository buyerRepository,
-        OrderItemRepository orderItemRepository)
+        OrderItemRepository orderItemRepository,
+        DailyPlatformMetricsRecorder metricsRecorder,
+        InventoryReservationService reservationService)
     {
         this.orderRepository = orderRepository;
         this.platformRepository = platformRepository;
         this.buyerRepository = buyerRepository;
         this.orderItemRepository = orderItemRepository;
+        this.metricsRecorder = metricsRecorder;
+        this.reservationService = reservationService;
     }
     
     // * Core CRUD Operations
@@ -103,8 +119,9 @@ public class OrderServiceImpl implements OrderService
             order.setBuyer(buyer);
         }
         
-        // Save and return response DTO
+        // Save, count it in the daily rollup, and return response DTO
         Order savedOrder = orderRepository.save(order);
+        metricsRecorder.orderCreated(savedOrder);
         return OrderResponse.from(savedOrder);
     }
     
@@ -147,6 +164,7 @@ public class OrderServiceImpl implements OrderService
             {
                 throw new InvalidOrderStatusException(id, order.getStatus(), request.status());
             }
+            returnUnitsOnCancel(order, request.status());
             order.setStatus(request.status());
         }
         
@@ -156,10 +174,12 @@ public class OrderServiceImpl implements OrderService
             order.setTotalAmount(request.totalAmount());
         }
         
-        // Update order date if provided
+        // Update order date if provided (the rollup moves the order to its new day)
         if (request.hasOrderDate())
         {
+            Timestamp previousOrderDate = order.getOrderDate();
             order.setOrderDate(request.orderDate());
+            metricsRecorder.orderDateChanged(order, previousOrderDate);
         }
         
         // Update buyer assignment if provided
@@ -197,17 +217,39 @@ public class OrderServiceImpl implements OrderService
             .collect(Collectors.toList());
     }
     
+    @Override
+    public CursorPage<OrderResponse> findPage(String cursor, int limit)
+    {
+        int pageSize = CursorPage.resolveLimit(limit);
+        KeysetCursor position = KeysetCursor.decodeBySortKey(cursor);
+        
+        // Fetch one extra row to detect whether another page exists
+        PageRequest fetch = PageRequest.ofSize(pageSize + 1);
+        List<Order> rows = position == null
+            ? orderRepository.findFirstPage(fetch)
+            : orderRepository.findPageAfter(position.sortKey(), position.id(), fetch);
+        
+        return CursorPage.fromRows(rows, pageSize, OrderServiceImpl::cursorOf, OrderResponse::from);
+    }
+    
     @Override
     @Transactional
     public void deleteOrder(UUID id)
     {
-        if (!orderRepository.existsById(id))
+        Order order = orderRepository.findById(id)
+            .orElseThrow(() -> new OrderNotFoundException(id));
+        
+        // Items and fees cascade with the order, so the rollup gives all of them back
+        metricsRecorder.orderDeleted(order);
+        
+        // Items cascade too; a cancelled order already gave its units back
+        if (!isCancelled(order.getStatus()))
         {
-            throw new OrderNotFoundException(id);
+            returnReservedUnits(order);
         }
         
         // Note: Consider soft delete for audit trail in production
-        orderRepository.deleteById(id);
+        orderRepository.delete(order);
     }
     
     // * Platform-Based Operations
@@ -247,6 +289,21 @@ public class OrderServiceImpl implements OrderService
             .collect(Collectors.toList());
     }
     
+    @Override
+    public CursorPage<OrderResponse> findPageByStatus(String status, String cursor, int limit)
+    {
+        int pageSize = CursorPage.resolveLimit(limit);
+        KeysetCursor position = KeysetCursor.decodeBySortKey(cursor);
+        
+        // Fetch one extra row to detect whether another page exists
+        PageRequest fetch = PageRequest.ofSize(pageSize + 1);
+        List<Order> rows = position == null
+            ? orderRepository.findFirstPageByStatus(status, fetch)
+            : orderRepository.findPageByStatusAfter(status, position.sortKey(), position.id(), fetch);
+        
+        return CursorPage.fromRows(rows, pageSize, OrderServiceImpl::cursorOf, OrderResponse::from);
+    }
+    
     @Override
     @Transactional
     public OrderResponse updateStatus(UUID id, OrderStatusUpdateRequest request)
@@ -260,7 +317,8 @@ public class OrderServiceImpl implements OrderService
             throw new InvalidOrderStatusException(id, order.getStatus(), request.status());
         }
         
-        // Update status
+        // Update status (a cancellation hands the order's units back to its listings)
+        returnUnitsOnCancel(order, request.status());
         order.setStatus(request.status());
         
         Order savedOrder = orderRepository.save(order);
@@ -288,8 +346,7 @@ public class OrderServiceImpl implements OrderService
         buyerRepository.findById(buyerId)
             .orElseThrow(() -> new BuyerNotFoundException(buyerId));
         
-        return orderRepository.findAll().stream()
-            .filter(order -> order.getBuyer() != null && order.getBuyer().getId().equals(buyerId))
+        return orderRepository.findByBuyerId(buyerId).stream()
             .map(OrderResponse::from)
             .collect(Collectors.toList());
     }
@@ -326,12 +383,7 @@ public class OrderServiceImpl implements OrderService
     @Override
     public List<OrderResponse> findByDateRange(Timestamp startDate, Timestamp endDate)
     {
-        return orderRepository.findAll().stream()
-            .filter(order ->
-            {
-                Timestamp orderDate = order.getOrderDate();
-                return orderDate.compareTo(startDate) >= 0 && orderDate.compareTo(endDate) <= 0;
-            })
+        return orderRepository.findByOrderDateBetween(startDate, endDate).stream()
             .map(OrderResponse::from)
             .collect(Collectors.toList());
     }
@@ -339,12 +391,7 @@ public class OrderServiceImpl implements OrderService
     @Override
     public List<OrderResponse> findByDateRangeAndStatus(Timestamp startDate, Timestamp endDate, String status)
     {
-        return orderRepository.findByStatus(status).stream()
-            .filter(order ->
-            {
-                Timestamp orderDate = order.getOrderDate();
-                return orderDate.compareTo(startDate) >= 0 && orderDate.compareTo(endDate) <= 0;
-            })
+        return orderRepository.findByStatusAndOrderDateBetween(status, startDate, endDate).stream()
             .map(OrderResponse::from)
             .collect(Collectors.toList());
     }
@@ -354,20 +401,19 @@ public class OrderServiceImpl implements OrderService
     @Override
     public BigDecimal calculateTotalFromItems(UUID orderId)
     {
-        List<OrderItem> items = orderItemRepository.findByOrderId(orderId);
-        return items.stream()
-            .map(item -> item.getPrice().multiply(BigDecimal.valueOf(item.getQuantity())))
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        // Same source as OrderItemService.calculateOrderTotal: the denormalized subtotal, not an order_items scan
+        return orderRepository.findItemTotalsById(orderId)
+            .map(OrderItemTotals::itemsSubtotal)
+            .orElse(BigDecimal.ZERO);
     }
     
     @Override
     public boolean verifyOrderTotal(UUID orderId)
     {
-        Order order = orderRepository.findById(orderId)
-            .orElseThrow(() -> new OrderNotFoundException(orderId));
-        
-        BigDecimal calculatedTotal = calculateTotalFromItems(orderId);
-        return order.getTotalAmount().compareTo(calculatedTotal) == 0;
+        // Single-row read of the stored total against the denormalized item subtotal
+        return orderRepository.findItemTotalsById(orderId)
+            .orElseThrow(() -> new OrderNotFoundException(orderId))
+            .totalMatchesItems();
     }
     
     @Override
@@ -377,8 +423,12 @@ public class OrderServiceImpl implements OrderService
         Order order = orderRepository.findById(orderId)
             .orElseThrow(() -> new OrderNotFoundException(orderId));
         
-        BigDecimal calculatedTotal = calculateTotalFromItems(orderId);
-        order.setTotalAmount(calculatedTotal);
+        // Read the subtotal from the row: item writes earlier in this transaction bump it with a native UPDATE,
+        // so the managed entity's copy can be stale
+        BigDecimal itemsSubtotal = orderRepository.findItemTotalsById(orderId)
+            .map(OrderItemTotals::itemsSubtotal)
+            .orElseThrow(() -> new OrderNotFoundException(orderId));
+        order.setTotalAmount(itemsSubtotal);
         
         Order savedOrder = orderRepository.save(order);
         return OrderResponse.from(savedOrder);
@@ -443,4 +493,39 @@ public class OrderServiceImpl implements OrderService
             throw new OrderValidationException(orderId, errors);
         }
     }
+    
+    // * Reservation Helpers
+    
+    // Gives the order's units back when this status change cancels it (cancelled is terminal, so this runs once)
+    private void returnUnitsOnCancel(Order order, String newStatus)
+    {
+        if (isCancelled(newStatus) && !isCancelled(order.getStatus()))
+        {
+            returnReservedUnits(order);
+        }
+    }
+    
+    // Items created before the reservation ledger have no rows there and are skipped by the ledger itself
+    private void returnReservedUnits(Order order)
+    {
+        for (OrderItem item : orderItemRepository.findByOrderId(order.getId()))
+        {
+            Listing listing = item.getListing();
+            reservationService.returnUnits(
+                item.getId(), listing.getId(), listing.getProduct().getId(), item.getQuantity());
+        }
+    }
+    
+    private static boolean isCancelled(String status)
+    {
+        return OrderStatusUpdateRequest.STATUS_CANCELLED.equals(status);
+    }
+    
+    // * Pagination Helpers
+    
+    // Order pages are keyed on (order_date, id)
+    private static KeysetCursor cursorOf(Order order)
+    {
+        return KeysetCursor.of(order.getOrderDate(), order.getId());
+    }
 }
@@ -54,7 +54,7 @@ public class PlatformCredential
     @Column(name = "encryption_version")
     private String encryptionVersion;
 
-    // persist salt so key derivation can be repeated during decryption
+    // persist salt so key derivation can be repeated during decryption (null in envelope mode)
     @Column(name = "salt")
     private String salt;
 
@@ -205,7 +205,7 @@ public class PlatformCredential
     // expose encryption metadata to the service when loading from JPA
     public EncryptedCredential toEncryptedCredential()
     {
-        if (encryptionVersion == null || salt == null || encryptedAt == null || keyId == null)
+        if (encryptionVersion == null || encryptedAt == null || keyId == null)
         {
             return null;
         }
@@ -222,10 +222,10 @@ public class PlatformCredential
         this.keyId = encrypted.keyId();
     }
 
-    // detect ciphertext vs plaintext by verifying required metadata is present
+    // detect ciphertext vs plaintext by verifying required metadata is present; envelope ciphertext has no salt
     public boolean isEncrypted()
     {
-        return encryptionVersion != null && salt != null && keyId != null;
+        return encryptionVersion != null && keyId != null;
     }
 
     // remove stale metadata so plaintext credentials are not treated as encrypted
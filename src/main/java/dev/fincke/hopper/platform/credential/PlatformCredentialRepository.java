@@ -4,6 +4,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -38,4 +39,13 @@ public interface PlatformCredentialRepository extends JpaRepository<PlatformCred
     // find active/inactive credentials by platform name (custom JPQL query)
     @Query("SELECT pc FROM PlatformCredential pc WHERE pc.platform.name = :platformName AND pc.isActive = :isActive")
     List<PlatformCredential> findByPlatformNameAndIsActive(@Param("platformName") String platformName, @Param("isActive") Boolean isActive);
-}
\ No newline at end of file
+    
+    // rotation candidates: stale version, past the age cutoff, or salted rows awaiting envelope migration
+    // served by the encryption_version / encrypted_at indexes instead of scanning every credential
+    @Query("SELECT pc FROM PlatformCredential pc WHERE pc.encryptionVersion IS NOT NULL AND pc.keyId IS NOT NULL " +
+           "AND (pc.encryptionVersion <> :currentVersion OR pc.encryptedAt < :cutoff " +
+           "OR (:includeSalted = TRUE AND pc.salt IS NOT NULL))")
+    List<PlatformCredential> findReEncryptionCandidates(@Param("currentVersion") String currentVersion,
+                                                        @Param("cutoff") LocalDateTime cutoff,
+                                                        @Param("includeSalted") boolean includeSalted);
+}
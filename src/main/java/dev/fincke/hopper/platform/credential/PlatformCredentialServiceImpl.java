@@ -315,11 +315,14 @@ public class PlatformCredentialServiceImpl implements PlatformCredentialService
     @Override
     public List<PlatformCredentialResponse> findCredentialsNeedingReEncryption() 
     {
-        // Surface rotation backlog to API clients instead of relying on ad-hoc SQL
-        List<PlatformCredential> allCredentials = credentialRepository.findAll();
+        // Narrow to rotation candidates in SQL, then apply the service's exact policy
+        List<PlatformCredential> candidates = credentialRepository.findReEncryptionCandidates(
+            encryptionService.getCurrentEncryptionVersion(),
+            encryptionService.getRotationCutoff(),
+            encryptionService.isEnvelopeMode()
+        );
         
-        return allCredentials.stream()
-            .filter(PlatformCredential::isEncrypted)
+        return candidates.stream()
             .filter(credential -> {
                 EncryptedCredential encrypted = credential.toEncryptedCredential();
                 return encrypted != null && encryptionService.needsReEncryption(encrypted);
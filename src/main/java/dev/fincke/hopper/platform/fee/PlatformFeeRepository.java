@@ -1,5 +1,6 @@
 package dev.fincke.hopper.platform.fee;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -11,24 +12,40 @@ import java.util.UUID;
 public interface PlatformFeeRepository extends JpaRepository<PlatformFee, UUID>
 {
     
+    // list queries fetch order and platform so PlatformFeeResponse mapping does not lazy load per row
+    @Override
+    @EntityGraph(attributePaths = {"order", "order.platform"})
+    List<PlatformFee> findAll();
+    
+    @EntityGraph(attributePaths = {"order", "order.platform"})
     List<PlatformFee> findByOrderId(UUID orderId);
     
+    @EntityGraph(attributePaths = {"order", "order.platform"})
     List<PlatformFee> findByFeeType(String feeType);
     
+    @EntityGraph(attributePaths = {"order", "order.platform"})
     List<PlatformFee> findByOrderIdAndFeeType(UUID orderId, String feeType);
     
+    @EntityGraph(attributePaths = {"order", "order.platform"})
     List<PlatformFee> findByAmountGreaterThanEqual(BigDecimal minAmount);
     
+    @EntityGraph(attributePaths = {"order", "order.platform"})
     List<PlatformFee> findByAmountLessThanEqual(BigDecimal maxAmount);
     
+    @EntityGraph(attributePaths = {"order", "order.platform"})
     List<PlatformFee> findByAmountBetween(BigDecimal minAmount, BigDecimal maxAmount);
     
+    @EntityGraph(attributePaths = {"order", "order.platform"})
     @Query("SELECT pf FROM PlatformFee pf WHERE pf.order.platform.id = :platformId")
     List<PlatformFee> findByPlatformId(@Param("platformId") UUID platformId);
     
+    @EntityGraph(attributePaths = {"order", "order.platform"})
     @Query("SELECT pf FROM PlatformFee pf WHERE pf.order.platform.name = :platformName")
     List<PlatformFee> findByPlatformName(@Param("platformName") String platformName);
     
+    @Query("SELECT COALESCE(SUM(pf.amount), 0) FROM PlatformFee pf WHERE pf.order.platform.id = :platformId")
+    BigDecimal getTotalFeesByPlatformId(@Param("platformId") UUID platformId);
+    
     @Query("SELECT SUM(pf.amount) FROM PlatformFee pf WHERE pf.order.id = :orderId")
     BigDecimal getTotalFeesByOrderId(@Param("orderId") UUID orderId);
     
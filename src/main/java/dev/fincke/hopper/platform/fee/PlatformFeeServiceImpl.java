@@ -9,6 +9,7 @@ import dev.fincke.hopper.platform.fee.dto.PlatformFeeUpdateRequest;
 import dev.fincke.hopper.platform.fee.exception.DuplicateFeeTypeException;
 import dev.fincke.hopper.platform.fee.exception.InvalidFeeAmountException;
 import dev.fincke.hopper.platform.fee.exception.PlatformFeeNotFoundException;
+import dev.fincke.hopper.report.rollup.DailyPlatformMetricsRecorder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -34,6 +35,9 @@ public class PlatformFeeServiceImpl implements PlatformFeeService
     // Repository for order data access
     private final OrderRepository orderRepository;
     
+    // Incremental updates to the daily platform rollup
+    private final DailyPlatformMetricsRecorder metricsRecorder;
+    
     // * Configuration Constants
     
     // Valid fee types accepted by the system
@@ -52,10 +56,12 @@ public class PlatformFeeServiceImpl implements PlatformFeeService
     // Constructor injection for repository dependencies
     public PlatformFeeServiceImpl(
         PlatformFeeRepository platformFeeRepository,
-        OrderRepository orderRepository)
+        OrderRepository orderRepository,
+        DailyPlatformMetricsRecorder metricsRecorder)
     {
         this.platformFeeRepository = platformFeeRepository;
         this.orderRepository = orderRepository;
+        this.metricsRecorder = metricsRecorder;
     }
     
     // * Core CRUD Operations
@@ -85,8 +91,9 @@ public class PlatformFeeServiceImpl implements PlatformFeeService
             request.amount()
         );
         
-        // Save and return response DTO
+        // Save, count it in the daily rollup, and return response DTO
         PlatformFee savedPlatformFee = platformFeeRepository.save(platformFee);
+        metricsRecorder.feeChanged(order, 1, savedPlatformFee.getAmount());
         return PlatformFeeResponse.from(savedPlatformFee);
     }
     
@@ -108,6 +115,9 @@ public class PlatformFeeServiceImpl implements PlatformFeeService
         // Validate update data
         validatePlatformFeeUpdate(id, request);
         
+        Order previousOrder = platformFee.getOrder();
+        BigDecimal previousAmount = platformFee.getAmount();
+        
         // Update order if provided
         if (request.hasOrderId())
         {
@@ -135,6 +145,17 @@ public class PlatformFeeServiceImpl implements PlatformFeeService
         }
         
         PlatformFee savedPlatformFee = platformFeeRepository.save(platformFee);
+        
+        // Moving the fee to another order may move it to another day or platform
+        if (!savedPlatformFee.getOrder().getId().equals(previousOrder.getId()))
+        {
+            metricsRecorder.feeChanged(previousOrder, -1, previousAmount.negate());
+            metricsRecorder.feeChanged(savedPlatformFee.getOrder(), 1, savedPlatformFee.getAmount());
+        }
+        else
+        {
+            metricsRecorder.feeChanged(previousOrder, 0, savedPlatformFee.getAmount().subtract(previousAmount));
+        }
         return PlatformFeeResponse.from(savedPlatformFee);
     }
     
@@ -158,11 +179,10 @@ public class PlatformFeeServiceImpl implements PlatformFeeService
     @Transactional
     public void deletePlatformFee(UUID id)
     {
-        if (!platformFeeRepository.existsById(id))
-        {
-            throw new PlatformFeeNotFoundException(id);
-        }
-        platformFeeRepository.deleteById(id);
+        PlatformFee platformFee = platformFeeRepository.findById(id)
+            .orElseThrow(() -> new PlatformFeeNotFoundException(id));
+        metricsRecorder.feeChanged(platformFee.getOrder(), -1, platformFee.getAmount().negate());
+        platformFeeRepository.delete(platformFee);
     }
     
     // * Order-Based Operations
@@ -189,6 +209,7 @@ public class PlatformFeeServiceImpl implements PlatformFeeService
         List<PlatformFee> fees = platformFeeRepository.findByOrderId(orderId);
         if (!fees.isEmpty())
         {
+            fees.forEach(fee -> metricsRecorder.feeChanged(fee.getOrder(), -1, fee.getAmount().negate()));
             platformFeeRepository.deleteAll(fees);
         }
     }
@@ -237,10 +258,7 @@ public class PlatformFeeServiceImpl implements PlatformFeeService
     @Override
     public BigDecimal getTotalFeesByPlatform(UUID platformId)
     {
-        List<PlatformFee> fees = platformFeeRepository.findByPlatformId(platformId);
-        return fees.stream()
-            .map(PlatformFee::getAmount)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return platformFeeRepository.getTotalFeesByPlatformId(platformId);
     }
     
     @Override
@@ -1,14 +1,38 @@
 package dev.fincke.hopper.platform.platform;
 
+import dev.fincke.hopper.config.CacheConfig;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface PlatformRepository extends JpaRepository<Platform, UUID>
 {
+    // read-through cached: order, listing and credential writes only need the platform as an association target,
+    // so a detached copy is enough; misses are not cached so a newly created platform is visible immediately
+    @Override
+    @Cacheable(cacheNames = CacheConfig.PLATFORMS, key = "#p0", unless = "#result == null")
+    Optional<Platform> findById(UUID id);
+    
+    // bypasses the cache so updates mutate a managed instance rather than the shared cached copy
+    @Query("SELECT p FROM Platform p WHERE p.id = :id")
+    Optional<Platform> findManagedById(@Param("id") UUID id);
     
     List<Platform> findByPlatformType(String platformType);
     
     Platform findByName(String name);
+    
+    // resolve upper-cased marketplace codes against platform name or type in one query (batch import)
+    @Query("SELECT p FROM Platform p WHERE UPPER(p.name) IN :codes OR UPPER(p.platformType) IN :codes")
+    List<Platform> findByCodes(@Param("codes") Collection<String> codes);
+    
+    // distinct upper-cased platform names, used as partition keys by the order import job; the connector filters
+    // orders by marketplace code and findByCodes resolves it by name first, so types (e.g. MARKETPLACE) would match nothing
+    @Query("SELECT DISTINCT UPPER(p.name) FROM Platform p ORDER BY UPPER(p.name)")
+    List<String> findDistinctPlatformCodes();
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package dev.fincke.hopper.platform.platform;
 
+import dev.fincke.hopper.config.CacheConfig;
 import dev.fincke.hopper.platform.platform.dto.PlatformCreateRequest;
 import dev.fincke.hopper.platform.platform.dto.PlatformResponse;
 import dev.fincke.hopper.platform.platform.dto.PlatformUpdateRequest;
@@ -9,6 +10,7 @@ import dev.fincke.hopper.platform.platform.exception.PlatformDeletionNotAllowedE
 import dev.fincke.hopper.catalog.listing.ListingRepository;
 import dev.fincke.hopper.platform.credential.PlatformCredentialRepository;
 import dev.fincke.hopper.order.order.OrderRepository;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -67,9 +69,10 @@ public class PlatformServiceImpl implements PlatformService
     
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PLATFORMS, key = "#p0")
     public PlatformResponse updatePlatform(UUID id, PlatformUpdateRequest request) 
     {
-        Platform platform = platformRepository.findById(id)
+        Platform platform = platformRepository.findManagedById(id)
             .orElseThrow(() -> new PlatformNotFoundException(id));
         
         if (!request.hasUpdates()) 
@@ -115,6 +118,7 @@ public class PlatformServiceImpl implements PlatformService
     
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PLATFORMS, key = "#p0")
     public void deletePlatform(UUID id) 
     {
         if (!platformRepository.existsById(id)) 
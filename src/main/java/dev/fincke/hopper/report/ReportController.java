@@ -0,0 +1,71 @@
+package dev.fincke.hopper.report;
+
+import dev.fincke.hopper.report.dto.AggregateReport;
+import dev.fincke.hopper.report.dto.FeeSummaryRow;
+import dev.fincke.hopper.report.dto.PlatformMetricsRow;
+import dev.fincke.hopper.report.dto.ReportQuery;
+import dev.fincke.hopper.report.dto.RevenueSummaryRow;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+// REST controller for aggregate reports (fees and revenue summarized in SQL for dashboards)
+@RestController
+@RequestMapping("/api/reports")
+public class ReportController
+{
+
+    // * Dependencies
+
+    private final ReportService reportService;
+
+    // * Constructor
+
+    public ReportController(ReportService reportService)
+    {
+        this.reportService = reportService;
+    }
+
+    // * API Endpoints
+
+    // GET /api/reports/fees?groupBy=platform,feeType,status,day|month&from=&to= - fee count, total and average
+    @GetMapping("/fees")
+    public AggregateReport<FeeSummaryRow> fees(
+        @RequestParam(required = false) List<String> groupBy,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+        @RequestParam(required = false) UUID platformId,
+        @RequestParam(required = false) String status)
+    {
+        return reportService.summarizeFees(ReportQuery.of(groupBy, from, to, platformId, status));
+    }
+
+    // GET /api/reports/revenue?groupBy=platform,status,day|month&from=&to= - orders, units and item revenue
+    @GetMapping("/revenue")
+    public AggregateReport<RevenueSummaryRow> revenue(
+        @RequestParam(required = false) List<String> groupBy,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+        @RequestParam(required = false) UUID platformId,
+        @RequestParam(required = false) String status)
+    {
+        return reportService.summarizeRevenue(ReportQuery.of(groupBy, from, to, platformId, status));
+    }
+
+    // GET /api/reports/daily-metrics?groupBy=platform,day|month&from=&to= - dashboard figures from the daily rollup
+    @GetMapping("/daily-metrics")
+    public AggregateReport<PlatformMetricsRow> dailyMetrics(
+        @RequestParam(required = false) List<String> groupBy,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+        @RequestParam(required = false) UUID platformId)
+    {
+        return reportService.summarizeDailyMetrics(ReportQuery.of(groupBy, from, to, platformId, null));
+    }
+}
@@ -0,0 +1,45 @@
+package dev.fincke.hopper.report;
+
+import dev.fincke.hopper.report.exception.InvalidReportQueryException;
+
+// Columns an aggregate report can be grouped by; DAY and MONTH are period buckets and are mutually exclusive
+public enum ReportDimension
+{
+    PLATFORM("platform"),
+    FEE_TYPE("feeType"),
+    STATUS("status"),
+    DAY("day"),
+    MONTH("month");
+
+    // Name used in the groupBy request parameter
+    private final String parameter;
+
+    ReportDimension(String parameter)
+    {
+        this.parameter = parameter;
+    }
+
+    public String getParameter()
+    {
+        return parameter;
+    }
+
+    public boolean isPeriod()
+    {
+        return this == DAY || this == MONTH;
+    }
+
+    // Accepts the camelCase parameter name or the enum constant, case-insensitively
+    public static ReportDimension fromParameter(String value)
+    {
+        String trimmed = value.trim();
+        for (ReportDimension dimension : values())
+        {
+            if (dimension.parameter.equalsIgnoreCase(trimmed) || dimension.name().equalsIgnoreCase(trimmed))
+            {
+                return dimension;
+            }
+        }
+        throw new InvalidReportQueryException("Unknown groupBy dimension: '" + trimmed + "'");
+    }
+}
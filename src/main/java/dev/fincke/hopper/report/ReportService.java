@@ -0,0 +1,21 @@
+package dev.fincke.hopper.report;
+
+import dev.fincke.hopper.report.dto.AggregateReport;
+import dev.fincke.hopper.report.dto.FeeSummaryRow;
+import dev.fincke.hopper.report.dto.PlatformMetricsRow;
+import dev.fincke.hopper.report.dto.ReportQuery;
+import dev.fincke.hopper.report.dto.RevenueSummaryRow;
+
+// Service interface for aggregate reporting; every figure is computed by the database, not by loading entities
+public interface ReportService
+{
+
+    // SUM/COUNT/AVG of platform fees grouped by any of platform, fee type, order status and day or month
+    AggregateReport<FeeSummaryRow> summarizeFees(ReportQuery query);
+
+    // order count, units and item revenue grouped by any of platform, order status and day or month
+    AggregateReport<RevenueSummaryRow> summarizeRevenue(ReportQuery query);
+
+    // orders, revenue and fees from the daily rollup; cost grows with days in range, not orders
+    AggregateReport<PlatformMetricsRow> summarizeDailyMetrics(ReportQuery query);
+}
@@ -0,0 +1,283 @@
+package dev.fincke.hopper.report;
+
+import dev.fincke.hopper.report.dto.AggregateReport;
+import dev.fincke.hopper.report.dto.FeeSummaryRow;
+import dev.fincke.hopper.report.dto.PlatformMetricsRow;
+import dev.fincke.hopper.report.dto.ReportQuery;
+import dev.fincke.hopper.report.dto.RevenueSummaryRow;
+import dev.fincke.hopper.report.exception.InvalidReportQueryException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+// Builds one GROUP BY statement per report from a fixed set of column fragments, so the database returns a handful
+// of summary rows instead of the application loading and summing every fee or order item.
+// Only enum-selected fragments are concatenated into the SQL; every user-supplied value is a bind parameter.
+@Service
+@Transactional(readOnly = true)
+public class ReportServiceImpl implements ReportService
+{
+    private static final String FEE_AGGREGATES =
+        "COUNT(f.id) AS fee_count, COALESCE(SUM(f.amount), 0) AS total_amount, AVG(f.amount) AS average_amount";
+
+    private static final String FEE_FROM =
+        " FROM platform_fees f JOIN orders o ON o.id = f.order_id";
+
+    // LEFT JOIN so orders without items still count toward order_count
+    private static final String REVENUE_AGGREGATES =
+        "COUNT(DISTINCT o.id) AS order_count, COALESCE(SUM(i.quantity), 0) AS units_sold, " +
+        "COALESCE(SUM(i.price * i.quantity), 0) AS revenue";
+
+    private static final String REVENUE_FROM =
+        " FROM orders o LEFT JOIN order_items i ON i.order_id = o.id";
+
+    private static final String PLATFORM_JOIN = " JOIN platforms p ON p.id = o.platform_id";
+
+    private static final String ROLLUP_AGGREGATES =
+        "COALESCE(SUM(m.order_count), 0) AS order_count, COALESCE(SUM(m.units_sold), 0) AS units_sold, " +
+        "COALESCE(SUM(m.revenue), 0) AS revenue, COALESCE(SUM(m.fee_count), 0) AS fee_count, " +
+        "COALESCE(SUM(m.fee_total), 0) AS fee_total";
+
+    // * Dependencies
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    // * Constructors
+    public ReportServiceImpl(NamedParameterJdbcTemplate jdbcTemplate)
+    {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // * Reports
+
+    @Override
+    public AggregateReport<FeeSummaryRow> summarizeFees(ReportQuery query)
+    {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        String sql = buildSql(query, FEE_AGGREGATES, FEE_FROM, params);
+        List<FeeSummaryRow> rows = jdbcTemplate.query(sql, params, (rs, rowNum) -> new FeeSummaryRow(
+            query.groupsBy(ReportDimension.PLATFORM) ? rs.getObject("platform_id", UUID.class) : null,
+            query.groupsBy(ReportDimension.PLATFORM) ? rs.getString("platform_name") : null,
+            query.groupsBy(ReportDimension.FEE_TYPE) ? rs.getString("fee_type") : null,
+            query.groupsBy(ReportDimension.STATUS) ? rs.getString("status") : null,
+            readPeriod(rs, query),
+            rs.getLong("fee_count"),
+            money(rs.getBigDecimal("total_amount")),
+            money(rs.getBigDecimal("average_amount"))));
+        return AggregateReport.of(query, rows);
+    }
+
+    @Override
+    public AggregateReport<RevenueSummaryRow> summarizeRevenue(ReportQuery query)
+    {
+        if (query.groupsBy(ReportDimension.FEE_TYPE))
+        {
+            throw new InvalidReportQueryException("Revenue reports cannot be grouped by feeType");
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        String sql = buildSql(query, REVENUE_AGGREGATES, REVENUE_FROM, params);
+        List<RevenueSummaryRow> rows = jdbcTemplate.query(sql, params, (rs, rowNum) ->
+        {
+            long orderCount = rs.getLong("order_count");
+            BigDecimal revenue = money(rs.getBigDecimal("revenue"));
+            return new RevenueSummaryRow(
+                query.groupsBy(ReportDimension.PLATFORM) ? rs.getObject("platform_id", UUID.class) : null,
+                query.groupsBy(ReportDimension.PLATFORM) ? rs.getString("platform_name") : null,
+                query.groupsBy(ReportDimension.STATUS) ? rs.getString("status") : null,
+                readPeriod(rs, query),
+                orderCount,
+                rs.getLong("units_sold"),
+                revenue,
+                orderCount == 0 ? null : revenue.divide(BigDecimal.valueOf(orderCount), 2, RoundingMode.HALF_UP));
+        });
+        return AggregateReport.of(query, rows);
+    }
+
+    @Override
+    public AggregateReport<PlatformMetricsRow> summarizeDailyMetrics(ReportQuery query)
+    {
+        if (query.groupsBy(ReportDimension.FEE_TYPE) || query.groupsBy(ReportDimension.STATUS) || query.status() != null)
+        {
+            throw new InvalidReportQueryException("Daily metrics are kept per platform and day only");
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        List<PlatformMetricsRow> rows = jdbcTemplate.query(buildRollupSql(query, params), params, (rs, rowNum) ->
+            new PlatformMetricsRow(
+                query.groupsBy(ReportDimension.PLATFORM) ? rs.getObject("platform_id", UUID.class) : null,
+                query.groupsBy(ReportDimension.PLATFORM) ? rs.getString("platform_name") : null,
+                readPeriod(rs, query),
+                rs.getLong("order_count"),
+                rs.getLong("units_sold"),
+                money(rs.getBigDecimal("revenue")),
+                rs.getLong("fee_count"),
+                money(rs.getBigDecimal("fee_total"))));
+        return AggregateReport.of(query, rows);
+    }
+
+    // * Private Helper Methods
+
+    private static String buildSql(ReportQuery query, String aggregates, String from, MapSqlParameterSource params)
+    {
+        List<String> selects = new ArrayList<>();
+        List<String> groups = new ArrayList<>();
+        for (ReportDimension dimension : query.groupBy())
+        {
+            switch (dimension)
+            {
+                case PLATFORM ->
+                {
+                    selects.add("p.id AS platform_id, p.name AS platform_name");
+                    groups.add("p.id, p.name");
+                }
+                case FEE_TYPE ->
+                {
+                    selects.add("f.fee_type AS fee_type");
+                    groups.add("f.fee_type");
+                }
+                case STATUS ->
+                {
+                    selects.add("o.status AS status");
+                    groups.add("o.status");
+                }
+                case DAY ->
+                {
+                    selects.add("CAST(o.order_date AS DATE) AS period");
+                    groups.add("CAST(o.order_date AS DATE)");
+                }
+                case MONTH ->
+                {
+                    selects.add("EXTRACT(YEAR FROM o.order_date) AS period_year, " +
+                        "EXTRACT(MONTH FROM o.order_date) AS period_month");
+                    groups.add("EXTRACT(YEAR FROM o.order_date), EXTRACT(MONTH FROM o.order_date)");
+                }
+            }
+        }
+        selects.add(aggregates);
+
+        StringBuilder sql = new StringBuilder("SELECT ").append(String.join(", ", selects)).append(from);
+        if (query.groupsBy(ReportDimension.PLATFORM))
+        {
+            sql.append(PLATFORM_JOIN);
+        }
+
+        // Half-open window on the raw column so idx_orders_order_date / idx_orders_status_date stay usable
+        List<String> predicates = new ArrayList<>();
+        if (query.from() != null)
+        {
+            predicates.add("o.order_date >= :fromDate");
+            params.addValue("fromDate", Timestamp.valueOf(query.from().atStartOfDay()));
+        }
+        if (query.to() != null)
+        {
+            predicates.add("o.order_date < :toDate");
+            params.addValue("toDate", Timestamp.valueOf(query.to().plusDays(1).atStartOfDay()));
+        }
+        if (query.platformId() != null)
+        {
+            predicates.add("o.platform_id = :platformId");
+            params.addValue("platformId", query.platformId());
+        }
+        if (query.status() != null)
+        {
+            predicates.add("o.status = :status");
+            params.addValue("status", query.status());
+        }
+        if (!predicates.isEmpty())
+        {
+            sql.append(" WHERE ").append(String.join(" AND ", predicates));
+        }
+        if (!groups.isEmpty())
+        {
+            String grouping = String.join(", ", groups);
+            sql.append(" GROUP BY ").append(grouping).append(" ORDER BY ").append(grouping);
+        }
+        return sql.toString();
+    }
+
+    // Same shape as buildSql but over daily_platform_metrics, whose rows are already one per day and platform
+    private static String buildRollupSql(ReportQuery query, MapSqlParameterSource params)
+    {
+        List<String> selects = new ArrayList<>();
+        List<String> groups = new ArrayList<>();
+        if (query.groupsBy(ReportDimension.PLATFORM))
+        {
+            selects.add("p.id AS platform_id, p.name AS platform_name");
+            groups.add("p.id, p.name");
+        }
+        if (query.groupsBy(ReportDimension.DAY))
+        {
+            selects.add("m.metric_date AS period");
+            groups.add("m.metric_date");
+        }
+        if (query.groupsBy(ReportDimension.MONTH))
+        {
+            selects.add("EXTRACT(YEAR FROM m.metric_date) AS period_year, " +
+                "EXTRACT(MONTH FROM m.metric_date) AS period_month");
+            groups.add("EXTRACT(YEAR FROM m.metric_date), EXTRACT(MONTH FROM m.metric_date)");
+        }
+        selects.add(ROLLUP_AGGREGATES);
+
+        StringBuilder sql = new StringBuilder("SELECT ").append(String.join(", ", selects))
+            .append(" FROM daily_platform_metrics m");
+        if (query.groupsBy(ReportDimension.PLATFORM))
+        {
+            sql.append(" JOIN platforms p ON p.id = m.platform_id");
+        }
+
+        List<String> predicates = new ArrayList<>();
+        if (query.from() != null)
+        {
+            predicates.add("m.metric_date >= :fromDay");
+            params.addValue("fromDay", query.from());
+        }
+        if (query.to() != null)
+        {
+            predicates.add("m.metric_date <= :toDay");
+            params.addValue("toDay", query.to());
+        }
+        if (query.platformId() != null)
+        {
+            predicates.add("m.platform_id = :platformId");
+            params.addValue("platformId", query.platformId());
+        }
+        if (!predicates.isEmpty())
+        {
+            sql.append(" WHERE ").append(String.join(" AND ", predicates));
+        }
+        if (!groups.isEmpty())
+        {
+            String grouping = String.join(", ", groups);
+            sql.append(" GROUP BY ").append(grouping).append(" ORDER BY ").append(grouping);
+        }
+        return sql.toString();
+    }
+
+    // Day buckets come back as a DATE; month buckets as year + month, reported as the first of the month
+    private static LocalDate readPeriod(ResultSet rs, ReportQuery query) throws SQLException
+    {
+        if (query.groupsBy(ReportDimension.DAY))
+        {
+            return rs.getObject("period", LocalDate.class);
+        }
+        if (query.groupsBy(ReportDimension.MONTH))
+        {
+            return LocalDate.of(rs.getInt("period_year"), rs.getInt("period_month"), 1);
+        }
+        return null;
+    }
+
+    private static BigDecimal money(BigDecimal value)
+    {
+        return value == null ? null : value.setScale(2, RoundingMode.HALF_UP);
+    }
+}
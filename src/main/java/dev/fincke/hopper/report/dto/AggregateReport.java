@@ -0,0 +1,30 @@
+package dev.fincke.hopper.report.dto;
+
+import dev.fincke.hopper.report.ReportDimension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// Response envelope for aggregate reports: echoes the grouping and window next to the computed rows
+public record AggregateReport<T>(
+
+    // groupBy parameter names in the order the rows are sorted
+    List<String> groupBy,
+
+    // Inclusive order date window (null when open)
+    LocalDate from,
+    LocalDate to,
+
+    List<T> rows
+
+)
+{
+
+    public static <T> AggregateReport<T> of(ReportQuery query, List<T> rows)
+    {
+        List<String> groupBy = query.groupBy().stream()
+            .map(ReportDimension::getParameter)
+            .toList();
+        return new AggregateReport<>(groupBy, query.from(), query.to(), rows);
+    }
+}
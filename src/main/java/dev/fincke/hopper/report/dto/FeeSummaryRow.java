@@ -0,0 +1,28 @@
+package dev.fincke.hopper.report.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+// One aggregated bucket of platform fees; dimensions that were not grouped by are null and omitted from JSON
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record FeeSummaryRow(
+
+    // Grouping columns
+    UUID platformId,
+    String platformName,
+    String feeType,
+    String status,
+
+    // First day of the day or month bucket
+    LocalDate period,
+
+    // Aggregates
+    long feeCount,
+    BigDecimal totalAmount,
+    BigDecimal averageAmount
+
+)
+{}
@@ -0,0 +1,30 @@
+package dev.fincke.hopper.report.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+// One bucket read from the daily platform rollup; ungrouped dimensions are omitted from JSON
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PlatformMetricsRow(
+
+    // Grouping columns
+    UUID platformId,
+    String platformName,
+
+    // First day of the day or month bucket
+    LocalDate period,
+
+    // Order and item aggregates
+    long orderCount,
+    long unitsSold,
+    BigDecimal revenue,
+
+    // Fee aggregates
+    long feeCount,
+    BigDecimal feeTotal
+
+)
+{}
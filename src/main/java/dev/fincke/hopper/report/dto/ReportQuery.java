@@ -0,0 +1,65 @@
+package dev.fincke.hopper.report.dto;
+
+import dev.fincke.hopper.report.ReportDimension;
+import dev.fincke.hopper.report.exception.InvalidReportQueryException;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+// Grouping and filters for an aggregate report; from/to are inclusive calendar days and either may be open
+public record ReportQuery(
+
+    // Dimensions to group by, in canonical order; empty means one grand-total row
+    Set<ReportDimension> groupBy,
+
+    // Order date window (inclusive, optional)
+    LocalDate from,
+    LocalDate to,
+
+    // Optional filters
+    UUID platformId,
+    String status
+
+)
+{
+
+    // Compact constructor validates the combination once so the SQL builders can trust it
+    public ReportQuery
+    {
+        groupBy = groupBy.isEmpty() ? EnumSet.noneOf(ReportDimension.class) : EnumSet.copyOf(groupBy);
+        if (groupBy.contains(ReportDimension.DAY) && groupBy.contains(ReportDimension.MONTH))
+        {
+            throw new InvalidReportQueryException("Group by either day or month, not both");
+        }
+        if (from != null && to != null && from.isAfter(to))
+        {
+            throw new InvalidReportQueryException("'from' must not be after 'to'");
+        }
+        if (status != null && status.isBlank())
+        {
+            status = null;
+        }
+    }
+
+    // Parses the comma-separated groupBy request parameter
+    public static ReportQuery of(List<String> groupBy, LocalDate from, LocalDate to, UUID platformId, String status)
+    {
+        Set<ReportDimension> dimensions = EnumSet.noneOf(ReportDimension.class);
+        if (groupBy != null)
+        {
+            groupBy.stream()
+                .filter(value -> !value.isBlank())
+                .map(ReportDimension::fromParameter)
+                .forEach(dimensions::add);
+        }
+        return new ReportQuery(dimensions, from, to, platformId, status);
+    }
+
+    public boolean groupsBy(ReportDimension dimension)
+    {
+        return groupBy.contains(dimension);
+    }
+}
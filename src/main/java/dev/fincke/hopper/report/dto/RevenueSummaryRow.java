@@ -0,0 +1,28 @@
+package dev.fincke.hopper.report.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+// One aggregated bucket of order revenue (sum of item price x quantity); ungrouped dimensions are omitted from JSON
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record RevenueSummaryRow(
+
+    // Grouping columns
+    UUID platformId,
+    String platformName,
+    String status,
+
+    // First day of the day or month bucket
+    LocalDate period,
+
+    // Aggregates
+    long orderCount,
+    long unitsSold,
+    BigDecimal revenue,
+    BigDecimal averageOrderValue
+
+)
+{}
@@ -0,0 +1,12 @@
+package dev.fincke.hopper.report.exception;
+
+import dev.fincke.hopper.api.error.BadRequestException;
+
+// Domain exception for report requests with an unknown or contradictory grouping or date window
+public class InvalidReportQueryException extends BadRequestException
+{
+    public InvalidReportQueryException(String message)
+    {
+        super(message);
+    }
+}
@@ -0,0 +1,95 @@
+package dev.fincke.hopper.report.rollup;
+
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.UUID;
+
+// Read-only mapping of the daily rollup; rows are only ever written by DailyPlatformMetricsRecorder and the
+// rebuild job through JDBC so concurrent deltas add in SQL instead of overwriting each other
+@Entity
+@IdClass(DailyPlatformMetricId.class)
+@Table(
+    name = "daily_platform_metrics",
+    indexes = {
+        @Index(name = "idx_daily_platform_metrics_platform_date", columnList = "platform_id, metric_date")
+    }
+)
+public class DailyPlatformMetric
+{
+    // * Attributes
+
+    @Id
+    @Column(name = "metric_date", nullable = false)
+    private LocalDate metricDate;
+
+    @Id
+    @Column(name = "platform_id", nullable = false)
+    private UUID platformId;
+
+    @Column(name = "order_count", nullable = false)
+    private long orderCount;
+
+    @Column(name = "units_sold", nullable = false)
+    private long unitsSold;
+
+    @Column(name = "revenue", nullable = false, precision = 14, scale = 2)
+    private BigDecimal revenue;
+
+    @Column(name = "fee_count", nullable = false)
+    private long feeCount;
+
+    @Column(name = "fee_total", nullable = false, precision = 14, scale = 2)
+    private BigDecimal feeTotal;
+
+    @Column(name = "updated_at", nullable = false)
+    private Timestamp updatedAt;
+
+    // * Constructors
+    protected DailyPlatformMetric()
+    {}
+
+    // * Getters
+
+    public LocalDate getMetricDate()
+    {
+        return metricDate;
+    }
+
+    public UUID getPlatformId()
+    {
+        return platformId;
+    }
+
+    public long getOrderCount()
+    {
+        return orderCount;
+    }
+
+    public long getUnitsSold()
+    {
+        return unitsSold;
+    }
+
+    public BigDecimal getRevenue()
+    {
+        return revenue;
+    }
+
+    public long getFeeCount()
+    {
+        return feeCount;
+    }
+
+    public BigDecimal getFeeTotal()
+    {
+        return feeTotal;
+    }
+
+    public Timestamp getUpdatedAt()
+    {
+        return updatedAt;
+    }
+}
@@ -0,0 +1,46 @@
+package dev.fincke.hopper.report.rollup;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.UUID;
+
+// Composite key of a daily_platform_metrics row
+public class DailyPlatformMetricId implements Serializable
+{
+    private LocalDate metricDate;
+    private UUID platformId;
+
+    protected DailyPlatformMetricId()
+    {}
+
+    public DailyPlatformMetricId(LocalDate metricDate, UUID platformId)
+    {
+        this.metricDate = Objects.requireNonNull(metricDate, "metricDate");
+        this.platformId = Objects.requireNonNull(platformId, "platformId");
+    }
+
+    public LocalDate getMetricDate()
+    {
+        return metricDate;
+    }
+
+    public UUID getPlatformId()
+    {
+        return platformId;
+    }
+
+    @Override
+    public boolean equals(Object o)
+    {
+        if (this == o) return true;
+        if (!(o instanceof DailyPlatformMetricId other)) return false;
+        return metricDate.equals(other.metricDate) && platformId.equals(other.platformId);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(metricDate, platformId);
+    }
+}
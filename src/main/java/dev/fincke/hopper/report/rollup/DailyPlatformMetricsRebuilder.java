@@ -0,0 +1,82 @@
+package dev.fincke.hopper.report.rollup;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Optional;
+
+// Recomputes daily_platform_metrics for a date range from orders, order_items and platform_fees.
+// Used for the initial backfill and to repair drift left by writes that bypass DailyPlatformMetricsRecorder.
+@Component
+public class DailyPlatformMetricsRebuilder
+{
+    private static final String DELETE_SQL =
+        "DELETE FROM daily_platform_metrics WHERE metric_date >= :fromDay AND metric_date <= :toDay";
+
+    // Per-order sums come from correlated subqueries on the order_id indexes, so a range costs its own orders only
+    private static final String INSERT_SQL =
+        "INSERT INTO daily_platform_metrics " +
+        "(metric_date, platform_id, order_count, units_sold, revenue, fee_count, fee_total, updated_at) " +
+        "SELECT p.metric_date, p.platform_id, COUNT(*), COALESCE(SUM(p.units), 0), COALESCE(SUM(p.revenue), 0), " +
+        "COALESCE(SUM(p.fees), 0), COALESCE(SUM(p.fee_total), 0), :now FROM (" +
+        "SELECT CAST(o.order_date AS DATE) AS metric_date, o.platform_id, " +
+        "(SELECT SUM(i.quantity) FROM order_items i WHERE i.order_id = o.id) AS units, " +
+        "(SELECT SUM(i.price * i.quantity) FROM order_items i WHERE i.order_id = o.id) AS revenue, " +
+        "(SELECT COUNT(*) FROM platform_fees f WHERE f.order_id = o.id) AS fees, " +
+        "(SELECT SUM(f.amount) FROM platform_fees f WHERE f.order_id = o.id) AS fee_total " +
+        "FROM orders o WHERE o.order_date >= :fromDate AND o.order_date < :toDate" +
+        ") p GROUP BY p.metric_date, p.platform_id";
+
+    private static final String ORDER_DATE_RANGE_SQL =
+        "SELECT MIN(order_date) AS first_date, MAX(order_date) AS last_date FROM orders";
+
+    // * Dependencies
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    // * Constructors
+    public DailyPlatformMetricsRebuilder(NamedParameterJdbcTemplate jdbcTemplate)
+    {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // * Rebuild
+
+    // Replaces every rollup row in [from, to] (inclusive days) in one transaction; returns rows written
+    @Transactional
+    public int rebuild(LocalDate from, LocalDate to)
+    {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("fromDay", from)
+            .addValue("toDay", to)
+            .addValue("fromDate", Timestamp.valueOf(from.atStartOfDay()))
+            .addValue("toDate", Timestamp.valueOf(to.plusDays(1).atStartOfDay()))
+            .addValue("now", new Timestamp(System.currentTimeMillis()));
+        jdbcTemplate.update(DELETE_SQL, params);
+        return jdbcTemplate.update(INSERT_SQL, params);
+    }
+
+    // First and last order day, or empty when there are no orders; default bounds for a full backfill
+    @Transactional(readOnly = true)
+    public Optional<DateRange> orderDateRange()
+    {
+        return jdbcTemplate.query(ORDER_DATE_RANGE_SQL, Map.of(), rs ->
+        {
+            if (!rs.next() || rs.getTimestamp("first_date") == null)
+            {
+                return Optional.empty();
+            }
+            return Optional.of(new DateRange(
+                rs.getTimestamp("first_date").toLocalDateTime().toLocalDate(),
+                rs.getTimestamp("last_date").toLocalDateTime().toLocalDate()));
+        });
+    }
+
+    // * Nested Types
+    public record DateRange(LocalDate from, LocalDate to)
+    {}
+}
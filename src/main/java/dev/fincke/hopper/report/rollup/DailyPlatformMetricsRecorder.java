@@ -0,0 +1,236 @@
+package dev.fincke.hopper.report.rollup;
+
+import dev.fincke.hopper.order.order.Order;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.UUID;
+
+// Keeps daily_platform_metrics current from the order, order item and fee write paths.
+// Deltas are merged per (day, platform) for the lifetime of the surrounding transaction and applied in beforeCommit,
+// so a busy day's row is locked only for the instant before commit and a rollback never touches the rollup.
+// Writes that bypass these services (bulk imports, manual SQL) are repaired by dailyPlatformMetricsRebuildJob.
+@Component
+public class DailyPlatformMetricsRecorder
+{
+    // Fast path: the day's row almost always exists already
+    private static final String UPDATE_SQL =
+        "UPDATE daily_platform_metrics SET order_count = order_count + :orders, units_sold = units_sold + :units, " +
+        "revenue = revenue + :revenue, fee_count = fee_count + :fees, fee_total = fee_total + :feeTotal, " +
+        "updated_at = :now WHERE metric_date = :metricDate AND platform_id = :platformId";
+
+    // First write of a day; a concurrent first write wins the insert and this one falls back to UPDATE.
+    // Plain INSERT rather than ON CONFLICT so the statement also runs on H2
+    private static final String INSERT_SQL =
+        "INSERT INTO daily_platform_metrics " +
+        "(metric_date, platform_id, order_count, units_sold, revenue, fee_count, fee_total, updated_at) " +
+        "VALUES (:metricDate, :platformId, :orders, :units, :revenue, :fees, :feeTotal, :now)";
+
+    // Everything an order contributes besides itself, for deletes and order date moves
+    private static final String ORDER_CONTENTS_SQL =
+        "SELECT COALESCE((SELECT SUM(i.quantity) FROM order_items i WHERE i.order_id = :orderId), 0) AS units, " +
+        "COALESCE((SELECT SUM(i.price * i.quantity) FROM order_items i WHERE i.order_id = :orderId), 0) AS revenue, " +
+        "(SELECT COUNT(*) FROM platform_fees f WHERE f.order_id = :orderId) AS fees, " +
+        "COALESCE((SELECT SUM(f.amount) FROM platform_fees f WHERE f.order_id = :orderId), 0) AS fee_total";
+
+    // * Dependencies
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    // Runs the first-write INSERT under a savepoint: on Postgres a duplicate key would otherwise abort the
+    // surrounding order transaction
+    private final TransactionTemplate savepoint;
+
+    // * Constructors
+    public DailyPlatformMetricsRecorder(NamedParameterJdbcTemplate jdbcTemplate,
+                                        PlatformTransactionManager transactionManager)
+    {
+        this.jdbcTemplate = jdbcTemplate;
+        this.savepoint = new TransactionTemplate(transactionManager);
+        this.savepoint.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
+    }
+
+    // * Order Events
+
+    public void orderCreated(Order order)
+    {
+        record(order.getOrderDate(), order.getPlatform().getId(), new Delta(1, 0, BigDecimal.ZERO, 0, BigDecimal.ZERO));
+    }
+
+    // Call before the delete: items and fees cascade with the order and must leave the rollup with it
+    public void orderDeleted(Order order)
+    {
+        record(order.getOrderDate(), order.getPlatform().getId(), contentsOf(order.getId()).negate());
+    }
+
+    // Moves the order and everything on it to the bucket of its new order date
+    public void orderDateChanged(Order order, Timestamp previousOrderDate)
+    {
+        if (dayOf(previousOrderDate).equals(dayOf(order.getOrderDate())))
+        {
+            return;
+        }
+        Delta contents = contentsOf(order.getId());
+        record(previousOrderDate, order.getPlatform().getId(), contents.negate());
+        record(order.getOrderDate(), order.getPlatform().getId(), contents);
+    }
+
+    // * Item and Fee Events
+
+    public void itemChanged(Order order, int unitsDelta, BigDecimal revenueDelta)
+    {
+        record(order.getOrderDate(), order.getPlatform().getId(),
+            new Delta(0, unitsDelta, revenueDelta, 0, BigDecimal.ZERO));
+    }
+
+    public void feeChanged(Order order, int feeCountDelta, BigDecimal amountDelta)
+    {
+        record(order.getOrderDate(), order.getPlatform().getId(),
+            new Delta(0, 0, BigDecimal.ZERO, feeCountDelta, amountDelta));
+    }
+
+    // * Private Helper Methods
+
+    private void record(Timestamp orderDate, UUID platformId, Delta delta)
+    {
+        if (delta.isZero())
+        {
+            return;
+        }
+        Bucket bucket = new Bucket(dayOf(orderDate), platformId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive())
+        {
+            apply(Map.of(bucket, delta));
+            return;
+        }
+
+        PendingDeltas pending = (PendingDeltas) TransactionSynchronizationManager.getResource(this);
+        if (pending == null)
+        {
+            pending = new PendingDeltas();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.deltas.merge(bucket, delta, Delta::plus);
+    }
+
+    // Buckets are applied in key order so two transactions touching the same days cannot deadlock
+    private void apply(Map<Bucket, Delta> deltas)
+    {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        new TreeMap<>(deltas).forEach((bucket, delta) ->
+        {
+            if (delta.isZero())
+            {
+                return;
+            }
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("metricDate", bucket.day())
+                .addValue("platformId", bucket.platformId())
+                .addValue("orders", delta.orders())
+                .addValue("units", delta.units())
+                .addValue("revenue", delta.revenue())
+                .addValue("fees", delta.fees())
+                .addValue("feeTotal", delta.feeTotal())
+                .addValue("now", now);
+            if (jdbcTemplate.update(UPDATE_SQL, params) == 0)
+            {
+                insertOrUpdate(params);
+            }
+        });
+    }
+
+    // A concurrent first write of the same bucket committed in between; add to its row instead
+    private void insertOrUpdate(MapSqlParameterSource params)
+    {
+        try
+        {
+            savepoint.executeWithoutResult(status -> jdbcTemplate.update(INSERT_SQL, params));
+        }
+        catch (DuplicateKeyException ex)
+        {
+            jdbcTemplate.update(UPDATE_SQL, params);
+        }
+    }
+
+    private Delta contentsOf(UUID orderId)
+    {
+        return jdbcTemplate.queryForObject(ORDER_CONTENTS_SQL, Map.of("orderId", orderId), (rs, rowNum) ->
+            new Delta(1, rs.getLong("units"), rs.getBigDecimal("revenue"), rs.getLong("fees"),
+                rs.getBigDecimal("fee_total")));
+    }
+
+    // Same day boundary as CAST(order_date AS DATE) on the zone-less order_date column
+    private static LocalDate dayOf(Timestamp orderDate)
+    {
+        return orderDate.toLocalDateTime().toLocalDate();
+    }
+
+    // * Nested Types
+
+    // Deltas recorded by one transaction, flushed just before it commits
+    private final class PendingDeltas implements TransactionSynchronization
+    {
+        private final Map<Bucket, Delta> deltas = new TreeMap<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly)
+        {
+            apply(deltas);
+        }
+
+        @Override
+        public void afterCompletion(int status)
+        {
+            TransactionSynchronizationManager.unbindResourceIfPossible(DailyPlatformMetricsRecorder.this);
+        }
+    }
+
+    private record Bucket(LocalDate day, UUID platformId) implements Comparable<Bucket>
+    {
+        @Override
+        public int compareTo(Bucket other)
+        {
+            int byDay = day.compareTo(other.day);
+            return byDay != 0 ? byDay : platformId.compareTo(other.platformId);
+        }
+    }
+
+    private record Delta(long orders, long units, BigDecimal revenue, long fees, BigDecimal feeTotal)
+    {
+        private Delta
+        {
+            revenue = Objects.requireNonNullElse(revenue, BigDecimal.ZERO);
+            feeTotal = Objects.requireNonNullElse(feeTotal, BigDecimal.ZERO);
+        }
+
+        private Delta plus(Delta other)
+        {
+            return new Delta(orders + other.orders, units + other.units, revenue.add(other.revenue),
+                fees + other.fees, feeTotal.add(other.feeTotal));
+        }
+
+        private Delta negate()
+        {
+            return new Delta(-orders, -units, revenue.negate(), -fees, feeTotal.negate());
+        }
+
+        private boolean isZero()
+        {
+            return orders == 0 && units == 0 && fees == 0
+                && revenue.signum() == 0 && feeTotal.signum() == 0;
+        }
+    }
+}
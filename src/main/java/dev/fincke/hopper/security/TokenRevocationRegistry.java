@@ -0,0 +1,78 @@
+package dev.fincke.hopper.security;
+
+import dev.fincke.hopper.config.JwtProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+// In-memory record of per-user token cut-offs so stateless authentication can honor lockouts without a database read
+// Tokens issued at or before a user's cut-off are rejected; entries expire once every affected token has expired anyway
+@Component
+public class TokenRevocationRegistry
+{
+    // * Attributes
+    
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationRegistry.class);
+    
+    // User ID -> tokens issued at or before this instant are no longer accepted
+    private final Map<UUID, Instant> revokedBefore = new ConcurrentHashMap<>();
+    
+    // JWT configuration used to bound how long an entry must be kept
+    private final JwtProperties jwtProperties;
+    
+    // * Constructor
+    
+    public TokenRevocationRegistry(JwtProperties jwtProperties)
+    {
+        this.jwtProperties = jwtProperties;
+    }
+    
+    // * Revocation Operations
+    
+    // Reject every token issued to the user up to now (lock, disable, role or password change)
+    public void revokeAllTokens(UUID userId)
+    {
+        if (userId == null)
+        {
+            return;
+        }
+        
+        // Tokens carry a millisecond issue time, so a re-login in the same second as the revocation is not caught by it
+        Instant cutoff = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        revokedBefore.merge(userId, cutoff, (existing, candidate) -> candidate.isAfter(existing) ? candidate : existing);
+        logger.debug("Revoked tokens issued to user {} up to {}", userId, cutoff);
+        
+        pruneExpired();
+    }
+    
+    // Check whether a token issued at the given instant has been revoked for the user
+    public boolean isRevoked(UUID userId, Instant issuedAt)
+    {
+        Instant cutoff = revokedBefore.get(userId);
+        if (cutoff == null)
+        {
+            return false;
+        }
+        
+        // Tokens without an issue time cannot be shown to post-date the cut-off
+        return issuedAt == null || !issuedAt.isAfter(cutoff);
+    }
+    
+    // * Helper Methods
+    
+    // Drop cut-offs older than the longest token lifetime; no token they could reject is still valid
+    private void pruneExpired()
+    {
+        long maxLifetimeMs = Math.max(jwtProperties.getRememberMeExpirationMs(),
+            Math.max(jwtProperties.getAccessTokenExpirationMs(), jwtProperties.getRefreshTokenExpirationMs()));
+        Instant horizon = Instant.now().minusMillis(maxLifetimeMs);
+        
+        revokedBefore.values().removeIf(cutoff -> cutoff.isBefore(horizon));
+    }
+}
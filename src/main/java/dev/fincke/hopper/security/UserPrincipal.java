@@ -13,14 +13,23 @@ import java.util.UUID;
 import java.util.stream.Collectors;
 
 // Spring Security UserDetails implementation wrapping our User entity
+// Can also be rebuilt from access-token claims, in which case no entity is attached
 public class UserPrincipal implements UserDetails
 {
     // * Attributes
     
-    // User entity wrapped by this principal
+    // User entity wrapped by this principal (null for token-backed principals)
     private final User user;
     
-    // * Constructor
+    // Snapshot of the identity and account state used for authorization decisions
+    private final UUID id;
+    private final String username;
+    private final String email;
+    private final Set<RoleType> roles;
+    private final boolean enabled;
+    private final boolean accountLocked;
+    
+    // * Constructors
     
     // Constructor that wraps a User entity for Spring Security
     public UserPrincipal(User user)
@@ -30,6 +39,30 @@ public class UserPrincipal implements UserDetails
             throw new IllegalArgumentException("User cannot be null");
         }
         this.user = user;
+        this.id = user.getId();
+        this.username = user.getUsername();
+        this.email = user.getEmail();
+        this.roles = user.getRoles().stream()
+            .map(Role::getName)
+            .collect(Collectors.toUnmodifiableSet());
+        this.enabled = user.isEnabled();
+        this.accountLocked = user.isAccountLocked();
+    }
+    
+    // Constructor for principals rebuilt from verified token claims
+    private UserPrincipal(UUID id, String username, String email, Set<RoleType> roles, boolean enabled, boolean accountLocked)
+    {
+        if (id == null)
+        {
+            throw new IllegalArgumentException("User ID cannot be null");
+        }
+        this.user = null;
+        this.id = id;
+        this.username = username;
+        this.email = email;
+        this.roles = roles == null ? Set.of() : Set.copyOf(roles);
+        this.enabled = enabled;
+        this.accountLocked = accountLocked;
     }
     
     // * UserDetails Implementation
@@ -39,23 +72,23 @@ public class UserPrincipal implements UserDetails
     public Collection<? extends GrantedAuthority> getAuthorities()
     {
         // Convert roles to Spring Security authorities with ROLE_ prefix
-        return user.getRoles().stream()
-            .map(role -> new SimpleGrantedAuthority("ROLE_" + role.getName().name()))
+        return roles.stream()
+            .map(role -> new SimpleGrantedAuthority("ROLE_" + role.name()))
             .collect(Collectors.toSet());
     }
     
-    // Get user password for authentication (Spring Security requirement)
+    // Get user password for authentication (Spring Security requirement); token-backed principals carry none
     @Override
     public String getPassword()
     {
-        return user.getPassword();
+        return user != null ? user.getPassword() : null;
     }
     
     // Get username for authentication (Spring Security requirement)
     @Override
     public String getUsername()
     {
-        return user.getUsername();
+        return username;
     }
     
     // Check if account is not expired (Spring Security requirement)
@@ -70,7 +103,7 @@ public class UserPrincipal implements UserDetails
     @Override
     public boolean isAccountNonLocked()
     {
-        return !user.isAccountLocked();
+        return !accountLocked;
     }
     
     // Check if credentials are not expired (Spring Security requirement)
@@ -85,7 +118,7 @@ public class UserPrincipal implements UserDetails
     @Override
     public boolean isEnabled()
     {
-        return user.isEnabled();
+        return enabled;
     }
     
     // * Additional User Information Methods
@@ -93,39 +126,37 @@ public class UserPrincipal implements UserDetails
     // Get user ID
     public UUID getId()
     {
-        return user.getId();
+        return id;
     }
     
     // Get user email
     public String getEmail()
     {
-        return user.getEmail();
+        return email;
     }
     
     // Get user roles as RoleType enum set
     public Set<RoleType> getRoles()
     {
-        return user.getRoles().stream()
-            .map(Role::getName)
-            .collect(Collectors.toSet());
+        return roles;
     }
     
-    // Get failed login attempts count
+    // Get failed login attempts count (not carried in tokens, so zero for token-backed principals)
     public int getFailedLoginAttempts()
     {
-        return user.getFailedLoginAttempts();
+        return user != null ? user.getFailedLoginAttempts() : 0;
     }
     
     // Check if user has specific role
     public boolean hasRole(RoleType roleType)
     {
-        return user.hasRole(roleType);
+        return roles.contains(roleType);
     }
     
     // Check if user has admin privileges
     public boolean isAdmin()
     {
-        return user.isAdmin();
+        return hasRole(RoleType.ADMIN);
     }
     
     // Check if user has authority with given name
@@ -137,12 +168,18 @@ public class UserPrincipal implements UserDetails
     
     // * Access to Wrapped Entity
     
-    // Get the wrapped User entity (use cautiously to avoid tight coupling)
+    // Get the wrapped User entity (use cautiously to avoid tight coupling); null for token-backed principals
     public User getUser()
     {
         return user;
     }
     
+    // Whether this principal was built from token claims without loading the user
+    public boolean isTokenBacked()
+    {
+        return user == null;
+    }
+    
     // * Factory Methods
     
     // Create UserPrincipal from User entity
@@ -151,6 +188,17 @@ public class UserPrincipal implements UserDetails
         return new UserPrincipal(user);
     }
     
+    // Create UserPrincipal from verified access-token claims (no database access)
+    public static UserPrincipal fromClaims(UUID id,
+                                           String username,
+                                           String email,
+                                           Set<RoleType> roles,
+                                           boolean enabled,
+                                           boolean accountLocked)
+    {
+        return new UserPrincipal(id, username, email, roles, enabled, accountLocked);
+    }
+    
     // * Object Overrides
     
     @Override
@@ -158,26 +206,26 @@ public class UserPrincipal implements UserDetails
     {
         if (this == o) return true;
         if (!(o instanceof UserPrincipal other)) return false;
-        // Two principals are equal if they wrap the same user (by ID)
-        return user.getId() != null && user.getId().equals(other.user.getId());
+        // Two principals are equal if they represent the same user (by ID)
+        return id != null && id.equals(other.id);
     }
     
     @Override
     public int hashCode()
     {
         // Use user ID for hash code consistency with User entity
-        return user.getId() != null ? user.getId().hashCode() : 0;
+        return id != null ? id.hashCode() : 0;
     }
     
     @Override
     public String toString()
     {
         return "UserPrincipal{" +
-                "username='" + user.getUsername() + '\'' +
-                ", id=" + user.getId() +
-                ", enabled=" + user.isEnabled() +
-                ", accountLocked=" + user.isAccountLocked() +
-                ", roles=" + getRoles() +
+                "username='" + username + '\'' +
+                ", id=" + id +
+                ", enabled=" + enabled +
+                ", accountLocked=" + accountLocked +
+                ", roles=" + roles +
                 '}';
     }
 }
\ No newline at end of file
@@ -0,0 +1,108 @@
+package dev.fincke.hopper.security.encryption;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+// JDBC access to wrapped data-encryption keys used by envelope mode
+// Plain JDBC keeps lookups safe from inside JPA entity listeners, where repository calls would re-enter the flush
+@Component
+public class CredentialDataKeyStore 
+{
+    // * Attributes
+    
+    private static final String SELECT_COLUMNS =
+        "SELECT key_id, encryption_version, wrapped_key, kek_salt FROM credential_data_keys";
+    
+    private static final RowMapper<StoredDataKey> ROW_MAPPER = (rs, rowNum) -> new StoredDataKey(
+        rs.getString("key_id"),
+        rs.getString("encryption_version"),
+        rs.getString("wrapped_key"),
+        rs.getString("kek_salt")
+    );
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    // New keys commit independently so a rolled-back credential write never orphans ciphertext from its key
+    private final TransactionTemplate requiresNew;
+    
+    // * Constructor
+    
+    public CredentialDataKeyStore(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) 
+    {
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+    
+    // * Queries
+    
+    public Optional<StoredDataKey> findByVersion(String encryptionVersion) 
+    {
+        return jdbcTemplate.query(SELECT_COLUMNS + " WHERE encryption_version = ?", ROW_MAPPER, encryptionVersion)
+            .stream()
+            .findFirst();
+    }
+    
+    public Optional<StoredDataKey> findByKeyId(String keyId) 
+    {
+        return jdbcTemplate.query(SELECT_COLUMNS + " WHERE key_id = ?", ROW_MAPPER, keyId)
+            .stream()
+            .findFirst();
+    }
+    
+    public List<StoredDataKey> findAll() 
+    {
+        return jdbcTemplate.query(SELECT_COLUMNS, ROW_MAPPER);
+    }
+    
+    // * Commands
+    
+    // Returns false when another node created the key for this version first
+    public boolean insert(StoredDataKey dataKey) 
+    {
+        try 
+        {
+            requiresNew.executeWithoutResult(status -> jdbcTemplate.update(
+                "INSERT INTO credential_data_keys (key_id, encryption_version, wrapped_key, kek_salt, created_at) " +
+                "VALUES (?, ?, ?, ?, ?)",
+                dataKey.keyId(),
+                dataKey.encryptionVersion(),
+                dataKey.wrappedKey(),
+                dataKey.kekSalt(),
+                Timestamp.valueOf(LocalDateTime.now())
+            ));
+            return true;
+        } 
+        catch (DuplicateKeyException e) 
+        {
+            return false;
+        }
+    }
+    
+    // Replace the wrapping of an existing key after master key rotation
+    public void updateWrapping(String keyId, String wrappedKey, String kekSalt) 
+    {
+        jdbcTemplate.update(
+            "UPDATE credential_data_keys SET wrapped_key = ?, kek_salt = ?, rewrapped_at = ? WHERE key_id = ?",
+            wrappedKey,
+            kekSalt,
+            Timestamp.valueOf(LocalDateTime.now()),
+            keyId
+        );
+    }
+    
+    // * Nested Types
+    
+    // Persisted form of a data key; the raw key never leaves memory unwrapped
+    public record StoredDataKey(String keyId, String encryptionVersion, String wrappedKey, String kekSalt) {}
+}
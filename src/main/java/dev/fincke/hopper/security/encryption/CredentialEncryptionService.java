@@ -1,5 +1,7 @@
 package dev.fincke.hopper.security.encryption;
 
+import java.time.LocalDateTime;
+
 // Abstraction that keeps the rest of the application unaware of how credentials are encrypted
 public interface CredentialEncryptionService 
 {
@@ -29,4 +31,10 @@ public interface CredentialEncryptionService
     
     // Let callers short-circuit when master key material is missing or invalid
     boolean isMasterKeyConfigured();
+    
+    // Credentials encrypted before this instant fail the age policy; lets callers push the filter into SQL
+    LocalDateTime getRotationCutoff();
+    
+    // Whether salted per-credential ciphertext should migrate to the shared data key
+    boolean isEnvelopeMode();
 }
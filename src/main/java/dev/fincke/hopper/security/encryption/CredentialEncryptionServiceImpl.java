@@ -2,6 +2,7 @@ package dev.fincke.hopper.security.encryption;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.Cipher;
@@ -13,6 +14,7 @@ import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
 import java.security.SecureRandom;
 import java.security.spec.KeySpec;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.UUID;
 
@@ -35,12 +37,22 @@ public class CredentialEncryptionServiceImpl implements CredentialEncryptionServ
     private final EncryptionProperties encryptionProperties;
     private final SecureRandom secureRandom;
     
+    // Derived keys keyed by salt and version so repeat decrypts skip PBKDF2
+    private final DerivedKeyCache derivedKeyCache;
+    
     // * Constructor
     
     public CredentialEncryptionServiceImpl(EncryptionProperties encryptionProperties) 
+    {
+        this(encryptionProperties, new DerivedKeyCache(encryptionProperties));
+    }
+    
+    @Autowired
+    public CredentialEncryptionServiceImpl(EncryptionProperties encryptionProperties, DerivedKeyCache derivedKeyCache) 
     {
         this.encryptionProperties = encryptionProperties;
         this.secureRandom = new SecureRandom();
+        this.derivedKeyCache = derivedKeyCache;
         
         // Fail fast in logs if the required master key is missing
         if (!isMasterKeyConfigured()) 
@@ -70,7 +82,7 @@ public class CredentialEncryptionServiceImpl implements CredentialEncryptionServ
             byte[] salt = generateSalt();
             
             // Derive a symmetric key from the master key plus salt
-            SecretKey encryptionKey = deriveKey(salt);
+            SecretKey encryptionKey = deriveKey(salt, encryptionProperties.getEncryptionVersion());
             
             // Fresh IV keeps AES-GCM semantic security guarantees intact
             byte[] iv = generateIV();
@@ -115,6 +127,12 @@ public class CredentialEncryptionServiceImpl implements CredentialEncryptionServ
             throw new IllegalArgumentException("Invalid encrypted credential");
         }
         
+        // Envelope ciphertexts need their data key, which only envelope mode can resolve
+        if (encryptedCredential.isEnvelope()) 
+        {
+            throw new CredentialDecryptionException("Envelope-encrypted credential requires app.encryption.mode=envelope");
+        }
+        
         if (!isMasterKeyConfigured()) 
         {
             throw new KeyManagementException("Master key not configured for decryption");
@@ -123,7 +141,7 @@ public class CredentialEncryptionServiceImpl implements CredentialEncryptionServ
         try 
         {
             // Recreate the symmetric key using the stored salt plus master key
-            SecretKey decryptionKey = deriveKey(encryptedCredential.getSaltBytes());
+            SecretKey decryptionKey = deriveKey(encryptedCredential.getSaltBytes(), encryptedCredential.encryptionVersion());
             
             // Separate the prepended IV so AES-GCM can be initialized correctly
             byte[] combined = encryptedCredential.getEncryptedBytes();
@@ -232,6 +250,18 @@ public class CredentialEncryptionServiceImpl implements CredentialEncryptionServ
         return masterKey != null && !masterKey.trim().isEmpty() && masterKey.length() >= 32;
     }
     
+    @Override
+    public LocalDateTime getRotationCutoff() 
+    {
+        return LocalDateTime.now().minusDays(encryptionProperties.getMaxCredentialAge());
+    }
+    
+    @Override
+    public boolean isEnvelopeMode() 
+    {
+        return false;
+    }
+    
     // * Private Helper Methods
     
     // Provide entropy so each credential derives a distinct encryption key
@@ -250,22 +280,36 @@ public class CredentialEncryptionServiceImpl implements CredentialEncryptionServ
         return iv;
     }
     
-    // Use PBKDF2 so brute-force attempts against the master key are slowed dramatically
-    private SecretKey deriveKey(byte[] salt) throws Exception 
+    // Serve the derived key from cache when possible; a changed master key invalidates every entry
+    private SecretKey deriveKey(byte[] salt, String encryptionVersion) throws Exception 
     {
         String masterKey = encryptionProperties.getEffectiveMasterKey();
+        byte[] keyBytes = derivedKeyCache.get(masterKey, encryptionVersion, salt, 
+            s -> deriveKeyBytes(masterKey, s, encryptionProperties.getKeyDerivationIterations()));
         
+        try 
+        {
+            return new SecretKeySpec(keyBytes, ALGORITHM);
+        } 
+        finally 
+        {
+            // SecretKeySpec keeps its own copy
+            Arrays.fill(keyBytes, (byte) 0);
+        }
+    }
+    
+    // Use PBKDF2 so brute-force attempts against the master key are slowed dramatically
+    static byte[] deriveKeyBytes(String masterKey, byte[] salt, int iterations) throws Exception 
+    {
         KeySpec spec = new PBEKeySpec(
             masterKey.toCharArray(), 
             salt, 
-            encryptionProperties.getKeyDerivationIterations(), 
+            iterations, 
             AES_KEY_LENGTH
         );
         
         SecretKeyFactory factory = SecretKeyFactory.getInstance(KEY_DERIVATION_ALGORITHM);
-        byte[] keyBytes = factory.generateSecret(spec).getEncoded();
-        
-        return new SecretKeySpec(keyBytes, ALGORITHM);
+        return factory.generateSecret(spec).getEncoded();
     }
     
     // Key identifier lets us correlate stored ciphertext with rotation events
@@ -0,0 +1,235 @@
+package dev.fincke.hopper.security.encryption;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// Bounded, time-limited cache of PBKDF2-derived key bytes so repeat decrypts skip key derivation
+@Component
+public class DerivedKeyCache implements MeterBinder
+{
+    // * Attributes
+    
+    private final EncryptionProperties encryptionProperties;
+    
+    // Access-ordered map gives LRU eviction once the configured bound is reached
+    private final LinkedHashMap<String, CachedKey> entries = new LinkedHashMap<>(16, 0.75f, true);
+    
+    // Fingerprint of the master key the cached entries were derived from
+    private String masterKeyFingerprint;
+    
+    // Counters feed the Micrometer hit ratio and derivation timer
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder derivationNanos = new LongAdder();
+    
+    // * Constructor
+    
+    public DerivedKeyCache(EncryptionProperties encryptionProperties)
+    {
+        this.encryptionProperties = encryptionProperties;
+    }
+    
+    // * Cache Operations
+    
+    // Return key bytes for the salt/version pair, deriving and caching them on a miss
+    public byte[] get(String masterKey, String encryptionVersion, byte[] salt, KeyDeriver deriver) throws Exception
+    {
+        int maxEntries = encryptionProperties.getKeyCacheMaxEntries();
+        if (maxEntries <= 0)
+        {
+            return derive(deriver, salt);
+        }
+        
+        String cacheKey = encryptionVersion + "|" + encryptionProperties.getKeyDerivationIterations()
+            + "|" + Base64.getEncoder().encodeToString(salt);
+        String fingerprint = fingerprint(masterKey);
+        long now = System.nanoTime();
+        
+        synchronized (this)
+        {
+            // Master key rotated: nothing derived from the old key may be served again
+            if (!fingerprint.equals(masterKeyFingerprint))
+            {
+                clearLocked();
+                masterKeyFingerprint = fingerprint;
+            }
+            
+            CachedKey cached = entries.get(cacheKey);
+            if (cached != null && cached.expiresAtNanos - now > 0)
+            {
+                hits.increment();
+                return cached.keyBytes.clone();
+            }
+            if (cached != null)
+            {
+                entries.remove(cacheKey);
+                cached.wipe();
+            }
+        }
+        
+        // Derive outside the lock so concurrent misses on different salts run in parallel
+        byte[] keyBytes = derive(deriver, salt);
+        long ttlNanos = TimeUnit.SECONDS.toNanos(Math.max(1, encryptionProperties.getKeyCacheTtlSeconds()));
+        
+        synchronized (this)
+        {
+            // Skip caching if the master key rotated while deriving
+            if (fingerprint.equals(masterKeyFingerprint))
+            {
+                CachedKey previous = entries.put(cacheKey, new CachedKey(keyBytes.clone(), System.nanoTime() + ttlNanos));
+                if (previous != null)
+                {
+                    previous.wipe();
+                }
+                evictOverflowLocked(maxEntries);
+            }
+        }
+        return keyBytes;
+    }
+    
+    // Drop and zero every cached key, e.g. after an operator-initiated master key rotation
+    public synchronized void clear()
+    {
+        clearLocked();
+        masterKeyFingerprint = null;
+    }
+    
+    public synchronized int size()
+    {
+        return entries.size();
+    }
+    
+    public long getHitCount()
+    {
+        return hits.sum();
+    }
+    
+    public long getMissCount()
+    {
+        return misses.sum();
+    }
+    
+    // Share of lookups served without running PBKDF2
+    public double getHitRatio()
+    {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+    
+    // * Metrics
+    
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry)
+    {
+        FunctionCounter.builder("hopper.encryption.key.cache.requests", hits, LongAdder::sum)
+            .tag("result", "hit")
+            .description("Derived key lookups served from cache")
+            .register(registry);
+        FunctionCounter.builder("hopper.encryption.key.cache.requests", misses, LongAdder::sum)
+            .tag("result", "miss")
+            .description("Derived key lookups that ran key derivation")
+            .register(registry);
+        Gauge.builder("hopper.encryption.key.cache.hit.ratio", this, DerivedKeyCache::getHitRatio)
+            .description("Share of derived key lookups served from cache")
+            .register(registry);
+        Gauge.builder("hopper.encryption.key.cache.size", this, DerivedKeyCache::size)
+            .description("Derived keys currently cached")
+            .register(registry);
+        FunctionTimer.builder("hopper.encryption.key.derivation", this,
+                cache -> cache.misses.sum(),
+                cache -> cache.derivationNanos.sum(),
+                TimeUnit.NANOSECONDS)
+            .description("Time spent deriving credential keys with PBKDF2")
+            .register(registry);
+    }
+    
+    // * Private Helper Methods
+    
+    private byte[] derive(KeyDeriver deriver, byte[] salt) throws Exception
+    {
+        long start = System.nanoTime();
+        try
+        {
+            return deriver.derive(salt);
+        }
+        finally
+        {
+            misses.increment();
+            derivationNanos.add(System.nanoTime() - start);
+        }
+    }
+    
+    private void evictOverflowLocked(int maxEntries)
+    {
+        Iterator<Map.Entry<String, CachedKey>> iterator = entries.entrySet().iterator();
+        while (entries.size() > maxEntries && iterator.hasNext())
+        {
+            iterator.next().getValue().wipe();
+            iterator.remove();
+        }
+    }
+    
+    private void clearLocked()
+    {
+        entries.values().forEach(CachedKey::wipe);
+        entries.clear();
+    }
+    
+    // Hash rather than hold a second copy of the master key
+    private static String fingerprint(String masterKey)
+    {
+        try
+        {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest.digest(masterKey.getBytes(StandardCharsets.UTF_8)));
+        }
+        catch (NoSuchAlgorithmException e)
+        {
+            throw new KeyManagementException("SHA-256 unavailable for master key fingerprint", e);
+        }
+    }
+    
+    // * Nested Types
+    
+    // Callback that runs the expensive derivation on a cache miss
+    @FunctionalInterface
+    public interface KeyDeriver
+    {
+        byte[] derive(byte[] salt) throws Exception;
+    }
+    
+    private static final class CachedKey
+    {
+        private final byte[] keyBytes;
+        private final long expiresAtNanos;
+        
+        private CachedKey(byte[] keyBytes, long expiresAtNanos)
+        {
+            this.keyBytes = keyBytes;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+        
+        // Zero key material so evicted entries do not linger on the heap
+        private void wipe()
+        {
+            Arrays.fill(keyBytes, (byte) 0);
+        }
+    }
+}
@@ -8,7 +8,7 @@ public record EncryptedCredential(
     // Ciphertext stored as Base64 so it fits inside character columns
     String encryptedValue,
     
-    // Persisted salt lets us rebuild the derived key during decrypt
+    // Persisted salt lets us rebuild the derived key during decrypt (null for envelope ciphertext)
     String salt,
     
     // Algorithm identifier so we know which policy produced this ciphertext
@@ -17,7 +17,7 @@ public record EncryptedCredential(
     // Timestamp used to decide when rotation should run again
     LocalDateTime encryptedAt,
     
-    // Unique id ties the ciphertext to the derived key version used
+    // Unique id ties the ciphertext to the derived key version used (the data key id in envelope mode)
     String keyId
 ) 
 {
@@ -36,6 +36,18 @@ public record EncryptedCredential(
         );
     }
     
+    // Factory for envelope mode: only IV + ciphertext per credential, keyId names the shared data key
+    public static EncryptedCredential ofEnvelope(byte[] encryptedBytes, String encryptionVersion, String dataKeyId) 
+    {
+        return new EncryptedCredential(
+            Base64.getEncoder().encodeToString(encryptedBytes),
+            null,
+            encryptionVersion,
+            LocalDateTime.now(),
+            dataKeyId
+        );
+    }
+    
     // Factory for reconstructing the value object from persisted columns
     public static EncryptedCredential fromDatabase(String encryptedValue, String salt, 
                                                  String encryptionVersion, LocalDateTime encryptedAt, 
@@ -58,6 +70,12 @@ public record EncryptedCredential(
         return Base64.getDecoder().decode(salt);
     }
     
+    // Envelope ciphertext has no per-credential salt; the key comes from the data key store
+    public boolean isEnvelope() 
+    {
+        return salt == null || salt.trim().isEmpty();
+    }
+    
     // Determine if ciphertext already matches the system's current algorithm identifier
     public boolean isCurrentVersion(String currentVersion) 
     {
@@ -78,11 +96,10 @@ public record EncryptedCredential(
     
     // * Validation
     
-    // Ensure the record has the minimum metadata needed for safe decrypt operations
+    // Ensure the record has the minimum metadata needed for safe decrypt operations; salt is optional for envelope ciphertext
     public boolean isValid() 
     {
         return encryptedValue != null && !encryptedValue.trim().isEmpty() &&
-               salt != null && !salt.trim().isEmpty() &&
                encryptionVersion != null && !encryptionVersion.trim().isEmpty() &&
                encryptedAt != null &&
                keyId != null && !keyId.trim().isEmpty();
@@ -33,6 +33,18 @@ public class EncryptionProperties
     
     // Age threshold that triggers re-encryption heuristics
     private int maxCredentialAge = 365;
+    
+    // "per-credential" derives a key from a random salt per row; "envelope" seals rows with one data key per version
+    private String mode = "per-credential";
+    
+    // Master key being rotated away from; envelope mode rewraps data keys from it on startup
+    private String previousMasterKey = "";
+    
+    // Upper bound on cached derived keys (0 disables caching)
+    private int keyCacheMaxEntries = 1024;
+    
+    // Seconds a derived key may be served from cache before it is derived again
+    private long keyCacheTtlSeconds = 900;
 
     // * Getters and Setters
 
@@ -116,6 +128,46 @@ public class EncryptionProperties
         this.maxCredentialAge = maxCredentialAge;
     }
 
+    public String getMode() 
+    {
+        return mode;
+    }
+
+    public void setMode(String mode) 
+    {
+        this.mode = mode;
+    }
+
+    public String getPreviousMasterKey() 
+    {
+        return previousMasterKey;
+    }
+
+    public void setPreviousMasterKey(String previousMasterKey) 
+    {
+        this.previousMasterKey = previousMasterKey;
+    }
+
+    public int getKeyCacheMaxEntries() 
+    {
+        return keyCacheMaxEntries;
+    }
+
+    public void setKeyCacheMaxEntries(int keyCacheMaxEntries) 
+    {
+        this.keyCacheMaxEntries = keyCacheMaxEntries;
+    }
+
+    public long getKeyCacheTtlSeconds() 
+    {
+        return keyCacheTtlSeconds;
+    }
+
+    public void setKeyCacheTtlSeconds(long keyCacheTtlSeconds) 
+    {
+        this.keyCacheTtlSeconds = keyCacheTtlSeconds;
+    }
+
     // * Validation Methods
 
     // Guard helper for callers who must refuse to work without a strong key
@@ -124,6 +176,13 @@ public class EncryptionProperties
         return masterKey != null && !masterKey.trim().isEmpty() && masterKey.length() >= 32;
     }
     
+    // Previous key may also come from the environment during a rotation window
+    public String getEffectivePreviousMasterKey() 
+    {
+        String envKey = System.getenv("CREDENTIAL_PREVIOUS_MASTER_KEY");
+        return envKey != null && !envKey.trim().isEmpty() ? envKey : previousMasterKey;
+    }
+    
     // Prefer environment override so production never relies on baked-in defaults
     public String getEffectiveMasterKey() 
     {
@@ -0,0 +1,458 @@
+package dev.fincke.hopper.security.encryption;
+
+import dev.fincke.hopper.security.encryption.CredentialDataKeyStore.StoredDataKey;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Envelope mode: one AES-256 data key per encryption version, wrapped by a KEK derived from the master key
+// Credentials store only IV + ciphertext, so decrypt cost is flat and master key rotation rewraps data keys instead of rows
+@Service
+@Primary
+@ConditionalOnProperty(prefix = "app.encryption", name = "mode", havingValue = "envelope")
+public class EnvelopeCredentialEncryptionService implements CredentialEncryptionService
+{
+    // * Attributes
+
+    private static final Logger logger = LoggerFactory.getLogger(EnvelopeCredentialEncryptionService.class);
+
+    private static final String ALGORITHM = "AES";
+    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+    private static final int DATA_KEY_LENGTH = 32; // 256-bit data keys
+    private static final int IV_LENGTH = 12; // 96-bit IV recommended for secure GCM usage
+    private static final int WRAP_TAG_LENGTH = 128;
+
+    private final EncryptionProperties encryptionProperties;
+    private final CredentialDataKeyStore dataKeyStore;
+    private final DerivedKeyCache derivedKeyCache;
+
+    // Per-credential implementation still decrypts rows sealed before envelope mode was enabled
+    private final CredentialEncryptionServiceImpl perCredentialService;
+
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    // Unwrapped data keys by key id; populated once per key per process
+    private final Map<String, DataKey> dataKeys = new ConcurrentHashMap<>();
+
+    // * Constructor
+
+    public EnvelopeCredentialEncryptionService(EncryptionProperties encryptionProperties,
+                                               CredentialDataKeyStore dataKeyStore,
+                                               DerivedKeyCache derivedKeyCache,
+                                               CredentialEncryptionServiceImpl perCredentialService)
+    {
+        this.encryptionProperties = encryptionProperties;
+        this.dataKeyStore = dataKeyStore;
+        this.derivedKeyCache = derivedKeyCache;
+        this.perCredentialService = perCredentialService;
+    }
+
+    // * Core Encryption Operations
+
+    @Override
+    public EncryptedCredential encrypt(String plaintext)
+    {
+        if (plaintext == null || plaintext.isEmpty())
+        {
+            throw new IllegalArgumentException("Plaintext cannot be null or empty");
+        }
+
+        if (!isMasterKeyConfigured())
+        {
+            throw new KeyManagementException("Master key not configured for encryption");
+        }
+
+        String version = encryptionProperties.getEncryptionVersion();
+        DataKey dataKey = activeDataKey(version);
+
+        try
+        {
+            // Fresh IV per credential keeps AES-GCM safe under a shared data key
+            byte[] iv = randomBytes(IV_LENGTH);
+
+            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+            cipher.init(Cipher.ENCRYPT_MODE, dataKey.key(), new GCMParameterSpec(encryptionProperties.getGcmTagLength(), iv));
+            byte[] encryptedBytes = cipher.doFinal(plaintext.getBytes(StandardCharsets.UTF_8));
+
+            if (encryptionProperties.isAuditLogging())
+            {
+                logger.info("Credential encrypted with version: {}, dataKeyId: {}", version, dataKey.keyId());
+            }
+
+            return EncryptedCredential.ofEnvelope(concat(iv, encryptedBytes), version, dataKey.keyId());
+        }
+        catch (Exception e)
+        {
+            logger.error("Failed to encrypt credential", e);
+            throw new CredentialEncryptionException("Encryption failed", e);
+        }
+    }
+
+    @Override
+    public String decrypt(EncryptedCredential encryptedCredential)
+    {
+        if (encryptedCredential == null || !encryptedCredential.isValid())
+        {
+            throw new IllegalArgumentException("Invalid encrypted credential");
+        }
+
+        // Salted ciphertext predates envelope mode
+        if (!encryptedCredential.isEnvelope())
+        {
+            return perCredentialService.decrypt(encryptedCredential);
+        }
+
+        if (!isMasterKeyConfigured())
+        {
+            throw new KeyManagementException("Master key not configured for decryption");
+        }
+
+        try
+        {
+            DataKey dataKey = dataKey(encryptedCredential.keyId());
+            if (!dataKey.encryptionVersion().equals(encryptedCredential.encryptionVersion()))
+            {
+                throw new CredentialDecryptionException("Data key version does not match credential version");
+            }
+
+            byte[] combined = encryptedCredential.getEncryptedBytes();
+            if (combined.length <= IV_LENGTH)
+            {
+                throw new CredentialDecryptionException("Invalid encrypted data length");
+            }
+
+            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+            cipher.init(Cipher.DECRYPT_MODE, dataKey.key(),
+                new GCMParameterSpec(encryptionProperties.getGcmTagLength(), combined, 0, IV_LENGTH));
+            byte[] decryptedBytes = cipher.doFinal(combined, IV_LENGTH, combined.length - IV_LENGTH);
+
+            if (encryptionProperties.isAuditLogging())
+            {
+                logger.info("Credential decrypted with version: {}, dataKeyId: {}",
+                          encryptedCredential.encryptionVersion(), encryptedCredential.keyId());
+            }
+
+            return new String(decryptedBytes, StandardCharsets.UTF_8);
+        }
+        catch (Exception e)
+        {
+            logger.error("Failed to decrypt credential with dataKeyId: {}", encryptedCredential.keyId(), e);
+            throw new CredentialDecryptionException("Decryption failed", e);
+        }
+    }
+
+    @Override
+    public EncryptedCredential reEncrypt(EncryptedCredential oldEncryptedCredential)
+    {
+        // Both sides use cached data keys, so this is two AES-GCM passes with no key derivation
+        String plaintext = decrypt(oldEncryptedCredential);
+        EncryptedCredential newEncrypted = encrypt(plaintext);
+
+        logger.info("Credential re-encrypted from version {} to {}",
+                   oldEncryptedCredential.encryptionVersion(), newEncrypted.encryptionVersion());
+
+        return newEncrypted;
+    }
+
+    // * Validation Methods
+
+    @Override
+    public boolean validateEncryption(EncryptedCredential encryptedCredential)
+    {
+        if (encryptedCredential == null || !encryptedCredential.isValid())
+        {
+            return false;
+        }
+
+        try
+        {
+            decrypt(encryptedCredential);
+            return true;
+        }
+        catch (Exception e)
+        {
+            logger.debug("Encryption validation failed for keyId: {}", encryptedCredential.keyId(), e);
+            return false;
+        }
+    }
+
+    @Override
+    public boolean needsReEncryption(EncryptedCredential encryptedCredential)
+    {
+        if (encryptedCredential == null)
+        {
+            return false;
+        }
+
+        // Move salted rows onto the shared data key
+        if (!encryptedCredential.isEnvelope())
+        {
+            return true;
+        }
+
+        if (!encryptedCredential.isCurrentVersion(encryptionProperties.getEncryptionVersion()))
+        {
+            return true;
+        }
+
+        return encryptedCredential.isOlderThan(encryptionProperties.getMaxCredentialAge());
+    }
+
+    // * Utility Methods
+
+    @Override
+    public String getCurrentEncryptionVersion()
+    {
+        return encryptionProperties.getEncryptionVersion();
+    }
+
+    @Override
+    public boolean isMasterKeyConfigured()
+    {
+        return perCredentialService.isMasterKeyConfigured();
+    }
+
+    @Override
+    public LocalDateTime getRotationCutoff()
+    {
+        return perCredentialService.getRotationCutoff();
+    }
+
+    @Override
+    public boolean isEnvelopeMode()
+    {
+        return true;
+    }
+
+    // * Key Rotation
+
+    // Rewrap data keys still sealed under the previous master key; credential rows are untouched
+    @EventListener(ApplicationReadyEvent.class)
+    public void rewrapOnStartup()
+    {
+        String previousMasterKey = encryptionProperties.getEffectivePreviousMasterKey();
+        if (previousMasterKey == null || previousMasterKey.isBlank() || !isMasterKeyConfigured())
+        {
+            return;
+        }
+
+        int rewrapped = rewrapDataKeys(previousMasterKey);
+        logger.info("Rewrapped {} credential data keys under the current master key", rewrapped);
+    }
+
+    // Returns the number of data keys moved from previousMasterKey to the current master key
+    public int rewrapDataKeys(String previousMasterKey)
+    {
+        String currentMasterKey = encryptionProperties.getEffectiveMasterKey();
+        int rewrapped = 0;
+
+        for (StoredDataKey stored : dataKeyStore.findAll())
+        {
+            // Already wrapped under the current key
+            if (tryUnwrap(stored, currentMasterKey) != null)
+            {
+                continue;
+            }
+
+            byte[] keyBytes = tryUnwrap(stored, previousMasterKey);
+            if (keyBytes == null)
+            {
+                logger.error("Data key {} unwraps under neither the current nor the previous master key", stored.keyId());
+                continue;
+            }
+
+            try
+            {
+                byte[] kekSalt = randomBytes(encryptionProperties.getSaltLength());
+                String wrapped = wrap(keyBytes, kek(currentMasterKey, stored.encryptionVersion(), kekSalt), stored);
+                dataKeyStore.updateWrapping(stored.keyId(), wrapped, base64(kekSalt));
+                dataKeys.remove(stored.keyId());
+                rewrapped++;
+            }
+            catch (Exception e)
+            {
+                throw new KeyManagementException("Failed to rewrap data key " + stored.keyId(), e);
+            }
+            finally
+            {
+                Arrays.fill(keyBytes, (byte) 0);
+            }
+        }
+        return rewrapped;
+    }
+
+    // * Private Helper Methods
+
+    // Data key for the version being written; created and persisted on first use
+    private DataKey activeDataKey(String version)
+    {
+        for (DataKey cached : dataKeys.values())
+        {
+            if (cached.encryptionVersion().equals(version))
+            {
+                return cached;
+            }
+        }
+
+        StoredDataKey stored = dataKeyStore.findByVersion(version).orElse(null);
+        if (stored == null)
+        {
+            StoredDataKey created = createDataKey(version);
+            // Another node may have won the insert race; its key is the one to use
+            stored = dataKeyStore.insert(created)
+                ? created
+                : dataKeyStore.findByVersion(version)
+                    .orElseThrow(() -> new KeyManagementException("Data key for version " + version + " not found"));
+        }
+        return cache(stored);
+    }
+
+    private DataKey dataKey(String keyId)
+    {
+        DataKey cached = dataKeys.get(keyId);
+        if (cached != null)
+        {
+            return cached;
+        }
+
+        StoredDataKey stored = dataKeyStore.findByKeyId(keyId)
+            .orElseThrow(() -> new CredentialDecryptionException("Unknown data key: " + keyId));
+        return cache(stored);
+    }
+
+    private DataKey cache(StoredDataKey stored)
+    {
+        return dataKeys.computeIfAbsent(stored.keyId(), keyId -> {
+            byte[] keyBytes = tryUnwrap(stored, encryptionProperties.getEffectiveMasterKey());
+            if (keyBytes == null)
+            {
+                throw new KeyManagementException("Data key " + keyId + " cannot be unwrapped with the current master key");
+            }
+            try
+            {
+                return new DataKey(keyId, stored.encryptionVersion(), new SecretKeySpec(keyBytes, ALGORITHM));
+            }
+            finally
+            {
+                Arrays.fill(keyBytes, (byte) 0);
+            }
+        });
+    }
+
+    private StoredDataKey createDataKey(String version)
+    {
+        byte[] keyBytes = randomBytes(DATA_KEY_LENGTH);
+        try
+        {
+            String keyId = UUID.randomUUID().toString();
+            byte[] kekSalt = randomBytes(encryptionProperties.getSaltLength());
+            StoredDataKey unsealed = new StoredDataKey(keyId, version, null, base64(kekSalt));
+            String wrapped = wrap(keyBytes, kek(encryptionProperties.getEffectiveMasterKey(), version, kekSalt), unsealed);
+
+            logger.info("Created credential data key {} for version {}", keyId, version);
+            return new StoredDataKey(keyId, version, wrapped, base64(kekSalt));
+        }
+        catch (Exception e)
+        {
+            throw new KeyManagementException("Failed to create data key for version " + version, e);
+        }
+        finally
+        {
+            Arrays.fill(keyBytes, (byte) 0);
+        }
+    }
+
+    // KEK derivation goes through the shared cache for the current master key only, so old keys never displace it
+    private SecretKey kek(String masterKey, String version, byte[] kekSalt) throws Exception
+    {
+        int iterations = encryptionProperties.getKeyDerivationIterations();
+        byte[] keyBytes = masterKey.equals(encryptionProperties.getEffectiveMasterKey())
+            ? derivedKeyCache.get(masterKey, version, kekSalt,
+                s -> CredentialEncryptionServiceImpl.deriveKeyBytes(masterKey, s, iterations))
+            : CredentialEncryptionServiceImpl.deriveKeyBytes(masterKey, kekSalt, iterations);
+        try
+        {
+            return new SecretKeySpec(keyBytes, ALGORITHM);
+        }
+        finally
+        {
+            Arrays.fill(keyBytes, (byte) 0);
+        }
+    }
+
+    // Key id and version are bound as AAD so a wrapped key cannot be swapped onto another row
+    private String wrap(byte[] keyBytes, SecretKey kek, StoredDataKey dataKey) throws Exception
+    {
+        byte[] iv = randomBytes(IV_LENGTH);
+        Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+        cipher.init(Cipher.ENCRYPT_MODE, kek, new GCMParameterSpec(WRAP_TAG_LENGTH, iv));
+        cipher.updateAAD(associatedData(dataKey));
+        return base64(concat(iv, cipher.doFinal(keyBytes)));
+    }
+
+    // Null when the master key does not match the wrapping
+    private byte[] tryUnwrap(StoredDataKey dataKey, String masterKey)
+    {
+        try
+        {
+            byte[] wrapped = Base64.getDecoder().decode(dataKey.wrappedKey());
+            SecretKey kek = kek(masterKey, dataKey.encryptionVersion(), Base64.getDecoder().decode(dataKey.kekSalt()));
+
+            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+            cipher.init(Cipher.DECRYPT_MODE, kek, new GCMParameterSpec(WRAP_TAG_LENGTH, wrapped, 0, IV_LENGTH));
+            cipher.updateAAD(associatedData(dataKey));
+            return cipher.doFinal(wrapped, IV_LENGTH, wrapped.length - IV_LENGTH);
+        }
+        catch (Exception e)
+        {
+            logger.debug("Data key {} did not unwrap: {}", dataKey.keyId(), e.getMessage());
+            return null;
+        }
+    }
+
+    private static byte[] associatedData(StoredDataKey dataKey)
+    {
+        return (dataKey.keyId() + "|" + dataKey.encryptionVersion()).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private byte[] randomBytes(int length)
+    {
+        byte[] bytes = new byte[length];
+        secureRandom.nextBytes(bytes);
+        return bytes;
+    }
+
+    private static byte[] concat(byte[] iv, byte[] body)
+    {
+        byte[] combined = new byte[iv.length + body.length];
+        System.arraycopy(iv, 0, combined, 0, iv.length);
+        System.arraycopy(body, 0, combined, iv.length, body.length);
+        return combined;
+    }
+
+    private static String base64(byte[] bytes)
+    {
+        return Base64.getEncoder().encodeToString(bytes);
+    }
+
+    // * Nested Types
+
+    private record DataKey(String keyId, String encryptionVersion, SecretKey key) {}
+}
@@ -0,0 +1,199 @@
+package dev.fincke.hopper.security.hashing;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.lang.NonNull;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// PasswordEncoder that runs every hash on a small dedicated pool with a bounded queue.
+// CPU spent on BCrypt is capped at poolSize cores, and at most poolSize + queueCapacity request threads can be
+// parked on hashing at once; everything past that fails fast with PasswordHashingRejectedException (HTTP 429)
+// instead of starving the request threads other APIs share.
+public class BoundedPasswordEncoder implements PasswordEncoder, MeterBinder, AutoCloseable
+{
+    // * Dependencies
+    private final PasswordEncoder delegate;
+    private final PasswordHashingProperties properties;
+
+    private final ThreadPoolExecutor executor;
+
+    // Counters feed the Micrometer hash latency, queue wait and shed-load meters
+    private final Operation encodes = new Operation();
+    private final Operation matches = new Operation();
+    private final LongAdder waitCount = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final LongAdder rejectedQueueFull = new LongAdder();
+    private final LongAdder rejectedTimeout = new LongAdder();
+
+    // * Constructors
+    public BoundedPasswordEncoder(PasswordEncoder delegate, PasswordHashingProperties properties)
+    {
+        this.delegate = delegate;
+        this.properties = properties;
+        int poolSize = Math.max(1, properties.getPoolSize());
+        AtomicInteger threadIds = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, properties.getQueueCapacity())),
+            runnable ->
+            {
+                Thread thread = new Thread(runnable, "password-hashing-" + threadIds.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    // * PasswordEncoder
+
+    @Override
+    public String encode(CharSequence rawPassword)
+    {
+        return run(encodes, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword)
+    {
+        return run(matches, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    // Only inspects the stored hash's cost factor, so it stays on the caller thread
+    @Override
+    public boolean upgradeEncoding(String encodedPassword)
+    {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    // * Lifecycle
+    @Override
+    public void close()
+    {
+        executor.shutdownNow();
+    }
+
+    // * Metrics
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry)
+    {
+        Gauge.builder("hopper.auth.hashing.queue.depth", executor, pool -> pool.getQueue().size())
+            .description("Password hashes waiting for a hashing thread")
+            .register(registry);
+        Gauge.builder("hopper.auth.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+            .description("Password hashes currently running")
+            .register(registry);
+        bindOperation(registry, "encode", encodes);
+        bindOperation(registry, "matches", matches);
+        FunctionTimer.builder("hopper.auth.hashing.wait", this,
+                encoder -> encoder.waitCount.sum(),
+                encoder -> encoder.waitNanos.sum(),
+                TimeUnit.NANOSECONDS)
+            .description("Time password hashes spent queued before a thread picked them up")
+            .register(registry);
+        FunctionCounter.builder("hopper.auth.hashing.rejected", rejectedQueueFull, LongAdder::sum)
+            .tag("reason", "queue_full")
+            .description("Hash requests shed because the hashing queue was full")
+            .register(registry);
+        FunctionCounter.builder("hopper.auth.hashing.rejected", rejectedTimeout, LongAdder::sum)
+            .tag("reason", "timeout")
+            .description("Hash requests shed because they waited longer than the configured maximum")
+            .register(registry);
+    }
+
+    // * Private Helper Methods
+
+    private <T> T run(Operation operation, Callable<T> hash)
+    {
+        long submittedAt = System.nanoTime();
+        FutureTask<T> task = new FutureTask<>(() ->
+        {
+            long startedAt = System.nanoTime();
+            waitCount.increment();
+            waitNanos.add(startedAt - submittedAt);
+            try
+            {
+                return hash.call();
+            }
+            finally
+            {
+                operation.count.increment();
+                operation.nanos.add(System.nanoTime() - startedAt);
+            }
+        });
+
+        try
+        {
+            executor.execute(task);
+        }
+        catch (RejectedExecutionException ex)
+        {
+            rejectedQueueFull.increment();
+            throw new PasswordHashingRejectedException(properties.getRetryAfter());
+        }
+
+        try
+        {
+            return task.get(properties.getMaxWait().toNanos(), TimeUnit.NANOSECONDS);
+        }
+        catch (TimeoutException ex)
+        {
+            // Drop it if still queued; a hash already running finishes but its result is discarded
+            task.cancel(false);
+            executor.remove(task);
+            rejectedTimeout.increment();
+            throw new PasswordHashingRejectedException(properties.getRetryAfter());
+        }
+        catch (InterruptedException ex)
+        {
+            Thread.currentThread().interrupt();
+            task.cancel(false);
+            executor.remove(task);
+            throw new PasswordHashingRejectedException(properties.getRetryAfter());
+        }
+        catch (ExecutionException ex)
+        {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException runtime)
+            {
+                throw runtime;
+            }
+            if (cause instanceof Error error)
+            {
+                throw error;
+            }
+            throw new IllegalStateException("Password hashing failed", cause);
+        }
+    }
+
+    private static void bindOperation(MeterRegistry registry, String name, Operation operation)
+    {
+        FunctionTimer.builder("hopper.auth.hashing.duration", operation,
+                op -> op.count.sum(),
+                op -> op.nanos.sum(),
+                TimeUnit.NANOSECONDS)
+            .tag("operation", name)
+            .description("CPU time spent hashing or verifying passwords")
+            .register(registry);
+    }
+
+    // * Nested Types
+    private static final class Operation
+    {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+    }
+}
@@ -0,0 +1,65 @@
+package dev.fincke.hopper.security.hashing;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+// * Configuration Properties
+// Sizing for the dedicated password hashing pool that keeps BCrypt work off shared request capacity.
+@ConfigurationProperties(prefix = "hopper.security.password-hashing")
+public class PasswordHashingProperties
+{
+    // * Configuration Values
+
+    // Hashing threads; each BCrypt(12) call keeps one core busy for ~250ms, so keep this below the core count.
+    private int poolSize = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+    // Hashes allowed to wait for a thread; anything beyond this is shed with 429.
+    private int queueCapacity = 32;
+
+    // Longest a caller waits for its hash (queue time included) before the request is shed.
+    private Duration maxWait = Duration.ofSeconds(5);
+
+    // Retry-After sent with shed requests.
+    private Duration retryAfter = Duration.ofSeconds(2);
+
+    public int getPoolSize()
+    {
+        return poolSize;
+    }
+
+    public void setPoolSize(int poolSize)
+    {
+        this.poolSize = poolSize;
+    }
+
+    public int getQueueCapacity()
+    {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity)
+    {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public Duration getMaxWait()
+    {
+        return maxWait;
+    }
+
+    public void setMaxWait(Duration maxWait)
+    {
+        this.maxWait = maxWait;
+    }
+
+    public Duration getRetryAfter()
+    {
+        return retryAfter;
+    }
+
+    public void setRetryAfter(Duration retryAfter)
+    {
+        this.retryAfter = retryAfter;
+    }
+}
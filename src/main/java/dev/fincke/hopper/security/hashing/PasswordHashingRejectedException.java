@@ -0,0 +1,33 @@
+package dev.fincke.hopper.security.hashing;
+
+import java.time.Duration;
+
+// Exception thrown when the password hashing pool is saturated; mapped to 429 with a Retry-After header
+public class PasswordHashingRejectedException extends RuntimeException
+{
+    // * Attributes
+
+    // how long the client should wait before retrying
+    private final Duration retryAfter;
+
+    // * Constructors
+
+    public PasswordHashingRejectedException(Duration retryAfter)
+    {
+        super("Authentication is temporarily overloaded; retry later");
+        this.retryAfter = retryAfter;
+    }
+
+    // * Getters
+
+    public Duration getRetryAfter()
+    {
+        return retryAfter;
+    }
+
+    // Retry-After header value: whole seconds, rounded up so clients never retry early
+    public long getRetryAfterSeconds()
+    {
+        return Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+    }
+}
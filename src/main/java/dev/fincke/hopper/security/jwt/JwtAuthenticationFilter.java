@@ -2,6 +2,7 @@ package dev.fincke.hopper.security.jwt;
 
 import dev.fincke.hopper.config.JwtProperties;
 import dev.fincke.hopper.security.CustomUserDetailsService;
+import dev.fincke.hopper.security.TokenRevocationRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -19,6 +20,7 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 import java.util.UUID;
 
 // JWT authentication filter that validates tokens and sets security context
@@ -38,16 +40,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter
     // JWT configuration properties
     private final JwtProperties jwtProperties;
     
+    // Revocation cut-offs consulted when the user is not loaded
+    private final TokenRevocationRegistry revocationRegistry;
+    
     // * Constructor
     
     // Constructor with required dependencies
     public JwtAuthenticationFilter(JwtUtils jwtUtils, 
                                  CustomUserDetailsService userDetailsService,
-                                 JwtProperties jwtProperties)
+                                 JwtProperties jwtProperties,
+                                 TokenRevocationRegistry revocationRegistry)
     {
         this.jwtUtils = jwtUtils;
         this.userDetailsService = userDetailsService;
         this.jwtProperties = jwtProperties;
+        this.revocationRegistry = revocationRegistry;
     }
     
     // * Filter Implementation
@@ -60,45 +67,47 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter
     {
         try
         {
-            // Extract JWT token from request (header or cookie)
-            String jwt = parseJwtFromRequest(request);
+            // Extract and verify the token once (header or cookie)
+            Optional<JwtClaims> verified = resolveAccessClaims(request);
             
-            if (jwt != null && jwtUtils.validateAccessToken(jwt))
+            if (verified.isPresent())
             {
-                // Extract user information from valid token
-                UUID userId = jwtUtils.getUserIdFromToken(jwt);
+                JwtClaims claims = verified.get();
+                UUID userId = claims.userId();
                 
                 if (userId != null)
                 {
-                    // Load user details from database
-                    UserDetails userDetails = userDetailsService.loadUserById(userId);
+                    // Stateless mode trusts the signed claims; otherwise load user details from database
+                    UserDetails userDetails = jwtProperties.isStatelessAuthentication()
+                        ? loadPrincipalFromClaims(claims)
+                        : userDetailsService.loadUserById(userId);
                     
-                    // Create authentication token with user details
-                    UsernamePasswordAuthenticationToken authentication = 
-                        new UsernamePasswordAuthenticationToken(
-                            userDetails, 
-                            null, 
-                            userDetails.getAuthorities()
-                        );
+                    // Rejected tokens leave the request unauthenticated
+                    if (userDetails != null)
+                    {
+                        // Create authentication token with user details
+                        UsernamePasswordAuthenticationToken authentication = 
+                            new UsernamePasswordAuthenticationToken(
+                                userDetails, 
+                                null, 
+                                userDetails.getAuthorities()
+                            );
                     
-                    // Set authentication details from web request
-                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                        // Set authentication details from web request
+                        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                     
-                    // Set authentication in security context
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                        // Set authentication in security context
+                        SecurityContextHolder.getContext().setAuthentication(authentication);
                     
-                    logger.debug("Set authentication for user: {} (ID: {})", 
-                        userDetails.getUsername(), userId);
+                        logger.debug("Set authentication for user: {} (ID: {})", 
+                            userDetails.getUsername(), userId);
+                    }
                 }
                 else
                 {
                     logger.warn("User ID not found in JWT token");
                 }
             }
-            else if (jwt != null)
-            {
-                logger.debug("Invalid or expired JWT token");
-            }
         }
         catch (Exception ex)
         {
@@ -109,10 +118,31 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter
         filterChain.doFilter(request, response);
     }
     
+    // * Stateless Principal
+    
+    // Build the principal from token claims, rejecting revoked tokens and disabled or locked accounts
+    private UserDetails loadPrincipalFromClaims(JwtClaims claims)
+    {
+        UUID userId = claims.userId();
+        if (revocationRegistry.isRevoked(userId, claims.issuedAt()))
+        {
+            logger.debug("Rejected revoked token for user ID: {}", userId);
+            return null;
+        }
+        
+        if (!claims.enabled() || !claims.accountNonLocked())
+        {
+            logger.debug("Rejected token for disabled or locked user ID: {}", userId);
+            return null;
+        }
+        
+        return claims.toPrincipal();
+    }
+    
     // * Token Extraction Methods
     
-    // Extract JWT token from request headers or cookies
-    private String parseJwtFromRequest(HttpServletRequest request)
+    // Resolve verified access-token claims from the header or cookies; each candidate is parsed once
+    private Optional<JwtClaims> resolveAccessClaims(HttpServletRequest request)
     {
         // First try to get token from Authorization header
         String headerAuth = request.getHeader(jwtProperties.getHeaderName());
@@ -121,56 +151,61 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter
         if (token != null)
         {
             logger.debug("JWT token found in Authorization header");
-            return token;
+            return verifyAccessToken(token);
         }
         
         // Fallback to cookie-based token (for refresh tokens or secure storage)
-        token = parseJwtFromCookie(request);
-        if (token != null)
-        {
-            logger.debug("JWT token found in cookie");
-            return token;
-        }
-        
-        // No token found
-        return null;
-    }
-    
-    // Extract JWT token from cookies
-    private String parseJwtFromCookie(HttpServletRequest request)
-    {
         Cookie[] cookies = request.getCookies();
         if (cookies == null)
         {
-            return null;
+            return Optional.empty();
         }
         
         // Look for token in access-token cookie first
-        for (Cookie cookie : cookies)
+        token = findCookieValue(cookies, "access-token");
+        if (token != null)
+        {
+            logger.debug("JWT token found in cookie");
+            return verifyAccessToken(token);
+        }
+        
+        // Refresh-token cookie is only honoured when it actually carries an access token
+        token = findCookieValue(cookies, jwtProperties.getRefreshTokenCookieName());
+        if (token != null)
         {
-            if ("access-token".equals(cookie.getName()))
+            Optional<JwtClaims> claims = jwtUtils.verifyAccessToken(token);
+            if (claims.isPresent())
             {
-                String value = cookie.getValue();
-                if (StringUtils.hasText(value))
-                {
-                    return value;
-                }
+                logger.debug("JWT token found in cookie");
             }
+            return claims;
         }
         
-        // Look for token in refresh-token cookie as fallback
+        // No token found
+        return Optional.empty();
+    }
+    
+    // Verify a located token, logging rejections
+    private Optional<JwtClaims> verifyAccessToken(String token)
+    {
+        Optional<JwtClaims> claims = jwtUtils.verifyAccessToken(token);
+        if (claims.isEmpty())
+        {
+            logger.debug("Invalid or expired JWT token");
+        }
+        return claims;
+    }
+    
+    // First non-blank value of the named cookie
+    private static String findCookieValue(Cookie[] cookies, String name)
+    {
         for (Cookie cookie : cookies)
         {
-            if (jwtProperties.getRefreshTokenCookieName().equals(cookie.getName()))
+            if (name.equals(cookie.getName()) && StringUtils.hasText(cookie.getValue()))
             {
-                String value = cookie.getValue();
-                if (StringUtils.hasText(value) && jwtUtils.validateAccessToken(value))
-                {
-                    return value;
-                }
+                return cookie.getValue();
             }
         }
-        
         return null;
     }
     
@@ -182,11 +217,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter
     {
         String path = request.getRequestURI();
         
-        // Skip authentication for public endpoints
+        // Skip authentication for public endpoints; other actuator endpoints are admin-only and need the token
         return path.startsWith("/api/auth/login") ||
                path.startsWith("/api/auth/register") ||
                path.startsWith("/h2-console") ||
-               path.startsWith("/actuator") ||
+               path.equals("/actuator/health") ||
+               path.equals("/actuator/info") ||
                path.startsWith("/error") ||
                path.equals("/favicon.ico");
     }
@@ -0,0 +1,65 @@
+package dev.fincke.hopper.security.jwt;
+
+import dev.fincke.hopper.security.UserPrincipal;
+import dev.fincke.hopper.user.RoleType;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+
+// Immutable, typed view of a verified token's claims
+// Produced once per token by JwtUtils.verify so callers never re-parse or re-check the signature
+public record JwtClaims(
+    UUID userId,
+    String username,
+    String email,
+    Set<RoleType> roles,
+    String tokenType,
+    Instant issuedAt,
+    Instant expiresAt,
+    boolean enabled,
+    boolean accountNonLocked
+)
+{
+    // * Token Types
+    
+    public static final String ACCESS = "access";
+    public static final String REFRESH = "refresh";
+    
+    // Defensive copy keeps the view immutable
+    public JwtClaims
+    {
+        roles = roles == null ? Set.of() : Set.copyOf(roles);
+    }
+    
+    // * Query Methods
+    
+    public boolean isAccessToken()
+    {
+        return ACCESS.equals(tokenType);
+    }
+    
+    public boolean isRefreshToken()
+    {
+        return REFRESH.equals(tokenType);
+    }
+    
+    public boolean isExpired()
+    {
+        return expiresAt != null && expiresAt.isBefore(Instant.now());
+    }
+    
+    // Milliseconds until expiry (zero once expired)
+    public long remainingMillis()
+    {
+        return expiresAt == null ? 0 : Math.max(0, expiresAt.toEpochMilli() - System.currentTimeMillis());
+    }
+    
+    // * Conversion Methods
+    
+    // Principal built from claims alone (no database access)
+    public UserPrincipal toPrincipal()
+    {
+        return UserPrincipal.fromClaims(userId, username, email, roles, enabled, !accountNonLocked);
+    }
+}
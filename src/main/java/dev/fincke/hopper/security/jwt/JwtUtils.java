@@ -8,14 +8,17 @@ import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.time.Instant;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 // Utility class for JWT token generation, validation, and parsing operations
 @Component
@@ -34,12 +37,23 @@ public class JwtUtils
     // JWT parser configured with signing key
     private final JwtParser jwtParser;
     
+    // Verified-token cache consulted before signature verification (null disables caching)
+    private final VerifiedTokenCache tokenCache;
+    
     // * Constructor
     
-    // Constructor that initializes JWT utilities with configuration
+    // Constructor without a verified-token cache (every call verifies the signature)
     public JwtUtils(JwtProperties jwtProperties)
+    {
+        this(jwtProperties, null);
+    }
+    
+    // Constructor that initializes JWT utilities with configuration
+    @Autowired
+    public JwtUtils(JwtProperties jwtProperties, VerifiedTokenCache tokenCache)
     {
         this.jwtProperties = jwtProperties;
+        this.tokenCache = tokenCache;
         // Create secret key from configuration (must be at least 256 bits for HS256)
         this.secretKey = Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes());
         // Pre-configure parser for better performance
@@ -55,19 +69,19 @@ public class JwtUtils
     // Generate access token with standard expiration
     public String generateAccessToken(UserPrincipal userPrincipal)
     {
-        return generateToken(userPrincipal, jwtProperties.getAccessTokenExpirationMs(), "access");
+        return generateToken(userPrincipal, jwtProperties.getAccessTokenExpirationMs(), JwtClaims.ACCESS);
     }
     
     // Generate refresh token with extended expiration
     public String generateRefreshToken(UserPrincipal userPrincipal)
     {
-        return generateToken(userPrincipal, jwtProperties.getRefreshTokenExpirationMs(), "refresh");
+        return generateToken(userPrincipal, jwtProperties.getRefreshTokenExpirationMs(), JwtClaims.REFRESH);
     }
     
     // Generate remember-me token with extended expiration
     public String generateRememberMeToken(UserPrincipal userPrincipal)
     {
-        return generateToken(userPrincipal, jwtProperties.getRememberMeExpirationMs(), "access");
+        return generateToken(userPrincipal, jwtProperties.getRememberMeExpirationMs(), JwtClaims.ACCESS);
     }
     
     // Generate JWT token with specified expiration and type
@@ -82,15 +96,20 @@ public class JwtUtils
             .toList();
         
         // Build JWT with standard and custom claims
+        // Random jti keeps tokens minted in the same second distinct, so rotation never invalidates its replacement
+        // issuedAtMs carries the issue time at millisecond precision; iat alone cannot order a token against a
+        // revocation made in the same second
         return Jwts.builder()
             .header()
                 .add("typ", "JWT")
                 .and()
+            .id(UUID.randomUUID().toString())
             .subject(userPrincipal.getUsername())
             .issuer(jwtProperties.getIssuer())
             .audience().add(jwtProperties.getAudience()).and()
             .issuedAt(Date.from(now))
             .expiration(Date.from(expiration))
+            .claim("issuedAtMs", now.toEpochMilli())
             .claim("userId", userPrincipal.getId().toString())
             .claim("email", userPrincipal.getEmail())
             .claim("roles", roles)
@@ -101,15 +120,37 @@ public class JwtUtils
             .compact();
     }
     
-    // * Token Validation Methods
+    // * Token Verification
     
-    // Validate JWT token and return true if valid
-    public boolean validateToken(String token)
+    // Verify signature, issuer, audience and expiry once and return the typed claims (empty when invalid)
+    // Repeat calls with the same token are served from the verified-token cache
+    public Optional<JwtClaims> verify(String token)
+    {
+        if (token == null || token.isBlank())
+        {
+            return Optional.empty();
+        }
+        
+        return tokenCache != null ? tokenCache.get(token, this::parseAndVerify) : parseAndVerify(token);
+    }
+    
+    // Invalidate a token so it is rejected until it expires (logout, refresh rotation)
+    public void invalidateToken(String token)
+    {
+        if (tokenCache == null || token == null || token.isBlank())
+        {
+            return;
+        }
+        
+        parseAndVerify(token).ifPresent(claims -> tokenCache.invalidate(token, claims.expiresAt()));
+    }
+    
+    // Full signature and claim verification (no cache)
+    private Optional<JwtClaims> parseAndVerify(String token)
     {
         try
         {
-            jwtParser.parseSignedClaims(token);
-            return true;
+            return Optional.of(toJwtClaims(jwtParser.parseSignedClaims(token).getPayload()));
         }
         catch (SignatureException e)
         {
@@ -129,158 +170,101 @@ public class JwtUtils
         }
         catch (IllegalArgumentException e)
         {
-            logger.warn("JWT claims string is empty: {}", e.getMessage());
+            logger.warn("JWT claims invalid or empty: {}", e.getMessage());
         }
         catch (Exception e)
         {
             logger.error("JWT validation error: {}", e.getMessage());
         }
-        return false;
+        return Optional.empty();
+    }
+    
+    // Verify and require an access token
+    public Optional<JwtClaims> verifyAccessToken(String token)
+    {
+        return verify(token).filter(JwtClaims::isAccessToken);
+    }
+    
+    // Verify and require a refresh token
+    public Optional<JwtClaims> verifyRefreshToken(String token)
+    {
+        return verify(token).filter(JwtClaims::isRefreshToken);
+    }
+    
+    // * Token Validation Methods
+    
+    // Validate JWT token and return true if valid
+    public boolean validateToken(String token)
+    {
+        return verify(token).isPresent();
     }
     
     // Validate token and check if it's an access token
     public boolean validateAccessToken(String token)
     {
-        if (!validateToken(token))
-        {
-            return false;
-        }
-        
-        try
-        {
-            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
-            String tokenType = claims.get("tokenType", String.class);
-            return "access".equals(tokenType);
-        }
-        catch (Exception e)
-        {
-            logger.warn("Error validating access token: {}", e.getMessage());
-            return false;
-        }
+        return verifyAccessToken(token).isPresent();
     }
     
     // Validate token and check if it's a refresh token
     public boolean validateRefreshToken(String token)
     {
-        if (!validateToken(token))
-        {
-            return false;
-        }
-        
-        try
-        {
-            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
-            String tokenType = claims.get("tokenType", String.class);
-            return "refresh".equals(tokenType);
-        }
-        catch (Exception e)
-        {
-            logger.warn("Error validating refresh token: {}", e.getMessage());
-            return false;
-        }
+        return verifyRefreshToken(token).isPresent();
     }
     
-    // * Token Parsing Methods
+    // * Token Parsing Methods (prefer verify when more than one claim is needed)
     
     // Extract username from valid JWT token
     public String getUsernameFromToken(String token)
     {
-        try
-        {
-            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
-            return claims.getSubject();
-        }
-        catch (Exception e)
-        {
-            logger.warn("Error extracting username from token: {}", e.getMessage());
-            return null;
-        }
+        return verify(token).map(JwtClaims::username).orElse(null);
     }
     
     // Extract user ID from valid JWT token
     public UUID getUserIdFromToken(String token)
     {
-        try
-        {
-            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
-            String userIdStr = claims.get("userId", String.class);
-            return userIdStr != null ? UUID.fromString(userIdStr) : null;
-        }
-        catch (Exception e)
-        {
-            logger.warn("Error extracting user ID from token: {}", e.getMessage());
-            return null;
-        }
+        return verify(token).map(JwtClaims::userId).orElse(null);
     }
     
     // Extract email from valid JWT token
     public String getEmailFromToken(String token)
     {
-        try
-        {
-            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
-            return claims.get("email", String.class);
-        }
-        catch (Exception e)
-        {
-            logger.warn("Error extracting email from token: {}", e.getMessage());
-            return null;
-        }
+        return verify(token).map(JwtClaims::email).orElse(null);
     }
     
     // Extract roles from valid JWT token
-    @SuppressWarnings("unchecked")
     public Set<RoleType> getRolesFromToken(String token)
     {
-        try
-        {
-            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
-            List<String> roleNames = claims.get("roles", List.class);
-            
-            if (roleNames == null)
-            {
-                return Set.of();
-            }
-            
-            return roleNames.stream()
-                .map(RoleType::fromName)
-                .collect(java.util.stream.Collectors.toSet());
-        }
-        catch (Exception e)
-        {
-            logger.warn("Error extracting roles from token: {}", e.getMessage());
-            return Set.of();
-        }
+        return verify(token).map(JwtClaims::roles).orElse(Set.of());
+    }
+    
+    // Build a principal straight from access-token claims (no database access)
+    public UserPrincipal getPrincipalFromToken(String token)
+    {
+        return verify(token)
+            .filter(claims -> claims.userId() != null)
+            .map(JwtClaims::toPrincipal)
+            .orElse(null);
+    }
+    
+    // Extract issue time from valid JWT token
+    public Instant getIssuedAtFromToken(String token)
+    {
+        return verify(token).map(JwtClaims::issuedAt).orElse(null);
     }
     
     // Extract token type from valid JWT token
     public String getTokenTypeFromToken(String token)
     {
-        try
-        {
-            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
-            return claims.get("tokenType", String.class);
-        }
-        catch (Exception e)
-        {
-            logger.warn("Error extracting token type from token: {}", e.getMessage());
-            return null;
-        }
+        return verify(token).map(JwtClaims::tokenType).orElse(null);
     }
     
     // Extract expiration date from valid JWT token
     public Date getExpirationFromToken(String token)
     {
-        try
-        {
-            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
-            return claims.getExpiration();
-        }
-        catch (Exception e)
-        {
-            logger.warn("Error extracting expiration from token: {}", e.getMessage());
-            return null;
-        }
+        return verify(token)
+            .map(JwtClaims::expiresAt)
+            .map(Date::from)
+            .orElse(null);
     }
     
     // Check if token is expired
@@ -290,8 +274,41 @@ public class JwtUtils
         return expiration != null && expiration.before(new Date());
     }
     
+    // * Claim Mapping
+    
+    // Map raw claims to the typed view; malformed custom claims surface as IllegalArgumentException
+    @SuppressWarnings("unchecked")
+    private static JwtClaims toJwtClaims(Claims claims)
+    {
+        String userIdStr = claims.get("userId", String.class);
+        Long issuedAtMs = claims.get("issuedAtMs", Long.class);
+        List<String> authorities = claims.get("roles", List.class);
+        Set<RoleType> roles = authorities == null ? Set.of() : authorities.stream()
+            .map(JwtUtils::toRoleType)
+            .collect(Collectors.toSet());
+        
+        return new JwtClaims(
+            userIdStr != null ? UUID.fromString(userIdStr) : null,
+            claims.getSubject(),
+            claims.get("email", String.class),
+            roles,
+            claims.get("tokenType", String.class),
+            issuedAtMs != null ? Instant.ofEpochMilli(issuedAtMs)
+                : claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+            claims.getExpiration() != null ? claims.getExpiration().toInstant() : null,
+            !Boolean.FALSE.equals(claims.get("enabled", Boolean.class)),
+            !Boolean.FALSE.equals(claims.get("accountNonLocked", Boolean.class))
+        );
+    }
+    
     // * Utility Methods
     
+    // Authorities are written as ROLE_<name>; accept both prefixed and bare role names
+    private static RoleType toRoleType(String authority)
+    {
+        return RoleType.fromName(authority.startsWith("ROLE_") ? authority.substring("ROLE_".length()) : authority);
+    }
+    
     // Extract Bearer token from Authorization header
     public String extractTokenFromHeader(String authHeader)
     {
@@ -0,0 +1,198 @@
+package dev.fincke.hopper.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import dev.fincke.hopper.config.JwtProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+// Bounded cache of already-verified tokens so repeat requests with the same JWT skip signature verification
+// Keyed by a SHA-256 hash of the token (raw tokens are never held); entries expire with the token itself
+// Backed by Caffeine so hits are lock-free reads instead of a global lock around an access-ordered map
+@Component
+public class VerifiedTokenCache implements MeterBinder
+{
+    // * Attributes
+    
+    // Token hash -> verified claims; size-bounded, each entry expires when its token does (null disables caching)
+    private final Cache<String, JwtClaims> entries;
+    
+    // Token hash -> expiry for tokens invalidated by logout or refresh rotation; unbounded so a tombstone is never
+    // evicted while its token is still valid
+    private final Cache<String, Instant> invalidated;
+    
+    // * Constructor
+    
+    public VerifiedTokenCache(JwtProperties jwtProperties)
+    {
+        int maxEntries = jwtProperties.getVerifiedTokenCacheMaxEntries();
+        this.entries = maxEntries <= 0 ? null : Caffeine.newBuilder()
+            .maximumSize(maxEntries)
+            .expireAfter(untilExpiry(JwtClaims::expiresAt))
+            .recordStats()
+            .build();
+        this.invalidated = Caffeine.newBuilder()
+            .expireAfter(untilExpiry(Function.<Instant>identity()))
+            .build();
+    }
+    
+    // * Cache Operations
+    
+    // Return cached claims for the token, running the verifier only on a miss
+    public Optional<JwtClaims> get(String token, Function<String, Optional<JwtClaims>> verifier)
+    {
+        String key = hash(token);
+        if (invalidated.getIfPresent(key) != null)
+        {
+            return Optional.empty();
+        }
+        if (entries == null)
+        {
+            return verifier.apply(token);
+        }
+        
+        // Only successful verifications are cached; failures are cheap to repeat and must not pin memory
+        JwtClaims claims = entries.get(key, hashed -> verifier.apply(token).orElse(null));
+        
+        // Drop the entry if the token was invalidated while it was being verified
+        if (claims != null && invalidated.getIfPresent(key) != null)
+        {
+            entries.invalidate(key);
+            return Optional.empty();
+        }
+        return Optional.ofNullable(claims);
+    }
+    
+    // Drop the token and reject it until it expires (logout, refresh rotation)
+    public void invalidate(String token, Instant expiresAt)
+    {
+        String key = hash(token);
+        if (expiresAt != null && expiresAt.isAfter(Instant.now()))
+        {
+            invalidated.put(key, expiresAt);
+        }
+        if (entries != null)
+        {
+            entries.invalidate(key);
+        }
+    }
+    
+    public void clear()
+    {
+        if (entries != null)
+        {
+            entries.invalidateAll();
+        }
+    }
+    
+    // Runs pending evictions first so the count reflects the size bound
+    public int size()
+    {
+        if (entries == null)
+        {
+            return 0;
+        }
+        entries.cleanUp();
+        return (int) entries.estimatedSize();
+    }
+    
+    public long getHitCount()
+    {
+        return entries == null ? 0 : entries.stats().hitCount();
+    }
+    
+    public long getMissCount()
+    {
+        return entries == null ? 0 : entries.stats().missCount();
+    }
+    
+    // Share of lookups served without signature verification
+    public double getHitRatio()
+    {
+        long hitCount = getHitCount();
+        long total = hitCount + getMissCount();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+    
+    // * Metrics
+    
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry)
+    {
+        FunctionCounter.builder("hopper.jwt.cache.requests", this, VerifiedTokenCache::getHitCount)
+            .tag("result", "hit")
+            .description("Token verifications served from cache")
+            .register(registry);
+        FunctionCounter.builder("hopper.jwt.cache.requests", this, VerifiedTokenCache::getMissCount)
+            .tag("result", "miss")
+            .description("Token verifications that checked the signature")
+            .register(registry);
+        Gauge.builder("hopper.jwt.cache.hit.ratio", this, VerifiedTokenCache::getHitRatio)
+            .description("Share of token verifications served from cache")
+            .register(registry);
+        Gauge.builder("hopper.jwt.cache.size", this, VerifiedTokenCache::size)
+            .description("Verified tokens currently cached")
+            .register(registry);
+    }
+    
+    // * Private Helper Methods
+    
+    // Per-entry expiry at the instant the value names; reads keep the remaining time
+    private static <V> Expiry<String, V> untilExpiry(Function<V, Instant> expiresAt)
+    {
+        return new Expiry<>()
+        {
+            @Override
+            public long expireAfterCreate(String key, V value, long currentTime)
+            {
+                Instant expiry = expiresAt.apply(value);
+                if (expiry == null)
+                {
+                    return Long.MAX_VALUE; // a token without exp is only bounded by the size limit
+                }
+                long remainingMs = Math.max(0, expiry.toEpochMilli() - System.currentTimeMillis());
+                return TimeUnit.MILLISECONDS.toNanos(remainingMs);
+            }
+            
+            @Override
+            public long expireAfterUpdate(String key, V value, long currentTime, long currentDuration)
+            {
+                return expireAfterCreate(key, value, currentTime);
+            }
+            
+            @Override
+            public long expireAfterRead(String key, V value, long currentTime, long currentDuration)
+            {
+                return currentDuration;
+            }
+        };
+    }
+    
+    // Hash rather than hold bearer tokens in memory
+    private static String hash(String token)
+    {
+        try
+        {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        }
+        catch (NoSuchAlgorithmException e)
+        {
+            throw new IllegalStateException("SHA-256 unavailable for token hashing", e);
+        }
+    }
+}
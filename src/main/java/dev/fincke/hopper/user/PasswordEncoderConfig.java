@@ -1,12 +1,15 @@
 package dev.fincke.hopper.user;
 
+import dev.fincke.hopper.security.hashing.BoundedPasswordEncoder;
+import dev.fincke.hopper.security.hashing.PasswordHashingProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
 // Configuration for password encoding using BCrypt with high security strength
 @Configuration
+@EnableConfigurationProperties(PasswordHashingProperties.class)
 public class PasswordEncoderConfig
 {
     
@@ -14,11 +17,13 @@ public class PasswordEncoderConfig
     private static final int BCRYPT_STRENGTH = 12;
     
     // Password encoder bean for dependency injection across the application
-    @Bean
-    public PasswordEncoder passwordEncoder()
+    // Declared as the concrete type so Boot also binds its hopper.auth.hashing.* metrics
+    @Bean(destroyMethod = "close")
+    public BoundedPasswordEncoder passwordEncoder(PasswordHashingProperties properties)
     {
         // BCrypt with 12 rounds provides strong security against brute force attacks
         // Each round doubles the computation time, making attacks exponentially harder
-        return new BCryptPasswordEncoder(BCRYPT_STRENGTH);
+        // Hashes run on a bounded pool so login/registration bursts shed load instead of starving request threads
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(BCRYPT_STRENGTH), properties);
     }
-}
\ No newline at end of file
+}
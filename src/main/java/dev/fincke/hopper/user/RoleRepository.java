@@ -1,5 +1,7 @@
 package dev.fincke.hopper.user;
 
+import dev.fincke.hopper.config.CacheConfig;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.Optional;
@@ -8,7 +10,8 @@ import java.util.UUID;
 // Data access layer for Role entities (Spring Data JPA)
 public interface RoleRepository extends JpaRepository<Role, UUID>
 {
-    // Find role by name enum
+    // Find role by name enum (cached; looked up on every user create and role change)
+    @Cacheable(cacheNames = CacheConfig.ROLES, key = "#p0", unless = "#result == null")
     Optional<Role> findByName(RoleType name);
 
     // Check if role exists by name
@@ -62,6 +62,10 @@ public class User
     @Column(name = "failed_login_attempts", nullable = false)
     private int failedLoginAttempts = 0;
 
+    // Last successful login (written in batches by the login event recorder, so it may lag briefly)
+    @Column(name = "last_login_at")
+    private LocalDateTime lastLoginAt;
+
     // Account creation timestamp (auto-populated)
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
@@ -180,6 +184,18 @@ public class User
         this.failedLoginAttempts = failedLoginAttempts;
     }
 
+    // Last successful login timestamp
+    public LocalDateTime getLastLoginAt()
+    {
+        return lastLoginAt;
+    }
+
+    // Last successful login timestamp
+    public void setLastLoginAt(LocalDateTime lastLoginAt)
+    {
+        this.lastLoginAt = lastLoginAt;
+    }
+
     // Creation timestamp
     public LocalDateTime getCreatedAt()
     {
@@ -71,12 +71,6 @@ public interface UserService
     // Disable user account
     void disableAccount(UUID userId);
     
-    // Increment failed login attempts and lock if threshold reached
-    void recordFailedLogin(UUID userId);
-    
-    // Reset failed login attempts (successful login)
-    void recordSuccessfulLogin(UUID userId);
-    
     // * Role Management Operations
     
     // Add role to user
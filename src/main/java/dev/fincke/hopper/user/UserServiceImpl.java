@@ -4,6 +4,7 @@ import dev.fincke.hopper.user.dto.PasswordChangeRequest;
 import dev.fincke.hopper.user.dto.UserCreateRequest;
 import dev.fincke.hopper.user.dto.UserResponse;
 import dev.fincke.hopper.user.dto.UserUpdateRequest;
+import dev.fincke.hopper.security.TokenRevocationRegistry;
 import dev.fincke.hopper.user.exception.*;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -35,6 +36,9 @@ public class UserServiceImpl implements UserService
     // BCrypt password encoder for secure password hashing
     private final PasswordEncoder passwordEncoder;
     
+    // Token cut-offs so claim-based authentication sees account changes without a user lookup
+    private final TokenRevocationRegistry revocationRegistry;
+    
     // * Validation Patterns
     
     // Username pattern: alphanumeric, underscore, hyphen (3-50 chars)
@@ -50,19 +54,18 @@ public class UserServiceImpl implements UserService
         "^(?=.*[a-z])(?=.*[A-Z])(?=.*\\d).{8,}$"
     );
     
-    // Maximum failed login attempts before account lock
-    private static final int MAX_FAILED_ATTEMPTS = 5;
-    
     // * Constructor
     
     // Constructor injection for all dependencies
     public UserServiceImpl(UserRepository userRepository, 
                           RoleRepository roleRepository,
-                          PasswordEncoder passwordEncoder)
+                          PasswordEncoder passwordEncoder,
+                          TokenRevocationRegistry revocationRegistry)
     {
         this.userRepository = userRepository;
         this.roleRepository = roleRepository;
         this.passwordEncoder = passwordEncoder;
+        this.revocationRegistry = revocationRegistry;
     }
     
     // * Core CRUD Operations
@@ -174,6 +177,10 @@ public class UserServiceImpl implements UserService
         }
         
         User savedUser = userRepository.save(user);
+        
+        // Issued tokens carry username, email, roles and account state as claims
+        revocationRegistry.revokeAllTokens(id);
+        
         return UserResponse.from(savedUser);
     }
     
@@ -207,6 +214,7 @@ public class UserServiceImpl implements UserService
         }
 
         userRepository.deleteById(id);
+        revocationRegistry.revokeAllTokens(id);
     }
     
     // * Authentication Operations
@@ -308,6 +316,7 @@ public class UserServiceImpl implements UserService
         // Encrypt and set new password
         user.setPassword(passwordEncoder.encode(request.newPassword()));
         userRepository.save(user);
+        revocationRegistry.revokeAllTokens(userId);
     }
     
     @Override
@@ -328,6 +337,7 @@ public class UserServiceImpl implements UserService
         user.setPassword(passwordEncoder.encode(newPassword));
         user.resetFailedLoginAttempts(); // Reset failed attempts on password reset
         userRepository.save(user);
+        revocationRegistry.revokeAllTokens(userId);
     }
     
     @Override
@@ -352,6 +362,7 @@ public class UserServiceImpl implements UserService
         
         user.lockAccount();
         userRepository.save(user);
+        revocationRegistry.revokeAllTokens(userId);
     }
     
     @Override
@@ -388,37 +399,7 @@ public class UserServiceImpl implements UserService
         
         user.setEnabled(false);
         userRepository.save(user);
-    }
-    
-    @Override
-    @Transactional
-    public void recordFailedLogin(UUID userId)
-    {
-        
-        User user = userRepository.findById(userId)
-            .orElseThrow(() -> new UserNotFoundException(userId));
-        
-        user.incrementFailedLoginAttempts();
-        
-        // Lock account if threshold reached
-        if (user.getFailedLoginAttempts() >= MAX_FAILED_ATTEMPTS)
-        {
-            user.lockAccount();
-        }
-        
-        userRepository.save(user);
-    }
-    
-    @Override
-    @Transactional
-    public void recordSuccessfulLogin(UUID userId)
-    {
-        
-        User user = userRepository.findById(userId)
-            .orElseThrow(() -> new UserNotFoundException(userId));
-        
-        user.resetFailedLoginAttempts();
-        userRepository.save(user);
+        revocationRegistry.revokeAllTokens(userId);
     }
     
     // * Role Management Operations
@@ -436,6 +417,7 @@ public class UserServiceImpl implements UserService
         
         user.addRole(role);
         userRepository.save(user);
+        revocationRegistry.revokeAllTokens(userId);
     }
     
     @Override
@@ -451,6 +433,7 @@ public class UserServiceImpl implements UserService
         
         user.removeRole(role);
         userRepository.save(user);
+        revocationRegistry.revokeAllTokens(userId);
     }
     
     @Override
@@ -30,6 +30,9 @@ public record UserResponse(
     // Failed login attempts
     int failedLoginAttempts,
     
+    // Last successful login timestamp (null if the user never logged in)
+    LocalDateTime lastLoginAt,
+    
     // User roles (as enum types for API clarity)
     Set<RoleType> roles,
     
@@ -63,6 +66,7 @@ public record UserResponse(
             user.isEnabled(),
             user.isAccountLocked(),
             user.getFailedLoginAttempts(),
+            user.getLastLoginAt(),
             roleTypes,
             user.getCreatedAt(),
             user.getUpdatedAt()
@@ -88,6 +92,7 @@ public record UserResponse(
             user.isEnabled(),
             user.isAccountLocked(),
             0, // failed attempts excluded for privacy
+            null, // last login excluded for privacy
             roleTypes,
             user.getCreatedAt(),
             user.getUpdatedAt()
@@ -0,0 +1,3 @@
+-- Composite index so status + date range lookups scan only the matching range
+-- Leading status column also serves plain status filters
+CREATE INDEX idx_orders_status_date ON orders (status, order_date);
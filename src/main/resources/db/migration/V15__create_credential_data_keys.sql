@@ -0,0 +1,18 @@
+-- Envelope encryption keeps one data-encryption key per encryption version
+-- Each key is stored wrapped by a master-key-derived KEK so rotation rewraps rows here instead of every credential
+
+CREATE TABLE credential_data_keys (
+  key_id             VARCHAR(100) PRIMARY KEY,
+  encryption_version VARCHAR(50)  NOT NULL,
+  wrapped_key        TEXT         NOT NULL,
+  kek_salt           TEXT         NOT NULL,
+  created_at         TIMESTAMP    NOT NULL,
+  rewrapped_at       TIMESTAMP,
+
+  CONSTRAINT uq_credential_data_keys_version UNIQUE (encryption_version)
+);
+
+-- Document columns so DBAs understand how wrapped keys are used
+COMMENT ON COLUMN credential_data_keys.wrapped_key IS 'Base64 IV + AES-GCM ciphertext of the data key under the master-key-derived KEK';
+COMMENT ON COLUMN credential_data_keys.kek_salt IS 'Base64-encoded salt used to derive the KEK from the master key';
+COMMENT ON COLUMN platform_credentials.salt IS 'Base64-encoded salt used for key derivation; NULL for envelope-encrypted credentials';
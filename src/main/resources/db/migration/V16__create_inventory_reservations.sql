@@ -0,0 +1,22 @@
+-- Reservation ledger for listing quantities: order items hold units here instead of locking the product row
+-- Rows are never deleted; status moves HELD -> COMMITTED -> FOLDED (or HELD -> RELEASED / EXPIRED)
+-- Negative quantities record units returned by edited or deleted order items
+
+CREATE TABLE inventory_reservations (
+  id            UUID PRIMARY KEY,
+  listing_id    UUID        NOT NULL REFERENCES listings (id) ON DELETE CASCADE,
+  product_id    UUID        NOT NULL REFERENCES products (id) ON DELETE CASCADE,
+  order_item_id UUID,
+  quantity      INTEGER     NOT NULL,
+  status        VARCHAR(20) NOT NULL,
+  created_at    TIMESTAMP   NOT NULL,
+  expires_at    TIMESTAMP,
+  folded_at     TIMESTAMP
+);
+
+-- Outstanding-quantity sums per listing and the fold / expiry scans all filter on status first
+CREATE INDEX idx_inventory_reservations_listing_status ON inventory_reservations (listing_id, status);
+CREATE INDEX idx_inventory_reservations_status_created ON inventory_reservations (status, created_at);
+
+-- Lets deletes and quantity decreases tell ledger-tracked order items from ones created before the ledger
+CREATE INDEX idx_inventory_reservations_order_item ON inventory_reservations (order_item_id);
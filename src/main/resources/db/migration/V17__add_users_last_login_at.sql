@@ -0,0 +1,2 @@
+-- Last successful login, written by the batched login bookkeeping flush (null until the first login)
+ALTER TABLE users ADD COLUMN last_login_at TIMESTAMP;
@@ -0,0 +1,18 @@
+-- Per-day, per-platform rollup of orders, item revenue and fees, keyed by the order's order_date
+-- Kept current by incremental deltas from the order, order item and platform fee services;
+-- dailyPlatformMetricsRebuildJob recomputes any date range from the base tables
+
+CREATE TABLE daily_platform_metrics (
+  metric_date DATE          NOT NULL,
+  platform_id UUID          NOT NULL REFERENCES platforms (id) ON DELETE CASCADE,
+  order_count BIGINT        NOT NULL DEFAULT 0,
+  units_sold  BIGINT        NOT NULL DEFAULT 0,
+  revenue     NUMERIC(14,2) NOT NULL DEFAULT 0,
+  fee_count   BIGINT        NOT NULL DEFAULT 0,
+  fee_total   NUMERIC(14,2) NOT NULL DEFAULT 0,
+  updated_at  TIMESTAMP     NOT NULL,
+  PRIMARY KEY (metric_date, platform_id)
+);
+
+-- Per-platform dashboards scan one platform's days in date order
+CREATE INDEX idx_daily_platform_metrics_platform_date ON daily_platform_metrics (platform_id, metric_date);
@@ -0,0 +1,10 @@
+-- Denormalized item totals so verifying an order total is a single-row read
+-- item_count is total units (SUM(quantity)); items_subtotal is SUM(price * quantity)
+-- Maintained by increments from the order item service; orderTotalsReconcileJob repairs drift
+
+ALTER TABLE orders ADD COLUMN item_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE orders ADD COLUMN items_subtotal NUMERIC(12,2) NOT NULL DEFAULT 0;
+
+UPDATE orders SET
+  item_count = COALESCE((SELECT SUM(i.quantity) FROM order_items i WHERE i.order_id = orders.id), 0),
+  items_subtotal = COALESCE((SELECT SUM(i.price * i.quantity) FROM order_items i WHERE i.order_id = orders.id), 0);
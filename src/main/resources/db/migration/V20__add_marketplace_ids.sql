@@ -0,0 +1,6 @@
+-- Connector-side identifiers (lst-..., ord-...) that the status poller looks rows up by
+-- external_listing_id / external_order_id hold the marketplace's own id, which the connector cannot resolve
+-- Nullable: rows created before this migration or outside the connector have nothing to poll
+
+ALTER TABLE listings ADD COLUMN marketplace_listing_id VARCHAR(255);
+ALTER TABLE orders ADD COLUMN marketplace_order_id VARCHAR(255);
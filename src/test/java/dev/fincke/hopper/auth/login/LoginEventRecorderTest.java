@@ -0,0 +1,173 @@
+package dev.fincke.hopper.auth.login;
+
+import dev.fincke.hopper.user.User;
+import dev.fincke.hopper.user.UserRepository;
+import dev.fincke.hopper.user.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+// * Test Class
+// Coalescing, flushing and lockout of the login bookkeeping pipeline; runs without a test-managed transaction
+// so the recorder's JDBC reads and writes see committed user rows
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@SuppressWarnings("null")
+class LoginEventRecorderTest
+{
+    private static final Instant NOW = Instant.parse("2026-01-01T12:00:00Z");
+
+    // * Dependencies
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private UserService userService;
+
+    private LoginEventRecorder recorder;
+
+    private User user;
+
+    // * Setup
+
+    @BeforeEach
+    void setUp()
+    {
+        userService = mock(UserService.class);
+        LoginEventProperties properties = new LoginEventProperties();
+        properties.setMaxFailedAttempts(3);
+        recorder = new LoginEventRecorder(new NamedParameterJdbcTemplate(dataSource), userService, properties,
+            Clock.fixed(NOW, ZoneOffset.UTC));
+        user = userRepository.save(new User("jdoe", "jdoe@example.com", "hash"));
+    }
+
+    @AfterEach
+    void tearDown()
+    {
+        userRepository.deleteAll();
+    }
+
+    // * Tests
+
+    @Test
+    @DisplayName("repeated failures for one user coalesce into a single row update")
+    void failuresCoalescePerUser()
+    {
+        recorder.recordFailure("jdoe");
+        recorder.recordFailure("jdoe@example.com");
+
+        assertThat(recorder.pendingCount()).isEqualTo(1);
+        assertThat(recorder.flush()).isEqualTo(1);
+        assertThat(reload().getFailedLoginAttempts()).isEqualTo(2);
+        assertThat(recorder.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("a success resets failures and records the login time")
+    void successResetsFailures()
+    {
+        recorder.recordFailure("jdoe");
+        recorder.recordSuccess(user.getId());
+
+        recorder.flush();
+
+        User stored = reload();
+        assertThat(stored.getFailedLoginAttempts()).isZero();
+        assertThat(stored.getLastLoginAt()).isEqualTo(LocalDateTime.ofInstant(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("the lockout threshold is enforced before any flush")
+    void thresholdLocksImmediately()
+    {
+        assertThat(recorder.recordFailure("jdoe")).isFalse();
+        assertThat(recorder.recordFailure("jdoe")).isFalse();
+        verify(userService, never()).lockAccount(user.getId());
+
+        assertThat(recorder.recordFailure("jdoe")).isTrue();
+
+        verify(userService, times(1)).lockAccount(user.getId());
+        assertThat(recorder.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("a stored failure count already past the threshold locks on the next failure")
+    void storedCountPastThresholdLocks()
+    {
+        user.setFailedLoginAttempts(5);
+        userRepository.save(user);
+
+        assertThat(recorder.recordFailure("jdoe")).isTrue();
+
+        verify(userService, times(1)).lockAccount(user.getId());
+        assertThat(recorder.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("the counter restarts after a lockout so the threshold applies afresh")
+    void counterResetsAfterLockout()
+    {
+        recorder.recordFailure("jdoe");
+        recorder.recordFailure("jdoe");
+        assertThat(recorder.recordFailure("jdoe")).isTrue();
+
+        // The mocked lock leaves the row unlocked, so further failures are counted from zero again
+        assertThat(recorder.recordFailure("jdoe")).isFalse();
+        assertThat(recorder.recordFailure("jdoe")).isFalse();
+        verify(userService, times(1)).lockAccount(user.getId());
+    }
+
+    @Test
+    @DisplayName("a counter back at zero is dropped once flushed and re-seeded from the row")
+    void flushedZeroCounterIsEvicted()
+    {
+        recorder.recordFailure("jdoe");
+        recorder.flush();
+        assertThat(recorder.trackedCount()).isEqualTo(1);
+
+        recorder.recordSuccess(user.getId());
+        assertThat(recorder.trackedCount()).isEqualTo(1);
+        recorder.flush();
+        assertThat(recorder.trackedCount()).isZero();
+
+        recorder.recordFailure("jdoe");
+        recorder.flush();
+        assertThat(reload().getFailedLoginAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("failures for unknown identifiers are ignored")
+    void unknownIdentifierIgnored()
+    {
+        assertThat(recorder.recordFailure("nobody")).isFalse();
+        assertThat(recorder.pendingCount()).isZero();
+    }
+
+    // * Helpers
+
+    private User reload()
+    {
+        return userRepository.findById(user.getId()).orElseThrow();
+    }
+}
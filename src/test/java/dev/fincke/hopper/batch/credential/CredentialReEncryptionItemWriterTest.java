@@ -0,0 +1,94 @@
+package dev.fincke.hopper.batch.credential;
+
+import dev.fincke.hopper.security.encryption.CredentialDecryptionException;
+import dev.fincke.hopper.security.encryption.CredentialEncryptionService;
+import dev.fincke.hopper.security.encryption.EncryptedCredential;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.item.Chunk;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// * Tests
+// Verifies chunks are re-encrypted off-thread and written back as one guarded batch update.
+@ExtendWith(MockitoExtension.class)
+class CredentialReEncryptionItemWriterTest
+{
+    @Mock
+    private CredentialEncryptionService encryptionService;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private CredentialReEncryptionItemWriter writer;
+
+    @BeforeEach
+    void setUp()
+    {
+        writer = new CredentialReEncryptionItemWriter(encryptionService, jdbcTemplate, 2);
+    }
+
+    @AfterEach
+    void tearDown()
+    {
+        writer.close();
+    }
+
+    // Every candidate in the chunk should land in a single batch keyed by id and its old key id.
+    @Test
+    @SuppressWarnings("unchecked")
+    void writesReEncryptedChunkAsOneBatch()
+    {
+        CredentialReEncryptionCandidate first = candidate("old-key-1");
+        CredentialReEncryptionCandidate second = candidate("old-key-2");
+        when(encryptionService.reEncrypt(any())).thenAnswer(invocation -> {
+            EncryptedCredential old = invocation.getArgument(0);
+            return EncryptedCredential.fromDatabase("new-" + old.keyId(), null, "AES-GCM-256-V2", LocalDateTime.now(), "data-key");
+        });
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[] {1, 1});
+
+        writer.write(Chunk.of(first, second));
+
+        ArgumentCaptor<List<Object[]>> batch = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), batch.capture());
+        assertThat(batch.getValue()).hasSize(2);
+        assertThat(batch.getValue().get(0)).containsSequence("new-old-key-1", null, "AES-GCM-256-V2");
+        assertThat(batch.getValue().get(0)[5]).isEqualTo(first.id());
+        assertThat(batch.getValue().get(0)[6]).isEqualTo("old-key-1");
+        assertThat(batch.getValue().get(1)[5]).isEqualTo(second.id());
+    }
+
+    // A credential that cannot be decrypted should fail the chunk with its own exception so the step can skip it.
+    @Test
+    void propagatesOriginalFailureWithoutWriting()
+    {
+        when(encryptionService.reEncrypt(any())).thenThrow(new CredentialDecryptionException("Decryption failed"));
+
+        assertThatThrownBy(() -> writer.write(Chunk.of(candidate("old-key"))))
+            .isInstanceOf(CredentialDecryptionException.class);
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    private static CredentialReEncryptionCandidate candidate(String keyId)
+    {
+        return new CredentialReEncryptionCandidate(UUID.randomUUID(), "cipher", "salt", "AES-GCM-256-V1",
+            LocalDateTime.now().minusDays(400), keyId);
+    }
+}
@@ -0,0 +1,132 @@
+package dev.fincke.hopper.batch.order;
+
+import dev.fincke.hopper.marketplace.client.MarketplaceClient;
+import dev.fincke.hopper.marketplace.client.adapter.StubMarketplaceClient;
+import dev.fincke.hopper.marketplace.client.model.AddressInfo;
+import dev.fincke.hopper.marketplace.client.model.BuyerInfo;
+import dev.fincke.hopper.marketplace.client.model.MoneyValue;
+import dev.fincke.hopper.marketplace.client.model.OrderCommand;
+import dev.fincke.hopper.marketplace.client.model.OrderItemCommand;
+import dev.fincke.hopper.marketplace.client.model.OrderPage;
+import dev.fincke.hopper.marketplace.client.model.OrderStatus;
+import dev.fincke.hopper.marketplace.client.model.OrderSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// * Tests
+// Verifies the order import reader pages through the stub connector and resumes from saved state.
+class ExternalOrderItemReaderTest
+{
+    // * Fixtures
+    // Fresh stub per test seeded with orders across two platforms.
+    private final StubMarketplaceClient client = new StubMarketplaceClient();
+
+    @BeforeEach
+    void seedOrders()
+    {
+        for (int i = 0; i < 5; i++)
+        {
+            client.createOrder(order("ebay", "ebay-" + i));
+        }
+        for (int i = 0; i < 2; i++)
+        {
+            client.createOrder(order("amazon", "amazon-" + i));
+        }
+    }
+
+    // * Tests
+    // Reader should drain every page for the requested platform and then signal end of data.
+    @Test
+    void readsAllOrdersForPlatformAcrossPages()
+    {
+        ExternalOrderItemReader reader = new ExternalOrderItemReader(client, "ebay", 2, 1);
+        reader.open(new ExecutionContext());
+
+        List<ExternalOrderRecord> records = drain(reader);
+
+        assertThat(records).hasSize(5);
+        assertThat(records).allSatisfy(record -> assertThat(record.platformCode()).isEqualTo("EBAY"));
+        assertThat(records.get(0).totalAmount()).isEqualByComparingTo("50.00");
+    }
+
+    // A reopened reader should continue after the last committed row instead of starting over.
+    @Test
+    void resumesFromSavedExecutionContext()
+    {
+        ExecutionContext context = new ExecutionContext();
+        ExternalOrderItemReader first = new ExternalOrderItemReader(client, "ebay", 2, 2);
+        first.open(context);
+        List<ExternalOrderRecord> firstRun = new ArrayList<>();
+        for (int i = 0; i < 3; i++)
+        {
+            firstRun.add(first.read());
+        }
+        first.update(context);
+        first.close();
+
+        ExternalOrderItemReader restarted = new ExternalOrderItemReader(client, "ebay", 2, 2);
+        restarted.open(context);
+        List<ExternalOrderRecord> secondRun = drain(restarted);
+
+        assertThat(secondRun).hasSize(2);
+        List<String> seen = new ArrayList<>();
+        firstRun.forEach(record -> seen.add(record.externalOrderId()));
+        secondRun.forEach(record -> seen.add(record.externalOrderId()));
+        assertThat(seen).doesNotHaveDuplicates().hasSize(5);
+    }
+
+    // A connector page with no matching orders but a next cursor must not end the step before the feed is drained.
+    @Test
+    void pagesPastEmptyPageInMiddleOfFeed()
+    {
+        MarketplaceClient pagedClient = mock(MarketplaceClient.class);
+        when(pagedClient.listOrders("EBAY", null, 2))
+            .thenReturn(new OrderPage(List.of(summary("e-1"), summary("e-2")), "2", List.of()));
+        when(pagedClient.listOrders("EBAY", "2", 2)).thenReturn(new OrderPage(List.of(), "4", List.of()));
+        when(pagedClient.listOrders("EBAY", "4", 2)).thenReturn(new OrderPage(List.of(summary("e-3")), null, List.of()));
+
+        ExternalOrderItemReader reader = new ExternalOrderItemReader(pagedClient, "ebay", 2, 1);
+        reader.open(new ExecutionContext());
+
+        assertThat(drain(reader)).extracting(ExternalOrderRecord::externalOrderId)
+            .containsExactly("e-1", "e-2", "e-3");
+    }
+
+    // * Helpers
+    private static List<ExternalOrderRecord> drain(ExternalOrderItemReader reader)
+    {
+        List<ExternalOrderRecord> records = new ArrayList<>();
+        ExternalOrderRecord record;
+        while ((record = reader.read()) != null)
+        {
+            records.add(record);
+        }
+        return records;
+    }
+
+    private static OrderCommand order(String platform, String idempotencyKey)
+    {
+        BuyerInfo buyer = new BuyerInfo(
+            "Jane Doe",
+            new AddressInfo("123 Main", "Metropolis", "NY", "12345", "US")
+        );
+        OrderItemCommand item = new OrderItemCommand("SKU-1", 2, new MoneyValue(new BigDecimal("25.00"), "USD"));
+        return new OrderCommand(platform, "seller-1", null, "SKU-1", buyer, List.of(item), idempotencyKey);
+    }
+
+    private static OrderSummary summary(String externalId)
+    {
+        return new OrderSummary(externalId, externalId, "ebay", OrderStatus.CONFIRMED,
+            new MoneyValue(new BigDecimal("10.00"), "USD"), Instant.parse("2026-03-10T14:30:00Z"));
+    }
+}
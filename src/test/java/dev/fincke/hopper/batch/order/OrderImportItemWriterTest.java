@@ -0,0 +1,143 @@
+package dev.fincke.hopper.batch.order;
+
+import dev.fincke.hopper.marketplace.client.model.OrderStatus;
+import dev.fincke.hopper.order.buyer.Buyer;
+import dev.fincke.hopper.order.buyer.BuyerRepository;
+import dev.fincke.hopper.order.order.Order;
+import dev.fincke.hopper.order.order.OrderRepository;
+import dev.fincke.hopper.platform.platform.Platform;
+import dev.fincke.hopper.platform.platform.PlatformRepository;
+import dev.fincke.hopper.testsupport.PersistedTestData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.Chunk;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Repository-level tests for the set-based order import writer
+@DataJpaTest
+@Import(PersistedTestData.class)
+@SuppressWarnings("null")
+class OrderImportItemWriterTest
+{
+    // * Test Dependencies
+
+    private static final Instant ORDER_DATE = Instant.parse("2024-03-01T12:00:00Z");
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformRepository platformRepository;
+
+    @Autowired
+    private BuyerRepository buyerRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private PersistedTestData testData;
+
+    private OrderImportItemWriter writer;
+
+    private Platform ebay;
+
+    private Buyer buyer;
+
+    @BeforeEach
+    void setUp()
+    {
+        ebay = testData.platform("Main eBay", "EBAY");
+        buyer = buyerRepository.save(new Buyer("import@example.com", "Import Buyer"));
+        orderRepository.save(new Order(ebay, "EXT-EXISTING", "confirmed", BigDecimal.TEN, Timestamp.from(ORDER_DATE)));
+        entityManager.flush();
+        entityManager.clear();
+
+        writer = new OrderImportItemWriter(platformRepository, buyerRepository, new NamedParameterJdbcTemplate(dataSource));
+    }
+
+    // Tests new rows are inserted with their resolved platform and buyer
+    @Test
+    @DisplayName("write inserts new orders resolved by platform type")
+    void writeInsertsNewOrders()
+    {
+        writer.write(Chunk.of(
+            request("ebay", "EXT-1", buyer.getId()),
+            request("EBAY", "EXT-2", UUID.randomUUID())));
+        entityManager.clear();
+
+        Order first = orderRepository.findByPlatformAndExternalOrderId(ebay, "EXT-1");
+        Order second = orderRepository.findByPlatformAndExternalOrderId(ebay, "EXT-2");
+        assertThat(first).isNotNull();
+        assertThat(first.getStatus()).isEqualTo(OrderImportItemWriter.IMPORTED_STATUS);
+        assertThat(first.getBuyer().getId()).isEqualTo(buyer.getId());
+        assertThat(first.getMarketplaceOrderId()).isEqualTo("ord-EXT-1");
+        assertThat(second).isNotNull();
+        assertThat(second.getBuyer()).isNull();
+    }
+
+    // Tests existing, repeated and unresolvable rows are skipped without failing the chunk
+    @Test
+    @DisplayName("write skips existing, in-chunk duplicate and unknown platform rows")
+    void writeSkipsDuplicatesAndUnknownPlatforms()
+    {
+        writer.write(Chunk.of(
+            request("EBAY", "EXT-EXISTING", null),
+            request("EBAY", "EXT-3", null),
+            request("EBAY", "EXT-3", null),
+            request("UNKNOWN", "EXT-4", null)));
+        entityManager.clear();
+
+        List<Order> orders = orderRepository.findByPlatform(ebay);
+        assertThat(orders).extracting(Order::getExternalOrderId)
+            .containsExactlyInAnyOrder("EXT-EXISTING", "EXT-3");
+        assertThat(orderRepository.findByPlatformAndExternalOrderId(ebay, "EXT-EXISTING").getStatus())
+            .isEqualTo("confirmed");
+    }
+
+    // Tests the mapped connector status is stored, falling back to pending when missing or unknown
+    @Test
+    @DisplayName("write stores the connector status and defaults missing or unknown statuses to pending")
+    void writeStoresConnectorStatus()
+    {
+        writer.write(Chunk.of(
+            request("EBAY", "EXT-CONFIRMED", null, ExternalOrderItemProcessor.toLocalStatus(OrderStatus.CONFIRMED)),
+            request("EBAY", "EXT-FAILED", null, ExternalOrderItemProcessor.toLocalStatus(OrderStatus.FAILED)),
+            request("EBAY", "EXT-MISSING", null, ExternalOrderItemProcessor.toLocalStatus(null)),
+            request("EBAY", "EXT-UNKNOWN", null, "on_hold")));
+        entityManager.clear();
+
+        assertThat(orderRepository.findByPlatformAndExternalOrderId(ebay, "EXT-CONFIRMED").getStatus()).isEqualTo("confirmed");
+        assertThat(orderRepository.findByPlatformAndExternalOrderId(ebay, "EXT-FAILED").getStatus()).isEqualTo("cancelled");
+        assertThat(orderRepository.findByPlatformAndExternalOrderId(ebay, "EXT-MISSING").getStatus()).isEqualTo("pending");
+        assertThat(orderRepository.findByPlatformAndExternalOrderId(ebay, "EXT-UNKNOWN").getStatus()).isEqualTo("pending");
+    }
+
+    private static OrderImportRequest request(String platformCode, String externalOrderId, UUID buyerId)
+    {
+        return request(platformCode, externalOrderId, buyerId, null);
+    }
+
+    private static OrderImportRequest request(String platformCode, String externalOrderId, UUID buyerId, String status)
+    {
+        return new OrderImportRequest(platformCode, externalOrderId, "ord-" + externalOrderId, buyerId, status,
+            new BigDecimal("25.50"), ORDER_DATE);
+    }
+}
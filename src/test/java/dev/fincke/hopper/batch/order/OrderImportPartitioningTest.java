@@ -0,0 +1,89 @@
+package dev.fincke.hopper.batch.order;
+
+import dev.fincke.hopper.marketplace.client.adapter.StubMarketplaceClient;
+import dev.fincke.hopper.marketplace.client.model.AddressInfo;
+import dev.fincke.hopper.marketplace.client.model.BuyerInfo;
+import dev.fincke.hopper.marketplace.client.model.MoneyValue;
+import dev.fincke.hopper.marketplace.client.model.OrderCommand;
+import dev.fincke.hopper.marketplace.client.model.OrderItemCommand;
+import dev.fincke.hopper.platform.platform.PlatformRepository;
+import dev.fincke.hopper.testsupport.PersistedTestData;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Partitions built from the stored platforms, each feeding a reader over the stub connector
+@DataJpaTest
+@Import(PersistedTestData.class)
+class OrderImportPartitioningTest
+{
+    // * Test Dependencies
+
+    @Autowired
+    private PlatformRepository platformRepository;
+
+    @Autowired
+    private PersistedTestData testData;
+
+    // Default partition keys must be codes the connector filters on, so together the partitions import every order
+    @Test
+    @DisplayName("default partitions built from stored platforms read every connector order once")
+    void defaultPartitionsCoverEveryConnectorOrder()
+    {
+        testData.ebay();
+        testData.platform("Amazon");
+
+        StubMarketplaceClient client = new StubMarketplaceClient();
+        for (int i = 0; i < 3; i++)
+        {
+            client.createOrder(order("ebay", "ebay-" + i));
+        }
+        for (int i = 0; i < 2; i++)
+        {
+            client.createOrder(order("amazon", "amazon-" + i));
+        }
+
+        Map<String, ExecutionContext> partitions =
+            new PlatformCodePartitioner(platformRepository.findDistinctPlatformCodes()).partition(2);
+
+        assertThat(partitions).containsOnlyKeys("platform-AMAZON", "platform-EBAY");
+        List<ExternalOrderRecord> imported = new ArrayList<>();
+        for (ExecutionContext context : partitions.values())
+        {
+            ExternalOrderItemReader reader = new ExternalOrderItemReader(
+                client, context.getString(PlatformCodePartitioner.PLATFORM_CODE_KEY), 2, 1);
+            reader.open(new ExecutionContext());
+            ExternalOrderRecord record;
+            while ((record = reader.read()) != null)
+            {
+                imported.add(record);
+            }
+            reader.close();
+        }
+
+        assertThat(imported).hasSize(5);
+        assertThat(imported).extracting(ExternalOrderRecord::externalOrderId).doesNotHaveDuplicates();
+    }
+
+    // * Helpers
+
+    private static OrderCommand order(String platform, String idempotencyKey)
+    {
+        BuyerInfo buyer = new BuyerInfo(
+            "Jane Doe",
+            new AddressInfo("123 Main", "Metropolis", "NY", "12345", "US")
+        );
+        OrderItemCommand item = new OrderItemCommand("SKU-1", 1, new MoneyValue(new BigDecimal("10.00"), "USD"));
+        return new OrderCommand(platform, "seller-1", null, "SKU-1", buyer, List.of(item), idempotencyKey);
+    }
+}
@@ -0,0 +1,219 @@
+package dev.fincke.hopper.batch.order;
+
+import dev.fincke.hopper.catalog.inventory.InventoryReservationProperties;
+import dev.fincke.hopper.catalog.inventory.InventoryReservationRepository;
+import dev.fincke.hopper.catalog.inventory.InventoryReservationServiceImpl;
+import dev.fincke.hopper.catalog.listing.Listing;
+import dev.fincke.hopper.catalog.listing.ListingRepository;
+import dev.fincke.hopper.order.buyer.BuyerRepository;
+import dev.fincke.hopper.order.item.OrderItemRepository;
+import dev.fincke.hopper.order.item.OrderItemServiceImpl;
+import dev.fincke.hopper.order.item.dto.OrderItemCreateRequest;
+import dev.fincke.hopper.order.item.dto.OrderItemResponse;
+import dev.fincke.hopper.order.order.Order;
+import dev.fincke.hopper.order.order.OrderItemTotals;
+import dev.fincke.hopper.order.order.OrderRepository;
+import dev.fincke.hopper.order.order.OrderServiceImpl;
+import dev.fincke.hopper.order.order.dto.OrderResponse;
+import dev.fincke.hopper.platform.platform.Platform;
+import dev.fincke.hopper.platform.platform.PlatformRepository;
+import dev.fincke.hopper.report.rollup.DailyPlatformMetricsRecorder;
+import dev.fincke.hopper.testsupport.PersistedTestData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.Chunk;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+// * Test Class
+// Increments of orders.item_count / items_subtotal from the order item service and the reconcile writer that
+// repairs drift; runs without a test-managed transaction so each write commits like it does from the services
+// and the batch step
+@DataJpaTest
+@Import(PersistedTestData.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@SuppressWarnings("null")
+class OrderTotalsReconcileItemWriterTest
+{
+    // * Dependencies
+
+    @Autowired
+    private PlatformRepository platformRepository;
+
+    @Autowired
+    private ListingRepository listingRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private BuyerRepository buyerRepository;
+
+    @Autowired
+    private InventoryReservationRepository reservationRepository;
+
+    @Autowired
+    private PersistedTestData testData;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    private OrderTotalsReconcileItemWriter writer;
+
+    private OrderItemServiceImpl orderItemService;
+
+    private OrderServiceImpl orderService;
+
+    private TransactionTemplate transactionTemplate;
+
+    private Listing listing;
+
+    private Order order;
+
+    // * Setup
+
+    @BeforeEach
+    void setUp()
+    {
+        jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        writer = new OrderTotalsReconcileItemWriter(jdbcTemplate);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // Rollup arithmetic is covered by DailyPlatformMetricsTest
+        DailyPlatformMetricsRecorder metricsRecorder = mock(DailyPlatformMetricsRecorder.class);
+        InventoryReservationServiceImpl reservationService = new InventoryReservationServiceImpl(reservationRepository,
+            jdbcTemplate, new InventoryReservationProperties(), Clock.systemUTC());
+        orderItemService = new OrderItemServiceImpl(orderItemRepository, orderRepository, listingRepository,
+            reservationService, metricsRecorder);
+        orderService = new OrderServiceImpl(orderRepository, platformRepository, buyerRepository, orderItemRepository,
+            metricsRecorder, reservationService);
+
+        Platform platform = testData.ebay();
+        listing = testData.listing(platform, "TOT", 50);
+        order = orderRepository.save(new Order(platform, "T-1", "pending", new BigDecimal("25.00"),
+            Timestamp.valueOf(LocalDateTime.of(2026, 3, 10, 14, 30))));
+    }
+
+    @AfterEach
+    void tearDown()
+    {
+        testData.deleteAll();
+    }
+
+    // * Tests
+
+    @Test
+    @DisplayName("item service writes keep the stored totals equal to the order's items")
+    void serviceWritesTrackItems()
+    {
+        OrderItemResponse first = addItem(2, BigDecimal.TEN);
+        OrderItemResponse second = addItem(1, new BigDecimal("5.00"));
+        assertTotals(3, "25.00");
+
+        inTransaction(() -> orderItemService.updateQuantity(first.id(), 4));
+        assertTotals(5, "45.00");
+
+        inTransaction(() -> orderItemService.updatePrice(second.id(), new BigDecimal("7.50")));
+        assertTotals(5, "47.50");
+
+        transactionTemplate.executeWithoutResult(status -> orderItemService.deleteOrderItem(first.id()));
+        assertTotals(1, "7.50");
+
+        addItem(3, new BigDecimal("2.00"));
+        assertTotals(4, "13.50");
+
+        transactionTemplate.executeWithoutResult(status -> orderItemService.removeAllItemsFromOrder(order.getId()));
+        assertTotals(0, "0.00");
+    }
+
+    @Test
+    @DisplayName("both services report the same item total, read from the stored subtotal")
+    void servicesAgreeOnItemTotal()
+    {
+        addItem(2, BigDecimal.TEN);
+        addItem(1, new BigDecimal("5.00"));
+
+        assertThat(orderService.calculateTotalFromItems(order.getId())).isEqualByComparingTo("25.00");
+        assertThat(orderItemService.calculateOrderTotal(order.getId())).isEqualByComparingTo("25.00");
+        assertThat(orderItemService.countItemsInOrder(order.getId())).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("recalculateTotal sees items added earlier in the same transaction")
+    void recalculateTotalSeesSameTransactionItems()
+    {
+        OrderResponse recalculated = inTransaction(() ->
+        {
+            // Load the order first so the persistence context holds it with a zero subtotal
+            orderService.findById(order.getId());
+            orderItemService.createOrderItem(
+                new OrderItemCreateRequest(order.getId(), listing.getId(), 3, new BigDecimal("4.00")));
+            return orderService.recalculateTotal(order.getId());
+        });
+
+        assertThat(recalculated.totalAmount()).isEqualByComparingTo("12.00");
+        assertThat(orderRepository.findItemTotalsById(order.getId()).orElseThrow().totalAmount())
+            .isEqualByComparingTo("12.00");
+    }
+
+    @Test
+    @DisplayName("the reconcile writer recomputes drifted totals from order_items")
+    void writerRepairsDrift()
+    {
+        addItem(2, BigDecimal.TEN);
+        addItem(1, new BigDecimal("5.00"));
+        jdbcTemplate.update("UPDATE orders SET item_count = 7, items_subtotal = 99.00 WHERE id = :id",
+            Map.of("id", order.getId()));
+
+        transactionTemplate.executeWithoutResult(status -> writer.write(Chunk.of(order.getId())));
+
+        assertTotals(3, "25.00");
+    }
+
+    // * Helpers
+
+    private OrderItemResponse addItem(int quantity, BigDecimal price)
+    {
+        return inTransaction(() -> orderItemService.createOrderItem(
+            new OrderItemCreateRequest(order.getId(), listing.getId(), quantity, price)));
+    }
+
+    private <T> T inTransaction(Supplier<T> call)
+    {
+        return transactionTemplate.execute(status -> call.get());
+    }
+
+    private void assertTotals(int itemCount, String itemsSubtotal)
+    {
+        OrderItemTotals totals = orderRepository.findItemTotalsById(order.getId()).orElseThrow();
+        assertThat(totals.itemCount()).isEqualTo(itemCount);
+        assertThat(totals.itemsSubtotal()).isEqualByComparingTo(itemsSubtotal);
+    }
+}
@@ -0,0 +1,39 @@
+package dev.fincke.hopper.batch.order;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// * Tests
+// Verifies platform partitions are stable, normalized and carry their platform code.
+class PlatformCodePartitionerTest
+{
+    // One partition per distinct code, named from the code so restarts find the same worker state.
+    @Test
+    void createsOnePartitionPerPlatformCode()
+    {
+        PlatformCodePartitioner partitioner = new PlatformCodePartitioner(Arrays.asList("ebay", " EBAY ", "amazon", null, " "));
+
+        Map<String, ExecutionContext> partitions = partitioner.partition(1);
+
+        assertThat(partitions).containsOnlyKeys("platform-EBAY", "platform-AMAZON");
+        assertThat(partitions.get("platform-EBAY").getString(PlatformCodePartitioner.PLATFORM_CODE_KEY)).isEqualTo("EBAY");
+        assertThat(partitions.get("platform-AMAZON").getString(PlatformCodePartitioner.PLATFORM_CODE_KEY)).isEqualTo("AMAZON");
+    }
+
+    // Without known codes a single unfiltered partition keeps the import running across every platform.
+    @Test
+    void fallsBackToSingleUnfilteredPartition()
+    {
+        Map<String, ExecutionContext> partitions = new PlatformCodePartitioner(List.of()).partition(4);
+
+        assertThat(partitions).containsOnlyKeys(PlatformCodePartitioner.ALL_PLATFORMS_PARTITION);
+        assertThat(partitions.get(PlatformCodePartitioner.ALL_PLATFORMS_PARTITION)
+            .containsKey(PlatformCodePartitioner.PLATFORM_CODE_KEY)).isFalse();
+    }
+}
@@ -0,0 +1,262 @@
+package dev.fincke.hopper.catalog.inventory;
+
+import dev.fincke.hopper.catalog.listing.Listing;
+import dev.fincke.hopper.catalog.listing.ListingRepository;
+import dev.fincke.hopper.catalog.product.ProductRepository;
+import dev.fincke.hopper.testsupport.PersistedTestData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// * Test Class
+// Admission, rollback, expiry and fold behaviour of the reservation ledger; runs without a test-managed transaction
+// so each admission commits on its own, as it would under concurrent order traffic
+@DataJpaTest
+@Import(PersistedTestData.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@SuppressWarnings("null")
+class InventoryReservationServiceTest
+{
+    // * Dependencies
+
+    @Autowired
+    private InventoryReservationRepository reservationRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ListingRepository listingRepository;
+
+    @Autowired
+    private PersistedTestData testData;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private MutableClock clock;
+
+    private InventoryReservationServiceImpl reservationService;
+
+    private TransactionTemplate transactionTemplate;
+
+    // * Setup
+
+    @BeforeEach
+    void setUp()
+    {
+        clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+        reservationService = new InventoryReservationServiceImpl(reservationRepository,
+            new NamedParameterJdbcTemplate(dataSource), new InventoryReservationProperties(), clock);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown()
+    {
+        testData.deleteAll();
+    }
+
+    // * Tests
+
+    @Test
+    @DisplayName("concurrent holds on one listing never admit more than the listed quantity")
+    void concurrentHoldsNeverOversell() throws Exception
+    {
+        Listing listing = createListing(100);
+        int threads = 8;
+        int attemptsPerThread = 25;
+
+        AtomicInteger admitted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try
+        {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++)
+            {
+                futures.add(executor.submit(() ->
+                {
+                    start.await();
+                    for (int i = 0; i < attemptsPerThread; i++)
+                    {
+                        boolean held = Boolean.TRUE.equals(transactionTemplate.execute(status ->
+                        {
+                            Optional<UUID> holdId = hold(listing, 1);
+                            holdId.ifPresent(id -> reservationService.commit(id, UUID.randomUUID()));
+                            return holdId.isPresent();
+                        }));
+                        (held ? admitted : rejected).incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures)
+            {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+
+        // 200 attempts against 100 units: exactly 100 are admitted and recorded in the ledger
+        assertThat(admitted.get()).isEqualTo(100);
+        assertThat(rejected.get()).isEqualTo(100);
+        assertThat(reservationService.available(listing.getId())).isZero();
+        assertThat(reservationRepository.findAll())
+            .allMatch(reservation -> reservation.getStatus() == ReservationStatus.COMMITTED)
+            .hasSize(100);
+    }
+
+    @Test
+    @DisplayName("a rolled-back hold gives its units back")
+    void rolledBackHoldReturnsUnits()
+    {
+        Listing listing = createListing(3);
+
+        assertThrows(IllegalStateException.class, () -> transactionTemplate.executeWithoutResult(status ->
+        {
+            assertThat(hold(listing, 2)).isPresent();
+            throw new IllegalStateException("order failed");
+        }));
+
+        assertThat(reservationService.available(listing.getId())).isEqualTo(3);
+        assertThat(reservationRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("expired holds are swept and their units admitted again")
+    void expiredHoldsReturnUnits()
+    {
+        Listing listing = createListing(2);
+        assertThat(transactionTemplate.execute(status -> hold(listing, 2))).isPresent();
+        assertThat(transactionTemplate.execute(status -> hold(listing, 1))).isEmpty();
+
+        clock.advance(new InventoryReservationProperties().getHoldTtl().plusSeconds(1));
+        int expired = transactionTemplate.execute(status -> reservationService.expireHolds());
+
+        assertThat(expired).isEqualTo(1);
+        assertThat(reservationService.available(listing.getId())).isEqualTo(2);
+        assertThat(reservationRepository.findAll()).singleElement()
+            .extracting(InventoryReservation::getStatus).isEqualTo(ReservationStatus.EXPIRED);
+    }
+
+    @Test
+    @DisplayName("folding applies committed and returned units to product and listing without changing availability")
+    void foldAppliesCommittedUnits()
+    {
+        Listing listing = createListing(10);
+        UUID orderItemId = UUID.randomUUID();
+        transactionTemplate.executeWithoutResult(status ->
+            reservationService.commit(hold(listing, 4).orElseThrow(), orderItemId));
+        transactionTemplate.executeWithoutResult(status ->
+            reservationService.returnUnits(orderItemId, listing.getId(), listing.getProduct().getId(), 1));
+
+        int folded = transactionTemplate.execute(status -> reservationService.foldCommitted());
+
+        assertThat(folded).isEqualTo(2);
+        assertThat(productRepository.findById(listing.getProduct().getId()).orElseThrow().getQuantity()).isEqualTo(17);
+        assertThat(listingRepository.findById(listing.getId()).orElseThrow().getQuantityListed()).isEqualTo(7);
+        assertThat(reservationService.available(listing.getId())).isEqualTo(7);
+
+        // a later reconcile sees the folded quantity_listed as already accounted for
+        reservationService.reconcileCounters();
+        assertThat(reservationService.available(listing.getId())).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("reconcile picks up listing quantity edits made outside the ledger")
+    void reconcilePicksUpListingEdits()
+    {
+        Listing listing = createListing(5);
+        assertThat(reservationService.available(listing.getId())).isEqualTo(5);
+
+        Listing stored = listingRepository.findById(listing.getId()).orElseThrow();
+        stored.setQuantityListed(8);
+        listingRepository.save(stored);
+        reservationService.reconcileCounters();
+
+        assertThat(reservationService.available(listing.getId())).isEqualTo(8);
+    }
+
+    // * Helpers
+
+    private Optional<UUID> hold(Listing listing, int quantity)
+    {
+        return reservationService.tryHold(listing.getId(), listing.getProduct().getId(), quantity);
+    }
+
+    private Listing createListing(int quantityListed)
+    {
+        return testData.listing(testData.ebay(), "RES", 20, quantityListed);
+    }
+
+    private static final class MutableClock extends Clock
+    {
+        private Instant now;
+
+        private MutableClock(Instant now)
+        {
+            this.now = now;
+        }
+
+        private void advance(Duration duration)
+        {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone()
+        {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone)
+        {
+            return this;
+        }
+
+        @Override
+        public Instant instant()
+        {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package dev.fincke.hopper.catalog.inventory;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// * Test Class
+// Deficit handling of the striped admission counter: capacity removed below zero must be repaid before any take
+class StripedCounterTest
+{
+    @Test
+    @DisplayName("a give-back after capacity went negative pays down the deficit instead of admitting")
+    void giveBackPaysDownDeficitFirst()
+    {
+        StripedCounter counter = new StripedCounter(4, 2);
+
+        counter.add(-5);
+        assertThat(counter.available()).isEqualTo(-3);
+
+        // Lands on whichever stripe this thread maps to; none of it may be taken while the total is not positive
+        counter.add(2);
+        assertThat(counter.available()).isEqualTo(-1);
+        assertThat(counter.tryAcquire(1)).isFalse();
+
+        counter.add(2);
+        assertThat(counter.available()).isEqualTo(1);
+        assertThat(counter.tryAcquire(1)).isTrue();
+        assertThat(counter.tryAcquire(1)).isFalse();
+    }
+
+    @Test
+    @DisplayName("a counter created below zero starts with a deficit and admits nothing")
+    void negativeInitialValueIsDeficit()
+    {
+        StripedCounter counter = new StripedCounter(4, -2);
+
+        assertThat(counter.available()).isEqualTo(-2);
+        assertThat(counter.tryAcquire(1)).isFalse();
+
+        counter.add(3);
+        assertThat(counter.tryAcquire(1)).isTrue();
+        assertThat(counter.available()).isZero();
+    }
+
+    @Test
+    @DisplayName("concurrent give-backs and takes against a deficit never admit more than was repaid")
+    void concurrentGiveBacksNeverOversell() throws Exception
+    {
+        StripedCounter counter = new StripedCounter(8, 0);
+        counter.add(-50);
+
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger admitted = new AtomicInteger();
+        try
+        {
+            for (int t = 0; t < threads; t++)
+            {
+                boolean giver = t % 2 == 0;
+                executor.submit(() ->
+                {
+                    start.await();
+                    for (int i = 0; i < 10; i++)
+                    {
+                        if (giver)
+                        {
+                            counter.add(1);
+                        }
+                        else if (counter.tryAcquire(1))
+                        {
+                            admitted.incrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+        }
+        finally
+        {
+            executor.shutdown();
+            assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        }
+
+        // 40 units given back against a 50-unit deficit: nothing may be sold
+        assertThat(admitted.get()).isZero();
+        assertThat(counter.available()).isEqualTo(-10);
+    }
+}
@@ -1,5 +1,8 @@
 package dev.fincke.hopper.catalog.listing;
 
+import dev.fincke.hopper.api.pagination.CursorPage;
+import dev.fincke.hopper.api.pagination.InvalidCursorException;
+import dev.fincke.hopper.api.pagination.KeysetCursor;
 import dev.fincke.hopper.catalog.listing.dto.ListingCreateRequest;
 import dev.fincke.hopper.catalog.listing.dto.ListingResponse;
 import dev.fincke.hopper.catalog.listing.dto.ListingUpdateRequest;
@@ -23,8 +26,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 
 import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -268,4 +275,72 @@ class ListingServiceImplUnitTest
         assertThrows(ListingNotFoundException.class,
             () -> listingService.findByPlatformAndExternalListingId(platformId, "LIST-123"));
     }
+
+    // * Quantity Operation Tests
+
+    // Tests negative quantities are rejected instead of silently clamped to zero
+    @Test
+    @DisplayName("updateQuantity rejects a negative quantity without writing")
+    void updateQuantity_ThrowsWhenNegative()
+    {
+        UUID listingId = UUID.randomUUID();
+
+        assertThrows(IllegalArgumentException.class, () -> listingService.updateQuantity(listingId, -1));
+        verify(listingRepository, never()).updateQuantityListed(any(), anyInt());
+    }
+
+    // * Keyset Pagination Tests
+
+    // Tests that an extra fetched row produces a continuation cursor for the last returned listing
+    @Test
+    @DisplayName("findPage returns cursor positioned after last listing when more rows exist")
+    void findPage_ReturnsCursorWhenMoreRowsExist()
+    {
+        Listing first = ListingTestBuilder.listing().build();
+        Listing second = ListingTestBuilder.listing().build();
+        Listing extra = ListingTestBuilder.listing().build();
+
+        when(listingRepository.findAllByOrderByIdAsc(PageRequest.ofSize(3))).thenReturn(List.of(first, second, extra));
+
+        CursorPage<ListingResponse> page = listingService.findPage(null, 2);
+
+        assertEquals(2, page.items().size());
+        assertTrue(page.hasMore());
+        KeysetCursor next = KeysetCursor.decode(page.nextCursor());
+        assertFalse(next.hasSortKey());
+        assertEquals(second.getId(), next.id());
+    }
+
+    // Tests that a decoded cursor seeks past the previous id instead of offsetting
+    @Test
+    @DisplayName("findPage seeks from cursor id and ends when no extra row is returned")
+    void findPage_SeeksFromCursor()
+    {
+        Listing last = ListingTestBuilder.listing().build();
+        KeysetCursor cursor = KeysetCursor.of(UUID.randomUUID());
+
+        when(listingRepository.findByIdGreaterThanOrderByIdAsc(cursor.id(), PageRequest.ofSize(3)))
+            .thenReturn(List.of(last));
+
+        CursorPage<ListingResponse> page = listingService.findPage(cursor.encode(), 2);
+
+        assertEquals(1, page.items().size());
+        assertEquals(last.getId(), page.items().get(0).id());
+        assertFalse(page.hasMore());
+        assertNull(page.nextCursor());
+        verify(listingRepository, never()).findAllByOrderByIdAsc(any());
+    }
+
+    // Tests that malformed or timestamp-keyed cursors are rejected for id-keyed listing pages
+    @Test
+    @DisplayName("findPage rejects cursors that carry a sort key")
+    void findPage_RejectsInvalidCursor()
+    {
+        String sortKeyed = KeysetCursor.of(Timestamp.from(Instant.parse("2024-01-02T00:00:00Z")), UUID.randomUUID())
+            .encode();
+
+        assertThrows(InvalidCursorException.class, () -> listingService.findPage(sortKeyed, 10));
+        assertThrows(InvalidCursorException.class, () -> listingService.findPage("not-a-cursor", 10));
+        verifyNoInteractions(listingRepository);
+    }
 }
@@ -1,5 +1,8 @@
 package dev.fincke.hopper.catalog.product;
 
+import dev.fincke.hopper.api.pagination.CursorPage;
+import dev.fincke.hopper.api.pagination.InvalidCursorException;
+import dev.fincke.hopper.api.pagination.KeysetCursor;
 import dev.fincke.hopper.catalog.product.dto.ProductResponse;
 import dev.fincke.hopper.config.SecurityConfig;
 import dev.fincke.hopper.security.jwt.JwtAuthenticationFilter;
@@ -24,6 +27,8 @@ import java.util.UUID;
 
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -64,4 +69,38 @@ class ProductControllerTest
             .andExpect(jsonPath("$.content[0].name", is("Test Product")))
             .andExpect(jsonPath("$.content[0].sku", is("SKU-123")));
     }
+
+    @Test
+    @DisplayName("GET /api/products/scroll passes the cursor through and returns the next one")
+    void scrollProductsReturnsCursorPage() throws Exception
+    {
+        ProductResponse response = new ProductResponse(
+            UUID.randomUUID(),
+            "SKU-123",
+            "Test Product",
+            "Description",
+            BigDecimal.valueOf(9.99),
+            5
+        );
+        String cursor = KeysetCursor.of(UUID.randomUUID()).encode();
+        String next = KeysetCursor.of(response.id()).encode();
+        Mockito.when(productService.findPage(cursor, 1)).thenReturn(new CursorPage<>(List.of(response), next, true));
+
+        mockMvc.perform(get("/api/products/scroll").param("cursor", cursor).param("limit", "1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items[0].sku", is("SKU-123")))
+            .andExpect(jsonPath("$.nextCursor", is(next)))
+            .andExpect(jsonPath("$.hasMore", is(true)));
+    }
+
+    @Test
+    @DisplayName("GET /api/products/scroll rejects an undecodable cursor with 400")
+    void scrollProductsRejectsInvalidCursor() throws Exception
+    {
+        Mockito.when(productService.findPage(eq("not-a-cursor"), anyInt()))
+            .thenThrow(new InvalidCursorException("not-a-cursor"));
+
+        mockMvc.perform(get("/api/products/scroll").param("cursor", "not-a-cursor"))
+            .andExpect(status().isBadRequest());
+    }
 }
@@ -1,5 +1,8 @@
 package dev.fincke.hopper.catalog.product;
 
+import dev.fincke.hopper.api.pagination.CursorPage;
+import dev.fincke.hopper.api.pagination.InvalidCursorException;
+import dev.fincke.hopper.api.pagination.KeysetCursor;
 import dev.fincke.hopper.catalog.listing.ListingRepository;
 import dev.fincke.hopper.catalog.product.dto.ProductCreateRequest;
 import dev.fincke.hopper.catalog.product.dto.ProductResponse;
@@ -17,8 +20,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 
 import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -156,20 +162,21 @@ class ProductServiceImplUnitTest
     @DisplayName("adjustStock increases quantity when delta is positive")
     void adjustStock_IncreasesQuantity()
     {
-        // Product with current stock level for adjustment test
-        Product existing = ProductTestBuilder.product().withQuantity(5).build();
-        UUID productId = existing.getId();
+        // Product as re-read after the conditional update applied 5 + 3
+        Product updated = ProductTestBuilder.product().withQuantity(8).build();
+        UUID productId = updated.getId();
 
-        // Mock successful product lookup and save
-        when(productRepository.findById(productId)).thenReturn(Optional.of(existing));
-        when(productRepository.save(existing)).thenReturn(existing);
+        // Mock the atomic update succeeding and the follow-up read
+        when(productRepository.adjustQuantity(productId, 3)).thenReturn(1);
+        when(productRepository.findById(productId)).thenReturn(Optional.of(updated));
 
         // Adjust stock upward (positive delta)
         ProductResponse response = productService.adjustStock(productId, 3);
 
-        // Verify quantity increased correctly (5 + 3 = 8)
+        // Verify response reflects the stored quantity and no entity read-modify-write happened
         assertEquals(8, response.quantity());
-        verify(productRepository).save(existing);
+        verify(productRepository).adjustQuantity(productId, 3);
+        verify(productRepository, never()).save(any(Product.class));
     }
 
     // Tests inventory constraint validation (cannot go negative)
@@ -181,7 +188,8 @@ class ProductServiceImplUnitTest
         Product existing = ProductTestBuilder.product().withQuantity(2).build();
         UUID productId = existing.getId();
 
-        // Mock product lookup but no save expected due to constraint violation
+        // Mock the conditional update matching no row (2 - 5 = -3), then the lookup for the error detail
+        when(productRepository.adjustQuantity(productId, -5)).thenReturn(0);
         when(productRepository.findById(productId)).thenReturn(Optional.of(existing));
 
         // Verify business rule: stock cannot go negative (2 - 5 = -3)
@@ -245,4 +253,59 @@ class ProductServiceImplUnitTest
         assertEquals(1, responses.size());
         assertEquals(lowStock.getId(), responses.get(0).id());
     }
+
+    // * Keyset Pagination Tests
+
+    // Tests that an extra fetched row produces a continuation cursor for the last returned product
+    @Test
+    @DisplayName("findPage returns cursor positioned after last product when more rows exist")
+    void findPage_ReturnsCursorWhenMoreRowsExist()
+    {
+        Product first = ProductTestBuilder.product().build();
+        Product second = ProductTestBuilder.product().build();
+        Product extra = ProductTestBuilder.product().build();
+
+        when(productRepository.findAllByOrderByIdAsc(PageRequest.ofSize(3))).thenReturn(List.of(first, second, extra));
+
+        CursorPage<ProductResponse> page = productService.findPage(null, 2);
+
+        assertEquals(2, page.items().size());
+        assertTrue(page.hasMore());
+        KeysetCursor next = KeysetCursor.decode(page.nextCursor());
+        assertFalse(next.hasSortKey());
+        assertEquals(second.getId(), next.id());
+    }
+
+    // Tests that a decoded cursor seeks past the previous id instead of offsetting
+    @Test
+    @DisplayName("findPage seeks from cursor id and ends when no extra row is returned")
+    void findPage_SeeksFromCursor()
+    {
+        Product last = ProductTestBuilder.product().build();
+        KeysetCursor cursor = KeysetCursor.of(UUID.randomUUID());
+
+        when(productRepository.findByIdGreaterThanOrderByIdAsc(cursor.id(), PageRequest.ofSize(3)))
+            .thenReturn(List.of(last));
+
+        CursorPage<ProductResponse> page = productService.findPage(cursor.encode(), 2);
+
+        assertEquals(1, page.items().size());
+        assertEquals(last.getId(), page.items().get(0).id());
+        assertFalse(page.hasMore());
+        assertNull(page.nextCursor());
+        verify(productRepository, never()).findAllByOrderByIdAsc(any());
+    }
+
+    // Tests that malformed or timestamp-keyed cursors are rejected for id-keyed product pages
+    @Test
+    @DisplayName("findPage rejects cursors that carry a sort key")
+    void findPage_RejectsInvalidCursor()
+    {
+        String sortKeyed = KeysetCursor.of(Timestamp.from(Instant.parse("2024-01-02T00:00:00Z")), UUID.randomUUID())
+            .encode();
+
+        assertThrows(InvalidCursorException.class, () -> productService.findPage(sortKeyed, 10));
+        assertThrows(InvalidCursorException.class, () -> productService.findPage("not-a-cursor", 10));
+        verifyNoInteractions(productRepository);
+    }
 }
@@ -0,0 +1,226 @@
+package dev.fincke.hopper.catalog.product;
+
+import dev.fincke.hopper.catalog.listing.ListingRepository;
+import dev.fincke.hopper.catalog.product.exception.InsufficientStockException;
+import dev.fincke.hopper.order.item.OrderItemRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// * Test Class
+// Concurrency tests for atomic stock adjustments; runs without a test-managed transaction
+// so each adjustment commits on its own, as it would under concurrent order traffic
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@SuppressWarnings("null")
+class ProductStockConcurrencyTest
+{
+    // * Dependencies
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ListingRepository listingRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private ProductServiceImpl productService;
+
+    private ProductStockAdjuster stockAdjuster;
+
+    private TransactionTemplate transactionTemplate;
+
+    // * Setup
+
+    @BeforeEach
+    void setUp()
+    {
+        productService = new ProductServiceImpl(productRepository, listingRepository, orderItemRepository);
+        stockAdjuster = new ProductStockAdjuster(new NamedParameterJdbcTemplate(dataSource));
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown()
+    {
+        productRepository.deleteAll();
+    }
+
+    // * Tests
+
+    @Test
+    @DisplayName("concurrent decrements on one SKU never oversell or lose updates")
+    void concurrentDecrementsOnOneSku() throws Exception
+    {
+        Product product = productRepository.save(withQuantity(new Product("SKU-HOT", "Hot Product", BigDecimal.TEN), 100));
+        UUID productId = product.getId();
+        int threads = 8;
+        int attemptsPerThread = 25;
+
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try
+        {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++)
+            {
+                futures.add(executor.submit(() ->
+                {
+                    start.await();
+                    for (int i = 0; i < attemptsPerThread; i++)
+                    {
+                        try
+                        {
+                            transactionTemplate.executeWithoutResult(status -> productService.adjustStock(productId, -1));
+                            succeeded.incrementAndGet();
+                        }
+                        catch (InsufficientStockException ex)
+                        {
+                            rejected.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures)
+            {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+
+        // 200 attempts against 100 units: exactly 100 succeed and stock lands on zero
+        assertThat(succeeded.get()).isEqualTo(100);
+        assertThat(rejected.get()).isEqualTo(100);
+        assertThat(productRepository.findById(productId).orElseThrow().getQuantity()).isZero();
+    }
+
+    @Test
+    @DisplayName("batch adjustment rolls back every product when one would go negative")
+    void batchAdjustmentIsAllOrNothing()
+    {
+        Product plenty = productRepository.save(withQuantity(new Product("SKU-A", "Plenty", BigDecimal.TEN), 5));
+        Product scarce = productRepository.save(withQuantity(new Product("SKU-B", "Scarce", BigDecimal.TEN), 1));
+
+        assertThrows(InsufficientStockException.class, () -> transactionTemplate.executeWithoutResult(status ->
+            stockAdjuster.applyAdjustments(Map.of(plenty.getId(), -2, scarce.getId(), -3))));
+
+        assertThat(productRepository.findById(plenty.getId()).orElseThrow().getQuantity()).isEqualTo(5);
+        assertThat(productRepository.findById(scarce.getId()).orElseThrow().getQuantity()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("batch adjustment applies coalesced changes per product")
+    void batchAdjustmentAppliesChanges()
+    {
+        Product first = productRepository.save(withQuantity(new Product("SKU-C", "First", BigDecimal.TEN), 5));
+        Product second = productRepository.save(withQuantity(new Product("SKU-D", "Second", BigDecimal.TEN), 3));
+
+        transactionTemplate.executeWithoutResult(status ->
+            stockAdjuster.applyAdjustments(Map.of(first.getId(), -5, second.getId(), 2)));
+
+        assertThat(productRepository.findById(first.getId()).orElseThrow().getQuantity()).isZero();
+        assertThat(productRepository.findById(second.getId()).orElseThrow().getQuantity()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("concurrent batches never oversell and never apply part of a batch")
+    void concurrentBatchesAreAllOrNothing() throws Exception
+    {
+        UUID firstId = productRepository.save(withQuantity(new Product("SKU-E", "First", BigDecimal.TEN), 50)).getId();
+        UUID secondId = productRepository.save(withQuantity(new Product("SKU-F", "Second", BigDecimal.TEN), 50)).getId();
+        int threads = 8;
+        int attemptsPerThread = 10;
+
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try
+        {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++)
+            {
+                futures.add(executor.submit(() ->
+                {
+                    start.await();
+                    for (int i = 0; i < attemptsPerThread; i++)
+                    {
+                        try
+                        {
+                            transactionTemplate.executeWithoutResult(status ->
+                                stockAdjuster.applyAdjustments(Map.of(firstId, -1, secondId, -2)));
+                            succeeded.incrementAndGet();
+                        }
+                        catch (InsufficientStockException ex)
+                        {
+                            rejected.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures)
+            {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+
+        // 80 batches against 50 units of the second product: 25 fit, and the first product only pays for those 25
+        assertThat(succeeded.get()).isEqualTo(25);
+        assertThat(rejected.get()).isEqualTo(55);
+        assertThat(productRepository.findById(firstId).orElseThrow().getQuantity()).isEqualTo(25);
+        assertThat(productRepository.findById(secondId).orElseThrow().getQuantity()).isZero();
+    }
+
+    // * Helpers
+
+    private static Product withQuantity(Product product, int quantity)
+    {
+        product.setQuantity(quantity);
+        return product;
+    }
+}
@@ -0,0 +1,134 @@
+package dev.fincke.hopper.marketplace.client;
+
+import dev.fincke.hopper.marketplace.client.adapter.RemoteGoMarketplaceClient;
+import dev.fincke.hopper.marketplace.client.model.ListingCommand;
+import dev.fincke.hopper.marketplace.client.model.ListingResult;
+import dev.fincke.hopper.marketplace.client.model.ListingStatus;
+import dev.fincke.hopper.marketplace.client.model.MarketplaceError;
+import dev.fincke.hopper.marketplace.client.model.MoneyValue;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.jsonPath;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+// * Tests
+// Verifies batch chunking, per-item results, and idempotency keys against a mocked Go connector.
+class RemoteGoMarketplaceClientTest
+{
+    // * Fixtures
+    private final RestClient.Builder builder = RestClient.builder().baseUrl("http://connector");
+    private final MockRestServiceServer server = MockRestServiceServer.bindTo(builder).build();
+    private final RemoteGoMarketplaceClient client = new RemoteGoMarketplaceClient(builder.build(), 2);
+
+    // * Tests
+    // Three listings with a batch size of two should take two round-trips and keep per-item failures in place.
+    @Test
+    void createListingsChunksAndMapsPartialFailures()
+    {
+        List<ListingCommand> commands = List.of(command("SKU-1"), command("SKU-2"), command("SKU-3"));
+
+        server.expect(requestTo("http://connector/v1/listings:batch"))
+            .andExpect(method(HttpMethod.POST))
+            .andExpect(jsonPath("$.items.length()").value(2))
+            .andExpect(jsonPath("$.items[0].idempotencyKey").value(commands.get(0).idempotencyKey()))
+            .andRespond(withSuccess("""
+                {"results":[
+                  {"index":0,"idempotencyKey":"k0","listing":{"listingId":"lst-1","externalId":"ext-SKU-1","status":"PENDING"}},
+                  {"index":1,"idempotencyKey":"k1","error":{"code":"CONFLICT","message":"idempotency key already used"}}
+                ],"succeeded":1,"failed":1}
+                """, MediaType.APPLICATION_JSON));
+        server.expect(requestTo("http://connector/v1/listings:batch"))
+            .andExpect(jsonPath("$.items.length()").value(1))
+            .andRespond(withSuccess("""
+                {"results":[{"index":0,"listing":{"listingId":"lst-3","status":"PENDING"}}],"succeeded":1,"failed":0}
+                """, MediaType.APPLICATION_JSON));
+
+        List<ListingResult> results = client.createListings(commands);
+
+        server.verify();
+        assertThat(results).extracting(ListingResult::status)
+            .containsExactly(ListingStatus.PENDING, ListingStatus.FAILED, ListingStatus.PENDING);
+        assertThat(results.get(1).errors()).extracting(MarketplaceError::code).containsExactly("CONFLICT");
+        assertThat(results.get(2).listingId()).isEqualTo("lst-3");
+    }
+
+    // A failed round-trip should fail only the items in that chunk.
+    @Test
+    void createListingsFailsOnlyTheAffectedChunk()
+    {
+        server.expect(requestTo("http://connector/v1/listings:batch"))
+            .andRespond(withServerError());
+        server.expect(requestTo("http://connector/v1/listings:batch"))
+            .andRespond(withSuccess("""
+                {"results":[{"index":0,"listing":{"listingId":"lst-3","status":"PENDING"}}],"succeeded":1,"failed":0}
+                """, MediaType.APPLICATION_JSON));
+
+        List<ListingResult> results = client.createListings(List.of(command("SKU-1"), command("SKU-2"), command("SKU-3")));
+
+        assertThat(results).extracting(ListingResult::status)
+            .containsExactly(ListingStatus.FAILED, ListingStatus.FAILED, ListingStatus.PENDING);
+    }
+
+    // Single creates must carry the same deterministic key the batch API uses.
+    @Test
+    void createListingSendsIdempotencyKey()
+    {
+        ListingCommand command = command("SKU-1");
+        server.expect(requestTo("http://connector/v1/listings"))
+            .andExpect(header("Idempotency-Key", command.idempotencyKey()))
+            .andRespond(withSuccess("""
+                {"listingId":"lst-1","status":"PENDING"}
+                """, MediaType.APPLICATION_JSON));
+
+        assertThat(client.createListing(command).listingId()).isEqualTo("lst-1");
+        server.verify();
+    }
+
+    // Keys are stable for identical payloads and change when any field changes.
+    @Test
+    void idempotencyKeyTracksPayload()
+    {
+        assertThat(command("SKU-1").idempotencyKey()).isEqualTo(command("SKU-1").idempotencyKey());
+        assertThat(command("SKU-1").idempotencyKey()).isNotEqualTo(command("SKU-2").idempotencyKey());
+    }
+
+    // Relisting an unchanged payload under a new listing reference must not dedupe to the ended listing.
+    @Test
+    void idempotencyKeyChangesForRelist()
+    {
+        assertThat(command("SKU-1", "listing-1:1").idempotencyKey())
+            .isNotEqualTo(command("SKU-1", "listing-1:2").idempotencyKey());
+    }
+
+    private static ListingCommand command(String sku)
+    {
+        return command(sku, "listing-1");
+    }
+
+    private static ListingCommand command(String sku, String listingReference)
+    {
+        return new ListingCommand(
+            "tcgplayer",
+            "seller-123",
+            sku,
+            "Sample Title",
+            "Sample Description",
+            new MoneyValue(new BigDecimal("10.00"), "usd"),
+            1,
+            List.of(),
+            listingReference
+        );
+    }
+}
@@ -0,0 +1,151 @@
+package dev.fincke.hopper.marketplace.client;
+
+import dev.fincke.hopper.marketplace.client.adapter.ResilientMarketplaceClient;
+import dev.fincke.hopper.marketplace.client.adapter.StubMarketplaceClient;
+import dev.fincke.hopper.marketplace.client.config.MarketplaceClientProperties;
+import dev.fincke.hopper.marketplace.client.model.MarketplaceError;
+import dev.fincke.hopper.marketplace.client.model.OrderResult;
+import dev.fincke.hopper.marketplace.client.model.OrderStatus;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// * Tests
+// Verifies retry, Retry-After handling, and circuit breaking around a scripted delegate.
+class ResilientMarketplaceClientTest
+{
+    // * Fixtures
+    // Tiny backoffs keep retries fast; a small window makes the breaker trip quickly.
+    private final MarketplaceClientProperties.Resilience settings = new MarketplaceClientProperties.Resilience();
+    private final ScriptedClient delegate = new ScriptedClient();
+
+    ResilientMarketplaceClientTest()
+    {
+        settings.setEnabled(true);
+        settings.setInitialBackoff(Duration.ofMillis(1));
+        settings.setMaxBackoff(Duration.ofMillis(5));
+        settings.setMaxRetryAfter(Duration.ofMillis(50));
+        settings.setSlidingWindowSize(4);
+        settings.setMinimumNumberOfCalls(4);
+        settings.setWaitDurationInOpenState(Duration.ofMinutes(1));
+    }
+
+    // * Tests
+    // Transient upstream errors are retried until a call succeeds.
+    @Test
+    void retriesTransientErrorsUntilSuccess()
+    {
+        delegate.script(error("RETRYABLE_UPSTREAM", null), error("RATE_LIMIT", Duration.ofMillis(10)), confirmed());
+        ResilientMarketplaceClient client = new ResilientMarketplaceClient(delegate, settings);
+
+        OrderResult result = client.getOrder("ord-1");
+
+        assertThat(result.status()).isEqualTo(OrderStatus.CONFIRMED);
+        assertThat(delegate.calls.get()).isEqualTo(3);
+        assertThat(client.getRetryCount(ResilientMarketplaceClient.GET_ORDER)).isEqualTo(2);
+    }
+
+    // Retry-After hints beyond the configured ceiling are returned to the caller instead of blocking.
+    @Test
+    void doesNotWaitPastMaxRetryAfter()
+    {
+        delegate.script(error("RATE_LIMIT", Duration.ofSeconds(30)), confirmed());
+        ResilientMarketplaceClient client = new ResilientMarketplaceClient(delegate, settings);
+
+        OrderResult result = client.getOrder("ord-1");
+
+        assertThat(result.errors()).extracting(MarketplaceError::code).containsExactly("RATE_LIMIT");
+        assertThat(delegate.calls.get()).isEqualTo(1);
+    }
+
+    // Async retries wait out their backoff on the delayed executor, so the returned future is still pending.
+    @Test
+    void asyncRetryIsScheduledWithoutBlockingCaller()
+    {
+        delegate.script(error("RATE_LIMIT", Duration.ofMillis(40)), confirmed());
+        ResilientMarketplaceClient client = new ResilientMarketplaceClient(delegate, settings);
+
+        CompletableFuture<OrderResult> future = client.getOrderAsync("ord-1");
+
+        assertThat(future).isNotDone();
+        assertThat(future.join().status()).isEqualTo(OrderStatus.CONFIRMED);
+        assertThat(delegate.calls.get()).isEqualTo(2);
+        assertThat(client.getRetryCount(ResilientMarketplaceClient.GET_ORDER)).isEqualTo(1);
+        client.close();
+    }
+
+    // Business errors are neither retried nor counted against the connector.
+    @Test
+    void businessErrorsAreNotRetried()
+    {
+        delegate.script(error("NOT_FOUND", null), error("NOT_FOUND", null), error("NOT_FOUND", null),
+            error("NOT_FOUND", null), error("NOT_FOUND", null));
+        ResilientMarketplaceClient client = new ResilientMarketplaceClient(delegate, settings);
+
+        for (int i = 0; i < 5; i++)
+        {
+            client.getOrder("missing");
+        }
+
+        assertThat(delegate.calls.get()).isEqualTo(5);
+        assertThat(client.circuitState(ResilientMarketplaceClient.GET_ORDER)).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    // Repeated connector failures open the circuit, after which calls fail fast without reaching the delegate.
+    @Test
+    void opensCircuitAfterConnectorFailures()
+    {
+        settings.setMaxAttempts(1);
+        delegate.script(error("UNAVAILABLE", null), error("UNAVAILABLE", null), error("UNAVAILABLE", null),
+            error("UNAVAILABLE", null));
+        ResilientMarketplaceClient client = new ResilientMarketplaceClient(delegate, settings);
+
+        for (int i = 0; i < 4; i++)
+        {
+            client.getOrder("ord-1");
+        }
+        OrderResult rejected = client.getOrder("ord-1");
+
+        assertThat(client.circuitState(ResilientMarketplaceClient.GET_ORDER)).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(rejected.errors()).extracting(MarketplaceError::code).containsExactly("CIRCUIT_OPEN");
+        assertThat(delegate.calls.get()).isEqualTo(4);
+    }
+
+    private static OrderResult error(String code, Duration retryAfter)
+    {
+        return OrderResult.failed("ord-1", null, new MarketplaceError(code, code, null, retryAfter));
+    }
+
+    private static OrderResult confirmed()
+    {
+        return new OrderResult("ord-1", "ext-1", OrderStatus.CONFIRMED, List.of());
+    }
+
+    // * Test Doubles
+    // Returns scripted getOrder results in sequence and counts delegate invocations.
+    private static final class ScriptedClient extends StubMarketplaceClient
+    {
+        private final Deque<OrderResult> responses = new ArrayDeque<>();
+        private final AtomicInteger calls = new AtomicInteger();
+
+        private void script(OrderResult... results)
+        {
+            responses.addAll(List.of(results));
+        }
+
+        @Override
+        public OrderResult getOrder(String orderId)
+        {
+            calls.incrementAndGet();
+            return responses.isEmpty() ? confirmed() : responses.poll();
+        }
+    }
+}
@@ -39,7 +39,8 @@ class StubMarketplaceClientTest
             "Sample Description",
             new MoneyValue(new BigDecimal("10.00"), "usd"),
             1,
-            List.of()
+            List.of(),
+            "listing-1"
         );
 
         ListingResult created = client.createListing(command);
@@ -2,11 +2,16 @@ package dev.fincke.hopper.marketplace.client.config;
 
 import dev.fincke.hopper.marketplace.client.MarketplaceClient;
 import dev.fincke.hopper.marketplace.client.adapter.RemoteGoMarketplaceClient;
+import dev.fincke.hopper.marketplace.client.adapter.ResilientMarketplaceClient;
 import dev.fincke.hopper.marketplace.client.adapter.StubMarketplaceClient;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 
+import java.net.http.HttpClient;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 // * Tests
@@ -42,4 +47,57 @@ class MarketplaceClientConfigurationTest
             assertThat(client).isInstanceOf(RemoteGoMarketplaceClient.class);
         });
     }
+
+    // The resilient wrapper is the marketplaceClient bean and is itself picked up as a MeterBinder.
+    @Test
+    void resilientClientBindsItsOwnMetrics()
+    {
+        contextRunner.withPropertyValues("marketplace.client.resilience.enabled=true").run(context ->
+        {
+            MarketplaceClient client = context.getBean("marketplaceClient", MarketplaceClient.class);
+            assertThat(client).isInstanceOf(ResilientMarketplaceClient.class);
+            assertThat(context.getBeansOfType(MeterBinder.class))
+                .containsEntry("marketplaceClient", (MeterBinder) client);
+        });
+    }
+
+    // Default transport keeps the legacy HttpURLConnection factory and creates no pool.
+    @Test
+    void defaultTransportCreatesNoPool()
+    {
+        contextRunner.run(context ->
+        {
+            assertThat(context).doesNotHaveBean(PoolingHttpClientConnectionManager.class);
+            assertThat(context).doesNotHaveBean(HttpClient.class);
+        });
+    }
+
+    // POOLED transport must create a bounded pool sized from properties and publish pool metrics.
+    @Test
+    void pooledTransportCreatesBoundedPool()
+    {
+        contextRunner.withPropertyValues(
+            "marketplace.client.remote.transport=POOLED",
+            "marketplace.client.remote.pool.max-connections-per-route=7",
+            "marketplace.client.remote.pool.max-connections-total=21"
+        ).run(context ->
+        {
+            PoolingHttpClientConnectionManager manager = context.getBean(PoolingHttpClientConnectionManager.class);
+            assertThat(manager.getDefaultMaxPerRoute()).isEqualTo(7);
+            assertThat(manager.getMaxTotal()).isEqualTo(21);
+            assertThat(context).hasBean("marketplaceConnectionPoolMetrics");
+            assertThat(context).hasSingleBean(RemoteGoMarketplaceClient.class);
+        });
+    }
+
+    // HTTP2 transport must build a JDK client that prefers HTTP/2.
+    @Test
+    void http2TransportPrefersHttp2()
+    {
+        contextRunner.withPropertyValues("marketplace.client.remote.transport=HTTP2").run(context ->
+        {
+            assertThat(context.getBean(HttpClient.class).version()).isEqualTo(HttpClient.Version.HTTP_2);
+            assertThat(context).doesNotHaveBean(PoolingHttpClientConnectionManager.class);
+        });
+    }
 }
@@ -1,8 +1,11 @@
 package dev.fincke.hopper.marketplace.service;
 
 import dev.fincke.hopper.marketplace.client.adapter.StubMarketplaceClient;
+import dev.fincke.hopper.marketplace.client.config.MarketplaceClientProperties;
+import dev.fincke.hopper.marketplace.client.model.ListingCommand;
 import dev.fincke.hopper.marketplace.client.model.ListingResult;
 import dev.fincke.hopper.marketplace.client.model.ListingStatus;
+import dev.fincke.hopper.marketplace.client.model.MarketplaceError;
 import dev.fincke.hopper.marketplace.client.model.OrderResult;
 import dev.fincke.hopper.marketplace.client.model.OrderStatus;
 import dev.fincke.hopper.marketplace.service.dto.AddressDetails;
@@ -13,7 +16,9 @@ import dev.fincke.hopper.marketplace.service.dto.OrderSubmissionRequest;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -38,7 +43,8 @@ class DefaultMarketplaceConnectorServiceTest
             new BigDecimal("15.25"),
             "usd",
             5,
-            List.of("https://example.com/image.png")
+            List.of("https://example.com/image.png"),
+            "listing-1"
         );
 
         ListingResult created = service.publishListing(request);
@@ -73,4 +79,75 @@ class DefaultMarketplaceConnectorServiceTest
         assertThat(initial.orderId()).isEqualTo(replay.orderId());
         assertThat(replay.status()).isEqualTo(OrderStatus.CONFIRMED);
     }
+
+    // Fan-out publish should return one result per request in request order.
+    @Test
+    void publishListingsReturnsResultsInRequestOrder()
+    {
+        List<ListingResult> results = service.publishListings(List.of(
+            listingRequest("ebay", "SKU-1"),
+            listingRequest("tcgplayer", "SKU-2")
+        ));
+
+        assertThat(results).extracting(ListingResult::externalId)
+            .containsExactly("EBAY-SKU-1", "TCGPLAYER-SKU-2");
+        assertThat(results).allSatisfy(result -> assertThat(result.status()).isEqualTo(ListingStatus.PENDING));
+    }
+
+    // A marketplace that never answers must not hold back the others past the per-call timeout.
+    @Test
+    void publishListingsTimesOutSlowCalls()
+    {
+        StubMarketplaceClient slowTcgPlayer = new StubMarketplaceClient()
+        {
+            @Override
+            public CompletableFuture<ListingResult> createListingAsync(ListingCommand command)
+            {
+                return "TCGPLAYER".equals(command.platform()) ? new CompletableFuture<>() : super.createListingAsync(command);
+            }
+        };
+        MarketplaceClientProperties properties = new MarketplaceClientProperties();
+        properties.setFanOutTimeout(Duration.ofMillis(50));
+        MarketplaceConnectorService timedService = new DefaultMarketplaceConnectorService(slowTcgPlayer, properties);
+
+        List<ListingResult> results = timedService.publishListings(List.of(
+            listingRequest("ebay", "SKU-1"),
+            listingRequest("tcgplayer", "SKU-2")
+        ));
+
+        assertThat(results.get(0).status()).isEqualTo(ListingStatus.PENDING);
+        assertThat(results.get(1).status()).isEqualTo(ListingStatus.FAILED);
+        assertThat(results.get(1).errors()).extracting(MarketplaceError::code).containsExactly("TIMEOUT");
+    }
+
+    // Fan-out submit should keep per-order idempotency and ordering.
+    @Test
+    void submitOrdersReturnsResultsInRequestOrder()
+    {
+        OrderSubmissionItem item = new OrderSubmissionItem("SKU-123", 1, new BigDecimal("15.25"), "USD");
+        List<OrderResult> results = service.submitOrders(List.of(
+            new OrderSubmissionRequest("ebay", "seller-1", "listing-1", null, null, List.of(item), "fan-1"),
+            new OrderSubmissionRequest("ebay", "seller-1", "listing-2", null, null, List.of(item), "fan-2")
+        ));
+
+        assertThat(results).hasSize(2);
+        assertThat(results.get(0).orderId()).isNotEqualTo(results.get(1).orderId());
+        assertThat(results).noneMatch(OrderResult::hasErrors);
+    }
+
+    private static ListingPublicationRequest listingRequest(String platform, String sku)
+    {
+        return new ListingPublicationRequest(
+            platform,
+            "seller-123",
+            sku,
+            "Demo Listing",
+            "A sample listing",
+            new BigDecimal("15.25"),
+            "usd",
+            1,
+            List.of(),
+            "listing-" + sku
+        );
+    }
 }
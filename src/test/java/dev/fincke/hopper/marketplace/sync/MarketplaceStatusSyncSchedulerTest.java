@@ -0,0 +1,200 @@
+package dev.fincke.hopper.marketplace.sync;
+
+import dev.fincke.hopper.marketplace.client.adapter.StubMarketplaceClient;
+import dev.fincke.hopper.marketplace.client.model.ListingCommand;
+import dev.fincke.hopper.marketplace.client.model.MoneyValue;
+import dev.fincke.hopper.marketplace.client.model.OrderCommand;
+import dev.fincke.hopper.marketplace.client.model.OrderItemCommand;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// * Tests
+// Verifies terminal detection, per-item backoff, NOT_FOUND give-up, and discovery pruning against the stub connector.
+// StatusSyncConvergenceTest covers the same loop against rows stored by the import and publish paths.
+class MarketplaceStatusSyncSchedulerTest
+{
+    // * Fixtures
+    private final StubMarketplaceClient client = new StubMarketplaceClient();
+    private final RecordingWriter writer = new RecordingWriter();
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-03-01T12:00:00Z"));
+    private final StatusSyncProperties properties = new StatusSyncProperties();
+
+    MarketplaceStatusSyncSchedulerTest()
+    {
+        properties.setInitialBackoff(Duration.ofSeconds(10));
+        properties.setMaxBackoff(Duration.ofSeconds(40));
+        properties.setPollTimeout(Duration.ofSeconds(5));
+    }
+
+    // * Tests
+    // A listing the connector reports ACTIVE is written back once and no longer tracked.
+    @Test
+    void terminalListingStatusIsWrittenBackAndUntracked()
+    {
+        String connectorId = client.createListing(listingCommand()).listingId();
+        UUID listingId = UUID.randomUUID();
+        writer.pending.get(SyncTarget.LISTING).add(new StatusSyncWriter.PendingRow(listingId, connectorId));
+        MarketplaceStatusSyncScheduler scheduler = newScheduler();
+
+        scheduler.discoverPending();
+        int polled = scheduler.pollOnce();
+
+        assertThat(polled).isEqualTo(1);
+        assertThat(writer.updates).containsExactly(Map.of("active", List.of(listingId)));
+        assertThat(scheduler.trackedCount(SyncTarget.LISTING)).isZero();
+    }
+
+    // An order the connector does not know yet stays tracked and is not polled again until its backoff elapses.
+    @Test
+    void failedPollsBackOffPerItem()
+    {
+        MarketplaceStatusSyncScheduler scheduler = newScheduler();
+        scheduler.trackOrder(UUID.randomUUID(), "missing-order");
+
+        assertThat(scheduler.pollOnce()).isEqualTo(1);
+        assertThat(scheduler.pollOnce()).isZero();
+
+        clock.advance(Duration.ofSeconds(4));
+        assertThat(scheduler.pollOnce()).isZero();
+
+        clock.advance(Duration.ofSeconds(7));
+        assertThat(scheduler.pollOnce()).isEqualTo(1);
+        assertThat(writer.updates).isEmpty();
+        assertThat(scheduler.trackedCount(SyncTarget.ORDER)).isEqualTo(1);
+    }
+
+    // After maxNotFoundPolls NOT_FOUND answers the item is dropped, and discovery only re-tracks it under a new id.
+    @Test
+    void notFoundItemsAreAbandonedAfterLimit()
+    {
+        properties.setMaxNotFoundPolls(2);
+        UUID orderId = UUID.randomUUID();
+        writer.pending.get(SyncTarget.ORDER).add(new StatusSyncWriter.PendingRow(orderId, "missing-order"));
+        MarketplaceStatusSyncScheduler scheduler = newScheduler();
+        scheduler.discoverPending();
+
+        assertThat(scheduler.pollOnce()).isEqualTo(1);
+        assertThat(scheduler.trackedCount(SyncTarget.ORDER)).isEqualTo(1);
+        clock.advance(Duration.ofSeconds(11));
+        assertThat(scheduler.pollOnce()).isEqualTo(1);
+        assertThat(scheduler.trackedCount(SyncTarget.ORDER)).isZero();
+
+        clock.advance(Duration.ofMinutes(5));
+        scheduler.discoverPending();
+        assertThat(scheduler.trackedCount(SyncTarget.ORDER)).isZero();
+
+        String connectorId = client.createOrder(orderCommand()).orderId();
+        writer.pending.get(SyncTarget.ORDER).set(0, new StatusSyncWriter.PendingRow(orderId, connectorId));
+        scheduler.discoverPending();
+        assertThat(scheduler.trackedCount(SyncTarget.ORDER)).isEqualTo(1);
+        assertThat(scheduler.pollOnce()).isEqualTo(1);
+        assertThat(writer.updates).containsExactly(Map.of("confirmed", List.of(orderId)));
+    }
+
+    // Rows that left the pending state elsewhere are dropped on the next discovery pass.
+    @Test
+    void discoveryForgetsRowsNoLongerPending()
+    {
+        UUID orderId = UUID.randomUUID();
+        writer.pending.get(SyncTarget.ORDER).add(new StatusSyncWriter.PendingRow(orderId, "ext-1"));
+        MarketplaceStatusSyncScheduler scheduler = newScheduler();
+        scheduler.discoverPending();
+        assertThat(scheduler.trackedCount(SyncTarget.ORDER)).isEqualTo(1);
+
+        writer.pending.get(SyncTarget.ORDER).clear();
+        clock.advance(Duration.ofMinutes(5));
+        scheduler.discoverPending();
+
+        assertThat(scheduler.trackedCount(SyncTarget.ORDER)).isZero();
+    }
+
+    // * Helpers
+    private MarketplaceStatusSyncScheduler newScheduler()
+    {
+        return new MarketplaceStatusSyncScheduler(client, writer, properties, clock);
+    }
+
+    private static ListingCommand listingCommand()
+    {
+        return new ListingCommand("ebay", "seller-123", "SKU-1", "Sample Title", "Sample Description",
+            new MoneyValue(new BigDecimal("10.00"), "usd"), 1, List.of(), "listing-1");
+    }
+
+    private static OrderCommand orderCommand()
+    {
+        OrderItemCommand item = new OrderItemCommand("SKU-1", 1, new MoneyValue(new BigDecimal("10.00"), "USD"));
+        return new OrderCommand("ebay", "seller-123", null, "SKU-1", null, List.of(item), "order-1");
+    }
+
+    // In-memory stand-in for the JDBC writer.
+    private static final class RecordingWriter extends StatusSyncWriter
+    {
+        private final Map<SyncTarget, List<PendingRow>> pending = new HashMap<>(Map.of(
+            SyncTarget.LISTING, new ArrayList<>(), SyncTarget.ORDER, new ArrayList<>()));
+        private final List<Map<String, List<UUID>>> updates = new ArrayList<>();
+
+        private RecordingWriter()
+        {
+            super(null, null);
+        }
+
+        @Override
+        public List<PendingRow> findPending(SyncTarget target, UUID after, int limit)
+        {
+            return after == null ? List.copyOf(pending.get(target)) : List.of();
+        }
+
+        @Override
+        public int applyStatusChanges(SyncTarget target, Map<String, List<UUID>> idsByStatus)
+        {
+            updates.add(idsByStatus);
+            return idsByStatus.values().stream().mapToInt(List::size).sum();
+        }
+    }
+
+    private static final class MutableClock extends Clock
+    {
+        private Instant now;
+
+        private MutableClock(Instant now)
+        {
+            this.now = now;
+        }
+
+        private void advance(Duration duration)
+        {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone()
+        {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone)
+        {
+            return this;
+        }
+
+        @Override
+        public Instant instant()
+        {
+            return now;
+        }
+    }
+}
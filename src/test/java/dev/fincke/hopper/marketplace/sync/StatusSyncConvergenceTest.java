@@ -0,0 +1,218 @@
+package dev.fincke.hopper.marketplace.sync;
+
+import dev.fincke.hopper.batch.order.ExternalOrderItemProcessor;
+import dev.fincke.hopper.batch.order.ExternalOrderItemReader;
+import dev.fincke.hopper.batch.order.ExternalOrderRecord;
+import dev.fincke.hopper.batch.order.OrderImportItemWriter;
+import dev.fincke.hopper.batch.order.OrderImportRequest;
+import dev.fincke.hopper.catalog.inventory.InventoryReservation;
+import dev.fincke.hopper.catalog.inventory.InventoryReservationProperties;
+import dev.fincke.hopper.catalog.inventory.InventoryReservationRepository;
+import dev.fincke.hopper.catalog.inventory.InventoryReservationServiceImpl;
+import dev.fincke.hopper.catalog.inventory.ReservationStatus;
+import dev.fincke.hopper.catalog.listing.Listing;
+import dev.fincke.hopper.catalog.listing.ListingRepository;
+import dev.fincke.hopper.catalog.product.Product;
+import dev.fincke.hopper.catalog.product.ProductRepository;
+import dev.fincke.hopper.marketplace.client.MarketplaceClient;
+import dev.fincke.hopper.marketplace.client.adapter.StubMarketplaceClient;
+import dev.fincke.hopper.marketplace.client.model.ListingCommand;
+import dev.fincke.hopper.marketplace.client.model.ListingResult;
+import dev.fincke.hopper.marketplace.client.model.MoneyValue;
+import dev.fincke.hopper.marketplace.client.model.OrderPage;
+import dev.fincke.hopper.marketplace.client.model.OrderResult;
+import dev.fincke.hopper.marketplace.client.model.OrderStatus;
+import dev.fincke.hopper.marketplace.client.model.OrderSummary;
+import dev.fincke.hopper.order.buyer.BuyerRepository;
+import dev.fincke.hopper.order.item.OrderItem;
+import dev.fincke.hopper.order.item.OrderItemRepository;
+import dev.fincke.hopper.order.order.Order;
+import dev.fincke.hopper.order.order.OrderRepository;
+import dev.fincke.hopper.platform.platform.Platform;
+import dev.fincke.hopper.platform.platform.PlatformRepository;
+import dev.fincke.hopper.testsupport.PersistedTestData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// Repository-level tests that drive the status sync from rows stored the way production stores them
+@DataJpaTest
+@Import(PersistedTestData.class)
+@SuppressWarnings("null")
+class StatusSyncConvergenceTest
+{
+    // * Test Dependencies
+
+    private static final Instant NOW = Instant.parse("2024-03-01T12:00:00Z");
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformRepository platformRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ListingRepository listingRepository;
+
+    @Autowired
+    private BuyerRepository buyerRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private InventoryReservationRepository reservationRepository;
+
+    @Autowired
+    private PersistedTestData testData;
+
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    private Platform ebay;
+
+    @BeforeEach
+    void setUp()
+    {
+        jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        ebay = testData.platform("Main eBay", "EBAY");
+    }
+
+    // Tests a listing keeps the marketplace's ext- id for display and is polled by the connector's own id
+    @Test
+    @DisplayName("pending listing is polled by its connector id and converges to active")
+    void pendingListingConvergesToActive()
+    {
+        StubMarketplaceClient client = new StubMarketplaceClient();
+        ListingResult published = client.createListing(new ListingCommand("ebay", "seller-123", "SKU-1",
+            "Sample Title", "Sample Description", new MoneyValue(new BigDecimal("10.00"), "usd"), 1, List.of(),
+            "listing-1"));
+        Product product = productRepository.save(new Product("SKU-1", "Sample Title", BigDecimal.TEN));
+        Listing listing = new Listing(product, ebay, published.externalId(), "pending", BigDecimal.TEN, 1);
+        listing.setMarketplaceListingId(published.listingId());
+        listing = listingRepository.save(listing);
+        entityManager.flush();
+
+        MarketplaceStatusSyncScheduler scheduler = newScheduler(client);
+        scheduler.discoverPending();
+        scheduler.pollOnce();
+
+        assertThat(status("listings", listing.getId())).isEqualTo("active");
+        assertThat(scheduler.trackedCount(SyncTarget.LISTING)).isZero();
+    }
+
+    // Tests an order imported from the connector feed is polled by the ord- id the import stored, not its ext- id
+    @Test
+    @DisplayName("imported pending order is polled by its connector id and converges to confirmed")
+    void importedPendingOrderConvergesToConfirmed()
+    {
+        MarketplaceClient client = mock(MarketplaceClient.class);
+        OrderSummary summary = new OrderSummary("ord-1", "ext-ORD-1", "ebay", OrderStatus.PENDING,
+            new MoneyValue(new BigDecimal("25.00"), "USD"), NOW);
+        when(client.listOrders("EBAY", null, 10)).thenReturn(new OrderPage(List.of(summary), null, List.of()));
+        when(client.getOrderAsync("ord-1")).thenReturn(CompletableFuture.completedFuture(
+            new OrderResult("ord-1", "ext-ORD-1", OrderStatus.CONFIRMED, List.of())));
+        importOrders(client);
+
+        MarketplaceStatusSyncScheduler scheduler = newScheduler(client);
+        scheduler.discoverPending();
+        assertThat(scheduler.trackedCount(SyncTarget.ORDER)).isEqualTo(1);
+        scheduler.pollOnce();
+
+        UUID orderId = jdbcTemplate.queryForObject(
+            "SELECT id FROM orders WHERE external_order_id = :externalOrderId",
+            Map.of("externalOrderId", "ext-ORD-1"), UUID.class);
+        assertThat(status("orders", orderId)).isEqualTo("confirmed");
+        assertThat(scheduler.trackedCount(SyncTarget.ORDER)).isZero();
+    }
+
+    // Tests a connector failure cancels the order through the writer and hands its committed units back
+    @Test
+    @DisplayName("order the connector reports failed is cancelled and returns its reserved units")
+    void failedOrderIsCancelledAndReturnsUnits()
+    {
+        Listing listing = testData.listing(ebay, "CXL", 5);
+        Order order = new Order(ebay, "ext-ORD-2", "pending", new BigDecimal("30.00"), Timestamp.from(NOW));
+        order.setMarketplaceOrderId("ord-2");
+        order = orderRepository.save(order);
+        OrderItem item = orderItemRepository.save(new OrderItem(order, listing, 3, BigDecimal.TEN));
+        reservationRepository.save(new InventoryReservation(listing.getId(), listing.getProduct().getId(),
+            item.getId(), 3, ReservationStatus.COMMITTED, Timestamp.from(NOW), null));
+        entityManager.flush();
+
+        MarketplaceClient client = mock(MarketplaceClient.class);
+        when(client.getOrderAsync("ord-2")).thenReturn(CompletableFuture.completedFuture(
+            new OrderResult("ord-2", "ext-ORD-2", OrderStatus.FAILED, List.of())));
+        MarketplaceStatusSyncScheduler scheduler = newScheduler(client);
+        scheduler.discoverPending();
+        scheduler.pollOnce();
+
+        assertThat(status("orders", order.getId())).isEqualTo("cancelled");
+        assertThat(jdbcTemplate.queryForList(
+            "SELECT quantity FROM inventory_reservations WHERE order_item_id = :itemId AND status = 'COMMITTED'",
+            Map.of("itemId", item.getId()), Integer.class)).containsExactlyInAnyOrder(3, -3);
+    }
+
+    // * Helpers
+
+    // Runs the order import reader, processor and writer the way the import step does
+    private void importOrders(MarketplaceClient client)
+    {
+        ExternalOrderItemReader reader = new ExternalOrderItemReader(client, "ebay", 10, 1);
+        reader.open(new ExecutionContext());
+        ExternalOrderItemProcessor processor = new ExternalOrderItemProcessor();
+        Chunk<OrderImportRequest> chunk = new Chunk<>();
+        ExternalOrderRecord record;
+        while ((record = reader.read()) != null)
+        {
+            chunk.add(processor.process(record));
+        }
+        reader.close();
+        new OrderImportItemWriter(platformRepository, buyerRepository, jdbcTemplate).write(chunk);
+    }
+
+    private MarketplaceStatusSyncScheduler newScheduler(MarketplaceClient client)
+    {
+        Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+        InventoryReservationServiceImpl reservationService = new InventoryReservationServiceImpl(
+            reservationRepository, jdbcTemplate, new InventoryReservationProperties(), clock);
+        return new MarketplaceStatusSyncScheduler(client, new StatusSyncWriter(jdbcTemplate, reservationService),
+            new StatusSyncProperties(), clock);
+    }
+
+    private String status(String table, UUID id)
+    {
+        return jdbcTemplate.queryForObject("SELECT status FROM " + table + " WHERE id = :id", Map.of("id", id),
+            String.class);
+    }
+}
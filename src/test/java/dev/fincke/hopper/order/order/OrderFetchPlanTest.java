@@ -0,0 +1,141 @@
+package dev.fincke.hopper.order.order;
+
+import dev.fincke.hopper.catalog.listing.Listing;
+import dev.fincke.hopper.order.buyer.Buyer;
+import dev.fincke.hopper.order.buyer.BuyerRepository;
+import dev.fincke.hopper.order.item.OrderItem;
+import dev.fincke.hopper.order.item.OrderItemRepository;
+import dev.fincke.hopper.order.item.dto.OrderItemResponse;
+import dev.fincke.hopper.order.order.dto.OrderResponse;
+import dev.fincke.hopper.platform.fee.PlatformFee;
+import dev.fincke.hopper.platform.fee.PlatformFeeRepository;
+import dev.fincke.hopper.platform.fee.dto.PlatformFeeResponse;
+import dev.fincke.hopper.platform.platform.Platform;
+import dev.fincke.hopper.testsupport.PersistedTestData;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Repository tests asserting list endpoints map responses without per-row lazy loads
+// Uses Hibernate statistics to count prepared statements after the persistence context is cleared
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(PersistedTestData.class)
+@SuppressWarnings("null")
+class OrderFetchPlanTest
+{
+    // * Test Dependencies
+
+    private static final int ROW_COUNT = 5;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private BuyerRepository buyerRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private PlatformFeeRepository platformFeeRepository;
+
+    @Autowired
+    private PersistedTestData testData;
+
+    private Statistics statistics;
+
+    // Seeds orders with distinct buyers, items and fees so lazy loads could not be served from cache
+    @BeforeEach
+    void setUp()
+    {
+        Platform platform = testData.ebay();
+
+        for (int i = 0; i < ROW_COUNT; i++)
+        {
+            Buyer buyer = buyerRepository.save(new Buyer("buyer" + i + "@example.com", "Buyer " + i));
+            Order order = new Order(platform, "ORD-" + i, "pending", BigDecimal.TEN,
+                Timestamp.from(Instant.parse("2024-01-01T00:00:00Z").plusSeconds(i)), buyer);
+            orderRepository.save(order);
+
+            Listing listing = testData.listing(platform, String.valueOf(i), 1);
+            orderItemRepository.save(new OrderItem(order, listing, 1, BigDecimal.TEN));
+            platformFeeRepository.save(new PlatformFee(order, "final_value", BigDecimal.ONE));
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("findAll maps OrderResponse list with a single select")
+    void orderListUsesSingleStatement()
+    {
+        List<OrderResponse> responses = orderRepository.findAll().stream()
+            .map(OrderResponse::from)
+            .toList();
+
+        assertThat(responses).hasSize(ROW_COUNT);
+        assertThat(responses).allSatisfy(response -> assertThat(response.buyerName()).isNotNull());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("findByStatus maps OrderResponse list with a single select")
+    void orderStatusListUsesSingleStatement()
+    {
+        List<OrderResponse> responses = orderRepository.findByStatus("pending").stream()
+            .map(OrderResponse::from)
+            .toList();
+
+        assertThat(responses).hasSize(ROW_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("findAll maps OrderItemResponse list with a single select")
+    void orderItemListUsesSingleStatement()
+    {
+        List<OrderItemResponse> responses = orderItemRepository.findAll().stream()
+            .map(OrderItemResponse::from)
+            .toList();
+
+        assertThat(responses).hasSize(ROW_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("findAll maps PlatformFeeResponse list with a single select")
+    void platformFeeListUsesSingleStatement()
+    {
+        List<PlatformFeeResponse> responses = platformFeeRepository.findAll().stream()
+            .map(PlatformFeeResponse::from)
+            .toList();
+
+        assertThat(responses).hasSize(ROW_COUNT);
+        assertThat(responses).allSatisfy(response -> assertThat(response.platformName()).isEqualTo("eBay"));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
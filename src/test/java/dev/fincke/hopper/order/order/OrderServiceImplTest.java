@@ -1,5 +1,10 @@
 package dev.fincke.hopper.order.order;
 
+import dev.fincke.hopper.api.pagination.CursorPage;
+import dev.fincke.hopper.api.pagination.InvalidCursorException;
+import dev.fincke.hopper.api.pagination.KeysetCursor;
+import dev.fincke.hopper.catalog.inventory.InventoryReservationService;
+import dev.fincke.hopper.catalog.listing.Listing;
 import dev.fincke.hopper.order.buyer.Buyer;
 import dev.fincke.hopper.order.buyer.BuyerRepository;
 import dev.fincke.hopper.order.buyer.exception.BuyerNotFoundException;
@@ -7,6 +12,7 @@ import dev.fincke.hopper.order.item.OrderItem;
 import dev.fincke.hopper.order.item.OrderItemRepository;
 import dev.fincke.hopper.order.order.dto.OrderCreateRequest;
 import dev.fincke.hopper.order.order.dto.OrderResponse;
+import dev.fincke.hopper.order.order.dto.OrderStatusUpdateRequest;
 import dev.fincke.hopper.order.order.dto.OrderUpdateRequest;
 import dev.fincke.hopper.order.order.exception.DuplicateExternalOrderException;
 import dev.fincke.hopper.order.order.exception.InvalidOrderStatusException;
@@ -14,7 +20,9 @@ import dev.fincke.hopper.order.order.exception.OrderNotFoundException;
 import dev.fincke.hopper.order.order.exception.OrderValidationException;
 import dev.fincke.hopper.platform.platform.Platform;
 import dev.fincke.hopper.platform.platform.PlatformRepository;
+import dev.fincke.hopper.report.rollup.DailyPlatformMetricsRecorder;
 import dev.fincke.hopper.testsupport.BuyerTestBuilder;
+import dev.fincke.hopper.testsupport.ListingTestBuilder;
 import dev.fincke.hopper.testsupport.OrderCreateRequestBuilder;
 import dev.fincke.hopper.testsupport.OrderTestBuilder;
 import dev.fincke.hopper.testsupport.OrderUpdateRequestBuilder;
@@ -25,6 +33,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 
 import java.math.BigDecimal;
 import java.sql.Timestamp;
@@ -62,6 +71,14 @@ class OrderServiceImplTest
     @Mock
     private OrderItemRepository orderItemRepository;
 
+    // Rollup recorder mock; rollup arithmetic is covered by DailyPlatformMetricsTest
+    @Mock
+    private DailyPlatformMetricsRecorder metricsRecorder;
+
+    // Reservation ledger mock; ledger arithmetic is covered by InventoryReservationServiceTest
+    @Mock
+    private InventoryReservationService reservationService;
+
     // Service under test with dependencies injected by Mockito
     @InjectMocks
     private OrderServiceImpl orderService;
@@ -224,42 +241,137 @@ class OrderServiceImplTest
         verify(orderRepository, never()).save(any(Order.class));
     }
 
+    // * Reservation Give-Back Tests
+
     @Test
-    @DisplayName("calculateTotalFromItems multiplies quantity and price for each item")
-    void calculateTotalFromItems_ComputesSum()
+    @DisplayName("updateStatus returns every item's units when the order is cancelled")
+    void updateStatus_ReturnsUnitsWhenCancelled()
     {
-        UUID orderId = UUID.randomUUID();
-        OrderItem itemOne = mock(OrderItem.class);
-        when(itemOne.getPrice()).thenReturn(new BigDecimal("10.00"));
-        when(itemOne.getQuantity()).thenReturn(2);
+        Order order = OrderTestBuilder.order().withStatus("confirmed").build();
+        UUID orderId = order.getId();
+        OrderItem first = item(order, 2);
+        OrderItem second = item(order, 3);
 
-        OrderItem itemTwo = mock(OrderItem.class);
-        when(itemTwo.getPrice()).thenReturn(new BigDecimal("5.50"));
-        when(itemTwo.getQuantity()).thenReturn(3);
+        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+        when(orderItemRepository.findByOrderId(orderId)).thenReturn(List.of(first, second));
+        when(orderRepository.save(order)).thenReturn(order);
 
-        when(orderItemRepository.findByOrderId(orderId)).thenReturn(List.of(itemOne, itemTwo));
+        orderService.updateStatus(orderId, new OrderStatusUpdateRequest("cancelled", null, null));
 
-        BigDecimal total = orderService.calculateTotalFromItems(orderId);
-        assertEquals(new BigDecimal("36.50"), total);
+        verify(reservationService).returnUnits(first.getId(), first.getListing().getId(),
+            first.getListing().getProduct().getId(), 2);
+        verify(reservationService).returnUnits(second.getId(), second.getListing().getId(),
+            second.getListing().getProduct().getId(), 3);
     }
 
     @Test
-    @DisplayName("verifyOrderTotal compares calculated total with stored value")
-    void verifyOrderTotal_ReturnsTrueWhenTotalsMatch()
+    @DisplayName("updateOrder returns units when its status change cancels the order")
+    void updateOrder_ReturnsUnitsWhenCancelled()
+    {
+        Order order = OrderTestBuilder.order().withStatus("pending").build();
+        UUID orderId = order.getId();
+        OrderItem line = item(order, 4);
+
+        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+        when(orderItemRepository.findByOrderId(orderId)).thenReturn(List.of(line));
+        when(orderRepository.save(order)).thenReturn(order);
+
+        orderService.updateOrder(orderId, OrderUpdateRequestBuilder.orderUpdateRequest().withStatus("cancelled").build());
+
+        verify(reservationService).returnUnits(line.getId(), line.getListing().getId(),
+            line.getListing().getProduct().getId(), 4);
+    }
+
+    @Test
+    @DisplayName("updateStatus leaves the ledger alone for transitions other than cancellation")
+    void updateStatus_KeepsUnitsForOtherTransitions()
+    {
+        Order order = OrderTestBuilder.order().withStatus("pending").build();
+        UUID orderId = order.getId();
+
+        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+        when(orderRepository.save(order)).thenReturn(order);
+
+        orderService.updateStatus(orderId, new OrderStatusUpdateRequest("confirmed", null, null));
+
+        verifyNoInteractions(reservationService);
+    }
+
+    @Test
+    @DisplayName("deleteOrder returns every item's units before the items cascade away")
+    void deleteOrder_ReturnsUnits()
+    {
+        Order order = OrderTestBuilder.order().withStatus("paid").build();
+        UUID orderId = order.getId();
+        OrderItem line = item(order, 2);
+
+        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+        when(orderItemRepository.findByOrderId(orderId)).thenReturn(List.of(line));
+
+        orderService.deleteOrder(orderId);
+
+        verify(reservationService).returnUnits(line.getId(), line.getListing().getId(),
+            line.getListing().getProduct().getId(), 2);
+        verify(orderRepository).delete(order);
+    }
+
+    @Test
+    @DisplayName("deleteOrder does not return units a cancellation already gave back")
+    void deleteOrder_SkipsCancelledOrder()
+    {
+        Order order = OrderTestBuilder.order().withStatus("cancelled").build();
+        UUID orderId = order.getId();
+
+        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+
+        orderService.deleteOrder(orderId);
+
+        verifyNoInteractions(reservationService);
+        verify(orderRepository).delete(order);
+    }
+
+    @Test
+    @DisplayName("calculateTotalFromItems returns the denormalized item subtotal")
+    void calculateTotalFromItems_ReadsSubtotal()
     {
         UUID orderId = UUID.randomUUID();
-        Order order = OrderTestBuilder.order()
-            .withId(orderId)
-            .withTotalAmount(new BigDecimal("36.50"))
-            .build();
+        when(orderRepository.findItemTotalsById(orderId))
+            .thenReturn(Optional.of(new OrderItemTotals(new BigDecimal("10.00"), 5, new BigDecimal("36.50"))));
 
-        OrderItem firstItem = mockItem(new BigDecimal("10.00"), 2);
-        OrderItem secondItem = mockItem(new BigDecimal("5.50"), 3);
+        BigDecimal total = orderService.calculateTotalFromItems(orderId);
+        assertEquals(new BigDecimal("36.50"), total);
+        verify(orderItemRepository, never()).findByOrderId(orderId);
+    }
+
+    @Test
+    @DisplayName("recalculateTotal takes the subtotal from the row rather than the possibly stale entity")
+    void recalculateTotal_ReadsSubtotalFromRow()
+    {
+        Order order = OrderTestBuilder.order().withTotalAmount(new BigDecimal("10.00")).build();
+        UUID orderId = order.getId();
 
         when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
-        when(orderItemRepository.findByOrderId(orderId)).thenReturn(List.of(firstItem, secondItem));
+        // The entity still carries its load-time subtotal of zero; the row has moved on
+        when(orderRepository.findItemTotalsById(orderId))
+            .thenReturn(Optional.of(new OrderItemTotals(new BigDecimal("10.00"), 3, new BigDecimal("42.00"))));
+        when(orderRepository.save(order)).thenReturn(order);
+
+        OrderResponse response = orderService.recalculateTotal(orderId);
+
+        assertEquals(new BigDecimal("42.00"), response.totalAmount());
+    }
+
+    @Test
+    @DisplayName("verifyOrderTotal compares the stored total with the denormalized item subtotal")
+    void verifyOrderTotal_ReturnsTrueWhenTotalsMatch()
+    {
+        UUID orderId = UUID.randomUUID();
+        when(orderRepository.findItemTotalsById(orderId))
+            .thenReturn(Optional.of(new OrderItemTotals(new BigDecimal("36.50"), 5, new BigDecimal("36.5"))));
 
         assertTrue(orderService.verifyOrderTotal(orderId));
+        verify(orderRepository, never()).findById(orderId);
+        verify(orderItemRepository, never()).findByOrderId(orderId);
     }
 
     @Test
@@ -267,17 +379,20 @@ class OrderServiceImplTest
     void verifyOrderTotal_ReturnsFalseWhenTotalsDiffer()
     {
         UUID orderId = UUID.randomUUID();
-        Order order = OrderTestBuilder.order()
-            .withId(orderId)
-            .withTotalAmount(new BigDecimal("10.00"))
-            .build();
+        when(orderRepository.findItemTotalsById(orderId))
+            .thenReturn(Optional.of(new OrderItemTotals(new BigDecimal("10.00"), 2, new BigDecimal("20.00"))));
 
-        OrderItem onlyItem = mockItem(new BigDecimal("10.00"), 2);
+        assertFalse(orderService.verifyOrderTotal(orderId));
+    }
 
-        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
-        when(orderItemRepository.findByOrderId(orderId)).thenReturn(List.of(onlyItem));
+    @Test
+    @DisplayName("verifyOrderTotal throws when the order does not exist")
+    void verifyOrderTotal_ThrowsWhenOrderMissing()
+    {
+        UUID orderId = UUID.randomUUID();
+        when(orderRepository.findItemTotalsById(orderId)).thenReturn(Optional.empty());
 
-        assertFalse(orderService.verifyOrderTotal(orderId));
+        assertThrows(OrderNotFoundException.class, () -> orderService.verifyOrderTotal(orderId));
     }
 
     @Test
@@ -334,11 +449,126 @@ class OrderServiceImplTest
         assertThrows(OrderNotFoundException.class, () -> orderService.findById(orderId));
     }
 
-    private OrderItem mockItem(BigDecimal price, int quantity)
+    // * Query Pushdown Tests
+
+    // Tests buyer lookup delegates filtering to the indexed repository query
+    @Test
+    @DisplayName("findByBuyerId queries by buyer instead of scanning all orders")
+    void findByBuyerId_UsesBuyerQuery()
+    {
+        Buyer buyer = BuyerTestBuilder.buyer().build();
+        Order order = OrderTestBuilder.order().withBuyer(buyer).build();
+
+        when(buyerRepository.findById(buyer.getId())).thenReturn(Optional.of(buyer));
+        when(orderRepository.findByBuyerId(buyer.getId())).thenReturn(List.of(order));
+
+        List<OrderResponse> responses = orderService.findByBuyerId(buyer.getId());
+
+        assertEquals(1, responses.size());
+        assertEquals(buyer.getId(), responses.get(0).buyerId());
+        verify(orderRepository, never()).findAll();
+    }
+
+    // Tests date range lookup delegates filtering to the indexed repository query
+    @Test
+    @DisplayName("findByDateRange queries by order date instead of scanning all orders")
+    void findByDateRange_UsesDateQuery()
+    {
+        Timestamp start = Timestamp.from(Instant.parse("2024-01-01T00:00:00Z"));
+        Timestamp end = Timestamp.from(Instant.parse("2024-01-31T23:59:59Z"));
+        Order order = OrderTestBuilder.order().build();
+
+        when(orderRepository.findByOrderDateBetween(start, end)).thenReturn(List.of(order));
+
+        List<OrderResponse> responses = orderService.findByDateRange(start, end);
+
+        assertEquals(1, responses.size());
+        verify(orderRepository, never()).findAll();
+    }
+
+    // Tests status + date range lookup uses the composite index query
+    @Test
+    @DisplayName("findByDateRangeAndStatus queries by status and date together")
+    void findByDateRangeAndStatus_UsesCompositeQuery()
+    {
+        Timestamp start = Timestamp.from(Instant.parse("2024-01-01T00:00:00Z"));
+        Timestamp end = Timestamp.from(Instant.parse("2024-01-31T23:59:59Z"));
+        Order order = OrderTestBuilder.order().withStatus("paid").build();
+
+        when(orderRepository.findByStatusAndOrderDateBetween("paid", start, end)).thenReturn(List.of(order));
+
+        List<OrderResponse> responses = orderService.findByDateRangeAndStatus(start, end, "paid");
+
+        assertEquals(1, responses.size());
+        assertEquals("paid", responses.get(0).status());
+        verify(orderRepository, never()).findByStatus(any());
+    }
+
+    // * Keyset Pagination Tests
+
+    // Tests that an extra fetched row produces a continuation cursor for the last returned order
+    @Test
+    @DisplayName("findPage returns cursor positioned after last order when more rows exist")
+    void findPage_ReturnsCursorWhenMoreRowsExist()
+    {
+        Order newest = OrderTestBuilder.order()
+            .withOrderDate(Timestamp.from(Instant.parse("2024-01-03T00:00:00Z")))
+            .build();
+        Order middle = OrderTestBuilder.order()
+            .withOrderDate(Timestamp.from(Instant.parse("2024-01-02T00:00:00Z")))
+            .build();
+        Order oldest = OrderTestBuilder.order()
+            .withOrderDate(Timestamp.from(Instant.parse("2024-01-01T00:00:00Z")))
+            .build();
+
+        when(orderRepository.findFirstPage(PageRequest.ofSize(3))).thenReturn(List.of(newest, middle, oldest));
+
+        CursorPage<OrderResponse> page = orderService.findPage(null, 2);
+
+        assertEquals(2, page.items().size());
+        assertTrue(page.hasMore());
+        KeysetCursor next = KeysetCursor.decode(page.nextCursor());
+        assertEquals(middle.getOrderDate(), next.sortKey());
+        assertEquals(middle.getId(), next.id());
+    }
+
+    // Tests that a decoded cursor seeks past the previous position instead of offsetting
+    @Test
+    @DisplayName("findPage seeks from cursor position and ends when no extra row is returned")
+    void findPage_SeeksFromCursor()
+    {
+        Order last = OrderTestBuilder.order().build();
+        KeysetCursor cursor = KeysetCursor.of(Timestamp.from(Instant.parse("2024-01-02T00:00:00Z")), UUID.randomUUID());
+
+        when(orderRepository.findPageAfter(cursor.sortKey(), cursor.id(), PageRequest.ofSize(3)))
+            .thenReturn(List.of(last));
+
+        CursorPage<OrderResponse> page = orderService.findPage(cursor.encode(), 2);
+
+        assertEquals(1, page.items().size());
+        assertFalse(page.hasMore());
+        assertNull(page.nextCursor());
+    }
+
+    // Tests that malformed or id-only cursors are rejected for order pages
+    @Test
+    @DisplayName("findPage rejects cursors without an order date")
+    void findPage_RejectsInvalidCursor()
+    {
+        String idOnly = KeysetCursor.of(UUID.randomUUID()).encode();
+
+        assertThrows(InvalidCursorException.class, () -> orderService.findPage(idOnly, 10));
+        assertThrows(InvalidCursorException.class, () -> orderService.findPage("not-a-cursor", 10));
+    }
+
+    // * Helper Methods
+
+    // Persisted-looking order line on its own listing
+    private static OrderItem item(Order order, int quantity)
     {
-        OrderItem item = mock(OrderItem.class);
-        when(item.getPrice()).thenReturn(price);
-        when(item.getQuantity()).thenReturn(quantity);
+        Listing listing = ListingTestBuilder.listing().withPlatform(order.getPlatform()).build();
+        OrderItem item = new OrderItem(order, listing, quantity, new BigDecimal("10.00"));
+        item.setId(UUID.randomUUID());
         return item;
     }
 }
@@ -0,0 +1,174 @@
+package dev.fincke.hopper.platforms;
+
+import dev.fincke.hopper.config.CacheConfig;
+import dev.fincke.hopper.platform.platform.Platform;
+import dev.fincke.hopper.platform.platform.PlatformRepository;
+import dev.fincke.hopper.platform.platform.PlatformServiceImpl;
+import dev.fincke.hopper.platform.platform.dto.PlatformUpdateRequest;
+import dev.fincke.hopper.user.Role;
+import dev.fincke.hopper.user.RoleRepository;
+import dev.fincke.hopper.user.RoleType;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.cache.CacheMetricsAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.export.simple.SimpleMetricsExportAutoConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.cache.CacheType;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.core.AutoConfigureCache;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// * Test Class
+// Read-through platform and role caches with the production Caffeine spec; runs without a test-managed transaction
+// so every uncached read opens its own persistence context and shows up as a statement
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureCache(cacheProvider = CacheType.CAFFEINE)
+@AutoConfigureObservability(tracing = false)
+@ImportAutoConfiguration({MetricsAutoConfiguration.class, CompositeMeterRegistryAutoConfiguration.class,
+    SimpleMetricsExportAutoConfiguration.class, CacheMetricsAutoConfiguration.class})
+@Import({CacheConfig.class, PlatformServiceImpl.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@SuppressWarnings("null")
+class ReferenceDataCacheTest
+{
+    // * Dependencies
+
+    @Autowired
+    private PlatformRepository platformRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private PlatformServiceImpl platformService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    // * Setup
+
+    @BeforeEach
+    void setUp()
+    {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown()
+    {
+        platformRepository.deleteAll();
+        roleRepository.deleteAll();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    // * Tests
+
+    @Test
+    @DisplayName("second platform findById is served from the cache")
+    void platformFindByIdIsCached()
+    {
+        UUID id = platformRepository.save(new Platform("Main eBay", "EBAY")).getId();
+
+        long before = statistics.getPrepareStatementCount();
+        platformRepository.findById(id).orElseThrow();
+        long afterMiss = statistics.getPrepareStatementCount();
+        Platform cached = platformRepository.findById(id).orElseThrow();
+
+        assertThat(afterMiss).isGreaterThan(before);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(afterMiss);
+        assertThat(cached.getName()).isEqualTo("Main eBay");
+    }
+
+    @Test
+    @DisplayName("second role findByName is served from the cache")
+    void roleFindByNameIsCached()
+    {
+        roleRepository.save(new Role(RoleType.ADMIN, "Administrators"));
+
+        long before = statistics.getPrepareStatementCount();
+        roleRepository.findByName(RoleType.ADMIN).orElseThrow();
+        long afterMiss = statistics.getPrepareStatementCount();
+        roleRepository.findByName(RoleType.ADMIN).orElseThrow();
+
+        assertThat(afterMiss).isGreaterThan(before);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(afterMiss);
+    }
+
+    @Test
+    @DisplayName("update loads a managed copy and evicts the cached platform")
+    void updateEvictsWithoutTouchingCachedCopy()
+    {
+        UUID id = platformRepository.save(new Platform("Main eBay", "EBAY")).getId();
+        Platform cached = platformRepository.findById(id).orElseThrow();
+
+        platformService.updatePlatform(id, new PlatformUpdateRequest("Renamed eBay", null));
+
+        assertThat(cached.getName()).isEqualTo("Main eBay");
+        assertThat(cacheManager.getCache(CacheConfig.PLATFORMS).get(id)).isNull();
+        long before = statistics.getPrepareStatementCount();
+        assertThat(platformRepository.findById(id).orElseThrow().getName()).isEqualTo("Renamed eBay");
+        assertThat(statistics.getPrepareStatementCount()).isGreaterThan(before);
+    }
+
+    @Test
+    @DisplayName("delete evicts the cached platform")
+    void deleteEvicts()
+    {
+        UUID id = platformRepository.save(new Platform("Main eBay", "EBAY")).getId();
+        platformRepository.findById(id).orElseThrow();
+        assertThat(cacheManager.getCache(CacheConfig.PLATFORMS).get(id)).isNotNull();
+
+        platformService.deletePlatform(id);
+
+        assertThat(cacheManager.getCache(CacheConfig.PLATFORMS).get(id)).isNull();
+        assertThat(platformRepository.findById(id)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("cache.gets is published with hit and miss results")
+    void publishesHitAndMissMetrics()
+    {
+        UUID id = platformRepository.save(new Platform("Main eBay", "EBAY")).getId();
+        double hits = gets(CacheConfig.PLATFORMS, "hit");
+        double misses = gets(CacheConfig.PLATFORMS, "miss");
+
+        platformRepository.findById(id).orElseThrow();
+        platformRepository.findById(id).orElseThrow();
+
+        assertThat(gets(CacheConfig.PLATFORMS, "miss")).isEqualTo(misses + 1);
+        assertThat(gets(CacheConfig.PLATFORMS, "hit")).isEqualTo(hits + 1);
+        assertThat(meterRegistry.find("cache.gets").tag("cache", CacheConfig.ROLES).functionCounters()).isNotEmpty();
+    }
+
+    // * Helpers
+
+    private double gets(String cache, String result)
+    {
+        return meterRegistry.get("cache.gets").tag("cache", cache).tag("result", result).functionCounter().count();
+    }
+}
@@ -0,0 +1,190 @@
+package dev.fincke.hopper.report;
+
+import dev.fincke.hopper.catalog.listing.Listing;
+import dev.fincke.hopper.order.item.OrderItem;
+import dev.fincke.hopper.order.item.OrderItemRepository;
+import dev.fincke.hopper.order.order.Order;
+import dev.fincke.hopper.order.order.OrderRepository;
+import dev.fincke.hopper.platform.fee.PlatformFee;
+import dev.fincke.hopper.platform.fee.PlatformFeeRepository;
+import dev.fincke.hopper.platform.platform.Platform;
+import dev.fincke.hopper.report.dto.AggregateReport;
+import dev.fincke.hopper.report.dto.FeeSummaryRow;
+import dev.fincke.hopper.report.dto.ReportQuery;
+import dev.fincke.hopper.report.dto.RevenueSummaryRow;
+import dev.fincke.hopper.report.exception.InvalidReportQueryException;
+import dev.fincke.hopper.testsupport.PersistedTestData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// * Test Class
+// Grouping, windowing and totals of the SQL aggregate reports against a small fixed data set
+@DataJpaTest
+@Import(PersistedTestData.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@SuppressWarnings("null")
+class ReportServiceTest
+{
+    // * Dependencies
+
+    @Autowired
+    private PersistedTestData testData;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private PlatformFeeRepository platformFeeRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private ReportServiceImpl reportService;
+
+    private Platform ebay;
+
+    // * Setup
+
+    // eBay: two orders on Jan 5 and Jan 20, one shipped order on Feb 3; Amazon: one order on Jan 5
+    @BeforeEach
+    void setUp()
+    {
+        reportService = new ReportServiceImpl(new NamedParameterJdbcTemplate(dataSource));
+
+        ebay = testData.ebay();
+        Platform amazon = testData.platform("Amazon");
+        Listing listing = testData.listing(ebay, "RPT", 100);
+
+        Order first = order(ebay, "E-1", "pending", "2026-01-05T10:00:00");
+        Order second = order(ebay, "E-2", "pending", "2026-01-20T23:30:00");
+        Order third = order(ebay, "E-3", "shipped", "2026-02-03T08:00:00");
+        Order fourth = order(amazon, "A-1", "pending", "2026-01-05T12:00:00");
+
+        orderItemRepository.saveAll(List.of(
+            new OrderItem(first, listing, 2, new BigDecimal("10.00")),
+            new OrderItem(first, listing, 1, new BigDecimal("5.00")),
+            new OrderItem(second, listing, 3, new BigDecimal("10.00")),
+            new OrderItem(third, listing, 1, new BigDecimal("40.00")),
+            new OrderItem(fourth, listing, 4, new BigDecimal("2.50"))));
+
+        platformFeeRepository.saveAll(List.of(
+            new PlatformFee(first, "final_value", new BigDecimal("2.50")),
+            new PlatformFee(first, "shipping", new BigDecimal("1.00")),
+            new PlatformFee(second, "final_value", new BigDecimal("3.50")),
+            new PlatformFee(third, "final_value", new BigDecimal("4.00")),
+            new PlatformFee(fourth, "final_value", new BigDecimal("1.25"))));
+    }
+
+    @AfterEach
+    void tearDown()
+    {
+        testData.deleteAll();
+    }
+
+    // * Tests
+
+    @Test
+    @DisplayName("fees grouped by platform and fee type return one row per bucket with SQL totals")
+    void feesGroupedByPlatformAndType()
+    {
+        AggregateReport<FeeSummaryRow> report =
+            reportService.summarizeFees(ReportQuery.of(List.of("platform", "feeType"), null, null, null, null));
+
+        assertThat(report.groupBy()).containsExactly("platform", "feeType");
+        assertThat(report.rows()).hasSize(3);
+        FeeSummaryRow ebayFinalValue = report.rows().stream()
+            .filter(row -> row.platformId().equals(ebay.getId()) && row.feeType().equals("final_value"))
+            .findFirst().orElseThrow();
+        assertThat(ebayFinalValue.platformName()).isEqualTo("eBay");
+        assertThat(ebayFinalValue.feeCount()).isEqualTo(3);
+        assertThat(ebayFinalValue.totalAmount()).isEqualByComparingTo("10.00");
+        assertThat(ebayFinalValue.averageAmount()).isEqualByComparingTo("3.33");
+        assertThat(ebayFinalValue.status()).isNull();
+        assertThat(ebayFinalValue.period()).isNull();
+    }
+
+    @Test
+    @DisplayName("revenue grouped by month buckets orders into the first day of each month")
+    void revenueGroupedByMonth()
+    {
+        AggregateReport<RevenueSummaryRow> report =
+            reportService.summarizeRevenue(ReportQuery.of(List.of("month"), null, null, null, null));
+
+        assertThat(report.rows()).extracting(RevenueSummaryRow::period)
+            .containsExactly(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 2, 1));
+        RevenueSummaryRow january = report.rows().get(0);
+        assertThat(january.orderCount()).isEqualTo(3);
+        assertThat(january.unitsSold()).isEqualTo(10);
+        assertThat(january.revenue()).isEqualByComparingTo("65.00");
+        assertThat(january.averageOrderValue()).isEqualByComparingTo("21.67");
+    }
+
+    @Test
+    @DisplayName("the date window is inclusive of both days and filters combine with grouping by day")
+    void dateWindowAndFilters()
+    {
+        AggregateReport<RevenueSummaryRow> report = reportService.summarizeRevenue(ReportQuery.of(
+            List.of("day"), LocalDate.of(2026, 1, 5), LocalDate.of(2026, 1, 20), ebay.getId(), "pending"));
+
+        assertThat(report.rows()).extracting(RevenueSummaryRow::period)
+            .containsExactly(LocalDate.of(2026, 1, 5), LocalDate.of(2026, 1, 20));
+        assertThat(report.rows()).extracting(RevenueSummaryRow::revenue)
+            .usingElementComparator(BigDecimal::compareTo)
+            .containsExactly(new BigDecimal("25.00"), new BigDecimal("30.00"));
+    }
+
+    @Test
+    @DisplayName("no grouping returns a single grand-total row")
+    void noGroupingReturnsGrandTotal()
+    {
+        AggregateReport<FeeSummaryRow> report =
+            reportService.summarizeFees(ReportQuery.of(List.of(), null, null, null, null));
+
+        assertThat(report.rows()).singleElement().satisfies(row ->
+        {
+            assertThat(row.feeCount()).isEqualTo(5);
+            assertThat(row.totalAmount()).isEqualByComparingTo("12.25");
+        });
+    }
+
+    @Test
+    @DisplayName("contradictory or unsupported groupings are rejected")
+    void invalidGroupingsRejected()
+    {
+        assertThrows(InvalidReportQueryException.class,
+            () -> ReportQuery.of(List.of("day", "month"), null, null, null, null));
+        assertThrows(InvalidReportQueryException.class,
+            () -> ReportQuery.of(List.of("region"), null, null, null, null));
+        assertThrows(InvalidReportQueryException.class, () -> reportService.summarizeRevenue(
+            ReportQuery.of(List.of("feeType"), null, null, null, null)));
+    }
+
+    // * Helpers
+
+    private Order order(Platform platform, String externalId, String status, String orderDate)
+    {
+        return orderRepository.save(new Order(platform, externalId, status, BigDecimal.ZERO,
+            Timestamp.valueOf(LocalDateTime.parse(orderDate))));
+    }
+}
@@ -0,0 +1,337 @@
+package dev.fincke.hopper.report.rollup;
+
+import dev.fincke.hopper.catalog.inventory.InventoryReservationProperties;
+import dev.fincke.hopper.catalog.inventory.InventoryReservationRepository;
+import dev.fincke.hopper.catalog.inventory.InventoryReservationServiceImpl;
+import dev.fincke.hopper.catalog.listing.Listing;
+import dev.fincke.hopper.catalog.listing.ListingRepository;
+import dev.fincke.hopper.order.buyer.BuyerRepository;
+import dev.fincke.hopper.order.item.OrderItem;
+import dev.fincke.hopper.order.item.OrderItemRepository;
+import dev.fincke.hopper.order.item.OrderItemServiceImpl;
+import dev.fincke.hopper.order.item.dto.OrderItemCreateRequest;
+import dev.fincke.hopper.order.item.dto.OrderItemResponse;
+import dev.fincke.hopper.order.order.Order;
+import dev.fincke.hopper.order.order.OrderRepository;
+import dev.fincke.hopper.order.order.OrderServiceImpl;
+import dev.fincke.hopper.order.order.dto.OrderCreateRequest;
+import dev.fincke.hopper.order.order.dto.OrderResponse;
+import dev.fincke.hopper.platform.fee.PlatformFee;
+import dev.fincke.hopper.platform.fee.PlatformFeeRepository;
+import dev.fincke.hopper.platform.fee.PlatformFeeServiceImpl;
+import dev.fincke.hopper.platform.fee.dto.PlatformFeeCreateRequest;
+import dev.fincke.hopper.platform.fee.dto.PlatformFeeResponse;
+import dev.fincke.hopper.platform.platform.Platform;
+import dev.fincke.hopper.platform.platform.PlatformRepository;
+import dev.fincke.hopper.report.ReportServiceImpl;
+import dev.fincke.hopper.report.dto.PlatformMetricsRow;
+import dev.fincke.hopper.report.dto.ReportQuery;
+import dev.fincke.hopper.testsupport.PersistedTestData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// * Test Class
+// Incremental deltas, rollback, order date moves and rebuild of the daily platform rollup; runs without a
+// test-managed transaction so deltas are applied by the real beforeCommit hook
+@DataJpaTest
+@Import(PersistedTestData.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@SuppressWarnings("null")
+class DailyPlatformMetricsTest
+{
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 10);
+
+    // * Dependencies
+
+    @Autowired
+    private PlatformRepository platformRepository;
+
+    @Autowired
+    private ListingRepository listingRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private PlatformFeeRepository platformFeeRepository;
+
+    @Autowired
+    private BuyerRepository buyerRepository;
+
+    @Autowired
+    private InventoryReservationRepository reservationRepository;
+
+    @Autowired
+    private PersistedTestData testData;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    private DailyPlatformMetricsRecorder recorder;
+
+    private DailyPlatformMetricsRebuilder rebuilder;
+
+    private OrderServiceImpl orderService;
+
+    private OrderItemServiceImpl orderItemService;
+
+    private PlatformFeeServiceImpl platformFeeService;
+
+    private TransactionTemplate transactionTemplate;
+
+    private Platform platform;
+
+    private Listing listing;
+
+    // * Setup
+
+    @BeforeEach
+    void setUp()
+    {
+        jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        recorder = new DailyPlatformMetricsRecorder(jdbcTemplate, transactionManager);
+        rebuilder = new DailyPlatformMetricsRebuilder(jdbcTemplate);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // The services as production wires them; each call below runs in its own transaction like the proxied bean
+        InventoryReservationServiceImpl reservationService = new InventoryReservationServiceImpl(reservationRepository,
+            jdbcTemplate, new InventoryReservationProperties(), Clock.systemUTC());
+        orderService = new OrderServiceImpl(orderRepository, platformRepository, buyerRepository, orderItemRepository,
+            recorder, reservationService);
+        orderItemService = new OrderItemServiceImpl(orderItemRepository, orderRepository, listingRepository,
+            reservationService, recorder);
+        platformFeeService = new PlatformFeeServiceImpl(platformFeeRepository, orderRepository, recorder);
+
+        platform = testData.ebay();
+        listing = testData.listing(platform, "ROLL", 50);
+    }
+
+    @AfterEach
+    void tearDown()
+    {
+        jdbcTemplate.update("DELETE FROM daily_platform_metrics", Map.of());
+        testData.deleteAll();
+    }
+
+    // * Tests
+
+    @Test
+    @DisplayName("deltas from order, item and fee writes add up to what a full rebuild computes")
+    void incrementalMatchesRebuild()
+    {
+        createOrderWithContents(DAY);
+        transactionTemplate.executeWithoutResult(status ->
+        {
+            Order second = orderRepository.save(new Order(platform, "R-2", "pending", BigDecimal.ZERO, at(DAY)));
+            recorder.orderCreated(second);
+            OrderItem item = orderItemRepository.save(new OrderItem(second, listing, 1, new BigDecimal("4.00")));
+            recorder.itemChanged(second, item.getQuantity(), item.getPrice());
+        });
+
+        Map<String, Object> incremental = metricsRow(DAY);
+        assertThat(((Number) incremental.get("order_count")).longValue()).isEqualTo(2);
+        assertThat(((Number) incremental.get("units_sold")).longValue()).isEqualTo(4);
+        assertThat((BigDecimal) incremental.get("revenue")).isEqualByComparingTo("34.00");
+        assertThat(((Number) incremental.get("fee_count")).longValue()).isEqualTo(1);
+        assertThat((BigDecimal) incremental.get("fee_total")).isEqualByComparingTo("1.50");
+
+        int rebuilt = transactionTemplate.execute(status -> rebuilder.rebuild(DAY, DAY));
+
+        assertThat(rebuilt).isEqualTo(1);
+        Map<String, Object> fromBaseTables = metricsRow(DAY);
+        assertThat(((Number) fromBaseTables.get("order_count")).longValue()).isEqualTo(2);
+        assertThat((BigDecimal) fromBaseTables.get("revenue")).isEqualByComparingTo("34.00");
+        assertThat((BigDecimal) fromBaseTables.get("fee_total")).isEqualByComparingTo("1.50");
+    }
+
+    @Test
+    @DisplayName("order, order item and fee service writes keep the rollup equal to a rebuild")
+    void serviceWritesMatchRebuild()
+    {
+        OrderResponse order = inTransaction(() -> orderService.createOrder(
+            new OrderCreateRequest(platform.getId(), "S-1", "pending", BigDecimal.ZERO, at(DAY), null)));
+        OrderItemResponse item = inTransaction(() -> orderItemService.createOrderItem(
+            new OrderItemCreateRequest(order.id(), listing.getId(), 3, BigDecimal.TEN)));
+        inTransaction(() -> orderItemService.updateQuantity(item.id(), 2));
+        inTransaction(() -> orderItemService.updatePrice(item.id(), new BigDecimal("12.00")));
+        PlatformFeeResponse fee = inTransaction(() -> platformFeeService.createPlatformFee(
+            new PlatformFeeCreateRequest(order.id(), "final_value", new BigDecimal("1.50"))));
+        inTransaction(() -> platformFeeService.createPlatformFee(
+            new PlatformFeeCreateRequest(order.id(), "transaction", new BigDecimal("0.30"))));
+        transactionTemplate.executeWithoutResult(status -> platformFeeService.deletePlatformFee(fee.id()));
+
+        Map<String, Object> incremental = metricsRow(DAY);
+        assertThat(((Number) incremental.get("order_count")).longValue()).isEqualTo(1);
+        assertThat(((Number) incremental.get("units_sold")).longValue()).isEqualTo(2);
+        assertThat((BigDecimal) incremental.get("revenue")).isEqualByComparingTo("24.00");
+        assertThat(((Number) incremental.get("fee_count")).longValue()).isEqualTo(1);
+        assertThat((BigDecimal) incremental.get("fee_total")).isEqualByComparingTo("0.30");
+
+        transactionTemplate.execute(status -> rebuilder.rebuild(DAY, DAY));
+
+        Map<String, Object> fromBaseTables = metricsRow(DAY);
+        assertThat(((Number) fromBaseTables.get("units_sold")).longValue()).isEqualTo(2);
+        assertThat((BigDecimal) fromBaseTables.get("revenue")).isEqualByComparingTo("24.00");
+        assertThat(((Number) fromBaseTables.get("fee_count")).longValue()).isEqualTo(1);
+        assertThat((BigDecimal) fromBaseTables.get("fee_total")).isEqualByComparingTo("0.30");
+    }
+
+    @Test
+    @DisplayName("deleting items, fees and then the order through the services empties the day's rollup")
+    void serviceDeletesLeaveRollupEmpty()
+    {
+        OrderResponse order = inTransaction(() -> orderService.createOrder(
+            new OrderCreateRequest(platform.getId(), "S-2", "pending", BigDecimal.ZERO, at(DAY), null)));
+        OrderItemResponse first = inTransaction(() -> orderItemService.createOrderItem(
+            new OrderItemCreateRequest(order.id(), listing.getId(), 1, BigDecimal.TEN)));
+        inTransaction(() -> orderItemService.createOrderItem(
+            new OrderItemCreateRequest(order.id(), listing.getId(), 2, new BigDecimal("5.00"))));
+        inTransaction(() -> platformFeeService.createPlatformFee(
+            new PlatformFeeCreateRequest(order.id(), "final_value", new BigDecimal("2.00"))));
+
+        transactionTemplate.executeWithoutResult(status -> orderItemService.deleteOrderItem(first.id()));
+        assertThat(((Number) metricsRow(DAY).get("units_sold")).longValue()).isEqualTo(2);
+        assertThat((BigDecimal) metricsRow(DAY).get("revenue")).isEqualByComparingTo("10.00");
+
+        // The test schema has no ON DELETE CASCADE, so the remaining contents go first
+        transactionTemplate.executeWithoutResult(status ->
+        {
+            orderItemService.removeAllItemsFromOrder(order.id());
+            platformFeeService.removeAllFeesFromOrder(order.id());
+        });
+        assertThat(((Number) metricsRow(DAY).get("order_count")).longValue()).isEqualTo(1);
+        assertThat(((Number) metricsRow(DAY).get("units_sold")).longValue()).isZero();
+
+        transactionTemplate.executeWithoutResult(status -> orderService.deleteOrder(order.id()));
+
+        Map<String, Object> row = metricsRow(DAY);
+        assertThat(((Number) row.get("order_count")).longValue()).isZero();
+        assertThat(((Number) row.get("units_sold")).longValue()).isZero();
+        assertThat((BigDecimal) row.get("revenue")).isEqualByComparingTo("0");
+        assertThat(((Number) row.get("fee_count")).longValue()).isZero();
+        assertThat((BigDecimal) row.get("fee_total")).isEqualByComparingTo("0");
+    }
+
+    @Test
+    @DisplayName("a rolled-back write leaves the rollup untouched")
+    void rollbackLeavesRollupUntouched()
+    {
+        assertThrows(IllegalStateException.class, () -> transactionTemplate.executeWithoutResult(status ->
+        {
+            Order order = orderRepository.save(new Order(platform, "R-X", "pending", BigDecimal.ZERO, at(DAY)));
+            recorder.orderCreated(order);
+            throw new IllegalStateException("order failed");
+        }));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM daily_platform_metrics", Map.of(), Long.class))
+            .isZero();
+    }
+
+    @Test
+    @DisplayName("changing an order's date moves the order, its items and its fees to the new day")
+    void orderDateChangeMovesContents()
+    {
+        Order order = createOrderWithContents(DAY);
+        LocalDate nextDay = DAY.plusDays(1);
+
+        transactionTemplate.executeWithoutResult(status ->
+        {
+            Order stored = orderRepository.findById(order.getId()).orElseThrow();
+            Timestamp previous = stored.getOrderDate();
+            stored.setOrderDate(at(nextDay));
+            recorder.orderDateChanged(stored, previous);
+        });
+
+        assertThat(((Number) metricsRow(DAY).get("order_count")).longValue()).isZero();
+        assertThat((BigDecimal) metricsRow(DAY).get("revenue")).isEqualByComparingTo("0");
+        assertThat(((Number) metricsRow(nextDay).get("order_count")).longValue()).isEqualTo(1);
+        assertThat((BigDecimal) metricsRow(nextDay).get("revenue")).isEqualByComparingTo("30.00");
+        assertThat((BigDecimal) metricsRow(nextDay).get("fee_total")).isEqualByComparingTo("1.50");
+    }
+
+    @Test
+    @DisplayName("the dashboard query reads the rollup grouped by month")
+    void dashboardReadsRollupByMonth()
+    {
+        createOrderWithContents(DAY);
+        createOrderWithContents(DAY.plusDays(5));
+
+        List<PlatformMetricsRow> rows = new ReportServiceImpl(jdbcTemplate)
+            .summarizeDailyMetrics(ReportQuery.of(List.of("platform", "month"), null, null, null, null))
+            .rows();
+
+        assertThat(rows).singleElement().satisfies(row ->
+        {
+            assertThat(row.platformName()).isEqualTo("eBay");
+            assertThat(row.period()).isEqualTo(LocalDate.of(2026, 3, 1));
+            assertThat(row.orderCount()).isEqualTo(2);
+            assertThat(row.revenue()).isEqualByComparingTo("60.00");
+            assertThat(row.feeTotal()).isEqualByComparingTo("3.00");
+        });
+    }
+
+    // * Helpers
+
+    // One order with 3 units worth 30.00 and one 1.50 fee, recorded the way the services record them
+    private Order createOrderWithContents(LocalDate day)
+    {
+        return transactionTemplate.execute(status ->
+        {
+            Order order = orderRepository.save(
+                new Order(platform, "R-" + day, "pending", BigDecimal.ZERO, at(day)));
+            recorder.orderCreated(order);
+            orderItemRepository.save(new OrderItem(order, listing, 3, BigDecimal.TEN));
+            recorder.itemChanged(order, 3, new BigDecimal("30.00"));
+            PlatformFee fee = platformFeeRepository.save(new PlatformFee(order, "final_value", new BigDecimal("1.50")));
+            recorder.feeChanged(order, 1, fee.getAmount());
+            return order;
+        });
+    }
+
+    private <T> T inTransaction(Supplier<T> call)
+    {
+        return transactionTemplate.execute(status -> call.get());
+    }
+
+    private Map<String, Object> metricsRow(LocalDate day)
+    {
+        return jdbcTemplate.queryForMap(
+            "SELECT * FROM daily_platform_metrics WHERE metric_date = :day AND platform_id = :platformId",
+            Map.of("day", day, "platformId", platform.getId()));
+    }
+
+    private static Timestamp at(LocalDate day)
+    {
+        return Timestamp.valueOf(day.atTime(14, 30));
+    }
+}
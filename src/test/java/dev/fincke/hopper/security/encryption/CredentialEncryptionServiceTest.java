@@ -226,4 +226,43 @@ class CredentialEncryptionServiceTest
         // Then unicode should be preserved
         assertEquals(unicodePlaintext, decrypted);
     }
-}
\ No newline at end of file
+    
+    @Test
+    void shouldServeRepeatDecryptsFromDerivedKeyCache() 
+    {
+        // Given an enabled key cache
+        when(encryptionProperties.getKeyCacheMaxEntries()).thenReturn(16);
+        when(encryptionProperties.getKeyCacheTtlSeconds()).thenReturn(60L);
+        DerivedKeyCache cache = new DerivedKeyCache(encryptionProperties);
+        CredentialEncryptionServiceImpl cachingService = new CredentialEncryptionServiceImpl(encryptionProperties, cache);
+        EncryptedCredential encrypted = cachingService.encrypt(testPlaintext);
+        
+        // When decrypting the same credential repeatedly
+        assertEquals(testPlaintext, cachingService.decrypt(encrypted));
+        assertEquals(testPlaintext, cachingService.decrypt(encrypted));
+        
+        // Then only the encrypt derived a key and both decrypts hit the cache
+        assertEquals(1, cache.getMissCount());
+        assertEquals(2, cache.getHitCount());
+        assertEquals(1, cache.size());
+    }
+    
+    @Test
+    void shouldWipeDerivedKeyCacheWhenMasterKeyRotates() 
+    {
+        // Given a cached key derived from the original master key
+        when(encryptionProperties.getKeyCacheMaxEntries()).thenReturn(16);
+        when(encryptionProperties.getKeyCacheTtlSeconds()).thenReturn(60L);
+        DerivedKeyCache cache = new DerivedKeyCache(encryptionProperties);
+        CredentialEncryptionServiceImpl cachingService = new CredentialEncryptionServiceImpl(encryptionProperties, cache);
+        EncryptedCredential encrypted = cachingService.encrypt(testPlaintext);
+        
+        // When the master key changes
+        when(encryptionProperties.getEffectiveMasterKey()).thenReturn("rotatedMasterKeyForEncryptionMinimum32Characters");
+        
+        // Then the old key is not served and decryption fails under the new master key
+        assertThrows(CredentialDecryptionException.class, () -> cachingService.decrypt(encrypted));
+        assertEquals(0, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+    }
+}
@@ -0,0 +1,121 @@
+package dev.fincke.hopper.security.encryption;
+
+import dev.fincke.hopper.security.encryption.CredentialDataKeyStore.StoredDataKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EnvelopeCredentialEncryptionServiceTest 
+{
+    @Mock
+    private EncryptionProperties encryptionProperties;
+    
+    @Mock
+    private CredentialDataKeyStore dataKeyStore;
+    
+    // In-memory stand-in for the credential_data_keys table
+    private final Map<String, StoredDataKey> storedKeys = new LinkedHashMap<>();
+    
+    private String testMasterKey = "testMasterKeyForEncryptionMinimum32Characters";
+    private String testPlaintext = "supersecretapikey123";
+    
+    @BeforeEach
+    void setUp() 
+    {
+        lenient().when(encryptionProperties.getEffectiveMasterKey()).thenAnswer(invocation -> testMasterKey);
+        lenient().when(encryptionProperties.getEncryptionVersion()).thenReturn("AES-GCM-256-V1");
+        lenient().when(encryptionProperties.getKeyDerivationIterations()).thenReturn(10000); // Lower for tests
+        lenient().when(encryptionProperties.getSaltLength()).thenReturn(32);
+        lenient().when(encryptionProperties.getGcmTagLength()).thenReturn(128);
+        lenient().when(encryptionProperties.getMaxCredentialAge()).thenReturn(365);
+        
+        lenient().when(dataKeyStore.insert(any())).thenAnswer(invocation -> {
+            StoredDataKey key = invocation.getArgument(0);
+            return storedKeys.putIfAbsent(key.keyId(), key) == null;
+        });
+        lenient().when(dataKeyStore.findByVersion(anyString())).thenAnswer(invocation -> storedKeys.values().stream()
+            .filter(key -> key.encryptionVersion().equals(invocation.getArgument(0)))
+            .findFirst());
+        lenient().when(dataKeyStore.findByKeyId(anyString()))
+            .thenAnswer(invocation -> Optional.ofNullable(storedKeys.get(invocation.<String>getArgument(0))));
+        lenient().when(dataKeyStore.findAll()).thenAnswer(invocation -> new ArrayList<>(storedKeys.values()));
+        lenient().doAnswer(invocation -> {
+            StoredDataKey old = storedKeys.get(invocation.<String>getArgument(0));
+            storedKeys.put(old.keyId(), new StoredDataKey(old.keyId(), old.encryptionVersion(),
+                invocation.getArgument(1), invocation.getArgument(2)));
+            return null;
+        }).when(dataKeyStore).updateWrapping(anyString(), anyString(), anyString());
+    }
+    
+    private EnvelopeCredentialEncryptionService newService() 
+    {
+        return new EnvelopeCredentialEncryptionService(encryptionProperties, dataKeyStore,
+            new DerivedKeyCache(encryptionProperties), new CredentialEncryptionServiceImpl(encryptionProperties));
+    }
+    
+    @Test
+    void shouldEncryptWithSharedDataKeyAndNoSalt() 
+    {
+        EnvelopeCredentialEncryptionService service = newService();
+        
+        // When encrypting two credentials under the same version
+        EncryptedCredential first = service.encrypt(testPlaintext);
+        EncryptedCredential second = service.encrypt("another-secret");
+        
+        // Then both share one data key, carry no salt and decrypt correctly
+        assertTrue(first.isEnvelope());
+        assertNull(first.salt());
+        assertEquals(first.keyId(), second.keyId());
+        assertEquals(1, storedKeys.size());
+        assertEquals(testPlaintext, service.decrypt(first));
+        assertEquals("another-secret", service.decrypt(second));
+    }
+    
+    @Test
+    void shouldDecryptLegacySaltedCredentials() 
+    {
+        // Given a credential sealed by the per-credential implementation
+        EncryptedCredential legacy = new CredentialEncryptionServiceImpl(encryptionProperties).encrypt(testPlaintext);
+        EnvelopeCredentialEncryptionService service = newService();
+        
+        // Then envelope mode still decrypts it and flags it for migration
+        assertEquals(testPlaintext, service.decrypt(legacy));
+        assertTrue(service.needsReEncryption(legacy));
+        
+        EncryptedCredential migrated = service.reEncrypt(legacy);
+        assertTrue(migrated.isEnvelope());
+        assertFalse(service.needsReEncryption(migrated));
+    }
+    
+    @Test
+    void shouldRotateMasterKeyByRewrappingDataKeys() 
+    {
+        // Given a credential sealed under the original master key
+        EncryptedCredential encrypted = newService().encrypt(testPlaintext);
+        String oldMasterKey = testMasterKey;
+        String wrappedBefore = storedKeys.values().iterator().next().wrappedKey();
+        
+        // When the master key rotates and data keys are rewrapped
+        testMasterKey = "rotatedMasterKeyForEncryptionMinimum32Characters";
+        EnvelopeCredentialEncryptionService rotated = newService();
+        assertEquals(1, rotated.rewrapDataKeys(oldMasterKey));
+        
+        // Then the unchanged credential row decrypts under the new master key
+        assertNotEquals(wrappedBefore, storedKeys.values().iterator().next().wrappedKey());
+        assertEquals(testPlaintext, rotated.decrypt(encrypted));
+        assertEquals(0, rotated.rewrapDataKeys(oldMasterKey));
+    }
+}
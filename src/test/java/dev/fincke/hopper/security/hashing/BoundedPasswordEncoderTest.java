@@ -0,0 +1,148 @@
+package dev.fincke.hopper.security.hashing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// * Test Class
+// Load shedding and metrics of the bounded password hashing pool, using a delegate that blocks until released
+class BoundedPasswordEncoderTest
+{
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown()
+    {
+        release.countDown();
+        if (encoder != null)
+        {
+            encoder.close();
+        }
+    }
+
+    // * Tests
+
+    @Test
+    @DisplayName("hashes run on the pool and report latency per operation")
+    void hashesRunOnPool()
+    {
+        encoder = new BoundedPasswordEncoder(new PlainEncoder(null), properties(1, 1, Duration.ofSeconds(5)));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        encoder.bindTo(registry);
+
+        String encoded = encoder.encode("secret");
+
+        assertThat(encoded).isEqualTo("hashed:secret@password-hashing-1");
+        assertThat(encoder.matches("secret", "hashed:secret")).isTrue();
+        assertThat(registry.get("hopper.auth.hashing.duration").tag("operation", "encode").functionTimer().count())
+            .isEqualTo(1);
+        assertThat(registry.get("hopper.auth.hashing.duration").tag("operation", "matches").functionTimer().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("requests beyond pool plus queue are shed immediately with a Retry-After hint")
+    void saturatedPoolShedsLoad() throws Exception
+    {
+        encoder = new BoundedPasswordEncoder(new PlainEncoder(release), properties(1, 1, Duration.ofSeconds(30)));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        encoder.bindTo(registry);
+
+        // one hash running, one queued
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+        awaitGauge(registry, "hopper.auth.hashing.active", 1);
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("b"));
+        awaitGauge(registry, "hopper.auth.hashing.queue.depth", 1);
+
+        PasswordHashingRejectedException rejected =
+            assertThrows(PasswordHashingRejectedException.class, () -> encoder.encode("c"));
+        assertThat(rejected.getRetryAfterSeconds()).isEqualTo(2);
+        assertThat(registry.get("hopper.auth.hashing.rejected").tag("reason", "queue_full").functionCounter().count())
+            .isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).startsWith("hashed:a");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).startsWith("hashed:b");
+    }
+
+    @Test
+    @DisplayName("a hash that waits longer than max-wait is shed")
+    void slowHashTimesOut()
+    {
+        encoder = new BoundedPasswordEncoder(new PlainEncoder(release), properties(1, 1, Duration.ofMillis(50)));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        encoder.bindTo(registry);
+
+        assertThrows(PasswordHashingRejectedException.class, () -> encoder.encode("slow"));
+        assertThat(registry.get("hopper.auth.hashing.rejected").tag("reason", "timeout").functionCounter().count())
+            .isEqualTo(1);
+    }
+
+    // * Helpers
+
+    private static PasswordHashingProperties properties(int poolSize, int queueCapacity, Duration maxWait)
+    {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setPoolSize(poolSize);
+        properties.setQueueCapacity(queueCapacity);
+        properties.setMaxWait(maxWait);
+        properties.setRetryAfter(Duration.ofMillis(1500));
+        return properties;
+    }
+
+    private static void awaitGauge(SimpleMeterRegistry registry, String name, double expected) throws InterruptedException
+    {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (registry.get(name).gauge().value() < expected && System.nanoTime() < deadline)
+        {
+            Thread.sleep(5);
+        }
+        assertThat(registry.get(name).gauge().value()).isEqualTo(expected);
+    }
+
+    // Stand-in for BCrypt that records the thread it ran on and can be held open by a latch
+    private record PlainEncoder(CountDownLatch gate) implements PasswordEncoder
+    {
+        @Override
+        public String encode(CharSequence rawPassword)
+        {
+            awaitGate();
+            return "hashed:" + rawPassword + "@" + Thread.currentThread().getName();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword)
+        {
+            awaitGate();
+            return encodedPassword.equals("hashed:" + rawPassword);
+        }
+
+        private void awaitGate()
+        {
+            if (gate == null)
+            {
+                return;
+            }
+            try
+            {
+                gate.await(10, TimeUnit.SECONDS);
+            }
+            catch (InterruptedException ex)
+            {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package dev.fincke.hopper.security.jwt;
+
+import dev.fincke.hopper.config.JwtProperties;
+import dev.fincke.hopper.security.TokenRevocationRegistry;
+import dev.fincke.hopper.security.UserPrincipal;
+import dev.fincke.hopper.testsupport.UserTestBuilder;
+import dev.fincke.hopper.user.Role;
+import dev.fincke.hopper.user.RoleType;
+import dev.fincke.hopper.user.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests for JwtUtils claim handling used by stateless authentication
+// Uses real signing with default properties so claims round-trip exactly as in production
+class JwtUtilsTest
+{
+    // * Test Dependencies
+    
+    private JwtProperties jwtProperties;
+    
+    private JwtUtils jwtUtils;
+    
+    @BeforeEach
+    void setUp()
+    {
+        jwtProperties = new JwtProperties();
+        jwtUtils = new JwtUtils(jwtProperties);
+    }
+    
+    // * Stateless Principal Tests
+    
+    // Tests principal is rebuilt from claims with roles mapped back from ROLE_ authorities
+    @Test
+    @DisplayName("getPrincipalFromToken rebuilds identity and roles without a user entity")
+    void getPrincipalFromToken_RebuildsPrincipal()
+    {
+        User user = UserTestBuilder.user()
+            .withUsername("jane")
+            .withEmail("jane@example.com")
+            .withRoles(Set.of(new Role(RoleType.ADMIN), new Role(RoleType.USER)))
+            .build();
+        String token = jwtUtils.generateAccessToken(UserPrincipal.from(user));
+        
+        UserPrincipal principal = jwtUtils.getPrincipalFromToken(token);
+        
+        assertNotNull(principal);
+        assertTrue(principal.isTokenBacked());
+        assertEquals(user.getId(), principal.getId());
+        assertEquals("jane", principal.getUsername());
+        assertEquals("jane@example.com", principal.getEmail());
+        assertEquals(Set.of(RoleType.ADMIN, RoleType.USER), principal.getRoles());
+        assertTrue(principal.hasAuthority("ROLE_ADMIN"));
+        assertTrue(principal.isEnabled());
+        assertTrue(principal.isAccountNonLocked());
+    }
+    
+    // Tests tampered tokens never produce a principal
+    @Test
+    @DisplayName("getPrincipalFromToken returns null for a tampered token")
+    void getPrincipalFromToken_RejectsTamperedToken()
+    {
+        String token = jwtUtils.generateAccessToken(UserPrincipal.from(UserTestBuilder.user().build()));
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+        
+        assertNull(jwtUtils.getPrincipalFromToken(tampered));
+    }
+    
+    // * Revocation Tests
+    
+    // Tests tokens issued before a revocation are rejected while later ones are accepted
+    @Test
+    @DisplayName("revokeAllTokens rejects tokens issued up to the cut-off")
+    void revokeAllTokens_RejectsEarlierTokens()
+    {
+        TokenRevocationRegistry registry = new TokenRevocationRegistry(jwtProperties);
+        User user = UserTestBuilder.user().build();
+        Instant issuedAt = jwtUtils.getIssuedAtFromToken(jwtUtils.generateAccessToken(UserPrincipal.from(user)));
+        
+        assertFalse(registry.isRevoked(user.getId(), issuedAt));
+        
+        registry.revokeAllTokens(user.getId());
+        
+        assertTrue(registry.isRevoked(user.getId(), issuedAt));
+        assertFalse(registry.isRevoked(user.getId(), Instant.now().plusSeconds(5)));
+    }
+    
+    // Tests a token minted after a revocation in the same second (re-login after a password change) stays valid
+    @Test
+    @DisplayName("revokeAllTokens accepts tokens issued later in the same second")
+    void revokeAllTokens_AcceptsSameSecondReissue()
+    {
+        TokenRevocationRegistry registry = new TokenRevocationRegistry(jwtProperties);
+        User user = UserTestBuilder.user().build();
+        Instant beforeIssue = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        
+        Instant issuedAt = jwtUtils.getIssuedAtFromToken(jwtUtils.generateAccessToken(UserPrincipal.from(user)));
+        registry.revokeAllTokens(user.getId());
+        
+        assertFalse(issuedAt.isBefore(beforeIssue), "issue time keeps millisecond precision");
+        assertFalse(registry.isRevoked(user.getId(), Instant.now().plusMillis(1)));
+    }
+    
+    // * Single-Parse Verification Tests
+    
+    // Tests one verification yields every claim the filter and validate endpoint need
+    @Test
+    @DisplayName("verify returns typed claims for an access token")
+    void verify_ReturnsTypedClaims()
+    {
+        User user = UserTestBuilder.user()
+            .withUsername("claims")
+            .withEmail("claims@example.com")
+            .withRoles(Set.of(new Role(RoleType.ADMIN)))
+            .build();
+        
+        JwtClaims claims = jwtUtils.verify(jwtUtils.generateAccessToken(UserPrincipal.from(user))).orElseThrow();
+        
+        assertEquals(user.getId(), claims.userId());
+        assertEquals("claims", claims.username());
+        assertEquals("claims@example.com", claims.email());
+        assertEquals(Set.of(RoleType.ADMIN), claims.roles());
+        assertTrue(claims.isAccessToken());
+        assertFalse(claims.isExpired());
+        assertTrue(claims.enabled());
+        assertTrue(claims.accountNonLocked());
+        assertTrue(claims.expiresAt().isAfter(claims.issuedAt()));
+    }
+    
+    // Tests typed verification enforces the token type
+    @Test
+    @DisplayName("verifyAccessToken rejects refresh tokens and verifyRefreshToken accepts them")
+    void verify_EnforcesTokenType()
+    {
+        String refreshToken = jwtUtils.generateRefreshToken(UserPrincipal.from(UserTestBuilder.user().build()));
+        
+        assertTrue(jwtUtils.verifyAccessToken(refreshToken).isEmpty());
+        assertTrue(jwtUtils.verifyRefreshToken(refreshToken).orElseThrow().isRefreshToken());
+    }
+    
+    // Tests invalid input never throws and yields an empty result
+    @Test
+    @DisplayName("verify returns empty for blank, malformed and tampered tokens")
+    void verify_RejectsInvalidTokens()
+    {
+        String token = jwtUtils.generateAccessToken(UserPrincipal.from(UserTestBuilder.user().build()));
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+        
+        assertTrue(jwtUtils.verify(null).isEmpty());
+        assertTrue(jwtUtils.verify(" ").isEmpty());
+        assertTrue(jwtUtils.verify("not.a.jwt").isEmpty());
+        assertTrue(jwtUtils.verify(tampered).isEmpty());
+    }
+    
+    // Tests the claims view cannot be mutated through its roles set
+    @Test
+    @DisplayName("JwtClaims roles are immutable")
+    void claims_RolesAreImmutable()
+    {
+        JwtClaims claims = jwtUtils.verify(
+            jwtUtils.generateAccessToken(UserPrincipal.from(UserTestBuilder.user().build()))).orElseThrow();
+        
+        assertThrows(UnsupportedOperationException.class, () -> claims.roles().add(RoleType.ADMIN));
+    }
+    
+    // * Verified Token Cache Tests
+    
+    // Tests repeat verification of the same token is served from the cache
+    @Test
+    @DisplayName("verify serves repeat tokens from the verified-token cache")
+    void verify_UsesCacheForRepeatTokens()
+    {
+        VerifiedTokenCache cache = new VerifiedTokenCache(jwtProperties);
+        JwtUtils cachingUtils = new JwtUtils(jwtProperties, cache);
+        String token = cachingUtils.generateAccessToken(UserPrincipal.from(UserTestBuilder.user().build()));
+        
+        JwtClaims first = cachingUtils.verify(token).orElseThrow();
+        JwtClaims second = cachingUtils.verify(token).orElseThrow();
+        
+        assertSame(first, second);
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.size());
+    }
+    
+    // Tests invalidated tokens are rejected even though their signature is still valid
+    @Test
+    @DisplayName("invalidateToken rejects the token until it expires")
+    void invalidateToken_RejectsToken()
+    {
+        JwtUtils cachingUtils = new JwtUtils(jwtProperties, new VerifiedTokenCache(jwtProperties));
+        UserPrincipal principal = UserPrincipal.from(UserTestBuilder.user().build());
+        String refreshToken = cachingUtils.generateRefreshToken(principal);
+        assertTrue(cachingUtils.verifyRefreshToken(refreshToken).isPresent());
+        
+        String rotated = cachingUtils.generateRefreshToken(principal);
+        cachingUtils.invalidateToken(refreshToken);
+        
+        assertTrue(cachingUtils.verify(refreshToken).isEmpty());
+        assertTrue(cachingUtils.verifyRefreshToken(rotated).isPresent());
+    }
+    
+    // Tests the cache never grows past its configured bound
+    @Test
+    @DisplayName("verified-token cache evicts beyond its bound")
+    void verify_CacheIsBounded()
+    {
+        jwtProperties.setVerifiedTokenCacheMaxEntries(2);
+        VerifiedTokenCache cache = new VerifiedTokenCache(jwtProperties);
+        JwtUtils cachingUtils = new JwtUtils(jwtProperties, cache);
+        
+        for (int i = 0; i < 5; i++)
+        {
+            cachingUtils.verify(cachingUtils.generateAccessToken(UserPrincipal.from(UserTestBuilder.user().build())));
+        }
+        
+        assertEquals(2, cache.size());
+    }
+}
@@ -0,0 +1,97 @@
+package dev.fincke.hopper.testsupport;
+
+import dev.fincke.hopper.catalog.inventory.InventoryReservationRepository;
+import dev.fincke.hopper.catalog.listing.Listing;
+import dev.fincke.hopper.catalog.listing.ListingRepository;
+import dev.fincke.hopper.catalog.product.Product;
+import dev.fincke.hopper.catalog.product.ProductRepository;
+import dev.fincke.hopper.order.item.OrderItemRepository;
+import dev.fincke.hopper.order.order.OrderRepository;
+import dev.fincke.hopper.platform.fee.PlatformFeeRepository;
+import dev.fincke.hopper.platform.platform.Platform;
+import dev.fincke.hopper.platform.platform.PlatformRepository;
+
+import java.math.BigDecimal;
+
+// Saves the platform, product and listing rows shared by repository tests and clears the catalog and order tables
+// Pull in with @Import(PersistedTestData.class); tests that write other tables (users, rollups) clear those themselves
+public class PersistedTestData
+{
+    // * Dependencies
+
+    private final PlatformRepository platformRepository;
+    private final ProductRepository productRepository;
+    private final ListingRepository listingRepository;
+    private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final PlatformFeeRepository platformFeeRepository;
+    private final InventoryReservationRepository reservationRepository;
+
+    // * Constructor
+
+    public PersistedTestData(PlatformRepository platformRepository,
+                             ProductRepository productRepository,
+                             ListingRepository listingRepository,
+                             OrderRepository orderRepository,
+                             OrderItemRepository orderItemRepository,
+                             PlatformFeeRepository platformFeeRepository,
+                             InventoryReservationRepository reservationRepository)
+    {
+        this.platformRepository = platformRepository;
+        this.productRepository = productRepository;
+        this.listingRepository = listingRepository;
+        this.orderRepository = orderRepository;
+        this.orderItemRepository = orderItemRepository;
+        this.platformFeeRepository = platformFeeRepository;
+        this.reservationRepository = reservationRepository;
+    }
+
+    // * Catalog
+
+    public Platform platform(String name)
+    {
+        return platform(name, "MARKETPLACE");
+    }
+
+    // Typed platform for tests that resolve marketplace codes by platform type
+    public Platform platform(String name, String platformType)
+    {
+        return platformRepository.save(new Platform(name, platformType));
+    }
+
+    public Platform ebay()
+    {
+        return platform("eBay");
+    }
+
+    // Active listing priced 10.00 on a new product with no stock; key names the rows (SKU-key, LIST-key)
+    public Listing listing(Platform platform, String key, int quantityListed)
+    {
+        return listing(platform, key, 0, quantityListed);
+    }
+
+    // Same, with the product carrying stock units for tests that fold quantities back into it
+    public Listing listing(Platform platform, String key, int stock, int quantityListed)
+    {
+        Product product = new Product("SKU-" + key, "Test Product " + key, BigDecimal.TEN);
+        product.setQuantity(stock);
+        product = productRepository.save(product);
+        return listingRepository.save(
+            new Listing(product, platform, "LIST-" + key, "active", BigDecimal.TEN, quantityListed));
+    }
+
+    // * Cleanup
+
+    // For classes that run without a test-managed transaction
+    // Children before parents; the test schema has no ON DELETE CASCADE
+    public void deleteAll()
+    {
+        reservationRepository.deleteAll();
+        platformFeeRepository.deleteAll();
+        orderItemRepository.deleteAll();
+        orderRepository.deleteAll();
+        listingRepository.deleteAll();
+        productRepository.deleteAll();
+        platformRepository.deleteAll();
+    }
+}